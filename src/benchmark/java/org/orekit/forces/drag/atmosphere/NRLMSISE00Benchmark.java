@@ -0,0 +1,136 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.drag.atmosphere;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+/** Benchmark for {@link NRLMSISE00#getDensity(AbsoluteDate, Vector3D, Frame)}.
+ * <p>
+ * The density is evaluated along a meridian at 400 km altitude, with
+ * constant solar activity and geomagnetic indices.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NRLMSISE00Benchmark {
+
+    /** Number of evaluation points per invocation. */
+    private static final int POINTS = 100;
+
+    /** Atmosphere model. */
+    private NRLMSISE00 atmosphere;
+
+    /** Earth frame. */
+    private Frame itrf;
+
+    /** Evaluation date. */
+    private AbsoluteDate date;
+
+    /** Evaluation points. */
+    private Vector3D[] positions;
+
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING, itrf);
+        atmosphere = new NRLMSISE00(new ConstantParameters(), CelestialBodyFactory.getSun(), earth);
+        date       = new AbsoluteDate(2003, 6, 21, 8, 3, 20.0, TimeScalesFactory.getUTC());
+        positions  = new Vector3D[POINTS];
+        for (int i = 0; i < positions.length; ++i) {
+            final double latitude = FastMath.toRadians(-89.0 + 178.0 * i / (POINTS - 1));
+            positions[i] = earth.transform(new GeodeticPoint(latitude, FastMath.toRadians(-70.0), 400000.0));
+        }
+    }
+
+    @Benchmark
+    public void getDensity(final Blackhole bh) {
+        for (final Vector3D position : positions) {
+            bh.consume(atmosphere.getDensity(date, position, itrf));
+        }
+    }
+
+    /** Constant solar activity and geomagnetic indices. */
+    private static class ConstantParameters implements NRLMSISE00InputParameters {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20190417L;
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getMinDate() {
+            return AbsoluteDate.PAST_INFINITY;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getMaxDate() {
+            return AbsoluteDate.FUTURE_INFINITY;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getDailyFlux(final AbsoluteDate date) {
+            return 150.0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getAverageFlux(final AbsoluteDate date) {
+            return 150.0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double[] getAp(final AbsoluteDate date) {
+            return new double[] {
+                4.0, 100.0, 100.0, 100.0, 100.0, 100.0, 100.0
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.forces.gravity.potential.TideSystem;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+/** Benchmark for {@link HolmesFeatherstoneAttractionModel}.
+ * <p>
+ * The test resources do not contain high degree gravity fields, so
+ * the coefficients are generated randomly (with a fixed seed) following
+ * Kaula rule of thumb, which is sufficient for timing purposes.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolmesFeatherstoneAttractionModelBenchmark {
+
+    /** Degree and order of the gravity field. */
+    @Param({"20", "70", "120"})
+    private int degree;
+
+    /** Gravity model. */
+    private HolmesFeatherstoneAttractionModel model;
+
+    /** Spacecraft state (in EME2000). */
+    private SpacecraftState state;
+
+    /** Position in central body frame. */
+    private Vector3D bodyPosition;
+
+    /** Model parameters. */
+    private double[] parameters;
+
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        final Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        model = new HolmesFeatherstoneAttractionModel(itrf, kaulaProvider(degree, 0x5a4b3c2d1e0fl));
+        parameters = model.getParameters();
+        final AbsoluteDate date = new AbsoluteDate(2003, 6, 21, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        final PVCoordinates pv  = new PVCoordinates(new Vector3D(6.8e6, 1.2e6, 0.4e6),
+                                                    new Vector3D(-1.3e3, 6.1e3, 4.2e3));
+        state = new SpacecraftState(new CartesianOrbit(pv, FramesFactory.getEME2000(), date,
+                                                       Constants.EIGEN5C_EARTH_MU));
+        bodyPosition = state.getFrame().getTransformTo(itrf, date).transformPosition(pv.getPosition());
+    }
+
+    @Benchmark
+    public Vector3D acceleration() {
+        return model.acceleration(state, parameters);
+    }
+
+    @Benchmark
+    public double[] gradient() {
+        return model.gradient(state.getDate(), bodyPosition, Constants.EIGEN5C_EARTH_MU);
+    }
+
+    /** Create a gravity field with random coefficients following Kaula rule.
+     * @param n degree and order of the field
+     * @param seed random generator seed
+     * @return gravity field provider
+     */
+    private static NormalizedSphericalHarmonicsProvider kaulaProvider(final int n, final long seed) {
+        final Random random = new Random(seed);
+        final double[][] c = new double[n + 1][];
+        final double[][] s = new double[n + 1][];
+        for (int i = 0; i <= n; ++i) {
+            c[i] = new double[i + 1];
+            s[i] = new double[i + 1];
+            final double sigma = (i < 2) ? 0.0 : 1.0e-5 / (i * i);
+            for (int j = 0; j <= i; ++j) {
+                c[i][j] = sigma * random.nextGaussian();
+                s[i][j] = (j == 0) ? 0.0 : sigma * random.nextGaussian();
+            }
+        }
+        c[2][0] = -4.84165371736e-4;
+        return GravityFieldFactory.getNormalizedProvider(Constants.EIGEN5C_EARTH_EQUATORIAL_RADIUS,
+                                                         Constants.EIGEN5C_EARTH_MU,
+                                                         TideSystem.UNKNOWN, c, s);
+    }
+
+}
@@ -0,0 +1,106 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.orekit.Utils;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+/** Benchmark for {@link Frame#getTransformTo(Frame, AbsoluteDate)} between GCRF and ITRF.
+ * <p>
+ * The dates are spread over one day, so both the interpolation caches
+ * hits and the underlying IERS 2010 models are exercised.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrameBenchmark {
+
+    /** Number of dates per invocation. */
+    private static final int DATES = 1000;
+
+    /** Indicator for simplified EOP interpolation. */
+    @Param({"true", "false"})
+    private boolean simpleEOP;
+
+    /** Inertial frame. */
+    private Frame gcrf;
+
+    /** Earth frame. */
+    private Frame itrf;
+
+    /** Flattened Earth frame. */
+    private Frame flattened;
+
+    /** Evaluation dates. */
+    private AbsoluteDate[] dates;
+
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        gcrf  = FramesFactory.getGCRF();
+        itrf  = FramesFactory.getITRF(IERSConventions.IERS_2010, simpleEOP);
+        flattened = FramesFactory.getFlattenedITRF(gcrf, IERSConventions.IERS_2010, simpleEOP, 1.0e-10);
+        dates = new AbsoluteDate[DATES];
+        final AbsoluteDate t0 = new AbsoluteDate(2003, 6, 21, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = t0.shiftedBy(i * Constants.JULIAN_DAY / DATES);
+        }
+    }
+
+    @Benchmark
+    public void gcrfToItrf(final Blackhole bh) {
+        for (final AbsoluteDate date : dates) {
+            bh.consume(gcrf.getTransformTo(itrf, date));
+        }
+    }
+
+    @Benchmark
+    public void gcrfToFlattenedItrf(final Blackhole bh) {
+        for (final AbsoluteDate date : dates) {
+            bh.consume(gcrf.getTransformTo(flattened, date));
+        }
+    }
+
+    @Benchmark
+    public void itrfToGcrf(final Blackhole bh) {
+        for (final AbsoluteDate date : dates) {
+            bh.consume(itrf.getTransformTo(gcrf, date));
+        }
+    }
+
+}
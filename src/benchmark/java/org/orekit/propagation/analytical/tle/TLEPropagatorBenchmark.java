@@ -0,0 +1,92 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical.tle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.orekit.Utils;
+import org.orekit.utils.Constants;
+
+/** Benchmark for a {@link TLEPropagator} sweep over a TLE catalog.
+ * <p>
+ * The catalog is the set of verification cases from Vallado's
+ * "Revisiting Spacetrack Report #3" paper, which mixes near Earth
+ * and deep space objects. Each object is propagated over one day
+ * with a one minute step.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TLEPropagatorBenchmark {
+
+    /** Number of propagation steps per object. */
+    private static final int STEPS = 1440;
+
+    /** TLE catalog. */
+    private List<TLE> catalog;
+
+    @Setup
+    public void setUp() throws IOException {
+        Utils.setDataRoot("regular-data");
+        catalog = new ArrayList<>();
+        try (BufferedReader reader =
+                        new BufferedReader(new InputStreamReader(TLEPropagatorBenchmark.class.getResourceAsStream("/tle/extrapolationTest-data/SatCode-entry"),
+                                                                 StandardCharsets.UTF_8))) {
+            String previous = null;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (previous != null && TLE.isFormatOK(previous, line)) {
+                    catalog.add(new TLE(previous, line));
+                    previous = null;
+                } else {
+                    previous = line.startsWith("1 ") ? line : null;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void catalogSweep(final Blackhole bh) {
+        for (final TLE tle : catalog) {
+            final TLEPropagator propagator = TLEPropagator.selectExtrapolator(tle);
+            for (int i = 0; i < STEPS; ++i) {
+                bh.consume(propagator.getPVCoordinates(tle.getDate().shiftedBy(i * Constants.JULIAN_DAY / STEPS)));
+            }
+        }
+    }
+
+}
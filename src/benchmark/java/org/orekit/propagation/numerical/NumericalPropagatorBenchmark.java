@@ -0,0 +1,101 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.numerical;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.ThirdBodyAttraction;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.ICGEMFormatReader;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+/** Benchmark for a one day {@link NumericalPropagator} run on a Low Earth Orbit.
+ * <p>
+ * The force models are a 20x20 gravity field and Sun and Moon attraction.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericalPropagatorBenchmark {
+
+    /** Gravity field. */
+    private NormalizedSphericalHarmonicsProvider gravity;
+
+    /** Earth frame. */
+    private Frame itrf;
+
+    /** Initial orbit. */
+    private Orbit initialOrbit;
+
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new ICGEMFormatReader("eigen-6s-truncated", true));
+        gravity = GravityFieldFactory.getNormalizedProvider(20, 20);
+        itrf    = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        initialOrbit = new KeplerianOrbit(7078137.0, 1.0e-3, FastMath.toRadians(98.2),
+                                          FastMath.toRadians(90.0), FastMath.toRadians(45.0),
+                                          0.0, PositionAngle.MEAN, FramesFactory.getEME2000(),
+                                          new AbsoluteDate(2003, 6, 21, 0, 0, 0.0,
+                                                           TimeScalesFactory.getUTC()),
+                                          gravity.getMu());
+    }
+
+    @Benchmark
+    public SpacecraftState oneDayLEO() {
+        final double[][] tol = NumericalPropagator.tolerances(1.0e-3, initialOrbit, OrbitType.CARTESIAN);
+        final NumericalPropagator propagator =
+                        new NumericalPropagator(new DormandPrince853Integrator(1.0e-3, 300.0, tol[0], tol[1]));
+        propagator.setOrbitType(OrbitType.CARTESIAN);
+        propagator.addForceModel(new HolmesFeatherstoneAttractionModel(itrf, gravity));
+        propagator.addForceModel(new ThirdBodyAttraction(CelestialBodyFactory.getSun()));
+        propagator.addForceModel(new ThirdBodyAttraction(CelestialBodyFactory.getMoon()));
+        propagator.setInitialState(new SpacecraftState(initialOrbit));
+        return propagator.propagate(initialOrbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.orekit.data.DataProvidersManager;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 
@@ -192,51 +193,56 @@ public class CelestialBodyFactory {
      */
     public static void addDefaultCelestialBodyLoader(final String name, final String supportedNames) {
 
-        CelestialBodyLoader loader = null;
+        final CelestialBodyLoader loader =
+                        createDefaultLoader(name, supportedNames, DataProvidersManager.getInstance());
+
+        if (loader != null) {
+            addCelestialBodyLoader(name, loader);
+        }
+
+    }
+
+    /** Create a default loader for celestial bodies.
+     * @param name name of the body
+     * @param supportedNames regular expression for supported files names
+     * @param manager manager providing the data
+     * @return loader, or null if name is not one of the predefined names
+     */
+    private static CelestialBodyLoader createDefaultLoader(final String name, final String supportedNames,
+                                                           final DataProvidersManager manager) {
+
+        final JPLEphemeridesLoader.EphemerisType type;
         if (name.equalsIgnoreCase(SOLAR_SYSTEM_BARYCENTER)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.SOLAR_SYSTEM_BARYCENTER);
+            type = JPLEphemeridesLoader.EphemerisType.SOLAR_SYSTEM_BARYCENTER;
         } else if (name.equalsIgnoreCase(SUN)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.SUN);
+            type = JPLEphemeridesLoader.EphemerisType.SUN;
         } else if (name.equalsIgnoreCase(MERCURY)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.MERCURY);
+            type = JPLEphemeridesLoader.EphemerisType.MERCURY;
         } else if (name.equalsIgnoreCase(VENUS)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.VENUS);
+            type = JPLEphemeridesLoader.EphemerisType.VENUS;
         } else if (name.equalsIgnoreCase(EARTH_MOON)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.EARTH_MOON);
+            type = JPLEphemeridesLoader.EphemerisType.EARTH_MOON;
         } else if (name.equalsIgnoreCase(EARTH)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.EARTH);
+            type = JPLEphemeridesLoader.EphemerisType.EARTH;
         } else if (name.equalsIgnoreCase(MOON)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.MOON);
+            type = JPLEphemeridesLoader.EphemerisType.MOON;
         } else if (name.equalsIgnoreCase(MARS)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.MARS);
+            type = JPLEphemeridesLoader.EphemerisType.MARS;
         } else if (name.equalsIgnoreCase(JUPITER)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.JUPITER);
+            type = JPLEphemeridesLoader.EphemerisType.JUPITER;
         } else if (name.equalsIgnoreCase(SATURN)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.SATURN);
+            type = JPLEphemeridesLoader.EphemerisType.SATURN;
         } else if (name.equalsIgnoreCase(URANUS)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.URANUS);
+            type = JPLEphemeridesLoader.EphemerisType.URANUS;
         } else if (name.equalsIgnoreCase(NEPTUNE)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.NEPTUNE);
+            type = JPLEphemeridesLoader.EphemerisType.NEPTUNE;
         } else if (name.equalsIgnoreCase(PLUTO)) {
-            loader =
-                new JPLEphemeridesLoader(supportedNames, JPLEphemeridesLoader.EphemerisType.PLUTO);
+            type = JPLEphemeridesLoader.EphemerisType.PLUTO;
+        } else {
+            return null;
         }
 
-        if (loader != null) {
-            addCelestialBodyLoader(name, loader);
-        }
+        return new JPLEphemeridesLoader(supportedNames, type, manager);
 
     }
 
@@ -462,4 +468,39 @@ public class CelestialBodyFactory {
         }
     }
 
+    /** Get a celestial body loaded from a specific data providers manager.
+     * <p>
+     * The body is loaded using the default loaders for JPL DE ephemerides and
+     * IMCCE INPOP files, bound to the specified manager. The loaders registered
+     * in the factory are ignored and the body is <em>not</em> cached, a new
+     * instance is returned at each call. It is intended to be used when building
+     * a {@link org.orekit.data.DataContext data context}.
+     * </p>
+     * @param name name of the celestial body
+     * @param manager manager providing the ephemerides files
+     * @return celestial body
+     * @since 10.0
+     */
+    public static CelestialBody getBody(final String name, final DataProvidersManager manager) {
+        OrekitException delayedException = null;
+        for (final String supportedNames : new String[] {
+            JPLEphemeridesLoader.DEFAULT_DE_SUPPORTED_NAMES, JPLEphemeridesLoader.DEFAULT_INPOP_SUPPORTED_NAMES
+        }) {
+            final CelestialBodyLoader loader = createDefaultLoader(name, supportedNames, manager);
+            if (loader != null) {
+                try {
+                    final CelestialBody body = loader.loadCelestialBody(name);
+                    if (body != null) {
+                        return body;
+                    }
+                } catch (OrekitException oe) {
+                    delayedException = oe;
+                }
+            }
+        }
+        throw (delayedException != null) ?
+              delayedException :
+              new OrekitException(OrekitMessages.NO_DATA_LOADED_FOR_CELESTIAL_BODY, name);
+    }
+
 }
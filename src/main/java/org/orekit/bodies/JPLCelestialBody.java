@@ -17,6 +17,8 @@
 package org.orekit.bodies;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hipparchus.RealFieldElement;
 import org.hipparchus.geometry.euclidean.threed.FieldRotation;
@@ -40,6 +42,13 @@ import org.orekit.utils.TimeStampedFieldPVCoordinates;
 import org.orekit.utils.TimeStampedPVCoordinates;
 
 /** Implementation of the {@link CelestialBody} interface using JPL or INPOP ephemerides.
+ * <p>
+ * During propagation, several models need the same body at the same date: third body
+ * attraction, solar radiation pressure, eclipse detection, atmosphere, tides... They all
+ * share the body instance provided by {@link CelestialBodyFactory}, so the last few
+ * computed position-velocity are kept in a small cache, indexed by date and frame.
+ * Each body is therefore evaluated and converted only once per integrator stage.
+ * </p>
  * @author Luc Maisonobe
  */
 class JPLCelestialBody implements CelestialBody {
@@ -47,6 +56,9 @@ class JPLCelestialBody implements CelestialBody {
     /** Serializable UID. */
     private static final long serialVersionUID = 3809787672779740923L;
 
+    /** Number of recently computed position-velocity kept (must be a power of 2). */
+    private static final int CACHE_SIZE = 8;
+
     /** Name of the body. */
     private final String name;
 
@@ -74,6 +86,12 @@ class JPLCelestialBody implements CelestialBody {
     /** Body oriented, body-centered frame. */
     private final Frame bodyFrame;
 
+    /** Recently computed position-velocity. */
+    private final transient AtomicReferenceArray<CachedPV> cache;
+
+    /** Counter for selecting the next cache slot to overwrite. */
+    private final transient AtomicInteger next;
+
     /** Build an instance and the underlying frame.
      * @param name name of the body
      * @param supportedNames regular expression for supported files names
@@ -102,11 +120,21 @@ class JPLCelestialBody implements CelestialBody {
         this.iauPole        = iauPole;
         this.inertialFrame  = new InertiallyOriented(definingFrameAlignedWithICRF, inertialFrameName);
         this.bodyFrame      = new BodyOriented(bodyOrientedFrameName);
+        this.cache          = new AtomicReferenceArray<>(CACHE_SIZE);
+        this.next           = new AtomicInteger();
     }
 
     /** {@inheritDoc} */
     public TimeStampedPVCoordinates getPVCoordinates(final AbsoluteDate date, final Frame frame) {
 
+        // check if another model already needed this position-velocity
+        for (int i = 0; i < CACHE_SIZE; ++i) {
+            final CachedPV cached = cache.get(i);
+            if (cached != null && cached.frame == frame && cached.pv.getDate().equals(date)) {
+                return cached.pv;
+            }
+        }
+
         // apply the scale factor to raw position-velocity
         final PVCoordinates rawPV    = rawPVProvider.getRawPV(date);
         final TimeStampedPVCoordinates scaledPV = new TimeStampedPVCoordinates(date, scale, rawPV);
@@ -115,7 +143,12 @@ class JPLCelestialBody implements CelestialBody {
         final Transform transform = getInertiallyOrientedFrame().getParent().getTransformTo(frame, date);
 
         // convert to requested frame
-        return transform.transformPVCoordinates(scaledPV);
+        final TimeStampedPVCoordinates pv = transform.transformPVCoordinates(scaledPV);
+
+        // replace the oldest entry (entries are immutable, so concurrent updates are harmless)
+        cache.set(next.getAndIncrement() & (CACHE_SIZE - 1), new CachedPV(frame, pv));
+
+        return pv;
 
     }
 
@@ -171,6 +204,26 @@ class JPLCelestialBody implements CelestialBody {
         return bodyFrame;
     }
 
+    /** Cache entry for position-velocity. */
+    private static class CachedPV {
+
+        /** Frame in which position-velocity is defined. */
+        private final Frame frame;
+
+        /** Position-velocity. */
+        private final TimeStampedPVCoordinates pv;
+
+        /** Simple constructor.
+         * @param frame frame in which position-velocity is defined
+         * @param pv position-velocity
+         */
+        CachedPV(final Frame frame, final TimeStampedPVCoordinates pv) {
+            this.frame = frame;
+            this.pv    = pv;
+        }
+
+    }
+
    /** Inertially oriented body centered frame. */
     private class InertiallyOriented extends Frame {
 
@@ -16,9 +16,15 @@
  */
 package org.orekit.bodies;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -28,8 +34,10 @@ import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 
 import org.hipparchus.RealFieldElement;
+import org.hipparchus.exception.DummyLocalizable;
 import org.hipparchus.util.FastMath;
 import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
@@ -51,6 +59,7 @@ import org.orekit.utils.FieldPVCoordinates;
 import org.orekit.utils.OrekitConfiguration;
 import org.orekit.utils.PVCoordinates;
 import org.orekit.utils.GenericTimeStampedCache;
+import org.orekit.utils.TimeStampedCachesRegistry;
 import org.orekit.utils.TimeStampedGenerator;
 
 /** Loader for JPL ephemerides binary files (DE 4xx) and similar formats (INPOP 06/08/10).
@@ -69,6 +78,12 @@ import org.orekit.utils.TimeStampedGenerator;
  * Usually, big-endian files contain <code>bigendian</code> in their names, while little-endian files
  * contain <code>littleendian</code> in their names.</p>
  * <p>The loader supports files in TDB or TCB time scales.</p>
+ * <p>When built from a single uncompressed {@link File}, the loader does not use
+ * the {@link DataProvidersManager} at all: it maps the file in memory once and decodes
+ * the Chebyshev polynomials directly from the mapped buffer, only when they are needed.
+ * This avoids parsing again the file when propagation spans are evicted from caches, and
+ * the mapped pages are shared by all threads (and even by all loaders mapping the same
+ * file, as the operating system maps them only once).</p>
  * @author Luc Maisonobe
  */
 public class JPLEphemeridesLoader implements CelestialBodyLoader {
@@ -193,11 +208,44 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
          */
         <T extends RealFieldElement<T>> FieldPVCoordinates<T> getRawPV(FieldAbsoluteDate<T> date);
 
+        /** Get the position-velocity-acceleration at several dates.
+         * <p>
+         * The nine components for date {@code dates[i]} are stored in the array starting
+         * at index {@code 9 * i}, in the order x, y, z, vx, vy, vz, ax, ay, az.
+         * </p>
+         * <p>
+         * The default implementation calls {@link #getRawPV(AbsoluteDate)} for each date,
+         * implementations based on Chebyshev polynomials evaluate them directly in the array.
+         * </p>
+         * @param dates dates at which the position-velocity-acceleration is desired
+         * @param pva array where to store the position-velocity-acceleration
+         * (must have at least {@code 9 * dates.length} elements)
+         * @since 10.0
+         */
+        default void getRawPVA(final AbsoluteDate[] dates, final double[] pva) {
+            for (int i = 0; i < dates.length; ++i) {
+                final PVCoordinates pv = getRawPV(dates[i]);
+                final int offset = 9 * i;
+                pva[offset]     = pv.getPosition().getX();
+                pva[offset + 1] = pv.getPosition().getY();
+                pva[offset + 2] = pv.getPosition().getZ();
+                pva[offset + 3] = pv.getVelocity().getX();
+                pva[offset + 4] = pv.getVelocity().getY();
+                pva[offset + 5] = pv.getVelocity().getZ();
+                pva[offset + 6] = pv.getAcceleration().getX();
+                pva[offset + 7] = pv.getAcceleration().getY();
+                pva[offset + 8] = pv.getAcceleration().getZ();
+            }
+        }
+
     }
 
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
     /** Ephemeris for selected body. */
     private final GenericTimeStampedCache<PosVelChebyshev> ephemerides;
 
@@ -243,32 +291,89 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
     /** Indicator for binary file endianness. */
     private boolean bigEndian;
 
+    /** Memory-mapped ephemeris (null if data are read from the data providers manager). */
+    private final MappedEphemeris mapped;
+
     /** Create a loader for JPL ephemerides binary files.
      * @param supportedNames regular expression for supported files names
      * @param generateType ephemeris type to generate
      */
     public JPLEphemeridesLoader(final String supportedNames, final EphemerisType generateType) {
+        this(supportedNames, generateType, DataProvidersManager.getInstance());
+    }
+
+    /** Create a loader for JPL ephemerides binary files.
+     * @param supportedNames regular expression for supported files names
+     * @param generateType ephemeris type to generate
+     * @param manager manager providing the data
+     * @since 10.0
+     */
+    public JPLEphemeridesLoader(final String supportedNames, final EphemerisType generateType,
+                                final DataProvidersManager manager) {
 
         this.supportedNames = supportedNames;
+        this.manager        = manager;
         constants = new AtomicReference<Map<String, Double>>();
 
         this.generateType  = generateType;
-        if (generateType == EphemerisType.SOLAR_SYSTEM_BARYCENTER) {
-            loadType = EphemerisType.EARTH_MOON;
-        } else if (generateType == EphemerisType.EARTH_MOON) {
-            loadType = EphemerisType.MOON;
-        } else {
-            loadType = generateType;
-        }
+        this.loadType      = getLoadType(generateType);
+
+        ephemerides = TimeStampedCachesRegistry.register("JPLEphemeridesLoader(" + generateType + ")",
+                                                         new GenericTimeStampedCache<PosVelChebyshev>(2, OrekitConfiguration.getCacheSlotsNumber(),
+                                                                                                      Double.POSITIVE_INFINITY, FIFTY_DAYS,
+                                                                                                      new EphemerisParser()));
+        maxChunksDuration = Double.NaN;
+        chunksDuration    = Double.NaN;
+        mapped            = null;
+
+    }
+
+    /** Create a loader for a memory-mapped JPL ephemerides binary file.
+     * <p>
+     * The file is mapped in memory once, and the Chebyshev polynomials are decoded
+     * on demand directly from the mapped buffer. As mapping is done at file level,
+     * the file must not be compressed. Bodies that depend on other bodies (like
+     * planets that depend on the solar system barycenter) use the same file.
+     * </p>
+     * <p>
+     * The supported names used when the loaded bodies are serialized is the
+     * quoted file name, so deserialization in another JVM requires the file
+     * to be available through the {@link DataProvidersManager}.
+     * </p>
+     * @param file uncompressed ephemerides file
+     * @param generateType ephemeris type to generate
+     * @since 10.0
+     */
+    public JPLEphemeridesLoader(final File file, final EphemerisType generateType) {
 
-        ephemerides = new GenericTimeStampedCache<PosVelChebyshev>(2, OrekitConfiguration.getCacheSlotsNumber(),
-                                                                   Double.POSITIVE_INFINITY, FIFTY_DAYS,
-                                                                   new EphemerisParser());
+        this.supportedNames = Pattern.quote(file.getName());
+        this.manager        = DataProvidersManager.getInstance();
+        constants = new AtomicReference<Map<String, Double>>();
+
+        this.generateType  = generateType;
+        this.loadType      = getLoadType(generateType);
+
+        ephemerides       = null;
         maxChunksDuration = Double.NaN;
         chunksDuration    = Double.NaN;
+        mapped            = new MappedEphemeris(file);
 
     }
 
+    /** Get the ephemeris type to load.
+     * @param generateType ephemeris type to generate
+     * @return ephemeris type to load
+     */
+    private static EphemerisType getLoadType(final EphemerisType generateType) {
+        if (generateType == EphemerisType.SOLAR_SYSTEM_BARYCENTER) {
+            return EphemerisType.EARTH_MOON;
+        } else if (generateType == EphemerisType.EARTH_MOON) {
+            return EphemerisType.MOON;
+        } else {
+            return generateType;
+        }
+    }
+
     /** Load celestial body.
      * @param name name of the celestial body
      * @return loaded celestial body
@@ -285,12 +390,11 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
         switch (generateType) {
             case SOLAR_SYSTEM_BARYCENTER : {
                 scale = -1.0;
-                final JPLEphemeridesLoader parentLoader =
-                        new JPLEphemeridesLoader(supportedNames, EphemerisType.EARTH_MOON);
+                final JPLEphemeridesLoader parentLoader = createLoader(EphemerisType.EARTH_MOON);
                 final CelestialBody parentBody =
                         parentLoader.loadCelestialBody(CelestialBodyFactory.EARTH_MOON);
                 definingFrameAlignedWithICRF = parentBody.getInertiallyOrientedFrame();
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = createRawPVProvider();
                 inertialFrameName = Predefined.ICRF.getName();
                 bodyOrientedFrameName = null;
                 break;
@@ -298,7 +402,7 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
             case EARTH_MOON :
                 scale         = 1.0 / (1.0 + getLoadedEarthMoonMassRatio());
                 definingFrameAlignedWithICRF =  FramesFactory.getGCRF();
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = createRawPVProvider();
                 break;
             case EARTH :
                 scale         = 1.0;
@@ -308,16 +412,15 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
             case MOON :
                 scale         =  1.0;
                 definingFrameAlignedWithICRF =  FramesFactory.getGCRF();
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = createRawPVProvider();
                 break;
             default : {
                 scale = 1.0;
-                final JPLEphemeridesLoader parentLoader =
-                        new JPLEphemeridesLoader(supportedNames, EphemerisType.SOLAR_SYSTEM_BARYCENTER);
+                final JPLEphemeridesLoader parentLoader = createLoader(EphemerisType.SOLAR_SYSTEM_BARYCENTER);
                 final CelestialBody parentBody =
                         parentLoader.loadCelestialBody(CelestialBodyFactory.SOLAR_SYSTEM_BARYCENTER);
                 definingFrameAlignedWithICRF = parentBody.getInertiallyOrientedFrame();
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = createRawPVProvider();
             }
         }
 
@@ -328,6 +431,23 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
 
     }
 
+    /** Create a loader for another body, reading the same data as the instance.
+     * @param type ephemeris type to generate
+     * @return loader for the body
+     */
+    private JPLEphemeridesLoader createLoader(final EphemerisType type) {
+        return (mapped == null) ?
+               new JPLEphemeridesLoader(supportedNames, type, manager) :
+               new JPLEphemeridesLoader(mapped.file, type);
+    }
+
+    /** Create the raw position-velocity provider for the loaded body.
+     * @return raw position-velocity provider
+     */
+    private RawPVProvider createRawPVProvider() {
+        return (mapped == null) ? new EphemerisRawPVProvider() : mapped;
+    }
+
     /** Get astronomical unit.
      * @return astronomical unit in meters
      */
@@ -426,7 +546,7 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
         Map<String, Double> map = constants.get();
         if (map == null) {
             final ConstantsParser parser = new ConstantsParser();
-            if (!DataProvidersManager.getInstance().feed(supportedNames, parser)) {
+            if (!manager.feed(supportedNames, parser)) {
                 throw new OrekitException(OrekitMessages.NO_JPL_EPHEMERIDES_BINARY_FILES_FOUND);
             }
             map = parser.getConstants();
@@ -710,8 +830,14 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
      * @return extracted date
      */
     private AbsoluteDate extractDate(final byte[] record, final int offset) {
+        return toDate(extractDouble(record, offset));
+    }
 
-        final double t = extractDouble(record, offset);
+    /** Convert a Julian day into a date.
+     * @param t Julian day in the file time scale
+     * @return converted date
+     */
+    private AbsoluteDate toDate(final double t) {
         int    jDay    = (int) FastMath.floor(t);
         double seconds = (t + 0.5 - jDay) * Constants.JULIAN_DAY;
         if (seconds >= Constants.JULIAN_DAY) {
@@ -861,7 +987,7 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
                 }
 
                 // get new entries in the specified data range
-                if (!DataProvidersManager.getInstance().feed(supportedNames, this)) {
+                if (!manager.feed(supportedNames, this)) {
                     throw new OrekitException(OrekitMessages.NO_JPL_EPHEMERIDES_BINARY_FILES_FOUND);
                 }
 
@@ -1012,43 +1138,210 @@ public class JPLEphemeridesLoader implements CelestialBodyLoader {
 
         /** {@inheritDoc} */
         public PVCoordinates getRawPV(final AbsoluteDate date) {
+            // evaluate the Chebyshev polynomials
+            return getChebyshev(date).getPositionVelocityAcceleration(date);
+        }
+
+        /** {@inheritDoc} */
+        public <T extends RealFieldElement<T>> FieldPVCoordinates<T> getRawPV(final FieldAbsoluteDate<T> date) {
+            // evaluate the Chebyshev polynomials
+            return getChebyshev(date.toAbsoluteDate()).getPositionVelocityAcceleration(date);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void getRawPVA(final AbsoluteDate[] dates, final double[] pva) {
+            PosVelChebyshev chebyshev = null;
+            for (int i = 0; i < dates.length; ++i) {
+                if (chebyshev == null || !chebyshev.inRange(dates[i])) {
+                    chebyshev = getChebyshev(dates[i]);
+                }
+                chebyshev.getPositionVelocityAcceleration(dates[i], pva, 9 * i);
+            }
+        }
 
-            // get raw PV from Chebyshev polynomials
-            PosVelChebyshev chebyshev;
+        /** Get the Chebyshev polynomials covering a date.
+         * @param date date to cover
+         * @return Chebyshev polynomials covering the date
+         */
+        private PosVelChebyshev getChebyshev(final AbsoluteDate date) {
             try {
-                chebyshev = ephemerides.getNeighbors(date).findFirst().get();
+                return ephemerides.getNeighbors(date).findFirst().get();
             } catch (TimeStampedCacheException tce) {
                 // we cannot bracket the date, check if the last available chunk covers the specified date
-                chebyshev = ephemerides.getLatest();
+                final PosVelChebyshev chebyshev = ephemerides.getLatest();
                 if (!chebyshev.inRange(date)) {
                     // we were not able to recover from the error, the date is too far
                     throw tce;
                 }
+                return chebyshev;
             }
+        }
 
-            // evaluate the Chebyshev polynomials
-            return chebyshev.getPositionVelocityAcceleration(date);
+    }
+
+    /** Raw position-velocity provider decoding a memory-mapped file. */
+    private class MappedEphemeris implements RawPVProvider {
+
+        /** Ephemerides file. */
+        private final File file;
+
+        /** Size of the records (in bytes). */
+        private final int recordSize;
+
+        /** Number of data records (excluding the two header records). */
+        private final int nbRecords;
+
+        /** Number of records in each mapped segment. */
+        private final int recordsPerSegment;
+
+        /** Byte order of the file. */
+        private final ByteOrder order;
+
+        /** Mapped segments. */
+        private final ByteBuffer[] segments;
+
+        /** Start of the first data record. */
+        private final AbsoluteDate recordsStart;
+
+        /** Duration of the records (in seconds). */
+        private final double recordsDuration;
+
+        /** Last decoded chunk. */
+        private volatile PosVelChebyshev last;
+
+        /** Map a file in memory.
+         * @param file ephemerides file
+         */
+        MappedEphemeris(final File file) {
+
+            this.file = file;
+            final String name = file.getAbsolutePath();
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+                // parse the two header records
+                final InputStream input = Channels.newInputStream(channel);
+                final byte[] first = readFirstRecord(input, name);
+                final byte[] second = new byte[first.length];
+                if (!readInRecord(input, second, 0)) {
+                    throw new OrekitException(OrekitMessages.UNABLE_TO_READ_JPL_HEADER, name);
+                }
+                constants.set(parseConstants(first, second, name));
+                if (generateType != EphemerisType.EARTH) {
+                    // the dummy Earth does not use any data
+                    parseFirstHeaderRecord(first, name);
+                }
+
+                recordSize = first.length;
+                final long total = channel.size() / recordSize;
+                if (total < 3) {
+                    throw new OrekitException(OrekitMessages.NOT_A_JPL_EPHEMERIDES_BINARY_FILE, name);
+                }
+                nbRecords = (int) (total - 2);
+
+                // a single buffer cannot map more than 2GB, large files are split in segments
+                recordsPerSegment = Integer.MAX_VALUE / recordSize;
+                order             = bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+                segments          = new ByteBuffer[(int) ((total + recordsPerSegment - 1) / recordsPerSegment)];
+                for (int i = 0; i < segments.length; ++i) {
+                    final long start = ((long) i) * recordsPerSegment;
+                    final long size  = FastMath.min(recordsPerSegment, total - start);
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start * recordSize, size * recordSize);
+                }
+
+                if (generateType == EphemerisType.EARTH) {
+                    recordsStart = null;
+                } else {
+                    final ByteBuffer buffer = segments[0].duplicate().order(order);
+                    recordsStart = toDate(buffer.getDouble(2 * recordSize + DATA_START_RANGE_OFFSET));
+                }
+                recordsDuration = chunks * chunksDuration;
+
+            } catch (IOException ioe) {
+                throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+            }
 
         }
 
+        /** {@inheritDoc} */
+        public PVCoordinates getRawPV(final AbsoluteDate date) {
+            return getChebyshev(date).getPositionVelocityAcceleration(date);
+        }
+
         /** {@inheritDoc} */
         public <T extends RealFieldElement<T>> FieldPVCoordinates<T> getRawPV(final FieldAbsoluteDate<T> date) {
+            return getChebyshev(date.toAbsoluteDate()).getPositionVelocityAcceleration(date);
+        }
 
-            // get raw PV from Chebyshev polynomials
-            PosVelChebyshev chebyshev;
-            try {
-                chebyshev = ephemerides.getNeighbors(date.toAbsoluteDate()).findFirst().get();
-            } catch (TimeStampedCacheException tce) {
-                // we cannot bracket the date, check if the last available chunk covers the specified date
-                chebyshev = ephemerides.getLatest();
-                if (!chebyshev.inRange(date.toAbsoluteDate())) {
-                    // we were not able to recover from the error, the date is too far
-                    throw tce;
-                }
+        /** {@inheritDoc} */
+        @Override
+        public void getRawPVA(final AbsoluteDate[] dates, final double[] pva) {
+            for (int i = 0; i < dates.length; ++i) {
+                getChebyshev(dates[i]).getPositionVelocityAcceleration(dates[i], pva, 9 * i);
             }
+        }
 
-            // evaluate the Chebyshev polynomials
-            return chebyshev.getPositionVelocityAcceleration(date);
+        /** Get the Chebyshev polynomials covering a date.
+         * @param date date to cover
+         * @return Chebyshev polynomials covering the date
+         */
+        private PosVelChebyshev getChebyshev(final AbsoluteDate date) {
+
+            // successive calls are often in the same chunk
+            final PosVelChebyshev previous = last;
+            if (previous != null && previous.inRange(date)) {
+                return previous;
+            }
+
+            final PosVelChebyshev chebyshev = decode(date);
+            last = chebyshev;
+            return chebyshev;
+
+        }
+
+        /** Decode the Chebyshev polynomials covering a date.
+         * @param date date to cover
+         * @return Chebyshev polynomials covering the date
+         */
+        private PosVelChebyshev decode(final AbsoluteDate date) {
+
+            // data records are contiguous, so we can compute directly where the date is
+            final double dt     = date.offsetFrom(recordsStart, timeScale);
+            final int    record = (int) FastMath.max(0, FastMath.min(nbRecords - 1,
+                                                                     FastMath.floor(dt / recordsDuration)));
+            final int    chunk  = (int) FastMath.max(0, FastMath.min(chunks - 1,
+                                                                     FastMath.floor((dt - record * recordsDuration) /
+                                                                                    chunksDuration)));
+
+            // buffers are not thread-safe, we use a private view on the shared mapped memory
+            final int index = record + 2;
+            final ByteBuffer buffer = segments[index / recordsPerSegment].duplicate().order(order);
+            final int base = (index % recordsPerSegment) * recordSize;
+
+            // extract Chebyshev coefficients for the selected body
+            // and convert them from file unit to meters
+            final int nbCoeffs = coeffs;
+            final double[] xCoeffs = new double[nbCoeffs];
+            final double[] yCoeffs = new double[nbCoeffs];
+            final double[] zCoeffs = new double[nbCoeffs];
+            for (int k = 0; k < nbCoeffs; ++k) {
+                // by now, only use the position components
+                // if there are also velocity components contained in the file, ignore them
+                final int i = firstIndex + components * chunk * nbCoeffs + k - 1;
+                xCoeffs[k] = positionUnit * buffer.getDouble(base + 8 * i);
+                yCoeffs[k] = positionUnit * buffer.getDouble(base + 8 * (i +  nbCoeffs));
+                zCoeffs[k] = positionUnit * buffer.getDouble(base + 8 * (i + 2 * nbCoeffs));
+            }
+
+            final AbsoluteDate rangeStart = toDate(buffer.getDouble(base + DATA_START_RANGE_OFFSET));
+            final PosVelChebyshev chebyshev =
+                    new PosVelChebyshev(rangeStart.shiftedBy(chunk * chunksDuration), timeScale,
+                                        chunksDuration, xCoeffs, yCoeffs, zCoeffs);
+            if (!chebyshev.inRange(date)) {
+                throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE, date, startEpoch, finalEpoch);
+            }
+
+            return chebyshev;
 
         }
 
@@ -167,6 +167,112 @@ class PosVelChebyshev implements TimeStamped, Serializable {
 
     }
 
+    /** Get the position-velocity-acceleration at a specified date, without allocating objects.
+     * <p>
+     * The three coordinates and their first and second derivatives are evaluated in one
+     * pass using Clenshaw algorithm. The nine components are stored in the array, in the
+     * order x, y, z, vx, vy, vz, ax, ay, az.
+     * </p>
+     * @param date date at which position-velocity-acceleration is requested
+     * @param pva array where to store the position-velocity-acceleration
+     * @param offset index of the first component in the array
+     * @since 10.0
+     */
+    public void getPositionVelocityAcceleration(final AbsoluteDate date, final double[] pva, final int offset) {
+
+        // normalize date
+        final double t    = (2 * date.offsetFrom(start, timeScale) - duration) / duration;
+        final double twoT = 2 * t;
+
+        // Clenshaw recursion for the polynomials (b), their derivatives (d)
+        // and their second derivatives (s), for the three coordinates at once
+        double bx1 = 0;
+        double bx2 = 0;
+        double by1 = 0;
+        double by2 = 0;
+        double bz1 = 0;
+        double bz2 = 0;
+        double dx1 = 0;
+        double dx2 = 0;
+        double dy1 = 0;
+        double dy2 = 0;
+        double dz1 = 0;
+        double dz2 = 0;
+        double sx1 = 0;
+        double sx2 = 0;
+        double sy1 = 0;
+        double sy2 = 0;
+        double sz1 = 0;
+        double sz2 = 0;
+        for (int k = xCoeffs.length - 1; k > 0; --k) {
+
+            // second derivatives, from the previous derivatives
+            final double sx = 4 * dx1 + twoT * sx1 - sx2;
+            final double sy = 4 * dy1 + twoT * sy1 - sy2;
+            final double sz = 4 * dz1 + twoT * sz1 - sz2;
+            sx2 = sx1;
+            sx1 = sx;
+            sy2 = sy1;
+            sy1 = sy;
+            sz2 = sz1;
+            sz1 = sz;
+
+            // first derivatives, from the previous values
+            final double dx = 2 * bx1 + twoT * dx1 - dx2;
+            final double dy = 2 * by1 + twoT * dy1 - dy2;
+            final double dz = 2 * bz1 + twoT * dz1 - dz2;
+            dx2 = dx1;
+            dx1 = dx;
+            dy2 = dy1;
+            dy1 = dy;
+            dz2 = dz1;
+            dz1 = dz;
+
+            // values
+            final double bx = xCoeffs[k] + twoT * bx1 - bx2;
+            final double by = yCoeffs[k] + twoT * by1 - by2;
+            final double bz = zCoeffs[k] + twoT * bz1 - bz2;
+            bx2 = bx1;
+            bx1 = bx;
+            by2 = by1;
+            by1 = by;
+            bz2 = bz1;
+            bz1 = bz;
+
+        }
+
+        // final step, which uses only half of the recursion for T₀
+        final double vScale = 2 / duration;
+        final double aScale = vScale * vScale;
+        pva[offset]     = xCoeffs[0] + t * bx1 - bx2;
+        pva[offset + 1] = yCoeffs[0] + t * by1 - by2;
+        pva[offset + 2] = zCoeffs[0] + t * bz1 - bz2;
+        pva[offset + 3] = (bx1 + t * dx1 - dx2) * vScale;
+        pva[offset + 4] = (by1 + t * dy1 - dy2) * vScale;
+        pva[offset + 5] = (bz1 + t * dz1 - dz2) * vScale;
+        pva[offset + 6] = (2 * dx1 + t * sx1 - sx2) * aScale;
+        pva[offset + 7] = (2 * dy1 + t * sy1 - sy2) * aScale;
+        pva[offset + 8] = (2 * dz1 + t * sz1 - sz2) * aScale;
+
+    }
+
+    /** Get the position-velocity-acceleration at several dates, without allocating objects.
+     * <p>
+     * The nine components for date {@code dates[i]} are stored in the array starting
+     * at index {@code 9 * i}, in the order x, y, z, vx, vy, vz, ax, ay, az.
+     * </p>
+     * @param dates dates at which position-velocity-acceleration is requested
+     * @param pva array where to store the position-velocity-acceleration
+     * (must have at least {@code 9 * dates.length} elements)
+     * @see #getPositionVelocityAcceleration(AbsoluteDate, double[], int)
+     * @since 10.0
+     */
+    public void getPositionVelocityAcceleration(final AbsoluteDate[] dates, final double[] pva) {
+        for (int i = 0; i < dates.length; ++i) {
+            getPositionVelocityAcceleration(dates[i], pva, 9 * i);
+        }
+    }
+
     /** Get the position-velocity-acceleration at a specified date.
      * @param date date at which position-velocity-acceleration is requested
      * @param <T> type fo the field elements
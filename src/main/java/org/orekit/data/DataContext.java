@@ -0,0 +1,331 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.orekit.bodies.CelestialBody;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.EOPHistory;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.TerrestrialFrames;
+import org.orekit.time.TAIScale;
+import org.orekit.time.TTScale;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.time.UT1Scale;
+import org.orekit.time.UTCScale;
+import org.orekit.utils.IERSConventions;
+
+/** Immutable set of time scales, frames, bodies and gravity field loaded from one data set.
+ * <p>
+ * The factories ({@link TimeScalesFactory}, {@link FramesFactory}, {@link
+ * CelestialBodyFactory}, {@link GravityFieldFactory}) load data lazily from the
+ * shared {@link DataProvidersManager#getInstance() data providers manager} and
+ * serialize accesses with locks. A data context is an alternative: it owns its
+ * own {@link DataProvidersManager} and loads everything it needs when it is
+ * {@link Builder#build() built}. After that, all getters are simple lookups in
+ * immutable maps, without any locking.
+ * </p>
+ * <p>
+ * As contexts do not share any loaded data, several contexts can coexist in
+ * the same JVM, for example to run jobs in parallel with different Earth
+ * Orientation Parameters snapshots. The data-independent time scales (TAI, TT)
+ * and frames (GCRF, EME2000) are shared with the factories.
+ * </p>
+ * <p>
+ * Beware that serializing objects that refer to context frames or bodies
+ * resolves them to the factories instances upon deserialization.
+ * </p>
+ * <p>
+ * This class is immutable and hence thread-safe.
+ * </p>
+ * @see Builder
+ * @since 10.0
+ */
+public class DataContext {
+
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
+    /** International Atomic Time scale. */
+    private final TAIScale tai;
+
+    /** Terrestrial Time scale. */
+    private final TTScale tt;
+
+    /** Universal Time Coordinate scale. */
+    private final UTCScale utc;
+
+    /** Terrestrial frames (tidal effects ignored). */
+    private final Map<IERSConventions, TerrestrialFrames> simpleEOPFrames;
+
+    /** Terrestrial frames (tidal effects considered). */
+    private final Map<IERSConventions, TerrestrialFrames> accurateEOPFrames;
+
+    /** Celestial bodies. */
+    private final Map<String, CelestialBody> bodies;
+
+    /** Gravity field (null if not loaded). */
+    private final NormalizedSphericalHarmonicsProvider gravityField;
+
+    /** Build a context from loaded data.
+     * @param builder builder holding the configuration
+     */
+    private DataContext(final Builder builder) {
+
+        this.manager = builder.manager;
+        this.tai     = TimeScalesFactory.getTAI();
+        this.tt      = TimeScalesFactory.getTT();
+        this.utc     = TimeScalesFactory.getUTC(manager);
+
+        this.simpleEOPFrames   = loadFrames(builder.simpleEOP,   true);
+        this.accurateEOPFrames = loadFrames(builder.accurateEOP, false);
+
+        final Map<String, CelestialBody> map = new HashMap<String, CelestialBody>();
+        for (final String name : builder.bodies) {
+            map.put(name, CelestialBodyFactory.getBody(name, manager));
+        }
+        this.bodies = Collections.unmodifiableMap(map);
+
+        this.gravityField = builder.degree < 0 ?
+                            null :
+                            GravityFieldFactory.getNormalizedProvider(builder.degree, builder.order, manager);
+
+    }
+
+    /** Load terrestrial frames.
+     * @param conventions IERS conventions for which frames are requested
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return loaded frames
+     */
+    private Map<IERSConventions, TerrestrialFrames> loadFrames(final Set<IERSConventions> conventions,
+                                                               final boolean simpleEOP) {
+        final Map<IERSConventions, TerrestrialFrames> map =
+                        new EnumMap<IERSConventions, TerrestrialFrames>(IERSConventions.class);
+        for (final IERSConventions c : conventions) {
+            final EOPHistory history = FramesFactory.getEOPHistory(c, simpleEOP, manager, utc);
+            map.put(c, new TerrestrialFrames(history, TimeScalesFactory.getUT1(history, utc),
+                                             c.name() + (simpleEOP ? " simple EOP" : " accurate EOP")));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /** Get the manager providing the data.
+     * @return manager providing the data
+     */
+    public DataProvidersManager getDataProvidersManager() {
+        return manager;
+    }
+
+    /** Get the International Atomic Time scale.
+     * @return International Atomic Time scale
+     */
+    public TAIScale getTAI() {
+        return tai;
+    }
+
+    /** Get the Terrestrial Time scale.
+     * @return Terrestrial Time scale
+     */
+    public TTScale getTT() {
+        return tt;
+    }
+
+    /** Get the Universal Time Coordinate scale.
+     * @return Universal Time Coordinate scale
+     */
+    public UTCScale getUTC() {
+        return utc;
+    }
+
+    /** Get the Universal Time 1 scale.
+     * @param conventions IERS conventions for which EOP parameters will provide dUT1
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return Universal Time 1 scale
+     */
+    public UT1Scale getUT1(final IERSConventions conventions, final boolean simpleEOP) {
+        return getTerrestrialFrames(conventions, simpleEOP).getUT1();
+    }
+
+    /** Get the Earth Orientation Parameters history.
+     * @param conventions conventions for which EOP history is requested
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return Earth Orientation Parameters history
+     */
+    public EOPHistory getEOPHistory(final IERSConventions conventions, final boolean simpleEOP) {
+        return getTerrestrialFrames(conventions, simpleEOP).getEOPHistory();
+    }
+
+    /** Get the GCRF reference frame.
+     * @return the GCRF reference frame
+     */
+    public Frame getGCRF() {
+        return FramesFactory.getGCRF();
+    }
+
+    /** Get the CIRF reference frame.
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return the CIRF reference frame
+     */
+    public Frame getCIRF(final IERSConventions conventions, final boolean simpleEOP) {
+        return getTerrestrialFrames(conventions, simpleEOP).getCIRF();
+    }
+
+    /** Get the TIRF reference frame.
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return the TIRF reference frame
+     */
+    public Frame getTIRF(final IERSConventions conventions, final boolean simpleEOP) {
+        return getTerrestrialFrames(conventions, simpleEOP).getTIRF();
+    }
+
+    /** Get the ITRF reference frame.
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return the ITRF reference frame
+     */
+    public Frame getITRF(final IERSConventions conventions, final boolean simpleEOP) {
+        return getTerrestrialFrames(conventions, simpleEOP).getITRF();
+    }
+
+    /** Get the terrestrial frames.
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @return terrestrial frames
+     */
+    private TerrestrialFrames getTerrestrialFrames(final IERSConventions conventions, final boolean simpleEOP) {
+        final TerrestrialFrames frames = (simpleEOP ? simpleEOPFrames : accurateEOPFrames).get(conventions);
+        if (frames == null) {
+            throw new OrekitException(OrekitMessages.NO_EARTH_ORIENTATION_PARAMETERS_LOADED);
+        }
+        return frames;
+    }
+
+    /** Get a celestial body.
+     * @param name name of the celestial body
+     * @return celestial body
+     */
+    public CelestialBody getCelestialBody(final String name) {
+        final CelestialBody body = bodies.get(name);
+        if (body == null) {
+            throw new OrekitException(OrekitMessages.NO_DATA_LOADED_FOR_CELESTIAL_BODY, name);
+        }
+        return body;
+    }
+
+    /** Get the gravity field.
+     * @return gravity field
+     */
+    public NormalizedSphericalHarmonicsProvider getGravityField() {
+        if (gravityField == null) {
+            throw new OrekitException(OrekitMessages.NO_GRAVITY_FIELD_DATA_LOADED);
+        }
+        return gravityField;
+    }
+
+    /** Builder for {@link DataContext data contexts}.
+     * <p>
+     * The builder only records which data are needed, everything
+     * is loaded when {@link #build()} is called.
+     * </p>
+     */
+    public static class Builder {
+
+        /** Manager providing the data. */
+        private final DataProvidersManager manager;
+
+        /** Conventions for which EOP are needed (tidal effects ignored). */
+        private final Set<IERSConventions> simpleEOP;
+
+        /** Conventions for which EOP are needed (tidal effects considered). */
+        private final Set<IERSConventions> accurateEOP;
+
+        /** Names of the celestial bodies needed. */
+        private final Set<String> bodies;
+
+        /** Degree of the gravity field (negative if not needed). */
+        private int degree;
+
+        /** Order of the gravity field. */
+        private int order;
+
+        /** Simple constructor.
+         * @param manager manager providing the data (should not be
+         * shared with other contexts if data differ)
+         */
+        public Builder(final DataProvidersManager manager) {
+            this.manager     = manager;
+            this.simpleEOP   = EnumSet.noneOf(IERSConventions.class);
+            this.accurateEOP = EnumSet.noneOf(IERSConventions.class);
+            this.bodies      = new LinkedHashSet<String>();
+            this.degree      = -1;
+            this.order       = -1;
+        }
+
+        /** Request Earth Orientation Parameters and the associated UT1 scale and terrestrial frames.
+         * @param conventions IERS conventions to apply
+         * @param simple if true, tidal effects are ignored when interpolating EOP
+         * @return this builder
+         */
+        public Builder withEOP(final IERSConventions conventions, final boolean simple) {
+            (simple ? simpleEOP : accurateEOP).add(conventions);
+            return this;
+        }
+
+        /** Request celestial bodies.
+         * @param names names of the bodies, as defined in {@link CelestialBodyFactory}
+         * @return this builder
+         */
+        public Builder withCelestialBodies(final String... names) {
+            Collections.addAll(bodies, names);
+            return this;
+        }
+
+        /** Request a gravity field.
+         * @param maxDegree maximal degree
+         * @param maxOrder maximal order
+         * @return this builder
+         */
+        public Builder withGravityField(final int maxDegree, final int maxOrder) {
+            this.degree = maxDegree;
+            this.order  = maxOrder;
+            return this;
+        }
+
+        /** Load all requested data and build the context.
+         * @return new data context
+         */
+        public DataContext build() {
+            return new DataContext(this);
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.orekit.data;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -26,8 +28,12 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
+import org.hipparchus.exception.DummyLocalizable;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 
@@ -66,6 +72,14 @@ import org.orekit.errors.OrekitMessages;
  * types of filters (decompression, deciphering...).
  * </p>
  *
+ * <p>
+ * If an {@link #setExecutor(ExecutorService) executor} is configured, loaders that
+ * implement {@link MergeableDataLoader} are fed in parallel: the providers still
+ * crawl their collections and read the files sequentially, but each file is parsed
+ * in a separate task and the results are merged in crawling order, so the loaded
+ * data do not depend on the number of threads.
+ * </p>
+ *
  * @author Luc Maisonobe
  * @see DirectoryCrawler
  * @see ClasspathCrawler
@@ -89,15 +103,31 @@ public class DataProvidersManager {
     /** Loaded data. */
     private final Set<String> loaded;
 
+    /** Executor for parsing files in parallel (null for sequential loading).
+     * @since 10.0
+     */
+    private ExecutorService executor;
+
+    /** Cache for snapshots of parsed data (null for no cache).
+     * @since 10.0
+     */
+    private DataSnapshotCache snapshotCache;
+
     /** Build an instance with default configuration.
      * <p>
-     * This is a singleton, so the constructor is private.
+     * Most applications use the shared instance returned by {@link #getInstance()}.
+     * Independent instances are intended to be used with a
+     * {@link DataContext data context}, so several data sets can be loaded
+     * side by side in the same JVM.
      * </p>
+     * @since 10.0
      */
-    private DataProvidersManager() {
-        providers = new ArrayList<DataProvider>();
-        filters   = new ArrayList<>();
-        loaded    = new LinkedHashSet<String>();
+    public DataProvidersManager() {
+        providers     = new ArrayList<DataProvider>();
+        filters       = new ArrayList<>();
+        loaded        = new LinkedHashSet<String>();
+        executor      = null;
+        snapshotCache = null;
 
         // set up predefined filters
         addFilter(new GzipFilter());
@@ -309,6 +339,55 @@ public class DataProvidersManager {
         return Collections.unmodifiableSet(loaded);
     }
 
+    /** Set the executor used for parsing files in parallel.
+     * <p>
+     * The executor is used only for loaders implementing {@link MergeableDataLoader},
+     * the other loaders are always fed sequentially. The manager does not shut the
+     * executor down, this is the responsibility of the caller. Parsing tasks are
+     * submitted while the calling thread waits for them, so the executor should
+     * not be one whose threads may themselves be waiting for data loading.
+     * </p>
+     * @param executor executor to use, or null to parse files sequentially
+     * (this is the default)
+     * @see #getExecutor()
+     * @since 10.0
+     */
+    public void setExecutor(final ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /** Get the executor used for parsing files in parallel.
+     * @return executor used for parsing files in parallel, or null if files are parsed sequentially
+     * @see #setExecutor(ExecutorService)
+     * @since 10.0
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /** Set the cache for snapshots of parsed data.
+     * <p>
+     * The cache is used only for loaders implementing {@link SnapshotDataLoader},
+     * the other loaders always parse the files.
+     * </p>
+     * @param snapshotCache cache to use, or null to always parse files
+     * (this is the default)
+     * @see #getSnapshotCache()
+     * @since 10.0
+     */
+    public void setSnapshotCache(final DataSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    /** Get the cache for snapshots of parsed data.
+     * @return cache for snapshots of parsed data, or null if files are always parsed
+     * @see #setSnapshotCache(DataSnapshotCache)
+     * @since 10.0
+     */
+    public DataSnapshotCache getSnapshotCache() {
+        return snapshotCache;
+    }
+
     /** Clear the set of data file names that have been loaded.
      * @see #getLoadedDataNames()
      */
@@ -332,6 +411,16 @@ public class DataProvidersManager {
      * stopped. If no provider is able to feed the data loader, then the last error
      * triggered is thrown.
      * </p>
+     * <p>
+     * If an {@link #setExecutor(ExecutorService) executor} has been configured and the
+     * loader implements {@link MergeableDataLoader}, the files delivered by each
+     * provider are parsed in parallel and merged in the order they were delivered.
+     * </p>
+     * <p>
+     * If a {@link #setSnapshotCache(DataSnapshotCache) snapshot cache} has been
+     * configured and the loader implements {@link SnapshotDataLoader}, files that
+     * have already been parsed in a previous run are restored from their snapshots.
+     * </p>
      * @param supportedNames regular expression for file names supported by the visitor
      * @param loader data loader to use
      * @return true if some data has been loaded
@@ -345,8 +434,12 @@ public class DataProvidersManager {
             addDefaultProviders();
         }
 
+        // use snapshots of already parsed data if possible
+        final DataLoader effectiveLoader = (snapshotCache != null && loader instanceof SnapshotDataLoader) ?
+                                           snapshotCache.wrap((SnapshotDataLoader) loader) : loader;
+
         // monitor the data that the loader will load
-        final DataLoader monitoredLoader = new MonitoringWrapper(loader);
+        final DataLoader monitoredLoader = new MonitoringWrapper(effectiveLoader);
 
         // crawl the data collection
         OrekitException delayedException = null;
@@ -354,7 +447,11 @@ public class DataProvidersManager {
             try {
 
                 // try to feed the visitor using the current provider
-                if (provider.feed(supported, monitoredLoader)) {
+                if (executor != null && effectiveLoader instanceof MergeableDataLoader) {
+                    if (feedInParallel(provider, supported, (MergeableDataLoader) effectiveLoader)) {
+                        return true;
+                    }
+                } else if (provider.feed(supported, monitoredLoader)) {
                     return true;
                 }
 
@@ -372,6 +469,124 @@ public class DataProvidersManager {
 
     }
 
+    /** Feed a mergeable loader using one provider, parsing files in parallel.
+     * @param provider provider to use
+     * @param supported pattern for file names supported by the loader
+     * @param loader loader to feed
+     * @return true if some data has been loaded
+     */
+    private boolean feedInParallel(final DataProvider provider, final Pattern supported,
+                                   final MergeableDataLoader loader) {
+        final ParallelFeeder feeder = new ParallelFeeder(loader);
+        try {
+            return provider.feed(supported, feeder) && feeder.mergeAll();
+        } finally {
+            // don't leave tasks running if something failed
+            feeder.cancelRemaining();
+        }
+    }
+
+    /** Read a stream completely.
+     * @param input stream to read
+     * @return stream content
+     * @exception IOException if the stream cannot be read
+     */
+    static byte[] readFully(final InputStream input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        for (int n = input.read(buffer); n >= 0; n = input.read(buffer)) {
+            output.write(buffer, 0, n);
+        }
+        return output.toByteArray();
+    }
+
+    /** Loader dispatching files to parallel tasks. */
+    private class ParallelFeeder implements DataLoader {
+
+        /** Loader receiving the merged results. */
+        private final MergeableDataLoader loader;
+
+        /** Pending tasks, in crawling order. */
+        private final List<Future<MergeableDataLoader>> tasks;
+
+        /** Names of the files handled by the pending tasks. */
+        private final List<String> names;
+
+        /** Simple constructor.
+         * @param loader loader receiving the merged results
+         */
+        ParallelFeeder(final MergeableDataLoader loader) {
+            this.loader = loader;
+            this.tasks  = new ArrayList<>();
+            this.names  = new ArrayList<>();
+        }
+
+        /** {@inheritDoc} */
+        public boolean stillAcceptsData() {
+            return loader.stillAcceptsData();
+        }
+
+        /** {@inheritDoc} */
+        public void loadData(final InputStream input, final String name)
+            throws IOException {
+
+            // the stream is only valid during this call, read it completely
+            final byte[] content = readFully(input);
+
+            // the worker is created in the crawling thread,
+            // so it can resolve shared resources safely
+            final MergeableDataLoader worker = loader.newLoader();
+            tasks.add(executor.submit(() -> {
+                worker.loadData(new ByteArrayInputStream(content), name);
+                return worker;
+            }));
+            names.add(name);
+
+        }
+
+        /** Merge the results of all tasks, in crawling order.
+         * @return true if some data has been loaded
+         */
+        public boolean mergeAll() {
+            OrekitException delayedException = null;
+            boolean merged = false;
+            for (int i = 0; i < tasks.size(); ++i) {
+                try {
+                    loader.merge(tasks.get(i).get());
+                    loaded.add(names.get(i));
+                    merged = true;
+                } catch (ExecutionException ee) {
+                    final Throwable cause = ee.getCause();
+                    if (cause instanceof OrekitException) {
+                        // as in sequential crawling, an error in one file
+                        // is ignored if other files can be loaded
+                        delayedException = (OrekitException) cause;
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else {
+                        throw new OrekitException(cause, new DummyLocalizable(cause.getMessage()));
+                    }
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new OrekitException(ie, new DummyLocalizable(ie.getMessage()));
+                }
+            }
+            tasks.clear();
+            if (!merged && delayedException != null) {
+                throw delayedException;
+            }
+            return merged;
+        }
+
+        /** Cancel the tasks that have not been merged. */
+        public void cancelRemaining() {
+            for (final Future<MergeableDataLoader> task : tasks) {
+                task.cancel(true);
+            }
+        }
+
+    }
+
     /** Data loading monitoring wrapper class. */
     private class MonitoringWrapper implements DataLoader {
 
@@ -0,0 +1,329 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.Arrays;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitInternalError;
+import org.orekit.errors.OrekitMessages;
+
+/** Cache of binary snapshots of parsed data.
+ * <p>
+ * Parsing text data files (UTC-TAI history, Earth Orientation Parameters, gravity
+ * fields, solar activity...) is often the most expensive part of an application
+ * start-up, and it is repeated identically by each run or each worker process.
+ * This cache stores the result of parsing each file by a {@link SnapshotDataLoader}
+ * in a compact binary file in a cache directory, and restores it from a memory-mapped
+ * buffer on later runs, so text parsing happens only when the source data changes.
+ * </p>
+ * <p>
+ * Snapshots are keyed by the loader {@link SnapshotDataLoader#getSnapshotFormat()
+ * snapshot format}, the file name, the file size and a SHA-256 hash of the file
+ * content. The source file is still read (and decompressed if needed) to compute
+ * the hash, but it is not parsed. If the file changes, its snapshot is silently
+ * replaced. Errors while reading or writing snapshots never prevent data loading:
+ * invalid snapshots are ignored and the file is parsed as usual.
+ * </p>
+ * <p>
+ * The cache directory can be shared by several processes, snapshots are written
+ * in temporary files and renamed once complete.
+ * </p>
+ * @see DataProvidersManager#setSnapshotCache(DataSnapshotCache)
+ * @since 10.0
+ */
+public class DataSnapshotCache {
+
+    /** Magic number at the start of snapshot files ("OSNP"). */
+    private static final int MAGIC = 0x4f534e50;
+
+    /** Version of the snapshot header layout. */
+    private static final int HEADER_VERSION = 1;
+
+    /** Suffix for snapshot files. */
+    private static final String SUFFIX = ".snapshot";
+
+    /** Hash algorithm for file contents. */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /** Cache directory. */
+    private final File directory;
+
+    /** Build a cache storing snapshots in a directory.
+     * @param directory directory where snapshots are stored (must be a directory)
+     */
+    public DataSnapshotCache(final File directory) {
+        if (!directory.isDirectory()) {
+            throw new OrekitException(OrekitMessages.NOT_A_DIRECTORY, directory.getAbsolutePath());
+        }
+        this.directory = directory;
+    }
+
+    /** Get the cache directory.
+     * @return cache directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /** Write a string in a snapshot.
+     * <p>
+     * This method is intended to be used by {@link SnapshotDataLoader} implementations.
+     * </p>
+     * @param output output where the string should be written
+     * @param string string to write
+     * @exception IOException if the string cannot be written
+     * @see #readString(ByteBuffer)
+     */
+    public static void writeString(final DataOutput output, final String string)
+        throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /** Read a string from a snapshot.
+     * <p>
+     * This method is intended to be used by {@link SnapshotDataLoader} implementations.
+     * </p>
+     * @param input buffer containing the string
+     * @return string read
+     * @see #writeString(DataOutput, String)
+     */
+    public static String readString(final ByteBuffer input) {
+        final byte[] bytes = new byte[readLength(input, 1)];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Read an array length from a snapshot.
+     * <p>
+     * This method is intended to be used by {@link SnapshotDataLoader} implementations
+     * before allocating arrays. The length is checked against the number of bytes
+     * remaining in the buffer, so a corrupted length never triggers a huge or negative
+     * allocation.
+     * </p>
+     * @param input buffer containing the length
+     * @param elementSize minimum number of bytes used by each element in the snapshot
+     * @return length read
+     * @exception BufferUnderflowException if the length is negative or if the buffer
+     * is too short to contain the elements
+     */
+    public static int readLength(final ByteBuffer input, final int elementSize)
+        throws BufferUnderflowException {
+        final int length = input.getInt();
+        if (length < 0 || ((long) length) * elementSize > input.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    /** Wrap a loader so it uses the cache.
+     * @param loader loader to wrap
+     * @return loader using snapshots when possible and delegating to the wrapped loader
+     */
+    MergeableDataLoader wrap(final SnapshotDataLoader loader) {
+        return new CachingLoader(loader);
+    }
+
+    /** Restore a loader from a snapshot.
+     * @param loader original loader
+     * @param name name of the file (or zip entry)
+     * @param size size of the file
+     * @param hash hash of the file content
+     * @return new loader restored from the snapshot, or null if no valid snapshot was found
+     */
+    private SnapshotDataLoader restore(final SnapshotDataLoader loader, final String name,
+                                       final long size, final byte[] hash) {
+
+        final File file = snapshotFile(loader, name);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+            // the mapping remains valid after the channel is closed
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            // check the snapshot really corresponds to the file
+            if (buffer.getInt() != MAGIC || buffer.getInt() != HEADER_VERSION ||
+                !loader.getSnapshotFormat().equals(readString(buffer)) ||
+                !name.equals(readString(buffer)) ||
+                buffer.getLong() != size) {
+                return null;
+            }
+            final byte[] snapshotHash = new byte[readLength(buffer, 1)];
+            buffer.get(snapshotHash);
+            if (!Arrays.equals(hash, snapshotHash)) {
+                return null;
+            }
+
+            final SnapshotDataLoader restored = loader.newLoader();
+            restored.readSnapshot(buffer, name);
+            return restored;
+
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException |
+                 NegativeArraySizeException | IllegalArgumentException e) {
+            // the snapshot is corrupted or unreadable, the file will be parsed again
+            return null;
+        }
+
+    }
+
+    /** Store a snapshot.
+     * @param loader loader that has just parsed a file
+     * @param name name of the file (or zip entry)
+     * @param size size of the file
+     * @param hash hash of the file content
+     */
+    private void store(final SnapshotDataLoader loader, final String name,
+                       final long size, final byte[] hash) {
+        Path tmp = null;
+        try {
+
+            tmp = Files.createTempFile(directory.toPath(), "snapshot-", ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(os))) {
+                output.writeInt(MAGIC);
+                output.writeInt(HEADER_VERSION);
+                writeString(output, loader.getSnapshotFormat());
+                writeString(output, name);
+                output.writeLong(size);
+                output.writeInt(hash.length);
+                output.write(hash);
+                loader.writeSnapshot(output);
+            }
+
+            // make the complete snapshot visible at once
+            final Path target = snapshotFile(loader, name).toPath();
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+
+        } catch (IOException ioe) {
+            // the snapshot could not be written, the file will simply be parsed again next time
+        } finally {
+            if (tmp != null) {
+                tmp.toFile().delete();
+            }
+        }
+    }
+
+    /** Get the snapshot file for a loader and a data file.
+     * @param loader loader
+     * @param name name of the file (or zip entry)
+     * @return snapshot file
+     */
+    private File snapshotFile(final SnapshotDataLoader loader, final String name) {
+        final MessageDigest digest = createDigest();
+        digest.update(loader.getSnapshotFormat().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder builder = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            builder.append(Character.forDigit((b >> 4) & 0xf, 16));
+            builder.append(Character.forDigit(b & 0xf, 16));
+        }
+        return new File(directory, builder.append(SUFFIX).toString());
+    }
+
+    /** Create a digest for hashing.
+     * @return new digest
+     */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            // this should never happen as all Java platforms must support SHA-256
+            throw new OrekitInternalError(nsae);
+        }
+    }
+
+    /** Loader using snapshots when possible. */
+    private class CachingLoader implements MergeableDataLoader {
+
+        /** Wrapped loader. */
+        private final SnapshotDataLoader loader;
+
+        /** Simple constructor.
+         * @param loader wrapped loader
+         */
+        CachingLoader(final SnapshotDataLoader loader) {
+            this.loader = loader;
+        }
+
+        /** {@inheritDoc} */
+        public boolean stillAcceptsData() {
+            return loader.stillAcceptsData();
+        }
+
+        /** {@inheritDoc} */
+        public void loadData(final InputStream input, final String name)
+            throws IOException, ParseException {
+
+            final byte[] content = DataProvidersManager.readFully(input);
+            final byte[] hash    = createDigest().digest(content);
+
+            SnapshotDataLoader fresh = restore(loader, name, content.length, hash);
+            if (fresh == null) {
+                // no usable snapshot, we need to parse the file
+                fresh = loader.newLoader();
+                fresh.loadData(new ByteArrayInputStream(content), name);
+                store(fresh, name, content.length, hash);
+            }
+
+            loader.merge(fresh);
+
+        }
+
+        /** {@inheritDoc} */
+        public MergeableDataLoader newLoader() {
+            return new CachingLoader(loader.newLoader());
+        }
+
+        /** {@inheritDoc} */
+        public void merge(final MergeableDataLoader other) {
+            loader.merge(((CachingLoader) other).loader);
+        }
+
+    }
+
+}
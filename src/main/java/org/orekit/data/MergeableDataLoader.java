@@ -0,0 +1,52 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+/** Interface for loaders that can load files independently and merge the results.
+ * <p>
+ * When the {@link DataProvidersManager data providers manager} has been given an
+ * {@link DataProvidersManager#setExecutor(java.util.concurrent.ExecutorService)
+ * executor}, loaders implementing this interface are fed in parallel: each file
+ * is parsed in a separate task by a fresh loader obtained from {@link #newLoader()},
+ * then the results are {@link #merge(MergeableDataLoader) merged} into the original
+ * loader one file at a time, in the order in which the providers delivered the files.
+ * The final state of the original loader must therefore be the same as if it
+ * had loaded the files sequentially itself.
+ * </p>
+ * <p>
+ * Loaders that are not mergeable are always fed sequentially.
+ * </p>
+ * @see DataProvidersManager#feed(String, DataLoader)
+ * @since 10.0
+ */
+public interface MergeableDataLoader extends DataLoader {
+
+    /** Create an empty loader with the same configuration as the instance.
+     * <p>
+     * The new loader will be used by only one thread, but several such
+     * loaders may be used concurrently, so they must not share mutable state.
+     * </p>
+     * @return new empty loader
+     */
+    MergeableDataLoader newLoader();
+
+    /** Merge the data loaded by another loader.
+     * @param other loader created by {@link #newLoader()}, after it has loaded one file
+     */
+    void merge(MergeableDataLoader other);
+
+}
@@ -17,9 +17,11 @@
 package org.orekit.data;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.hipparchus.RealFieldElement;
+import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
 
 /**
@@ -44,13 +46,81 @@ public class PoissonSeries {
     /** Non-polynomial series. */
     private final Map<Long, SeriesTerm> series;
 
+    /** Bound for the error due to dropped terms. */
+    private final double truncationError;
+
     /** Build a Poisson series from an IERS table file.
      * @param polynomial polynomial part (may be null)
      * @param series non-polynomial part
      */
     public PoissonSeries(final PolynomialNutation polynomial, final Map<Long, SeriesTerm> series) {
-        this.polynomial = polynomial;
-        this.series     = series;
+        this(polynomial, series, 0.0);
+    }
+
+    /** Build a Poisson series.
+     * @param polynomial polynomial part (may be null)
+     * @param series non-polynomial part
+     * @param truncationError bound for the error due to dropped terms
+     */
+    private PoissonSeries(final PolynomialNutation polynomial, final Map<Long, SeriesTerm> series,
+                          final double truncationError) {
+        this.polynomial      = polynomial;
+        this.series          = series;
+        this.truncationError = truncationError;
+    }
+
+    /** Build a truncated series, dropping small amplitude terms.
+     * <p>
+     * The amplitude of a term is the maximum value it can reach for
+     * |t<sub>c</sub>| &le; {@code maxTC}, i.e. Σ<sub>j</sub>√(S<sub>j</sub>² + C<sub>j</sub>²)
+     * maxTC<sup>j</sup> where S<sub>j</sub> and C<sub>j</sub> are the sine and cosine
+     * coefficients of degree j. Terms with an amplitude strictly below the threshold
+     * are dropped, and their amplitudes are summed up to provide a bound for
+     * the {@link #getTruncationError() truncation error}.
+     * </p>
+     * <p>
+     * As the evaluation cost is dominated by the sine/cosine computation of each
+     * term, truncated series evaluate much faster than the complete ones, which
+     * may be interesting when the full accuracy is not needed. Truncated series
+     * can be {@link #compile(PoissonSeries...) compiled} as regular series.
+     * </p>
+     * @param threshold amplitude threshold below which terms are dropped
+     * (in the same unit as the series values)
+     * @param maxTC maximum offset with respect to reference epoch in Julian centuries
+     * for which the truncation error bound is computed
+     * @return truncated series
+     * @since 10.0
+     */
+    public PoissonSeries truncate(final double threshold, final double maxTC) {
+
+        final double tc = FastMath.abs(maxTC);
+        final Map<Long, SeriesTerm> kept = new LinkedHashMap<>();
+        double dropped = 0;
+        for (final Map.Entry<Long, SeriesTerm> entry : series.entrySet()) {
+            final SeriesTerm term = entry.getValue();
+            double amplitude = 0;
+            for (int j = term.getDegree(0); j >= 0; --j) {
+                amplitude = amplitude * tc + FastMath.hypot(term.getSinCoeff(0, j), term.getCosCoeff(0, j));
+            }
+            if (amplitude < threshold) {
+                dropped += amplitude;
+            } else {
+                kept.put(entry.getKey(), term);
+            }
+        }
+
+        return new PoissonSeries(polynomial, kept, truncationError + dropped);
+
+    }
+
+    /** Get a bound for the error due to dropped terms.
+     * @return bound for the error due to dropped terms, in the same unit as
+     * the series values (0 for complete series)
+     * @see #truncate(double, double)
+     * @since 10.0
+     */
+    public double getTruncationError() {
+        return truncationError;
     }
 
     /** Get the polynomial part of the series.
@@ -60,6 +130,14 @@ public class PoissonSeries {
         return polynomial;
     }
 
+    /** Get the non-polynomial part of the series.
+     * @return non-polynomial part of the series
+     * @since 10.0
+     */
+    Map<Long, SeriesTerm> getSeries() {
+        return series;
+    }
+
     /** Get the number of different terms in the non-polynomial part.
      * @return number of different terms in the non-polynomial part
      */
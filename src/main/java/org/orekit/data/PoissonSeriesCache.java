@@ -0,0 +1,189 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Persistent binary cache for parsed {@link PoissonSeries Poisson series}.
+ * <p>
+ * Parsing the large IERS tables with regular expressions is slow, so the parsed
+ * series can be stored in a compact binary form, which is memory-mapped back
+ * at later runs. Each file holds the checksum of the raw data and parser
+ * configuration it was built from, files with a different checksum are
+ * ignored.
+ * </p>
+ * <p>
+ * The order of the series terms is preserved, so series read from the cache
+ * evaluate to exactly the same values as freshly parsed series.
+ * </p>
+ * @see PoissonSeriesParser
+ * @see org.orekit.utils.OrekitConfiguration#setPoissonSeriesCacheDirectory(File)
+ * @since 10.0
+ */
+final class PoissonSeriesCache {
+
+    /** Magic number at the start of cache files. */
+    private static final int MAGIC = 0x4f505343;
+
+    /** Format version. */
+    private static final int VERSION = 1;
+
+    /** Private constructor for a utility class.
+     */
+    private PoissonSeriesCache() {
+        // nothing to do
+    }
+
+    /** Get the cache file for a series.
+     * @param directory cache directory
+     * @param name name of the resource file
+     * @param checksum checksum of raw data and parser configuration
+     * @return cache file
+     */
+    static File getFile(final File directory, final String name, final long checksum) {
+        final String base = name.replaceAll("[^A-Za-z0-9._-]", "_").replaceAll("^[._]+", "");
+        return new File(directory, String.format("%s-%08x.psc", base, checksum));
+    }
+
+    /** Load a series from a cache file.
+     * @param file cache file
+     * @param checksum expected checksum of raw data and parser configuration
+     * @return loaded series, or null if file does not exist or does not match checksum
+     */
+    static PoissonSeries load(final File file, final long checksum) {
+
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != checksum) {
+                // this is not the file we are looking for
+                return null;
+            }
+
+            // polynomial part
+            final double[] coefficients = new double[buffer.getInt()];
+            for (int i = 0; i < coefficients.length; ++i) {
+                coefficients[i] = buffer.getDouble();
+            }
+
+            // non-polynomial part, preserving terms order
+            final int nTerms = buffer.getInt();
+            final Map<Long, SeriesTerm> series = new LinkedHashMap<>(2 * nTerms);
+            for (int k = 0; k < nTerms; ++k) {
+                final long key = buffer.getLong();
+                final int[] m  = NutationCodec.decode(key);
+                final SeriesTerm term = SeriesTerm.buildTerm(m[0],
+                                                             m[1], m[2], m[3], m[4], m[5],
+                                                             m[6], m[7], m[8], m[9], m[10],
+                                                             m[11], m[12], m[13], m[14]);
+                final int n = buffer.getInt();
+                for (int d = 0; d < n; ++d) {
+                    term.add(0, d, buffer.getDouble(), buffer.getDouble());
+                }
+                series.put(key, term);
+            }
+
+            if (buffer.hasRemaining() || series.isEmpty()) {
+                // inconsistent file
+                return null;
+            }
+
+            return new PoissonSeries(new PolynomialNutation(coefficients), series);
+
+        } catch (IOException | BufferUnderflowException e) {
+            // the cache is only an optimization, we will parse the raw data instead
+            return null;
+        }
+
+    }
+
+    /** Store a series in a cache file.
+     * <p>
+     * The file is first written under a temporary name and then renamed,
+     * so concurrent processes never see partially written files.
+     * </p>
+     * @param file cache file
+     * @param checksum checksum of raw data and parser configuration
+     * @param series series to store
+     */
+    static void store(final File file, final long checksum, final PoissonSeries series) {
+
+        // compute the buffer size
+        final double[] coefficients = series.getPolynomial().getCoefficients();
+        int size = 4 + 4 + 8 + 4 + 8 * coefficients.length + 4;
+        for (final SeriesTerm term : series.getSeries().values()) {
+            size += 8 + 4 + 16 * (term.getDegree(0) + 1);
+        }
+
+        // serialize the series
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(checksum);
+        buffer.putInt(coefficients.length);
+        for (final double c : coefficients) {
+            buffer.putDouble(c);
+        }
+        buffer.putInt(series.getSeries().size());
+        for (final Map.Entry<Long, SeriesTerm> entry : series.getSeries().entrySet()) {
+            final SeriesTerm term = entry.getValue();
+            buffer.putLong(entry.getKey());
+            buffer.putInt(term.getDegree(0) + 1);
+            for (int d = 0; d <= term.getDegree(0); ++d) {
+                buffer.putDouble(term.getSinCoeff(0, d));
+                buffer.putDouble(term.getCosCoeff(0, d));
+            }
+        }
+
+        try {
+            final File directory = file.getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                return;
+            }
+            final File tmp = File.createTempFile(file.getName(), ".tmp", directory);
+            try {
+                Files.write(tmp.toPath(), buffer.array());
+                try {
+                    Files.move(tmp.toPath(), file.toPath(),
+                               StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException amnse) {
+                    Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp.toPath());
+            }
+        } catch (IOException ioe) {
+            // the cache is only an optimization, failing to write it is harmless
+        }
+
+    }
+
+}
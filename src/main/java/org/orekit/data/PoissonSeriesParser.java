@@ -17,20 +17,26 @@
 package org.orekit.data;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 import org.hipparchus.exception.DummyLocalizable;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Precision;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
+import org.orekit.utils.OrekitConfiguration;
 
 /**
  * Parser for {@link PoissonSeries Poisson series} files.
@@ -493,8 +499,14 @@ public class PoissonSeriesParser {
     }
 
     /** Parse a stream.
+     * <p>
+     * If a {@link OrekitConfiguration#setPoissonSeriesCacheDirectory(java.io.File)
+     * Poisson series cache directory} has been configured, the series is read
+     * from the cache when the raw data and parser settings match a previously
+     * parsed series, and stored in the cache otherwise.
+     * </p>
      * @param stream stream containing the IERS table
-     * @param name name of the resource file (for error messages only)
+     * @param name name of the resource file (for error messages and cache files naming)
      * @return parsed Poisson series
      */
     public PoissonSeries parse(final InputStream stream, final String name) {
@@ -503,6 +515,70 @@ public class PoissonSeriesParser {
             throw new OrekitException(OrekitMessages.UNABLE_TO_FIND_FILE, name);
         }
 
+        final File cacheDirectory = OrekitConfiguration.getPoissonSeriesCacheDirectory();
+        if (cacheDirectory == null) {
+            return parseRaw(stream, name);
+        }
+
+        try {
+
+            // read raw data and compute checksum, including parser settings
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            for (int n = stream.read(buffer); n >= 0; n = stream.read(buffer)) {
+                baos.write(buffer, 0, n);
+            }
+            final byte[] raw = baos.toByteArray();
+            final CRC32 crc = new CRC32();
+            crc.update(raw);
+            crc.update(getSignature().getBytes(StandardCharsets.UTF_8));
+            final long checksum = crc.getValue();
+
+            // try to reuse a previously parsed series
+            final File file = PoissonSeriesCache.getFile(cacheDirectory, name, checksum);
+            final PoissonSeries cached = PoissonSeriesCache.load(file, checksum);
+            if (cached != null) {
+                return cached;
+            }
+
+            // parse the raw data and store the series for next runs
+            final PoissonSeries parsed = parseRaw(new ByteArrayInputStream(raw), name);
+            PoissonSeriesCache.store(file, checksum, parsed);
+            return parsed;
+
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+
+    }
+
+    /** Get a signature of the parser settings.
+     * @return signature of the parser settings
+     */
+    private String getSignature() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(polynomialParser == null ? "" : polynomialParser.getSignature());
+        builder.append(' ').append(Arrays.toString(fieldsPatterns));
+        builder.append(' ').append(optional);
+        builder.append(' ').append(gamma);
+        builder.append(' ').append(firstDoodson);
+        builder.append(' ').append(doodson);
+        builder.append(' ').append(firstDelaunay);
+        builder.append(' ').append(firstPlanetary);
+        builder.append(' ').append(Arrays.toString(sinCosColumns));
+        for (final double factor : sinCosFactors) {
+            builder.append(' ').append(Long.toHexString(Double.doubleToLongBits(factor)));
+        }
+        return builder.toString();
+    }
+
+    /** Parse a stream, without using the cache.
+     * @param stream stream containing the IERS table
+     * @param name name of the resource file (for error messages only)
+     * @return parsed Poisson series
+     */
+    private PoissonSeries parseRaw(final InputStream stream, final String name) {
+
         // the degrees section header should read something like:
         // j = 0  Nb of terms = 1306
         // or something like:
@@ -42,6 +42,14 @@ public class PolynomialNutation implements Serializable {
         this.coefficients = coefficients.clone();
     }
 
+    /** Get the coefficients of the polynomial.
+     * @return polynomial coefficients in increasing degree
+     * @since 10.0
+     */
+    double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
     /** Evaluate the value of the polynomial.
      * @param tc date offset in Julian centuries
      * @return value of the polynomial
@@ -299,6 +299,14 @@ public class PolynomialParser {
         return -1;
     }
 
+    /** Get a signature of the parser configuration.
+     * @return signature of the parser configuration
+     * @since 10.0
+     */
+    String getSignature() {
+        return pattern.pattern() + " " + defaultUnit;
+    }
+
     /** Parse a polynomial expression.
      * @param expression polynomial expression to parse
      * @return polynomial coefficients array in increasing degree order, or
@@ -0,0 +1,82 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/** Interface for loaders whose parsed data can be saved in binary snapshots.
+ * <p>
+ * When the {@link DataProvidersManager data providers manager} has been given a
+ * {@link DataProvidersManager#setSnapshotCache(DataSnapshotCache) snapshot cache},
+ * each file delivered to a loader implementing this interface is first looked up
+ * in the cache. If a snapshot matching the file name, size and content hash exists,
+ * a fresh loader obtained from {@link #newLoader()} is {@link #readSnapshot(ByteBuffer,
+ * String) restored} from it instead of parsing the file. Otherwise the fresh loader
+ * parses the file and its state is {@link #writeSnapshot(DataOutput) saved} for later
+ * runs. In both cases, the fresh loader is then {@link #merge(MergeableDataLoader)
+ * merged} into the original loader.
+ * </p>
+ * <p>
+ * Restoring a snapshot must therefore leave a fresh loader in the same state as
+ * parsing the file would have. If this state depends on the loader configuration
+ * (for example a maximal degree for gravity fields), the configuration must be
+ * part of the {@link #getSnapshotFormat() snapshot format}.
+ * </p>
+ * @see DataSnapshotCache
+ * @since 10.0
+ */
+public interface SnapshotDataLoader extends MergeableDataLoader {
+
+    /** {@inheritDoc} */
+    @Override
+    SnapshotDataLoader newLoader();
+
+    /** Get the identifier of the snapshot format.
+     * <p>
+     * Snapshots written with a different format are ignored, so the identifier
+     * must change whenever the layout written by {@link #writeSnapshot(DataOutput)}
+     * or the configuration of the loader that affects the parsed data changes.
+     * </p>
+     * @return identifier of the snapshot format
+     */
+    String getSnapshotFormat();
+
+    /** Write the data loaded from one file.
+     * <p>
+     * This method is called on a loader created by {@link #newLoader()},
+     * after it has loaded exactly one file.
+     * </p>
+     * @param output output where data should be written
+     * @exception IOException if data cannot be written
+     */
+    void writeSnapshot(DataOutput output) throws IOException;
+
+    /** Restore the data loaded from one file.
+     * <p>
+     * This method is called on a loader created by {@link #newLoader()}
+     * and must leave it in the same state as {@link #loadData(java.io.InputStream,
+     * String) loadData} would have for the file. The buffer is big-endian, as
+     * written by {@link DataOutput}, and it may be memory-mapped.
+     * </p>
+     * @param input buffer containing the data written by {@link #writeSnapshot(DataOutput)}
+     * @param name name of the file (or zip entry) the snapshot was built from
+     */
+    void readSnapshot(ByteBuffer input, String name);
+
+}
@@ -0,0 +1,226 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.exception.DummyLocalizable;
+import org.orekit.errors.OrekitException;
+
+/** Provider for data files stored in a directories tree on filesystem, watching for changes.
+ * <p>
+ * This class feeds data loaders exactly as {@link DirectoryCrawler} does, but it
+ * also watches the directories tree using a {@link WatchService}, so long running
+ * applications can detect files that are added, modified or removed while they run
+ * (for example new Bulletin A, rapid data or solar activity files) and reload the
+ * affected data without restarting:
+ * </p>
+ * <pre>
+ * if (!crawler.pollChanges().isEmpty()) {
+ *     TimeScalesFactory.reloadUTC();
+ *     FramesFactory.reloadEOPHistories();
+ *     msafe.reload();
+ * }
+ * </pre>
+ * <p>
+ * The reloaded data are swapped in atomically, without blocking concurrent
+ * readers. Setting up a {@link DataProvidersManager#setSnapshotCache(DataSnapshotCache)
+ * snapshot cache} avoids parsing again the files that did not change.
+ * </p>
+ * <p>
+ * Watching relies on the operating system notification mechanism when available,
+ * and on periodic polling by the JVM otherwise, so changes may be reported with
+ * some delay. Sub-directories created after the crawler are watched too.
+ * </p>
+ * @see org.orekit.time.TimeScalesFactory#reloadUTC()
+ * @see org.orekit.frames.FramesFactory#reloadEOPHistories()
+ * @see org.orekit.forces.drag.atmosphere.data.MarshallSolarActivityFutureEstimation#reload()
+ * @author Luc Maisonobe
+ * @since 10.0
+ */
+public class WatchingDirectoryCrawler extends DirectoryCrawler implements Closeable {
+
+    /** Service watching the directories. */
+    private final WatchService watcher;
+
+    /** Watched directories. */
+    private final Map<WatchKey, Path> directories;
+
+    /** Build a data files crawler watching for changes.
+     * @param root root of the directories tree (must be a directory)
+     */
+    public WatchingDirectoryCrawler(final File root) {
+        super(root);
+        this.directories = new HashMap<WatchKey, Path>();
+        try {
+            this.watcher = FileSystems.getDefault().newWatchService();
+            register(root.toPath(), null);
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+    }
+
+    /** Get the files changed since last call, without waiting.
+     * <p>
+     * Changed files are files added, modified or removed. If the operating
+     * system lost some events, the directory in which they occurred is
+     * reported instead of the files.
+     * </p>
+     * @return paths of the changed files, in alphabetical order (empty if no files changed)
+     */
+    public List<String> pollChanges() {
+        final SortedSet<String> changed = new TreeSet<String>();
+        try {
+            drain(watcher.poll(), changed);
+        } catch (ClosedWatchServiceException cwse) {
+            // the crawler has been closed, changes are not reported anymore
+        }
+        return new ArrayList<String>(changed);
+    }
+
+    /** Get the files changed since last call, waiting for changes if needed.
+     * <p>
+     * This method is intended to be called in a loop by a dedicated watching thread.
+     * </p>
+     * @param timeout maximum time to wait
+     * @param unit time unit of the timeout
+     * @return paths of the changed files, in alphabetical order (empty if no files
+     * changed before timeout expiration)
+     * @exception InterruptedException if interrupted while waiting
+     * @see #pollChanges()
+     */
+    public List<String> waitForChanges(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        final SortedSet<String> changed = new TreeSet<String>();
+        try {
+            drain(watcher.poll(timeout, unit), changed);
+        } catch (ClosedWatchServiceException cwse) {
+            // the crawler has been closed, changes are not reported anymore
+        }
+        return new ArrayList<String>(changed);
+    }
+
+    /** Stop watching the directories tree.
+     * <p>
+     * The crawler can still feed data loaders after it has been closed,
+     * but it does not report changes anymore.
+     * </p>
+     */
+    public void close() {
+        try {
+            watcher.close();
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+    }
+
+    /** Drain the pending watch keys.
+     * @param first first available key (may be null)
+     * @param changed set where to put the paths of changed files
+     * @exception ClosedWatchServiceException if the crawler has been closed
+     */
+    private void drain(final WatchKey first, final SortedSet<String> changed) {
+        try {
+            synchronized (directories) {
+                for (WatchKey key = first; key != null; key = watcher.poll()) {
+
+                    final Path directory = directories.get(key);
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        if (directory == null) {
+                            // the key has been cancelled concurrently, just ignore its events
+                        } else if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            // some events were lost, we only know something changed in the directory
+                            changed.add(directory.toString());
+                        } else {
+                            final Path path = directory.resolve((Path) event.context());
+                            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE &&
+                                Files.isDirectory(path)) {
+                                // watch the new sub-directory and report the files it already contains
+                                register(path, changed);
+                            } else {
+                                changed.add(path.toString());
+                            }
+                        }
+                    }
+
+                    if (!key.reset()) {
+                        // the directory is not accessible anymore
+                        directories.remove(key);
+                    }
+
+                }
+            }
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+    }
+
+    /** Register a directories tree for watching.
+     * @param start root of the tree to register
+     * @param files set where to put the paths of the files found (may be null)
+     * @exception IOException if a directory cannot be registered
+     */
+    private void register(final Path start, final SortedSet<String> files) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+
+            /** {@inheritDoc} */
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                throws IOException {
+                synchronized (directories) {
+                    directories.put(dir.register(watcher,
+                                                 StandardWatchEventKinds.ENTRY_CREATE,
+                                                 StandardWatchEventKinds.ENTRY_MODIFY,
+                                                 StandardWatchEventKinds.ENTRY_DELETE),
+                                    dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (files != null) {
+                    files.add(file.toString());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+    }
+
+}
@@ -223,7 +223,9 @@ public enum OrekitMessages implements Localizable {
     VIENNA_ACOEF_OR_ZENITH_DELAY_NOT_LOADED("Vienna coefficients ah or aw or zh or zw could not be loaded from {0}"),
     VIENNA_ACOEF_OR_ZENITH_DELAY_NOT_AVAILABLE_FOR_DATE("Vienna coefficients ah or aw or zh or zw not available for date {0}"),
     NO_VIENNA_ACOEF_OR_ZENITH_DELAY_IN_FILE("file {0} does not contain Vienna coefficients ah, aw, zh or zw"),
-    IRREGULAR_OR_INCOMPLETE_GRID("irregular or incomplete grid in file {0}");
+    IRREGULAR_OR_INCOMPLETE_GRID("irregular or incomplete grid in file {0}"),
+    OUT_OF_RANGE_RADIUS("out of range radius: {0}, [{1}, {2}]"),
+    UNABLE_TO_REACH_FLATTENED_FRAME_ACCURACY("unable to reach {0} rad accuracy for flattened frame, error is {1} rad with {2} s step");
 
 
     // CHECKSTYLE: resume JavadocVariable check
@@ -17,10 +17,12 @@
 package org.orekit.forces.drag.atmosphere.data;
 
 import java.io.BufferedReader;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Iterator;
 import java.util.SortedSet;
@@ -29,8 +31,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.hipparchus.util.FastMath;
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.MergeableDataLoader;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.forces.drag.atmosphere.DTM2000InputParameters;
@@ -95,7 +98,11 @@ import org.orekit.utils.Constants;
  * @author Evan Ward
  * @author Pascal Parraud
  */
-public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM2000InputParameters, NRLMSISE00InputParameters {
+public class MarshallSolarActivityFutureEstimation
+    implements SnapshotDataLoader, DTM2000InputParameters, NRLMSISE00InputParameters {
+
+    /** Version of the snapshot layout. */
+    private static final String SNAPSHOT_VERSION = "MSAFE 1";
 
     /** Strength level of activity. */
     public enum StrengthLevel {
@@ -112,7 +119,7 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
     }
 
     /** Serializable UID. */
-    private static final long serialVersionUID = -5212198874900835369L;
+    private static final long serialVersionUID = 20190711L;
 
     /** Pattern for the data fields of MSAFE data. */
     private final Pattern dataPattern;
@@ -123,17 +130,8 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
     /** Selected strength level of activity. */
     private final StrengthLevel strengthLevel;
 
-    /** First available date. */
-    private AbsoluteDate firstDate;
-
-    /** Last available date. */
-    private AbsoluteDate lastDate;
-
-    /** Previous set of solar activity parameters. */
-    private LineParameters previousParam;
-
-    /** Current set of solar activity parameters. */
-    private LineParameters currentParam;
+    /** Entries used for computing solar activity parameters (null before loading). */
+    private volatile Entries entries;
 
     /** Regular expression for supported files names. */
     private final String supportedNames;
@@ -151,8 +149,7 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
     public MarshallSolarActivityFutureEstimation(final String supportedNames,
                                                  final StrengthLevel strengthLevel) {
 
-        firstDate           = null;
-        lastDate            = null;
+        entries             = null;
         data                = new TreeSet<TimeStamped>(new ChronologicalComparator());
         this.supportedNames = supportedNames;
         this.strengthLevel  = strengthLevel;
@@ -199,36 +196,6 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
         return strengthLevel;
     }
 
-    /** Find the data bracketing a specified date.
-     * @param date date to bracket
-     */
-    private void bracketDate(final AbsoluteDate date) {
-
-        if ((date.durationFrom(firstDate) < 0) || (date.durationFrom(lastDate) > 0)) {
-            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE,
-                                      date, firstDate, lastDate);
-        }
-
-        // don't search if the cached selection is fine
-        if ((previousParam != null) &&
-            (date.durationFrom(previousParam.getDate()) > 0) &&
-            (date.durationFrom(currentParam.getDate()) <= 0 )) {
-            return;
-        }
-
-        if (date.equals(firstDate)) {
-            currentParam  = (LineParameters) data.tailSet(date.shiftedBy(1)).first();
-            previousParam = (LineParameters) data.first();
-        } else if (date.equals(lastDate)) {
-            currentParam  = (LineParameters) data.last();
-            previousParam = (LineParameters) data.headSet(date.shiftedBy(-1)).last();
-        } else {
-            currentParam  = (LineParameters) data.tailSet(date).first();
-            previousParam = (LineParameters) data.headSet(date).last();
-        }
-
-    }
-
     /** Get the supported names for data files.
      * @return regular expression for the supported names for data files
      */
@@ -238,18 +205,44 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
 
     /** {@inheritDoc} */
     public AbsoluteDate getMinDate() {
-        if (firstDate == null) {
+        if (entries == null) {
             DataProvidersManager.getInstance().feed(getSupportedNames(), this);
         }
-        return firstDate;
+        return entries.firstDate;
     }
 
     /** {@inheritDoc} */
     public AbsoluteDate getMaxDate() {
-        if (lastDate == null) {
+        if (entries == null) {
             DataProvidersManager.getInstance().feed(getSupportedNames(), this);
         }
-        return lastDate;
+        return entries.lastDate;
+    }
+
+    /** Reload the solar activity data.
+     * <p>
+     * This method is intended for long running applications that ingest new
+     * MSAFE files while running, for example using a {@link
+     * org.orekit.data.WatchingDirectoryCrawler WatchingDirectoryCrawler}. The
+     * files are loaded again from the default {@link DataProvidersManager data
+     * providers manager} and the new entries are swapped atomically into the
+     * instance, so the atmosphere models already using it see the new data.
+     * Concurrent readers are never blocked and see either the former entries
+     * or the new ones. If a {@link org.orekit.data.DataSnapshotCache snapshot
+     * cache} is set up, only the new or changed files are parsed.
+     * </p>
+     * <p>
+     * This method must not be called concurrently with itself or with data loading.
+     * </p>
+     * @since 10.0
+     */
+    public void reload() {
+        final MarshallSolarActivityFutureEstimation fresh =
+                new MarshallSolarActivityFutureEstimation(supportedNames, strengthLevel);
+        DataProvidersManager.getInstance().feed(supportedNames, fresh);
+        data.clear();
+        data.addAll(fresh.data);
+        entries = fresh.entries;
     }
 
     /** {@inheritDoc} */
@@ -261,7 +254,10 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
     public double getMeanFlux(final AbsoluteDate date) {
 
         // get the neighboring dates
-        bracketDate(date);
+        final Entries e = entries;
+        final int index = e.bracket(date);
+        final LineParameters previousParam = e.parameters[index - 1];
+        final LineParameters currentParam  = e.parameters[index];
 
         // perform a linear interpolation
         final AbsoluteDate previousDate = previousParam.getDate();
@@ -297,7 +293,10 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
      * @return date of the file
      */
     public DateComponents getFileDate(final AbsoluteDate date) {
-        bracketDate(date);
+        final Entries e = entries;
+        final int index = e.bracket(date);
+        final LineParameters previousParam = e.parameters[index - 1];
+        final LineParameters currentParam  = e.parameters[index];
         final double dtP = date.durationFrom(previousParam.getDate());
         final double dtC = currentParam.getDate().durationFrom(date);
         return (dtP < dtC) ? previousParam.getFileDate() : currentParam.getFileDate();
@@ -378,7 +377,10 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
     private double getDailyAp(final AbsoluteDate date) {
 
         // get the neighboring dates
-        bracketDate(date);
+        final Entries e = entries;
+        final int index = e.bracket(date);
+        final LineParameters previousParam = e.parameters[index - 1];
+        final LineParameters currentParam  = e.parameters[index];
 
         // perform a linear interpolation
         final AbsoluteDate previousDate = previousParam.getDate();
@@ -393,6 +395,63 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
         return previousAp * previousWeight + currentAp * currentWeight;
     }
 
+    /** Immutable sorted entries, swapped as a whole when data are reloaded.
+     * @since 10.0
+     */
+    private static class Entries implements Serializable {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20190711L;
+
+        /** Solar activity parameters, in chronological order. */
+        private final LineParameters[] parameters;
+
+        /** First available date. */
+        private final AbsoluteDate firstDate;
+
+        /** Last available date. */
+        private final AbsoluteDate lastDate;
+
+        /** Simple constructor.
+         * @param data data set (must not be empty)
+         */
+        Entries(final SortedSet<TimeStamped> data) {
+            this.parameters = data.toArray(new LineParameters[data.size()]);
+            this.firstDate  = parameters[0].getDate();
+            this.lastDate   = parameters[parameters.length - 1].getDate();
+        }
+
+        /** Find the data bracketing a specified date.
+         * @param date date to bracket
+         * @return index i of the first entry not before date (or 1 if date is
+         * the first entry date), so date is between entries i-1 and i
+         */
+        int bracket(final AbsoluteDate date) {
+
+            if ((date.durationFrom(firstDate) < 0) || (date.durationFrom(lastDate) > 0)) {
+                throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE,
+                                          date, firstDate, lastDate);
+            }
+
+            // binary search for the first entry not before date
+            int low  = 0;
+            int high = parameters.length - 1;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (parameters[mid].getDate().compareTo(date) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            // at first date, the first entry is the previous one
+            return FastMath.max(low, 1);
+
+        }
+
+    }
+
     /** Container class for Solar activity indexes.  */
     private static class LineParameters implements TimeStamped, Serializable {
 
@@ -504,33 +563,9 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
                         }
                     }
 
-                    // check if there is already an entry for this date or not
-                    boolean addEntry = false;
-                    final Iterator<TimeStamped> iterator = data.tailSet(date).iterator();
-                    if (iterator.hasNext()) {
-                        final LineParameters existingEntry = (LineParameters) iterator.next();
-                        if (existingEntry.getDate().equals(date)) {
-                            // there is an entry for this date
-                            if (existingEntry.getFileDate().compareTo(fileDate) < 0) {
-                                // the entry was read from an earlier file
-                                // we replace it with the new entry as it is fresher
-                                iterator.remove();
-                                addEntry = true;
-                            }
-                        } else {
-                            // it is the first entry we get for this date
-                            addEntry = true;
-                        }
-                    } else {
-                        // it is the first entry we get for this date
-                        addEntry = true;
-                    }
-                    if (addEntry) {
-                        // we must add the new entry
-                        data.add(new LineParameters(fileDate, date,
-                                                    Double.parseDouble(matcher.group(f107Group)),
-                                                    Double.parseDouble(matcher.group(apGroup))));
-                    }
+                    addEntry(new LineParameters(fileDate, date,
+                                                Double.parseDouble(matcher.group(f107Group)),
+                                                Double.parseDouble(matcher.group(apGroup))));
 
                 } else {
                     if (inData) {
@@ -548,8 +583,40 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
             throw new OrekitException(OrekitMessages.NOT_A_MARSHALL_SOLAR_ACTIVITY_FUTURE_ESTIMATION_FILE,
                                       name);
         }
-        firstDate = data.first().getDate();
-        lastDate  = data.last().getDate();
+        entries = new Entries(data);
+
+    }
+
+    /** Add an entry, unless a fresher entry already exists for the same date.
+     * @param entry entry to add
+     */
+    private void addEntry(final LineParameters entry) {
+
+        // check if there is already an entry for this date or not
+        boolean addEntry = false;
+        final Iterator<TimeStamped> iterator = data.tailSet(entry.getDate()).iterator();
+        if (iterator.hasNext()) {
+            final LineParameters existingEntry = (LineParameters) iterator.next();
+            if (existingEntry.getDate().equals(entry.getDate())) {
+                // there is an entry for this date
+                if (existingEntry.getFileDate().compareTo(entry.getFileDate()) < 0) {
+                    // the entry was read from an earlier file
+                    // we replace it with the new entry as it is fresher
+                    iterator.remove();
+                    addEntry = true;
+                }
+            } else {
+                // it is the first entry we get for this date
+                addEntry = true;
+            }
+        } else {
+            // it is the first entry we get for this date
+            addEntry = true;
+        }
+        if (addEntry) {
+            // we must add the new entry
+            data.add(entry);
+        }
 
     }
 
@@ -558,4 +625,60 @@ public class MarshallSolarActivityFutureEstimation implements DataLoader, DTM200
         return true;
     }
 
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public SnapshotDataLoader newLoader() {
+        return new MarshallSolarActivityFutureEstimation(supportedNames, strengthLevel);
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void merge(final MergeableDataLoader other) {
+        for (final TimeStamped entry : ((MarshallSolarActivityFutureEstimation) other).data) {
+            addEntry((LineParameters) entry);
+        }
+        entries = new Entries(data);
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public String getSnapshotFormat() {
+        // only the selected strength level is stored
+        return SNAPSHOT_VERSION + " " + strengthLevel;
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void writeSnapshot(final DataOutput output) throws IOException {
+        output.writeInt(data.size());
+        for (final TimeStamped entry : data) {
+            final LineParameters parameters = (LineParameters) entry;
+            final DateComponents dc = parameters.getDate().getComponents(TimeScalesFactory.getUTC()).getDate();
+            output.writeInt(parameters.getFileDate().getMJD());
+            output.writeInt(dc.getYear());
+            output.writeInt(dc.getMonth());
+            output.writeDouble(parameters.getF107());
+            output.writeDouble(parameters.getAp());
+        }
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void readSnapshot(final ByteBuffer input, final String name) {
+        final TimeScale utc = TimeScalesFactory.getUTC();
+        for (int n = input.getInt(); n > 0; --n) {
+            final DateComponents fileDate = new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, input.getInt());
+            final int            year     = input.getInt();
+            final int            month    = input.getInt();
+            addEntry(new LineParameters(fileDate, new AbsoluteDate(year, month, 1, utc),
+                                        input.getDouble(), input.getDouble()));
+        }
+        entries = new Entries(data);
+    }
+
 }
@@ -0,0 +1,669 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.hipparchus.Field;
+import org.hipparchus.RealFieldElement;
+import org.hipparchus.exception.DummyLocalizable;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
+import org.hipparchus.util.MathUtils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitInternalError;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.AbstractForceModel;
+import org.orekit.frames.Frame;
+import org.orekit.frames.Transform;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.EventDetector;
+import org.orekit.propagation.events.FieldEventDetector;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ParameterDriver;
+
+/** Gravity field model interpolating non-central accelerations precomputed on a grid.
+ * <p>
+ * Evaluating a high degree spherical harmonics field at each integrator stage is
+ * expensive. When many objects are propagated in a fixed altitude band (for example
+ * a constellation), the non-central part of the field can be computed once on a
+ * body-fixed spherical grid covering the band, and interpolated afterwards. This
+ * model performs a tricubic Lagrange interpolation of the Cartesian components of
+ * the acceleration in body frame, using 4 nodes along radius, latitude and longitude,
+ * so its cost does not depend on the degree of the original field.
+ * </p>
+ * <p>
+ * The grid is regular in radius (including both band limits), latitude (cell-centered,
+ * so it never contains the poles) and longitude (twice as many nodes as in latitude,
+ * so the angular steps are equal). Near poles, interpolation uses nodes on the other
+ * side of the pole, so accuracy is the same everywhere. Grids are created by {@link
+ * #writeGrid(File, HolmesFeatherstoneAttractionModel, AbsoluteDate, double, double, int, int)
+ * writeGrid} from a {@link HolmesFeatherstoneAttractionModel} and stored in a binary
+ * file, which is memory-mapped when the model is built. The mapped pages are shared
+ * by all the threads using the model and by all the processes mapping the same file.
+ * Time-dependent parts of the original field are frozen at the date used for writing
+ * the grid. The accuracy of a grid with respect to the original model can be checked
+ * using {@link #checkAccuracy(HolmesFeatherstoneAttractionModel, AbsoluteDate, int,
+ * RandomGenerator) checkAccuracy}.
+ * </p>
+ * <p>
+ * Positions outside of the radius band covered by the grid trigger an error.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 10.0
+ */
+public class GriddedGravityModel extends AbstractForceModel {
+
+    /** Magic number for grid files. */
+    private static final int MAGIC = 0x4f475247;
+
+    /** Version of the grid files format. */
+    private static final int HEADER_VERSION = 1;
+
+    /** Size of the header (magic, version, μ, radius limits and grid dimensions, padding). */
+    private static final int HEADER_SIZE = 48;
+
+    /** Number of interpolation nodes along each axis. */
+    private static final int NODES = 4;
+
+    /** Central attraction scaling factor.
+     * <p>
+     * We use a power of 2 to avoid numeric noise introduction
+     * in the multiplications/divisions sequences.
+     * </p>
+     */
+    private static final double MU_SCALE = FastMath.scalb(1.0, 32);
+
+    /** Driver for gravitational parameter. */
+    private final ParameterDriver gmParameterDriver;
+
+    /** Rotating body. */
+    private final Frame bodyFrame;
+
+    /** Central attraction coefficient used for computing the grid. */
+    private final double gridMu;
+
+    /** Minimum radius. */
+    private final double rMin;
+
+    /** Maximum radius. */
+    private final double rMax;
+
+    /** Number of nodes along radius. */
+    private final int nR;
+
+    /** Number of nodes along latitude. */
+    private final int nLat;
+
+    /** Number of nodes along longitude. */
+    private final int nLon;
+
+    /** Radius step. */
+    private final double dR;
+
+    /** Angular step. */
+    private final double dAngle;
+
+    /** Accelerations at grid nodes (memory-mapped). */
+    private final DoubleBuffer data;
+
+    /** Build a model from a grid file.
+     * @param centralBodyFrame rotating body frame
+     * @param file grid file, as created by {@link #writeGrid(File,
+     * HolmesFeatherstoneAttractionModel, AbsoluteDate, double, double, int, int) writeGrid}
+     */
+    public GriddedGravityModel(final Frame centralBodyFrame, final File file) {
+
+        this.bodyFrame = centralBodyFrame;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+            // the mapping remains valid after the channel is closed
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE ||
+                buffer.getInt() != MAGIC || buffer.getInt() != HEADER_VERSION) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, file.getAbsolutePath());
+            }
+            gridMu = buffer.getDouble();
+            rMin   = buffer.getDouble();
+            rMax   = buffer.getDouble();
+            nR     = buffer.getInt();
+            nLat   = buffer.getInt();
+            nLon   = buffer.getInt();
+            if (!(rMin < rMax) || nR < NODES || nLat < NODES || nLon != 2 * nLat ||
+                buffer.limit() != HEADER_SIZE + 24l * nR * nLat * nLon) {
+                throw new OrekitException(OrekitMessages.CORRUPTED_FILE, file.getAbsolutePath());
+            }
+            dR     = (rMax - rMin) / (nR - 1);
+            dAngle = FastMath.PI / nLat;
+
+            buffer.position(HEADER_SIZE);
+            data = buffer.slice().asDoubleBuffer();
+
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        }
+
+        try {
+            gmParameterDriver = new ParameterDriver(NewtonianAttraction.CENTRAL_ATTRACTION_COEFFICIENT,
+                                                    gridMu, MU_SCALE, 0.0, Double.POSITIVE_INFINITY);
+        } catch (OrekitException oe) {
+            // this should never occur as valueChanged above never throws an exception
+            throw new OrekitInternalError(oe);
+        }
+
+    }
+
+    /** Compute a grid and write it to a file.
+     * <p>
+     * The file is first written under a temporary name and then moved to its final
+     * name, so other processes never see a partially written grid.
+     * </p>
+     * @param file grid file to write
+     * @param reference reference model to sample
+     * @param date date at which the reference model is sampled
+     * @param minRadius minimum radius of the band covered by the grid (m)
+     * @param maxRadius maximum radius of the band covered by the grid (m)
+     * @param radiusNodes number of nodes along radius (at least 4)
+     * @param latitudeNodes number of nodes along latitude (at least 4), the number
+     * of nodes along longitude is twice this number
+     */
+    public static void writeGrid(final File file, final HolmesFeatherstoneAttractionModel reference,
+                                 final AbsoluteDate date, final double minRadius, final double maxRadius,
+                                 final int radiusNodes, final int latitudeNodes) {
+
+        if (!(minRadius < maxRadius)) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     maxRadius, minRadius);
+        }
+        if (radiusNodes < NODES) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                     radiusNodes, NODES);
+        }
+        if (latitudeNodes < NODES) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                     latitudeNodes, NODES);
+        }
+        final int    longitudeNodes = 2 * latitudeNodes;
+        final double radiusStep     = (maxRadius - minRadius) / (radiusNodes - 1);
+        final double angularStep    = FastMath.PI / latitudeNodes;
+        final double mu             = reference.getMu();
+
+        // longitudes are the same for all rows
+        final double[] cosLon = new double[longitudeNodes];
+        final double[] sinLon = new double[longitudeNodes];
+        for (int k = 0; k < longitudeNodes; ++k) {
+            cosLon[k] = FastMath.cos(k * angularStep);
+            sinLon[k] = FastMath.sin(k * angularStep);
+        }
+
+        final double[] x  = new double[longitudeNodes];
+        final double[] y  = new double[longitudeNodes];
+        final double[] z  = new double[longitudeNodes];
+        final double[] gx = new double[longitudeNodes];
+        final double[] gy = new double[longitudeNodes];
+        final double[] gz = new double[longitudeNodes];
+
+        Path tmp = null;
+        try {
+
+            final File parent = file.getAbsoluteFile().getParentFile();
+            tmp = Files.createTempFile(parent.toPath(), "grid-", ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmp);
+                 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(os))) {
+
+                output.writeInt(MAGIC);
+                output.writeInt(HEADER_VERSION);
+                output.writeDouble(mu);
+                output.writeDouble(minRadius);
+                output.writeDouble(maxRadius);
+                output.writeInt(radiusNodes);
+                output.writeInt(latitudeNodes);
+                output.writeInt(longitudeNodes);
+                output.writeInt(0);
+
+                for (int i = 0; i < radiusNodes; ++i) {
+                    final double r = minRadius + i * radiusStep;
+                    for (int j = 0; j < latitudeNodes; ++j) {
+
+                        // evaluate a complete row of constant radius and latitude at once
+                        final double lat = -0.5 * FastMath.PI + (j + 0.5) * angularStep;
+                        final double rho = r * FastMath.cos(lat);
+                        final double h   = r * FastMath.sin(lat);
+                        for (int k = 0; k < longitudeNodes; ++k) {
+                            x[k] = rho * cosLon[k];
+                            y[k] = rho * sinLon[k];
+                            z[k] = h;
+                        }
+                        reference.gradients(date, x, y, z, mu, gx, gy, gz);
+
+                        for (int k = 0; k < longitudeNodes; ++k) {
+                            output.writeDouble(gx[k]);
+                            output.writeDouble(gy[k]);
+                            output.writeDouble(gz[k]);
+                        }
+
+                    }
+                }
+
+            }
+
+            // make the complete grid visible at once
+            try {
+                Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
+        } finally {
+            if (tmp != null) {
+                tmp.toFile().delete();
+            }
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean dependsOnPositionOnly() {
+        return true;
+    }
+
+    /** Get the central attraction coefficient μ.
+     * @return mu central attraction coefficient (m³/s²)
+     */
+    public double getMu() {
+        return gmParameterDriver.getValue();
+    }
+
+    /** Get the minimum radius covered by the grid.
+     * @return minimum radius covered by the grid (m)
+     */
+    public double getMinRadius() {
+        return rMin;
+    }
+
+    /** Get the maximum radius covered by the grid.
+     * @return maximum radius covered by the grid (m)
+     */
+    public double getMaxRadius() {
+        return rMax;
+    }
+
+    /** Interpolate the gradient of the non-central part of the gravity field.
+     * @param position position at which gravity field is desired in body frame
+     * @param mu central attraction coefficient to use
+     * @return gradient of the non-central part of the gravity field
+     */
+    public double[] gradient(final Vector3D position, final double mu) {
+
+        final double r = position.getNorm();
+        checkRadius(r);
+
+        // interpolation nodes and weights along each axis
+        final double uR   = (r - rMin) / dR;
+        final int    iR   = FastMath.max(0, FastMath.min(nR - NODES, (int) FastMath.floor(uR) - 1));
+        final double[] wR = weights(uR - (iR + 1));
+        final double uLat = (position.getDelta() + 0.5 * FastMath.PI) / dAngle - 0.5;
+        final int    iLat = (int) FastMath.floor(uLat) - 1;
+        final double[] wLat = weights(uLat - (iLat + 1));
+        final double uLon = MathUtils.normalizeAngle(position.getAlpha(), FastMath.PI) / dAngle;
+        final int    iLon = (int) FastMath.floor(uLon) - 1;
+        final double[] wLon = weights(uLon - (iLon + 1));
+
+        // tricubic interpolation
+        double gx = 0;
+        double gy = 0;
+        double gz = 0;
+        for (int a = 0; a < NODES; ++a) {
+            for (int b = 0; b < NODES; ++b) {
+                final double wab  = wR[a] * wLat[b];
+                final int    row  = row(iR + a, iLat + b);
+                final int    skew = skew(iLat + b);
+                for (int c = 0; c < NODES; ++c) {
+                    final double w     = wab * wLon[c];
+                    final int    index = 3 * (row + column(iLon + c + skew));
+                    gx += w * data.get(index);
+                    gy += w * data.get(index + 1);
+                    gz += w * data.get(index + 2);
+                }
+            }
+        }
+
+        final double scale = mu / gridMu;
+        return new double[] {
+            scale * gx, scale * gy, scale * gz
+        };
+
+    }
+
+    /** Interpolate the gradient of the non-central part of the gravity field.
+     * @param position position at which gravity field is desired in body frame
+     * @param mu central attraction coefficient to use
+     * @param <T> type of field used
+     * @return gradient of the non-central part of the gravity field
+     */
+    public <T extends RealFieldElement<T>> T[] gradient(final FieldVector3D<T> position, final T mu) {
+
+        final T r = position.getNorm();
+        checkRadius(r.getReal());
+
+        // interpolation nodes and weights along each axis
+        final T   uR   = r.subtract(rMin).divide(dR);
+        final int iR   = FastMath.max(0, FastMath.min(nR - NODES, (int) FastMath.floor(uR.getReal()) - 1));
+        final T[] wR   = weights(uR.subtract(iR + 1));
+        final T   uLat = position.getDelta().add(0.5 * FastMath.PI).divide(dAngle).subtract(0.5);
+        final int iLat = (int) FastMath.floor(uLat.getReal()) - 1;
+        final T[] wLat = weights(uLat.subtract(iLat + 1));
+        final T   alpha = position.getAlpha();
+        final T   uLon = alpha.add(MathUtils.normalizeAngle(alpha.getReal(), FastMath.PI) - alpha.getReal()).divide(dAngle);
+        final int iLon = (int) FastMath.floor(uLon.getReal()) - 1;
+        final T[] wLon = weights(uLon.subtract(iLon + 1));
+
+        // tricubic interpolation
+        final T zero = r.getField().getZero();
+        T gx = zero;
+        T gy = zero;
+        T gz = zero;
+        for (int a = 0; a < NODES; ++a) {
+            for (int b = 0; b < NODES; ++b) {
+                final T   wab  = wR[a].multiply(wLat[b]);
+                final int row  = row(iR + a, iLat + b);
+                final int skew = skew(iLat + b);
+                for (int c = 0; c < NODES; ++c) {
+                    final T   w     = wab.multiply(wLon[c]);
+                    final int index = 3 * (row + column(iLon + c + skew));
+                    gx = gx.add(w.multiply(data.get(index)));
+                    gy = gy.add(w.multiply(data.get(index + 1)));
+                    gz = gz.add(w.multiply(data.get(index + 2)));
+                }
+            }
+        }
+
+        final T scale = mu.divide(gridMu);
+        final T[] gradient = MathArrays.buildArray(r.getField(), 3);
+        gradient[0] = scale.multiply(gx);
+        gradient[1] = scale.multiply(gy);
+        gradient[2] = scale.multiply(gz);
+        return gradient;
+
+    }
+
+    /** Check the accuracy of the grid with respect to a reference model.
+     * <p>
+     * The reference model is evaluated at random positions uniformly distributed
+     * in the band covered by the grid, and compared with interpolation.
+     * </p>
+     * @param reference reference model (typically the one used to create the grid)
+     * @param date date at which the reference model is evaluated
+     * @param samples number of random positions
+     * @param random random generator to use for drawing positions
+     * @return accuracy report
+     */
+    public AccuracyReport checkAccuracy(final HolmesFeatherstoneAttractionModel reference,
+                                        final AbsoluteDate date, final int samples,
+                                        final RandomGenerator random) {
+
+        // draw random positions
+        final double[] x = new double[samples];
+        final double[] y = new double[samples];
+        final double[] z = new double[samples];
+        for (int i = 0; i < samples; ++i) {
+            final double r     = rMin + (rMax - rMin) * random.nextDouble();
+            final double sinφ  = 2 * random.nextDouble() - 1;
+            final double cosφ  = FastMath.sqrt(1 - sinφ * sinφ);
+            final double λ     = MathUtils.TWO_PI * random.nextDouble();
+            x[i] = r * cosφ * FastMath.cos(λ);
+            y[i] = r * cosφ * FastMath.sin(λ);
+            z[i] = r * sinφ;
+        }
+
+        // evaluate the reference model at all positions at once
+        final double mu = getMu();
+        final double[] gx = new double[samples];
+        final double[] gy = new double[samples];
+        final double[] gz = new double[samples];
+        reference.gradients(date, x, y, z, mu, gx, gy, gz);
+
+        // compare with interpolation
+        double maxError         = 0;
+        double maxRelativeError = 0;
+        double sum2             = 0;
+        for (int i = 0; i < samples; ++i) {
+            final double[] g = gradient(new Vector3D(x[i], y[i], z[i]), mu);
+            final double dx  = g[0] - gx[i];
+            final double dy  = g[1] - gy[i];
+            final double dz  = g[2] - gz[i];
+            final double e2  = dx * dx + dy * dy + dz * dz;
+            final double e   = FastMath.sqrt(e2);
+            maxError         = FastMath.max(maxError, e);
+            maxRelativeError = FastMath.max(maxRelativeError,
+                                            e / FastMath.sqrt(gx[i] * gx[i] + gy[i] * gy[i] + gz[i] * gz[i]));
+            sum2            += e2;
+        }
+
+        return new AccuracyReport(samples, maxError, FastMath.sqrt(sum2 / samples), maxRelativeError);
+
+    }
+
+    /** Check a radius is covered by the grid.
+     * @param r radius to check
+     */
+    private void checkRadius(final double r) {
+        if (r < rMin || r > rMax) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_RADIUS, r, rMin, rMax);
+        }
+    }
+
+    /** Get the index of the first node of a row of constant radius and latitude.
+     * @param i radius index
+     * @param j latitude index, may be beyond poles
+     * @return index of the first node of the row
+     */
+    private int row(final int i, final int j) {
+        // beyond poles, latitudes are mirrored
+        final int mirrored = (j < 0) ? -1 - j : ((j >= nLat) ? 2 * nLat - 1 - j : j);
+        return (i * nLat + mirrored) * nLon;
+    }
+
+    /** Get the longitude shift for a latitude index.
+     * @param j latitude index, may be beyond poles
+     * @return longitude index shift (half a turn beyond poles, 0 otherwise)
+     */
+    private int skew(final int j) {
+        return (j < 0 || j >= nLat) ? nLat : 0;
+    }
+
+    /** Get the column of a node in a row.
+     * @param k longitude index, may be outside of [0, 2π[
+     * @return column of the node
+     */
+    private int column(final int k) {
+        final int column = k % nLon;
+        return (column < 0) ? column + nLon : column;
+    }
+
+    /** Compute cubic Lagrange interpolation weights for nodes at -1, 0, 1 and 2.
+     * @param t interpolation abscissa
+     * @return interpolation weights
+     */
+    private static double[] weights(final double t) {
+        final double tP1 = t + 1;
+        final double tM1 = t - 1;
+        final double tM2 = t - 2;
+        return new double[] {
+            -t * tM1 * tM2 / 6, tP1 * tM1 * tM2 / 2, -tP1 * t * tM2 / 2, tP1 * t * tM1 / 6
+        };
+    }
+
+    /** Compute cubic Lagrange interpolation weights for nodes at -1, 0, 1 and 2.
+     * @param t interpolation abscissa
+     * @param <T> type of field used
+     * @return interpolation weights
+     */
+    private static <T extends RealFieldElement<T>> T[] weights(final T t) {
+        final T tP1 = t.add(1);
+        final T tM1 = t.subtract(1);
+        final T tM2 = t.subtract(2);
+        final T[] w = MathArrays.buildArray(t.getField(), NODES);
+        w[0] = t.multiply(tM1).multiply(tM2).divide(-6);
+        w[1] = tP1.multiply(tM1).multiply(tM2).divide(2);
+        w[2] = tP1.multiply(t).multiply(tM2).divide(-2);
+        w[3] = tP1.multiply(t).multiply(tM1).divide(6);
+        return w;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D acceleration(final SpacecraftState s, final double[] parameters) {
+
+        final double mu = parameters[0];
+
+        // get the position in body frame
+        final AbsoluteDate date       = s.getDate();
+        final Transform fromBodyFrame = bodyFrame.getTransformTo(s.getFrame(), date);
+        final Transform toBodyFrame   = fromBodyFrame.getInverse();
+        final Vector3D position       = toBodyFrame.transformPosition(s.getPVCoordinates().getPosition());
+
+        // gradient of the non-central part of the gravity field
+        return fromBodyFrame.transformVector(new Vector3D(gradient(position, mu)));
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends RealFieldElement<T>> FieldVector3D<T> acceleration(final FieldSpacecraftState<T> s,
+                                                                         final T[] parameters) {
+
+        final T mu = parameters[0];
+
+        // get the position in body frame
+        final AbsoluteDate     date          = s.getDate().toAbsoluteDate();
+        final Transform        fromBodyFrame = bodyFrame.getTransformTo(s.getFrame(), date);
+        final Transform        toBodyFrame   = fromBodyFrame.getInverse();
+        final FieldVector3D<T> position      = toBodyFrame.transformPosition(s.getPVCoordinates().getPosition());
+
+        // gradient of the non-central part of the gravity field
+        return fromBodyFrame.transformVector(new FieldVector3D<>(gradient(position, mu)));
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Stream<EventDetector> getEventsDetectors() {
+        return Stream.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends RealFieldElement<T>> Stream<FieldEventDetector<T>> getFieldEventsDetectors(final Field<T> field) {
+        return Stream.empty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParameterDriver[] getParametersDrivers() {
+        return new ParameterDriver[] {
+            gmParameterDriver
+        };
+    }
+
+    /** Report on the accuracy of a grid with respect to a reference model.
+     * @see GriddedGravityModel#checkAccuracy(HolmesFeatherstoneAttractionModel, AbsoluteDate, int, RandomGenerator)
+     */
+    public static class AccuracyReport {
+
+        /** Number of samples. */
+        private final int samples;
+
+        /** Maximum error. */
+        private final double maxError;
+
+        /** Root mean square error. */
+        private final double rmsError;
+
+        /** Maximum relative error. */
+        private final double maxRelativeError;
+
+        /** Simple constructor.
+         * @param samples number of samples
+         * @param maxError maximum error (m/s²)
+         * @param rmsError root mean square error (m/s²)
+         * @param maxRelativeError maximum relative error
+         */
+        AccuracyReport(final int samples, final double maxError,
+                       final double rmsError, final double maxRelativeError) {
+            this.samples          = samples;
+            this.maxError         = maxError;
+            this.rmsError         = rmsError;
+            this.maxRelativeError = maxRelativeError;
+        }
+
+        /** Get the number of samples.
+         * @return number of samples
+         */
+        public int getSamples() {
+            return samples;
+        }
+
+        /** Get the maximum error.
+         * @return maximum norm of the acceleration error (m/s²)
+         */
+        public double getMaxError() {
+            return maxError;
+        }
+
+        /** Get the root mean square error.
+         * @return root mean square of the acceleration error norm (m/s²)
+         */
+        public double getRMSError() {
+            return rmsError;
+        }
+
+        /** Get the maximum relative error.
+         * @return maximum of the acceleration error norm divided by
+         * the non-central acceleration norm
+         */
+        public double getMaxRelativeError() {
+            return maxRelativeError;
+        }
+
+    }
+
+}
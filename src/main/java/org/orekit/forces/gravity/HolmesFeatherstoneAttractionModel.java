@@ -17,19 +17,19 @@
 package org.orekit.forces.gravity;
 
 
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import org.hipparchus.Field;
 import org.hipparchus.RealFieldElement;
 import org.hipparchus.analysis.differentiation.DerivativeStructure;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
-import org.hipparchus.geometry.euclidean.threed.SphericalCoordinates;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
-import org.hipparchus.linear.Array2DRowRealMatrix;
-import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.errors.OrekitInternalError;
 import org.orekit.forces.AbstractForceModel;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
@@ -44,7 +44,6 @@ import org.orekit.propagation.events.EventDetector;
 import org.orekit.propagation.events.FieldEventDetector;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
-import org.orekit.utils.FieldPVCoordinates;
 import org.orekit.utils.ParameterDriver;
 
 /** This class represents the gravitational field of a celestial body.
@@ -69,7 +68,25 @@ import org.orekit.utils.ParameterDriver;
  * paper but not used due to the large memory requirements. Since 2002, even low end
  * computers and mobile devices do have sufficient memory so this caching has become
  * feasible nowadays.
+ * </p>
+ * <p>
+ * The double-based computations of value, gradient and Hessian use a per-thread
+ * workspace that holds all intermediate arrays, so they do not allocate any
+ * memory once the workspace has been set up, even for high degree fields.
+ * The normalized coefficients are copied from the provider into the workspace
+ * once per date, in the order they are used by the recursions. The {@link
+ * #gradients(AbsoluteDate, double[], double[], double[], double, double[], double[],
+ * double[], double[][]) gradients} method takes advantage of this to evaluate the
+ * field at many positions sharing the same date.
+ * </p>
  * <p>
+ * If a target accuracy is specified at construction, the field is truncated at
+ * each evaluation to the lowest degree and order for which the acceleration due to
+ * the neglected terms remains below this accuracy. As the contribution of degree n
+ * decreases as (a/r)<sup>n</sup>, the same model can be used at LEO with its full
+ * degree and at GEO or near apogee of highly eccentric orbits with a much lower
+ * degree, hence at a much lower computation cost.
+ * </p>
  * @author Luc Maisonobe
  * @since 6.0
  */
@@ -99,6 +116,15 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
     /** Rotating body. */
     private final Frame bodyFrame;
 
+    /** Target accuracy for the acceleration (m/s²), 0 if the field is never truncated. */
+    private final double accuracy;
+
+    /** Index of the first recursion coefficient of each column. */
+    private final int[] columnStart;
+
+    /** Index of the first normalized coefficient of each column in the workspace. */
+    private final int[] coefficientStart;
+
     /** Recursion coefficients g<sub>n,m</sub>/√j. */
     private final double[] gnmOj;
 
@@ -111,13 +137,44 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
     /** Scaled sectorial Pbar<sub>m,m</sub>/u<sup>m</sup> &times; 2<sup>-SCALING</sup>. */
     private final double[] sectorial;
 
+    /** Per-thread workspace for double-based computations. */
+    private final ThreadLocal<Workspace> workspace;
+
     /** Creates a new instance.
+     * <p>
+     * The field built by this constructor is never truncated, it always
+     * uses the maximum degree and order of the provider.
+     * </p>
      * @param centralBodyFrame rotating body frame
      * @param provider provider for spherical harmonics
      * @since 6.0
      */
     public HolmesFeatherstoneAttractionModel(final Frame centralBodyFrame,
                                              final NormalizedSphericalHarmonicsProvider provider) {
+        this(centralBodyFrame, provider, 0.0);
+    }
+
+    /** Creates a new instance with altitude-adaptive truncation.
+     * <p>
+     * At each evaluation, the field is truncated to the lowest degree (and order)
+     * for which an upper bound of the acceleration due to the neglected terms is
+     * below the specified accuracy. The bound for degree n is derived from the
+     * addition theorem of normalized spherical harmonics and Cauchy-Schwarz
+     * inequality, it is μ/r² (a/r)<sup>n</sup> (2n+1) √(n+1) σ<sub>n</sub>, where
+     * σ<sub>n</sub>² is the sum of the squares of the normalized coefficients
+     * C<sub>n,m</sub> and S<sub>n,m</sub> of degree n. The bounds of all the
+     * neglected degrees are summed together.
+     * </p>
+     * @param centralBodyFrame rotating body frame
+     * @param provider provider for spherical harmonics
+     * @param accuracy target accuracy for the acceleration (m/s²), if
+     * 0 the field is never truncated
+     * @see #getTruncationDegree(AbsoluteDate, double)
+     * @since 10.0
+     */
+    public HolmesFeatherstoneAttractionModel(final Frame centralBodyFrame,
+                                             final NormalizedSphericalHarmonicsProvider provider,
+                                             final double accuracy) {
 
         try {
             gmParameterDriver = new ParameterDriver(NewtonianAttraction.CENTRAL_ATTRACTION_COEFFICIENT,
@@ -129,14 +186,17 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
 
         this.provider  = provider;
         this.bodyFrame = centralBodyFrame;
+        this.accuracy  = accuracy;
 
         // the pre-computed arrays hold coefficients from triangular arrays in a single
         // storing neither diagonal elements (n = m) nor the non-diagonal element n=1, m=0
         final int degree = provider.getMaxDegree();
+        final int order  = provider.getMaxOrder();
         final int size = FastMath.max(0, degree * (degree + 1) / 2 - 1);
-        gnmOj = new double[size];
-        hnmOj = new double[size];
-        enm   = new double[size];
+        gnmOj       = new double[size];
+        hnmOj       = new double[size];
+        enm         = new double[size];
+        columnStart = new int[degree + 1];
 
         // pre-compute the recursion coefficients corresponding to equations 19 and 22
         // from Holmes and Featherstone paper
@@ -145,6 +205,7 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         int index = 0;
         for (int m = degree; m >= 0; --m) {
             final int j = (m == 0) ? 2 : 1;
+            columnStart[m] = index;
             for (int n = FastMath.max(2, m + 1); n <= degree; ++n) {
                 final double f = (n - m) * (n + m + 1);
                 gnmOj[index] = 2 * (m + 1) / FastMath.sqrt(j * f);
@@ -162,6 +223,17 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
             sectorial[m] = FastMath.sqrt((2 * m + 1) / (2.0 * m)) * sectorial[m - 1];
         }
 
+        // the normalized coefficients are stored in the workspace in the order they
+        // will be used, i.e. also from rightmost column to leftmost column
+        coefficientStart = new int[degree + 1];
+        int k = 0;
+        for (int m = FastMath.min(degree, order); m >= 0; --m) {
+            coefficientStart[m] = k;
+            k += FastMath.max(0, degree + 1 - FastMath.max(2, m));
+        }
+
+        workspace = ThreadLocal.withInitial(() -> new Workspace(degree, order));
+
     }
 
     /** {@inheritDoc} */
@@ -175,6 +247,30 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         return provider.getTideSystem();
     }
 
+    /** Get the target accuracy for the acceleration.
+     * @return target accuracy for the acceleration (m/s²), 0 if the field is never truncated
+     * @since 10.0
+     */
+    public double getAccuracy() {
+        return accuracy;
+    }
+
+    /** Get the degree used for evaluations at some distance from the body center.
+     * <p>
+     * The order used is the smallest of the provider maximum order and this degree.
+     * </p>
+     * @param date current date
+     * @param r distance from the body center (m)
+     * @return truncation degree, between 1 (no non-central terms at all)
+     * and the maximum degree of the provider
+     * @since 10.0
+     */
+    public int getTruncationDegree(final AbsoluteDate date, final double r) {
+        final Workspace w = workspace.get();
+        w.loadCoefficients(provider, date);
+        return truncationDegree(getMu(), r, fillDistancePowersArray(provider.getAe() / r, w.aOrN), w.amplitudes);
+    }
+
     /** Get the central attraction coefficient μ.
      * @return mu central attraction coefficient (m³/s²)
      */
@@ -201,14 +297,17 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
      */
     public double nonCentralPart(final AbsoluteDate date, final Vector3D position, final double mu) {
 
-        final int degree = provider.getMaxDegree();
         final int order  = provider.getMaxOrder();
-        final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
 
-        // allocate the columns for recursion
-        double[] pnm0Plus2 = new double[degree + 1];
-        double[] pnm0Plus1 = new double[degree + 1];
-        double[] pnm0      = new double[degree + 1];
+        // get the coefficients and the columns for recursion
+        final Workspace w = workspace.get();
+        w.loadCoefficients(provider, date);
+        w.reset();
+        final double[] cnm = w.cnm;
+        final double[] snm = w.snm;
+        double[] pnm0Plus2 = w.pnm0Plus2;
+        double[] pnm0Plus1 = w.pnm0Plus1;
+        double[] pnm0      = w.pnm0;
 
         // compute polar coordinates
         final double x   = position.getX();
@@ -225,29 +324,33 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         final double tOu = z / rho;
 
         // compute distance powers
-        final double[] aOrN = createDistancePowersArray(provider.getAe() / r);
+        final double[] aOrN = fillDistancePowersArray(provider.getAe() / r, w.aOrN);
+
+        // truncate the field according to target accuracy
+        final int degree = truncationDegree(mu, r, aOrN, w.amplitudes);
 
         // compute longitude cosines/sines
-        final double[][] cosSinLambda = createCosSinArrays(position.getX() / rho, position.getY() / rho);
+        final double[][] cosSinLambda = fillCosSinArrays(x / rho, y / rho, w.cosSin);
 
         // outer summation over order
-        int    index = 0;
         double value = 0;
         for (int m = degree; m >= 0; --m) {
 
             // compute tesseral terms without derivatives
-            index = computeTesseral(m, degree, index, t, u, tOu,
-                                    pnm0Plus2, pnm0Plus1, null, pnm0, null, null);
+            computeTesseral(m, degree, columnStart[m], t, u, tOu,
+                            pnm0Plus2, pnm0Plus1, null, pnm0, null, null);
 
             if (m <= order) {
                 // compute contribution of current order to field (equation 5 of the paper)
 
                 // inner summation over degree, for fixed order
+                int    k                 = coefficientStart[m];
                 double sumDegreeS        = 0;
                 double sumDegreeC        = 0;
                 for (int n = FastMath.max(2, m); n <= degree; ++n) {
-                    sumDegreeS += pnm0[n] * aOrN[n] * harmonics.getNormalizedSnm(n, m);
-                    sumDegreeC += pnm0[n] * aOrN[n] * harmonics.getNormalizedCnm(n, m);
+                    sumDegreeS += pnm0[n] * aOrN[n] * snm[k];
+                    sumDegreeC += pnm0[n] * aOrN[n] * cnm[k];
+                    ++k;
                 }
 
                 // contribution to outer summation over order
@@ -278,21 +381,133 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
      * @return gradient of the non-central part of the gravity field
      */
     public double[] gradient(final AbsoluteDate date, final Vector3D position, final double mu) {
+        final Workspace w = workspace.get();
+        w.loadCoefficients(provider, date);
+        gradient(position.getX(), position.getY(), position.getZ(), mu, w);
+        return w.cartesianGradient.clone();
+    }
+
+    /** Compute the gradients of the non-central part of the gravity field at several positions.
+     * <p>
+     * The positions and the gradients are stored in structure-of-arrays buffers.
+     * The normalized coefficients are retrieved from the provider only once for
+     * all positions and all intermediate arrays are reused, so this method is well
+     * suited to evaluate the field at many positions sharing the same date, as in
+     * ensemble or sigma points propagation or in gravity field mapping, without
+     * creating any intermediate object.
+     * </p>
+     * @param date current date
+     * @param x abscissas of the positions in body frame
+     * @param y ordinates of the positions in body frame
+     * @param z heights of the positions in body frame
+     * @param mu central attraction coefficient to use
+     * @param gx array where to store the abscissas of the gradients
+     * @param gy array where to store the ordinates of the gradients
+     * @param gz array where to store the heights of the gradients
+     * @see #gradient(AbsoluteDate, Vector3D, double)
+     * @see #gradients(AbsoluteDate, double[], double[], double[], double, double[], double[], double[], double[][])
+     * @since 10.0
+     */
+    public void gradients(final AbsoluteDate date,
+                          final double[] x, final double[] y, final double[] z, final double mu,
+                          final double[] gx, final double[] gy, final double[] gz) {
+        gradients(date, x, y, z, mu, gx, gy, gz, null);
+    }
+
+    /** Compute the gradients and Hessians of the non-central part of the gravity field at several positions.
+     * <p>
+     * The positions, the gradients and the Hessians are stored in structure-of-arrays
+     * buffers. The normalized coefficients are retrieved from the provider only once
+     * for all positions and all intermediate arrays are reused, so this method is well
+     * suited to evaluate the field at many positions sharing the same date, as in
+     * ensemble or sigma points propagation or in gravity field mapping, without
+     * creating any intermediate object.
+     * </p>
+     * <p>
+     * As the Hessians are symmetric, only their upper part is stored, in six
+     * rows corresponding to the xx, xy, xz, yy, yz and zz components.
+     * </p>
+     * @param date current date
+     * @param x abscissas of the positions in body frame
+     * @param y ordinates of the positions in body frame
+     * @param z heights of the positions in body frame
+     * @param mu central attraction coefficient to use
+     * @param gx array where to store the abscissas of the gradients
+     * @param gy array where to store the ordinates of the gradients
+     * @param gz array where to store the heights of the gradients
+     * @param hessians six rows array where to store the Hessians components,
+     * may be null if Hessians are not needed
+     * @see #gradient(AbsoluteDate, Vector3D, double)
+     * @since 10.0
+     */
+    public void gradients(final AbsoluteDate date,
+                          final double[] x, final double[] y, final double[] z, final double mu,
+                          final double[] gx, final double[] gy, final double[] gz,
+                          final double[][] hessians) {
+
+        if (hessians == null) {
+            checkLengths(x, y, z, gx, gy, gz);
+        } else {
+            if (hessians.length != 6) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         hessians.length, 6);
+            }
+            checkLengths(x, y, z, gx, gy, gz,
+                         hessians[0], hessians[1], hessians[2],
+                         hessians[3], hessians[4], hessians[5]);
+        }
+
+        // the coefficients are loaded only once for all positions
+        final Workspace w = workspace.get();
+        w.loadCoefficients(provider, date);
+        final double[]   g = w.cartesianGradient;
+        final double[][] h = w.cartesianHessian;
+
+        for (int i = 0; i < x.length; ++i) {
+            if (hessians == null) {
+                gradient(x[i], y[i], z[i], mu, w);
+            } else {
+                gradientHessian(x[i], y[i], z[i], mu, w);
+                hessians[0][i] = h[0][0];
+                hessians[1][i] = h[0][1];
+                hessians[2][i] = h[0][2];
+                hessians[3][i] = h[1][1];
+                hessians[4][i] = h[1][2];
+                hessians[5][i] = h[2][2];
+            }
+            gx[i] = g[0];
+            gy[i] = g[1];
+            gz[i] = g[2];
+        }
+
+    }
+
+    /** Compute the gradient of the non-central part of the gravity field.
+     * <p>
+     * The coefficients must have been loaded in the workspace beforehand,
+     * and the Cartesian gradient is stored in the workspace.
+     * </p>
+     * @param x abscissa of the position in body frame
+     * @param y ordinate of the position in body frame
+     * @param z height of the position in body frame
+     * @param mu central attraction coefficient to use
+     * @param w workspace to use
+     */
+    private void gradient(final double x, final double y, final double z, final double mu,
+                          final Workspace w) {
 
-        final int degree = provider.getMaxDegree();
         final int order  = provider.getMaxOrder();
-        final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
 
-        // allocate the columns for recursion
-        double[] pnm0Plus2  = new double[degree + 1];
-        double[] pnm0Plus1  = new double[degree + 1];
-        double[] pnm0       = new double[degree + 1];
-        final double[] pnm1 = new double[degree + 1];
+        // get the columns for recursion
+        w.reset();
+        final double[] cnm  = w.cnm;
+        final double[] snm  = w.snm;
+        double[] pnm0Plus2  = w.pnm0Plus2;
+        double[] pnm0Plus1  = w.pnm0Plus1;
+        double[] pnm0       = w.pnm0;
+        final double[] pnm1 = w.pnm1;
 
         // compute polar coordinates
-        final double x    = position.getX();
-        final double y    = position.getY();
-        final double z    = position.getZ();
         final double x2   = x * x;
         final double y2   = y * y;
         final double z2   = z * z;
@@ -305,25 +520,28 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         final double tOu  = z / rho;
 
         // compute distance powers
-        final double[] aOrN = createDistancePowersArray(provider.getAe() / r);
+        final double[] aOrN = fillDistancePowersArray(provider.getAe() / r, w.aOrN);
+
+        // truncate the field according to target accuracy
+        final int degree = truncationDegree(mu, r, aOrN, w.amplitudes);
 
         // compute longitude cosines/sines
-        final double[][] cosSinLambda = createCosSinArrays(position.getX() / rho, position.getY() / rho);
+        final double[][] cosSinLambda = fillCosSinArrays(x / rho, y / rho, w.cosSin);
 
         // outer summation over order
-        int    index = 0;
         double value = 0;
-        final double[] gradient = new double[3];
+        final double[] gradient = w.gradient;
         for (int m = degree; m >= 0; --m) {
 
             // compute tesseral terms with derivatives
-            index = computeTesseral(m, degree, index, t, u, tOu,
-                                    pnm0Plus2, pnm0Plus1, null, pnm0, pnm1, null);
+            computeTesseral(m, degree, columnStart[m], t, u, tOu,
+                            pnm0Plus2, pnm0Plus1, null, pnm0, pnm1, null);
 
             if (m <= order) {
                 // compute contribution of current order to field (equation 5 of the paper)
 
                 // inner summation over degree, for fixed order
+                int    k                 = coefficientStart[m];
                 double sumDegreeS        = 0;
                 double sumDegreeC        = 0;
                 double dSumDegreeSdR     = 0;
@@ -331,8 +549,9 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
                 double dSumDegreeSdTheta = 0;
                 double dSumDegreeCdTheta = 0;
                 for (int n = FastMath.max(2, m); n <= degree; ++n) {
-                    final double qSnm  = aOrN[n] * harmonics.getNormalizedSnm(n, m);
-                    final double qCnm  = aOrN[n] * harmonics.getNormalizedCnm(n, m);
+                    final double qSnm  = aOrN[n] * snm[k];
+                    final double qCnm  = aOrN[n] * cnm[k];
+                    ++k;
                     final double nOr   = n / r;
                     final double s0    = pnm0[n] * qSnm;
                     final double c0    = pnm0[n] * qCnm;
@@ -381,7 +600,7 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         gradient[2]      *= muOr;
 
         // convert gradient from spherical to Cartesian
-        return new SphericalCoordinates(position).toCartesianGradient(gradient);
+        w.toCartesianGradient(x, y, z, gradient, w.cartesianGradient);
 
     }
 
@@ -395,16 +614,9 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
     public <T extends RealFieldElement<T>> T[] gradient(final FieldAbsoluteDate<T> date, final FieldVector3D<T> position,
                                                         final T mu) {
 
-        final int degree = provider.getMaxDegree();
         final int order  = provider.getMaxOrder();
         final NormalizedSphericalHarmonics harmonics = provider.onDate(date.toAbsoluteDate());
         final T zero = date.getField().getZero();
-        // allocate the columns for recursion
-        T[] pnm0Plus2  = MathArrays.buildArray(date.getField(), degree + 1);
-        T[] pnm0Plus1  = MathArrays.buildArray(date.getField(), degree + 1);
-        T[] pnm0       = MathArrays.buildArray(date.getField(), degree + 1);
-        final T[] pnm1 = MathArrays.buildArray(date.getField(), degree + 1);
-
         // compute polar coordinates
         final T x    = position.getX();
         final T y    = position.getY();
@@ -423,17 +635,29 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         // compute distance powers
         final T[] aOrN = createDistancePowersArray(r.reciprocal().multiply(provider.getAe()));
 
+        // truncate the field according to target accuracy
+        final Workspace w = workspace.get();
+        w.loadCoefficients(provider, date.toAbsoluteDate());
+        final int degree = truncationDegree(mu.getReal(), r.getReal(),
+                                            fillDistancePowersArray(provider.getAe() / r.getReal(), w.aOrN),
+                                            w.amplitudes);
+
+        // allocate the columns for recursion
+        T[] pnm0Plus2  = MathArrays.buildArray(date.getField(), degree + 1);
+        T[] pnm0Plus1  = MathArrays.buildArray(date.getField(), degree + 1);
+        T[] pnm0       = MathArrays.buildArray(date.getField(), degree + 1);
+        final T[] pnm1 = MathArrays.buildArray(date.getField(), degree + 1);
+
         // compute longitude cosines/sines
         final T[][] cosSinLambda = createCosSinArrays(rho.reciprocal().multiply(position.getX()), rho.reciprocal().multiply(position.getY()));
         // outer summation over order
-        int    index = 0;
         T value = zero;
         final T[] gradient = MathArrays.buildArray(zero.getField(), 3);
         for (int m = degree; m >= 0; --m) {
 
             // compute tesseral terms with derivatives
-            index = computeTesseral(m, degree, index, t, u, tOu,
-                                    pnm0Plus2, pnm0Plus1, null, pnm0, pnm1, null);
+            computeTesseral(m, degree, columnStart[m], t, u, tOu,
+                            pnm0Plus2, pnm0Plus1, null, pnm0, pnm1, null);
             if (m <= order) {
                 // compute contribution of current order to field (equation 5 of the paper)
 
@@ -528,29 +752,33 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
     }
 
     /** Compute both the gradient and the hessian of the non-central part of the gravity field.
-     * @param date current date
-     * @param position position at which gravity field is desired in body frame
+     * <p>
+     * The coefficients must have been loaded in the workspace beforehand,
+     * and the Cartesian gradient and Hessian are stored in the workspace.
+     * </p>
+     * @param x abscissa of the position in body frame
+     * @param y ordinate of the position in body frame
+     * @param z height of the position in body frame
      * @param mu central attraction coefficient to use
-     * @return gradient and hessian of the non-central part of the gravity field
+     * @param w workspace to use
      */
-    private GradientHessian gradientHessian(final AbsoluteDate date, final Vector3D position, final double mu) {
+    private void gradientHessian(final double x, final double y, final double z, final double mu,
+                                 final Workspace w) {
 
-        final int degree = provider.getMaxDegree();
         final int order  = provider.getMaxOrder();
-        final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
 
-        // allocate the columns for recursion
-        double[] pnm0Plus2  = new double[degree + 1];
-        double[] pnm0Plus1  = new double[degree + 1];
-        double[] pnm0       = new double[degree + 1];
-        double[] pnm1Plus1  = new double[degree + 1];
-        double[] pnm1       = new double[degree + 1];
-        final double[] pnm2 = new double[degree + 1];
+        // get the columns for recursion
+        w.reset();
+        final double[] cnm  = w.cnm;
+        final double[] snm  = w.snm;
+        double[] pnm0Plus2  = w.pnm0Plus2;
+        double[] pnm0Plus1  = w.pnm0Plus1;
+        double[] pnm0       = w.pnm0;
+        double[] pnm1Plus1  = w.pnm1Plus1;
+        double[] pnm1       = w.pnm1;
+        final double[] pnm2 = w.pnm2;
 
         // compute polar coordinates
-        final double x    = position.getX();
-        final double y    = position.getY();
-        final double z    = position.getZ();
         final double x2   = x * x;
         final double y2   = y * y;
         final double z2   = z * z;
@@ -563,26 +791,29 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         final double tOu  = z / rho;
 
         // compute distance powers
-        final double[] aOrN = createDistancePowersArray(provider.getAe() / r);
+        final double[] aOrN = fillDistancePowersArray(provider.getAe() / r, w.aOrN);
+
+        // truncate the field according to target accuracy
+        final int degree = truncationDegree(mu, r, aOrN, w.amplitudes);
 
         // compute longitude cosines/sines
-        final double[][] cosSinLambda = createCosSinArrays(position.getX() / rho, position.getY() / rho);
+        final double[][] cosSinLambda = fillCosSinArrays(x / rho, y / rho, w.cosSin);
 
         // outer summation over order
-        int    index = 0;
         double value = 0;
-        final double[]   gradient = new double[3];
-        final double[][] hessian  = new double[3][3];
+        final double[]   gradient = w.gradient;
+        final double[][] hessian  = w.hessian;
         for (int m = degree; m >= 0; --m) {
 
             // compute tesseral terms
-            index = computeTesseral(m, degree, index, t, u, tOu,
-                                    pnm0Plus2, pnm0Plus1, pnm1Plus1, pnm0, pnm1, pnm2);
+            computeTesseral(m, degree, columnStart[m], t, u, tOu,
+                            pnm0Plus2, pnm0Plus1, pnm1Plus1, pnm0, pnm1, pnm2);
 
             if (m <= order) {
                 // compute contribution of current order to field (equation 5 of the paper)
 
                 // inner summation over degree, for fixed order
+                int    k                        = coefficientStart[m];
                 double sumDegreeS               = 0;
                 double sumDegreeC               = 0;
                 double dSumDegreeSdR            = 0;
@@ -596,8 +827,9 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
                 double d2SumDegreeCdRdTheta     = 0;
                 double d2SumDegreeCdThetadTheta = 0;
                 for (int n = FastMath.max(2, m); n <= degree; ++n) {
-                    final double qSnm         = aOrN[n] * harmonics.getNormalizedSnm(n, m);
-                    final double qCnm         = aOrN[n] * harmonics.getNormalizedCnm(n, m);
+                    final double qSnm         = aOrN[n] * snm[k];
+                    final double qCnm         = aOrN[n] * cnm[k];
+                    ++k;
                     final double nOr          = n / r;
                     final double nnP1Or2      = nOr * (n + 1) / r;
                     final double s0           = pnm0[n] * qSnm;
@@ -671,58 +903,335 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         hessian[2][2] *= muOr;
 
         // convert gradient and Hessian from spherical to Cartesian
-        final SphericalCoordinates sc = new SphericalCoordinates(position);
-        return new GradientHessian(sc.toCartesianGradient(gradient),
-                                   sc.toCartesianHessian(hessian, gradient));
-
+        w.toCartesianGradient(x, y, z, gradient, w.cartesianGradient);
+        w.toCartesianHessian(x, y, z, hessian, gradient, w.cartesianHessian);
 
     }
 
-    /** Container for gradient and Hessian. */
-    private static class GradientHessian {
+    /** Workspace for double-based computations.
+     * <p>
+     * All arrays are allocated once and reused for all evaluations
+     * performed by the same thread.
+     * </p>
+     */
+    private static class Workspace {
+
+        /** Date of the loaded coefficients. */
+        private AbsoluteDate coefficientsDate;
+
+        /** Normalized C<sub>n,m</sub> coefficients, in recursion order. */
+        private final double[] cnm;
+
+        /** Normalized S<sub>n,m</sub> coefficients, in recursion order. */
+        private final double[] snm;
+
+        /** Upper bound of the acceleration due to each degree, for unit μ/r² and a/r. */
+        private final double[] amplitudes;
+
+        /** Column for scaled P<sub>n,m+2</sub>/u<sup>m+2</sup>. */
+        private final double[] pnm0Plus2;
+
+        /** Column for scaled P<sub>n,m+1</sub>/u<sup>m+1</sup>. */
+        private final double[] pnm0Plus1;
+
+        /** Column for scaled P<sub>n,m</sub>/u<sup>m</sup>. */
+        private final double[] pnm0;
 
-        /** Gradient. */
+        /** Column for scaled dP<sub>n,m+1</sub>/u<sup>m+1</sup>. */
+        private final double[] pnm1Plus1;
+
+        /** Column for scaled dP<sub>n,m</sub>/u<sup>m</sup>. */
+        private final double[] pnm1;
+
+        /** Column for scaled d²P<sub>n,m</sub>/u<sup>m</sup>. */
+        private final double[] pnm2;
+
+        /** Distance powers (a/r)<sup>n</sup>. */
+        private final double[] aOrN;
+
+        /** Longitude cosines (row 0) and sines (row 1). */
+        private final double[][] cosSin;
+
+        /** Gradient in spherical coordinates. */
         private final double[] gradient;
 
-        /** Hessian. */
+        /** Hessian in spherical coordinates (only lower part is used). */
         private final double[][] hessian;
 
+        /** Jacobian of spherical coordinates with respect to Cartesian coordinates. */
+        private final double[][] jacobian;
+
+        /** Temporary matrix for Hessian conversion. */
+        private final double[][] tmp;
+
+        /** Gradient in Cartesian coordinates. */
+        private final double[] cartesianGradient;
+
+        /** Hessian in Cartesian coordinates. */
+        private final double[][] cartesianHessian;
+
+        /** Hessian in Cartesian coordinates, rotated to inertial frame. */
+        private final double[][] inertialHessian;
+
         /** Simple constructor.
+         * @param degree maximal degree
+         * @param order maximal order
+         */
+        Workspace(final int degree, final int order) {
+            int size = 0;
+            for (int m = FastMath.min(degree, order); m >= 0; --m) {
+                size += FastMath.max(0, degree + 1 - FastMath.max(2, m));
+            }
+            coefficientsDate  = null;
+            cnm               = new double[size];
+            snm               = new double[size];
+            amplitudes        = new double[degree + 1];
+            pnm0Plus2         = new double[degree + 1];
+            pnm0Plus1         = new double[degree + 1];
+            pnm0              = new double[degree + 1];
+            pnm1Plus1         = new double[degree + 1];
+            pnm1              = new double[degree + 1];
+            pnm2              = new double[degree + 1];
+            aOrN              = new double[degree + 1];
+            cosSin            = new double[2][order + 1];
+            gradient          = new double[3];
+            hessian           = new double[3][3];
+            jacobian          = new double[3][3];
+            tmp               = new double[3][3];
+            cartesianGradient = new double[3];
+            cartesianHessian  = new double[3][3];
+            inertialHessian   = new double[3][3];
+        }
+
+        /** Load the normalized coefficients for a date.
          * <p>
-         * A reference to the arrays is stored, they are <strong>not</strong> cloned.
+         * The coefficients are stored in the order they are used by the recursions,
+         * i.e. from rightmost column (highest order) to leftmost column (order 0) and
+         * increasing degree within each column. Loading is skipped if the coefficients
+         * for the same date are already available.
          * </p>
-         * @param gradient gradient
-         * @param hessian hessian
+         * @param provider provider for spherical harmonics
+         * @param date current date
          */
-        GradientHessian(final double[] gradient, final double[][] hessian) {
-            this.gradient = gradient;
-            this.hessian  = hessian;
+        void loadCoefficients(final NormalizedSphericalHarmonicsProvider provider, final AbsoluteDate date) {
+            if (coefficientsDate != null && coefficientsDate.equals(date)) {
+                // the coefficients are already available
+                return;
+            }
+            final int degree = provider.getMaxDegree();
+            final int order  = provider.getMaxOrder();
+            final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
+            Arrays.fill(amplitudes, 0.0);
+            int k = 0;
+            for (int m = FastMath.min(degree, order); m >= 0; --m) {
+                for (int n = FastMath.max(2, m); n <= degree; ++n) {
+                    cnm[k] = harmonics.getNormalizedCnm(n, m);
+                    snm[k] = harmonics.getNormalizedSnm(n, m);
+                    amplitudes[n] += cnm[k] * cnm[k] + snm[k] * snm[k];
+                    ++k;
+                }
+            }
+            for (int n = 0; n <= degree; ++n) {
+                amplitudes[n] = (2 * n + 1) * FastMath.sqrt((n + 1) * amplitudes[n]);
+            }
+            coefficientsDate = date;
+        }
+
+        /** Reset the recursion columns and the accumulators. */
+        void reset() {
+            Arrays.fill(pnm0Plus2, 0.0);
+            Arrays.fill(pnm0Plus1, 0.0);
+            Arrays.fill(pnm0,      0.0);
+            Arrays.fill(pnm1Plus1, 0.0);
+            Arrays.fill(pnm1,      0.0);
+            Arrays.fill(pnm2,      0.0);
+            Arrays.fill(gradient,  0.0);
+            for (final double[] row : hessian) {
+                Arrays.fill(row, 0.0);
+            }
         }
 
-        /** Get a reference to the gradient.
-         * @return gradient (a reference to the internal array is returned)
+        /** Compute the Jacobian of spherical coordinates (r, λ, θ) with respect to Cartesian coordinates.
+         * @param x abscissa
+         * @param y ordinate
+         * @param z height
          */
-        public double[] getGradient() {
-            return gradient;
+        private void computeJacobian(final double x, final double y, final double z) {
+            final double rho2 = x * x + y * y;
+            final double rho  = FastMath.sqrt(rho2);
+            final double r2   = rho2 + z * z;
+            final double r    = FastMath.sqrt(r2);
+
+            // row 0: radius
+            jacobian[0][0] = x / r;
+            jacobian[0][1] = y / r;
+            jacobian[0][2] = z / r;
+
+            // row 1: longitude (azimuth)
+            jacobian[1][0] = -y / rho2;
+            jacobian[1][1] =  x / rho2;
+            jacobian[1][2] = 0;
+
+            // row 2: polar angle
+            jacobian[2][0] = x * z / (rho * r2);
+            jacobian[2][1] = y * z / (rho * r2);
+            jacobian[2][2] = -rho / r2;
+
+        }
+
+        /** Convert a gradient from spherical to Cartesian coordinates.
+         * @param x abscissa
+         * @param y ordinate
+         * @param z height
+         * @param sGradient gradient with respect to radius, longitude and polar angle
+         * @param cGradient array where to store the gradient with respect to Cartesian coordinates
+         */
+        void toCartesianGradient(final double x, final double y, final double z,
+                                 final double[] sGradient, final double[] cGradient) {
+            computeJacobian(x, y, z);
+            for (int i = 0; i < 3; ++i) {
+                cGradient[i] = sGradient[0] * jacobian[0][i] +
+                               sGradient[1] * jacobian[1][i] +
+                               sGradient[2] * jacobian[2][i];
+            }
         }
 
-        /** Get a reference to the Hessian.
-         * @return Hessian (a reference to the internal array is returned)
+        /** Convert a Hessian from spherical to Cartesian coordinates.
+         * <p>
+         * This method must be called after {@link #toCartesianGradient(double, double, double,
+         * double[], double[]) toCartesianGradient} for the same point, as it reuses its Jacobian.
+         * </p>
+         * @param x abscissa
+         * @param y ordinate
+         * @param z height
+         * @param sHessian Hessian with respect to radius, longitude and polar angle
+         * (only the lower part is used)
+         * @param sGradient gradient with respect to radius, longitude and polar angle
+         * @param cHessian array where to store the Hessian with respect to Cartesian coordinates
          */
-        public double[][] getHessian() {
-            return hessian;
+        void toCartesianHessian(final double x, final double y, final double z,
+                                final double[][] sHessian, final double[] sGradient,
+                                final double[][] cHessian) {
+
+            // first order part: Jᵀ H J, knowing that dλ/dz = 0
+            // beware only the lower part of the spherical Hessian is used
+            final double[][] j  = jacobian;
+            final double[][] hj = tmp;
+            hj[0][0] = sHessian[0][0] * j[0][0] + sHessian[1][0] * j[1][0] + sHessian[2][0] * j[2][0];
+            hj[0][1] = sHessian[0][0] * j[0][1] + sHessian[1][0] * j[1][1] + sHessian[2][0] * j[2][1];
+            hj[0][2] = sHessian[0][0] * j[0][2]                            + sHessian[2][0] * j[2][2];
+            hj[1][0] = sHessian[1][0] * j[0][0] + sHessian[1][1] * j[1][0] + sHessian[2][1] * j[2][0];
+            hj[1][1] = sHessian[1][0] * j[0][1] + sHessian[1][1] * j[1][1] + sHessian[2][1] * j[2][1];
+            hj[2][0] = sHessian[2][0] * j[0][0] + sHessian[2][1] * j[1][0] + sHessian[2][2] * j[2][0];
+            hj[2][1] = sHessian[2][0] * j[0][1] + sHessian[2][1] * j[1][1] + sHessian[2][2] * j[2][1];
+            hj[2][2] = sHessian[2][0] * j[0][2]                            + sHessian[2][2] * j[2][2];
+            cHessian[0][0] = j[0][0] * hj[0][0] + j[1][0] * hj[1][0] + j[2][0] * hj[2][0];
+            cHessian[1][0] = j[0][1] * hj[0][0] + j[1][1] * hj[1][0] + j[2][1] * hj[2][0];
+            cHessian[2][0] = j[0][2] * hj[0][0]                      + j[2][2] * hj[2][0];
+            cHessian[1][1] = j[0][1] * hj[0][1] + j[1][1] * hj[1][1] + j[2][1] * hj[2][1];
+            cHessian[2][1] = j[0][2] * hj[0][1]                      + j[2][2] * hj[2][1];
+            cHessian[2][2] = j[0][2] * hj[0][2]                      + j[2][2] * hj[2][2];
+
+            // second derivatives of spherical coordinates (lower part only)
+            final double x2     = x * x;
+            final double y2     = y * y;
+            final double z2     = z * z;
+            final double rho2   = x2 + y2;
+            final double rho    = FastMath.sqrt(rho2);
+            final double r2     = rho2 + z2;
+            final double r      = FastMath.sqrt(r2);
+            final double xOr    = x / r;
+            final double yOr    = y / r;
+            final double zOr    = z / r;
+            final double xOrho2 = x / rho2;
+            final double yOrho2 = y / rho2;
+            final double xOr3   = xOr / r2;
+            final double yOr3   = yOr / r2;
+            final double zOr3   = zOr / r2;
+
+            // radius
+            final double r00 = y * yOr3 + z * zOr3;
+            final double r10 = -x * yOr3;
+            final double r20 = -z * xOr3;
+            final double r11 = x * xOr3 + z * zOr3;
+            final double r21 = -y * zOr3;
+            final double r22 = x * xOr3 + y * yOr3;
+
+            // longitude (azimuth), which does not depend on z
+            final double l00 = 2 * xOrho2 * yOrho2;
+            final double l10 = yOrho2 * yOrho2 - xOrho2 * xOrho2;
+            final double l11 = -2 * xOrho2 * yOrho2;
+
+            // polar angle
+            final double rhor2    = rho * r2;
+            final double rho2r2   = rho * rhor2;
+            final double rhor4    = rhor2 * r2;
+            final double rho3r4   = rhor4 * rho2;
+            final double r2P2rho2 = 3 * rho2 + z2;
+            final double t00 = z * (rho2r2 - x2 * r2P2rho2) / rho3r4;
+            final double t10 = -x * y * z * r2P2rho2 / rho3r4;
+            final double t20 = x * (rho2 - z2) / rhor4;
+            final double t11 = z * (rho2r2 - y2 * r2P2rho2) / rho3r4;
+            final double t21 = y * (rho2 - z2) / rhor4;
+            final double t22 = 2 * rho * zOr3 / r;
+
+            // second order part: gradient times second derivatives of spherical coordinates
+            cHessian[0][0] += sGradient[0] * r00 + sGradient[1] * l00 + sGradient[2] * t00;
+            cHessian[1][0] += sGradient[0] * r10 + sGradient[1] * l10 + sGradient[2] * t10;
+            cHessian[2][0] += sGradient[0] * r20                      + sGradient[2] * t20;
+            cHessian[1][1] += sGradient[0] * r11 + sGradient[1] * l11 + sGradient[2] * t11;
+            cHessian[2][1] += sGradient[0] * r21                      + sGradient[2] * t21;
+            cHessian[2][2] += sGradient[0] * r22                      + sGradient[2] * t22;
+
+            // symmetric part
+            cHessian[0][1] = cHessian[1][0];
+            cHessian[0][2] = cHessian[2][0];
+            cHessian[1][2] = cHessian[2][1];
+
+        }
+
+    }
+
+    /** Compute the truncation degree ensuring the target accuracy.
+     * @param mu central attraction coefficient to use
+     * @param r distance from the body center
+     * @param aOrN (a/r)<sup>n</sup>
+     * @param amplitudes upper bound of the acceleration due to each degree,
+     * for unit μ/r² and a/r
+     * @return truncation degree
+     */
+    private int truncationDegree(final double mu, final double r,
+                                 final double[] aOrN, final double[] amplitudes) {
+
+        int degree = provider.getMaxDegree();
+        if (accuracy <= 0) {
+            // the field is never truncated
+            return degree;
         }
 
+        // remove the highest degrees as long as their total contribution is small enough
+        final double muOr2 = FastMath.abs(mu) / (r * r);
+        double neglected = 0;
+        while (degree > 1) {
+            neglected += muOr2 * aOrN[degree] * amplitudes[degree];
+            if (neglected > accuracy) {
+                break;
+            }
+            --degree;
+        }
+
+        return degree;
+
     }
 
     /** Compute a/r powers array.
      * @param aOr a/r
-     * @return array containing (a/r)<sup>n</sup>
+     * @param aOrN array where to store (a/r)<sup>n</sup>
+     * @return aOrN
      */
-    private double[] createDistancePowersArray(final double aOr) {
+    private double[] fillDistancePowersArray(final double aOr, final double[] aOrN) {
 
         // initialize array
-        final double[] aOrN = new double[provider.getMaxDegree() + 1];
         aOrN[0] = 1;
         aOrN[1] = aOr;
 
@@ -762,13 +1271,13 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
     /** Compute longitude cosines and sines.
      * @param cosLambda cos(λ)
      * @param sinLambda sin(λ)
-     * @return array containing cos(m &times; λ) in row 0
+     * @param cosSin array where to store cos(m &times; λ) in row 0
      * and sin(m &times; λ) in row 1
+     * @return cosSin
      */
-    private double[][] createCosSinArrays(final double cosLambda, final double sinLambda) {
+    private double[][] fillCosSinArrays(final double cosLambda, final double sinLambda, final double[][] cosSin) {
 
         // initialize arrays
-        final double[][] cosSin = new double[2][provider.getMaxOrder() + 1];
         cosSin[0][0] = 1;
         cosSin[1][0] = 0;
         if (provider.getMaxOrder() > 0) {
@@ -1049,8 +1558,8 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
 
         final T mu = parameters[0];
 
-        // check for faster computation dedicated to derivatives with respect to state
-        if (isStateDerivative(s)) {
+        // check for faster computation dedicated to first order derivatives
+        if (isFirstOrderDerivative(s, mu)) {
             @SuppressWarnings("unchecked")
             final FieldVector3D<DerivativeStructure> p = (FieldVector3D<DerivativeStructure>) s.getPVCoordinates().getPosition();
             @SuppressWarnings("unchecked")
@@ -1082,71 +1591,70 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         return Stream.empty();
     }
 
-    /** Check if a field state corresponds to derivatives with respect to state.
+    /** Check if a field state corresponds to first order derivatives at fixed date.
+     * <p>
+     * This is the case for state transition matrices computed by {@link
+     * org.orekit.propagation.numerical.PartialDerivativesEquations}, where the
+     * free parameters are position (and possibly velocity and mass) followed by
+     * the selected force models parameters, but also for any other first order
+     * derivatives of position, for example with respect to orbital elements.
+     * </p>
      * @param state state to check
+     * @param mu central attraction coefficient to use
      * @param <T> type of the filed elements
-     * @return true if state corresponds to derivatives with respect to state
-     * @since 9.0
+     * @return true if state corresponds to first order derivatives at fixed date
+     * @since 10.0
      */
-    private <T extends RealFieldElement<T>> boolean isStateDerivative(final FieldSpacecraftState<T> state) {
-        try {
-            final DerivativeStructure dsMass = (DerivativeStructure) state.getMass();
-            final int o = dsMass.getOrder();
-            final int p = dsMass.getFreeParameters();
-            if (o != 1 || (p < 3)) {
-                return false;
-            }
-            @SuppressWarnings("unchecked")
-            final FieldPVCoordinates<DerivativeStructure> pv = (FieldPVCoordinates<DerivativeStructure>) state.getPVCoordinates();
-            return isVariable(pv.getPosition().getX(), 0) &&
-                   isVariable(pv.getPosition().getY(), 1) &&
-                   isVariable(pv.getPosition().getZ(), 2);
-        } catch (ClassCastException cce) {
+    private <T extends RealFieldElement<T>> boolean isFirstOrderDerivative(final FieldSpacecraftState<T> state,
+                                                                           final T mu) {
+        if (!(mu instanceof DerivativeStructure)) {
             return false;
         }
-    }
-
-    /** Check if a derivative represents a specified variable.
-     * @param ds derivative to check
-     * @param index index of the variable
-     * @return true if the derivative represents a specified variable
-     * @since 9.0
-     */
-    private boolean isVariable(final DerivativeStructure ds, final int index) {
-        final double[] derivatives = ds.getAllDerivatives();
-        boolean check = true;
-        for (int i = 1; i < derivatives.length; ++i) {
-            check &= derivatives[i] == ((index + 1 == i) ? 1.0 : 0.0);
+        final DerivativeStructure dsMu   = (DerivativeStructure) mu;
+        final DerivativeStructure dsMass = (DerivativeStructure) state.getMass();
+        if (dsMass.getOrder() != 1 || dsMu.getOrder() != 1 ||
+            dsMass.getFreeParameters() != dsMu.getFreeParameters()) {
+            return false;
         }
-        return check;
+        // the frames transform is computed at fixed date, so date must not depend on free parameters
+        final double[] dateDerivatives =
+                        ((DerivativeStructure) state.getDate().durationFrom(state.getDate().toAbsoluteDate())).getAllDerivatives();
+        for (int i = 1; i < dateDerivatives.length; ++i) {
+            if (dateDerivatives[i] != 0.0) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    /** Compute acceleration derivatives with respect to state parameters.
+    /** Compute acceleration first order derivatives.
      * <p>
      * From a theoretical point of view, this method computes the same values
      * as {@link #acceleration(FieldSpacecraftState, RealFieldElement[])} in the
-     * specific case of {@link DerivativeStructure} with respect to state, so
-     * it is less general. However, it is *much* faster in this important case.
-     * <p>
+     * specific case of {@link DerivativeStructure} with order 1, so it is less
+     * general. However, it is *much* faster in this important case, as it uses
+     * the analytical Hessian of the field instead of propagating derivatives
+     * through each term of the spherical harmonics expansion.
+     * </p>
      * <p>
-     * The derivatives should be computed with respect to position. The input
-     * parameters already take into account the free parameters (6 or 7 depending
-     * on derivation with respect to mass being considered or not) and order
-     * (always 1). Free parameters at indices 0, 1 and 2 correspond to derivatives
-     * with respect to position. Free parameters at indices 3, 4 and 5 correspond
-     * to derivatives with respect to velocity (these derivatives will remain zero
-     * as acceleration due to gravity does not depend on velocity). Free parameter
-     * at index 6 (if present) corresponds to to derivatives with respect to mass
-     * (this derivative will remain zero as acceleration due to gravity does not
-     * depend on mass).
+     * The free parameters can be anything, provided the date does not depend
+     * on them. The derivatives are obtained by the chain rule: the Jacobian of
+     * acceleration with respect to position (i.e. Hessian of the field) is combined
+     * with the derivatives of position, and as the acceleration is proportional to
+     * the central attraction coefficient, the acceleration divided by μ is combined
+     * with the derivatives of μ. When position components are the free parameters
+     * at indices 0, 1 and 2 (as in state transition matrices), this reduces to
+     * copying one row of the Hessian. Derivatives with respect to velocity or
+     * mass (if present) remain zero as acceleration due to gravity does not
+     * depend on them.
      * </p>
      * @param date current date
-    * @param frame inertial reference frame for state (both orbit and attitude)
+     * @param frame inertial reference frame for state (both orbit and attitude)
      * @param position position of spacecraft in inertial frame
      * @param mu central attraction coefficient to use
      * @return acceleration with all derivatives specified by the input parameters
      * own derivatives
-          * @since 6.0
+     * @since 6.0
      */
     private FieldVector3D<DerivativeStructure> accelerationWrtState(final AbsoluteDate date, final Frame frame,
                                                                     final FieldVector3D<DerivativeStructure> position,
@@ -1158,32 +1666,50 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
         final Vector3D positionBody   = toBodyFrame.transformPosition(position.toVector3D());
 
         // compute gradient and Hessian
-        final GradientHessian gh   = gradientHessian(date, positionBody, mu.getReal());
+        final Workspace w = workspace.get();
+        w.loadCoefficients(provider, date);
+        gradientHessian(positionBody.getX(), positionBody.getY(), positionBody.getZ(), mu.getReal(), w);
 
         // gradient of the non-central part of the gravity field
-        final double[] gInertial = fromBodyFrame.transformVector(new Vector3D(gh.getGradient())).toArray();
+        final double[] gInertial = fromBodyFrame.transformVector(new Vector3D(w.cartesianGradient)).toArray();
 
-        // Hessian of the non-central part of the gravity field
-        final RealMatrix hBody     = new Array2DRowRealMatrix(gh.getHessian(), false);
-        final RealMatrix rot       = new Array2DRowRealMatrix(toBodyFrame.getRotation().getMatrix());
-        final RealMatrix hInertial = rot.transpose().multiply(hBody).multiply(rot);
+        // Hessian of the non-central part of the gravity field: Rᵀ H R
+        final double[][] rot       = toBodyFrame.getRotation().getMatrix();
+        final double[][] hBody     = w.cartesianHessian;
+        final double[][] rtH       = w.tmp;
+        final double[][] hInertial = w.inertialHessian;
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < 3; ++j) {
+                rtH[i][j] = rot[0][i] * hBody[0][j] + rot[1][i] * hBody[1][j] + rot[2][i] * hBody[2][j];
+            }
+        }
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < 3; ++j) {
+                hInertial[i][j] = rtH[i][0] * rot[0][j] + rtH[i][1] * rot[1][j] + rtH[i][2] * rot[2][j];
+            }
+        }
+
+        // derivatives of the inputs (first element is the value, which is ignored here)
+        final double[] dX  = position.getX().getAllDerivatives();
+        final double[] dY  = position.getY().getAllDerivatives();
+        final double[] dZ  = position.getZ().getAllDerivatives();
+        final double[] dMu = mu.getAllDerivatives();
 
         // distribute all partial derivatives in a compact acceleration vector
-        final double[] derivatives = new double[1 + position.getX().getFreeParameters()];
+        final double[] derivatives = new double[dX.length];
         final DerivativeStructure[] accDer = new DerivativeStructure[3];
         for (int i = 0; i < 3; ++i) {
 
             // first element is value of acceleration (i.e. gradient of field)
             derivatives[0] = gInertial[i];
 
-            // next three elements are one row of the Jacobian of acceleration (i.e. Hessian of field)
-            derivatives[1] = hInertial.getEntry(i, 0);
-            derivatives[2] = hInertial.getEntry(i, 1);
-            derivatives[3] = hInertial.getEntry(i, 2);
-
-            // next element is derivative with respect to parameter mu
-            if (derivatives.length > 4 && isVariable(mu, 3)) {
-                derivatives[4] = gInertial[i] / mu.getReal();
+            // next elements are derivatives with respect to free parameters
+            final double[] hRow = hInertial[i];
+            for (int k = 1; k < derivatives.length; ++k) {
+                derivatives[k] = hRow[0] * dX[k] + hRow[1] * dY[k] + hRow[2] * dZ[k];
+                if (dMu[k] != 0.0) {
+                    derivatives[k] += gInertial[i] * dMu[k] / mu.getReal();
+                }
             }
 
             accDer[i] = position.getX().getFactory().build(derivatives);
@@ -1194,6 +1720,18 @@ public class HolmesFeatherstoneAttractionModel extends AbstractForceModel implem
 
     }
 
+    /** Check structure-of-arrays buffers all have the same length.
+     * @param arrays buffers to check
+     */
+    private static void checkLengths(final double[]... arrays) {
+        for (final double[] array : arrays) {
+            if (array.length != arrays[0].length) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         array.length, arrays[0].length);
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     public ParameterDriver[] getParametersDrivers() {
         return new ParameterDriver[] {
@@ -29,6 +29,7 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeStamped;
 import org.orekit.utils.GenericTimeStampedCache;
 import org.orekit.utils.TimeStampedCache;
+import org.orekit.utils.TimeStampedCachesRegistry;
 import org.orekit.utils.TimeStampedGenerator;
 
 /** Caching wrapper for {@link NormalizedSphericalHarmonicsProvider}.
@@ -74,8 +75,10 @@ public class CachedNormalizedSphericalHarmonicsProvider implements NormalizedSph
         final int k       = rawProvider.getMaxDegree() + 1;
         this.size         = (k * (k + 1)) / 2;
 
-        cache = new GenericTimeStampedCache<TimeStampedSphericalHarmonics>(nbPoints, maxSlots, maxSpan,
-                                                                           newSlotInterval, new Generator(step));
+        cache = TimeStampedCachesRegistry.register("CachedNormalizedSphericalHarmonicsProvider(" +
+                                                   rawProvider.getClass().getSimpleName() + ")",
+                                                   new GenericTimeStampedCache<TimeStampedSphericalHarmonics>(nbPoints, maxSlots, maxSpan,
+                                                                                                              newSlotInterval, new Generator(step)));
     }
 
     /** {@inheritDoc} */
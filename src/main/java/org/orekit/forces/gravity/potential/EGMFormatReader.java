@@ -17,9 +17,11 @@
 package org.orekit.forces.gravity.potential;
 
 import java.io.BufferedReader;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +29,8 @@ import java.util.Locale;
 
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Precision;
+import org.orekit.data.MergeableDataLoader;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.utils.Constants;
@@ -39,7 +43,10 @@ import org.orekit.utils.Constants;
  * @see GravityFieldFactory
  * @author Fabien Maussion
  */
-public class EGMFormatReader extends PotentialCoefficientsReader {
+public class EGMFormatReader extends PotentialCoefficientsReader implements SnapshotDataLoader {
+
+    /** Version of the snapshot layout. */
+    private static final String SNAPSHOT_VERSION = "EGM 1";
 
     /** Flag for using WGS84 values for equatorial radius and central attraction coefficient. */
     private final boolean useWgs84Coefficients;
@@ -144,6 +151,50 @@ public class EGMFormatReader extends PotentialCoefficientsReader {
 
     }
 
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public SnapshotDataLoader newLoader() {
+        final EGMFormatReader reader =
+                new EGMFormatReader(getSupportedNames(), missingCoefficientsAllowed(), useWgs84Coefficients);
+        reader.setMaxParseDegree(getMaxParseDegree());
+        reader.setMaxParseOrder(getMaxParseOrder());
+        return reader;
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void merge(final MergeableDataLoader other) {
+        // as in sequential loading, files are ignored once a suitable field has been read
+        if (stillAcceptsData()) {
+            copyCoefficients((EGMFormatReader) other);
+        }
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public String getSnapshotFormat() {
+        // the parsed coefficients depend on the reader configuration
+        return SNAPSHOT_VERSION + " " + useWgs84Coefficients + " " + missingCoefficientsAllowed() +
+               " " + getMaxParseDegree() + " " + getMaxParseOrder();
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void writeSnapshot(final DataOutput output) throws IOException {
+        writeCoefficients(output);
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void readSnapshot(final ByteBuffer input, final String name) {
+        readCoefficients(input);
+    }
+
     /** Get a provider for read spherical harmonics coefficients.
      * <p>
      * EGM fields don't include time-dependent parts, so this method returns
@@ -243,6 +243,40 @@ public class GravityFieldFactory {
         return new WrappingNormalizedProvider(provider);
     }
 
+    /** Get the gravity field coefficients provider loaded from a specific data providers manager.
+     * <p>
+     * The field is read using fresh instances of the default readers (see {@link
+     * #addDefaultPotentialCoefficientsReaders()}) fed by the specified manager,
+     * the readers registered in the factory are ignored. It is intended to be
+     * used when building a {@link org.orekit.data.DataContext data context}.
+     * </p>
+     * @param degree maximal degree
+     * @param order maximal order
+     * @param manager manager providing the gravity field files
+     * @return a gravity field coefficients provider containing already loaded data
+     * @since 10.0
+     * @see #getNormalizedProvider(int, int)
+     */
+    public static NormalizedSphericalHarmonicsProvider getNormalizedProvider(final int degree,
+                                                                             final int order,
+                                                                             final DataProvidersManager manager) {
+        final PotentialCoefficientsReader[] readers = new PotentialCoefficientsReader[] {
+            new ICGEMFormatReader(ICGEM_FILENAME, false),
+            new SHMFormatReader(SHM_FILENAME, false),
+            new EGMFormatReader(EGM_FILENAME, false),
+            new GRGSFormatReader(GRGS_FILENAME, false)
+        };
+        for (final PotentialCoefficientsReader reader : readers) {
+            reader.setMaxParseDegree(degree);
+            reader.setMaxParseOrder(order);
+            manager.feed(reader.getSupportedNames(), reader);
+            if (!reader.stillAcceptsData()) {
+                return new WrappingNormalizedProvider(reader.getProvider(true, degree, order));
+            }
+        }
+        throw new OrekitException(OrekitMessages.NO_GRAVITY_FIELD_DATA_LOADED);
+    }
+
     /** Create a time-independent {@link NormalizedSphericalHarmonicsProvider} from canonical coefficients.
      * <p>
      * Note that contrary to the other factory method, this one does not read any data, it simply uses
@@ -17,9 +17,11 @@
 package org.orekit.forces.gravity.potential;
 
 import java.io.BufferedReader;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -28,6 +30,9 @@ import java.util.Map;
 
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Precision;
+import org.orekit.data.DataSnapshotCache;
+import org.orekit.data.MergeableDataLoader;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.errors.OrekitParseException;
@@ -82,7 +87,10 @@ import org.orekit.utils.Constants;
  * @see GravityFieldFactory
  * @author Luc Maisonobe
  */
-public class ICGEMFormatReader extends PotentialCoefficientsReader {
+public class ICGEMFormatReader extends PotentialCoefficientsReader implements SnapshotDataLoader {
+
+    /** Version of the snapshot layout. */
+    private static final String SNAPSHOT_VERSION = "ICGEM 1";
 
     /** Product type. */
     private static final String PRODUCT_TYPE            = "product_type";
@@ -362,6 +370,149 @@ public class ICGEMFormatReader extends PotentialCoefficientsReader {
 
     }
 
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public SnapshotDataLoader newLoader() {
+        final ICGEMFormatReader reader = new ICGEMFormatReader(getSupportedNames(), missingCoefficientsAllowed());
+        reader.setMaxParseDegree(getMaxParseDegree());
+        reader.setMaxParseOrder(getMaxParseOrder());
+        return reader;
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void merge(final MergeableDataLoader other) {
+        // as in sequential loading, files are ignored once a suitable field has been read
+        if (stillAcceptsData()) {
+            final ICGEMFormatReader reader = (ICGEMFormatReader) other;
+            copyCoefficients(reader);
+            tideSystem    = reader.tideSystem;
+            normalized    = reader.normalized;
+            referenceDate = reader.referenceDate;
+            cTrend.clear();
+            cTrend.addAll(reader.cTrend);
+            sTrend.clear();
+            sTrend.addAll(reader.sTrend);
+            cCos.clear();
+            cCos.putAll(reader.cCos);
+            cSin.clear();
+            cSin.putAll(reader.cSin);
+            sCos.clear();
+            sCos.putAll(reader.sCos);
+            sSin.clear();
+            sSin.putAll(reader.sSin);
+        }
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public String getSnapshotFormat() {
+        // the parsed coefficients depend on the reader configuration
+        return SNAPSHOT_VERSION + " " + missingCoefficientsAllowed() +
+               " " + getMaxParseDegree() + " " + getMaxParseOrder();
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void writeSnapshot(final DataOutput output) throws IOException {
+
+        writeCoefficients(output);
+        DataSnapshotCache.writeString(output, tideSystem.name());
+        output.writeBoolean(normalized);
+
+        output.writeBoolean(referenceDate != null);
+        if (referenceDate != null) {
+            output.writeInt(referenceDate.getYear());
+            output.writeInt(referenceDate.getMonth());
+            output.writeInt(referenceDate.getDay());
+        }
+
+        writeListOfLists(output, cTrend);
+        writeListOfLists(output, sTrend);
+
+        output.writeInt(cCos.size());
+        for (final Map.Entry<Double, List<List<Double>>> entry : cCos.entrySet()) {
+            output.writeDouble(entry.getKey());
+            writeListOfLists(output, entry.getValue());
+            writeListOfLists(output, cSin.get(entry.getKey()));
+            writeListOfLists(output, sCos.get(entry.getKey()));
+            writeListOfLists(output, sSin.get(entry.getKey()));
+        }
+
+    }
+
+    /** {@inheritDoc}
+     * @since 10.0
+     */
+    public void readSnapshot(final ByteBuffer input, final String name) {
+
+        readCoefficients(input);
+        tideSystem = TideSystem.valueOf(DataSnapshotCache.readString(input));
+        normalized = input.get() != 0;
+
+        if (input.get() != 0) {
+            final int year  = input.getInt();
+            final int month = input.getInt();
+            final int day   = input.getInt();
+            referenceDate = new DateComponents(year, month, day);
+        } else {
+            referenceDate = null;
+        }
+
+        readListOfLists(input, cTrend);
+        readListOfLists(input, sTrend);
+
+        // each period uses at least 24 bytes for its key and the lengths of its lists
+        final int nbPeriods = DataSnapshotCache.readLength(input, 24);
+        for (int k = 0; k < nbPeriods; ++k) {
+            final Double period = input.getDouble();
+            cCos.put(period, readListOfLists(input, new ArrayList<List<Double>>()));
+            cSin.put(period, readListOfLists(input, new ArrayList<List<Double>>()));
+            sCos.put(period, readListOfLists(input, new ArrayList<List<Double>>()));
+            sSin.put(period, readListOfLists(input, new ArrayList<List<Double>>()));
+        }
+
+    }
+
+    /** Write a list of lists of coefficients in a snapshot.
+     * @param output output where data should be written
+     * @param list list of lists to write
+     * @exception IOException if data cannot be written
+     */
+    private static void writeListOfLists(final DataOutput output, final List<List<Double>> list)
+        throws IOException {
+        output.writeInt(list.size());
+        for (final List<Double> row : list) {
+            output.writeInt(row.size());
+            for (final Double value : row) {
+                output.writeDouble(value);
+            }
+        }
+    }
+
+    /** Read a list of lists of coefficients from a snapshot.
+     * @param input buffer containing the snapshot
+     * @param list list where rows should be appended
+     * @return list of lists (the same instance as {@code list})
+     */
+    private static List<List<Double>> readListOfLists(final ByteBuffer input, final List<List<Double>> list) {
+        // each row uses at least 4 bytes for its own length
+        final int nbRows = DataSnapshotCache.readLength(input, 4);
+        for (int i = 0; i < nbRows; ++i) {
+            final int nbColumns = DataSnapshotCache.readLength(input, 8);
+            final List<Double> row = new ArrayList<Double>(nbColumns);
+            for (int j = 0; j < nbColumns; ++j) {
+                row.add(input.getDouble());
+            }
+            list.add(row);
+        }
+        return list;
+    }
+
     /** Get a provider for read spherical harmonics coefficients.
      * <p>
      * ICGEM fields do include time-dependent parts which are taken into account
@@ -16,8 +16,10 @@
  */
 package org.orekit.forces.gravity.potential;
 
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -27,6 +29,7 @@ import java.util.Locale;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Precision;
 import org.orekit.data.DataLoader;
+import org.orekit.data.DataSnapshotCache;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 
@@ -284,6 +287,94 @@ public abstract class PotentialCoefficientsReader implements DataLoader {
         }
     }
 
+    /** Copy the constant part of the field read by another reader.
+     * <p>
+     * This method is intended to help subclasses implementing
+     * {@link org.orekit.data.MergeableDataLoader}.
+     * </p>
+     * @param other other reader
+     * @since 10.0
+     */
+    protected void copyCoefficients(final PotentialCoefficientsReader other) {
+        this.readComplete = other.readComplete;
+        this.ae           = other.ae;
+        this.mu           = other.mu;
+        this.rawC         = other.rawC;
+        this.rawS         = other.rawS;
+        this.normalized   = other.normalized;
+        this.tideSystem   = other.tideSystem;
+    }
+
+    /** Write the constant part of the field in a snapshot.
+     * <p>
+     * This method is intended to help subclasses implementing
+     * {@link org.orekit.data.SnapshotDataLoader}.
+     * </p>
+     * @param output output where data should be written
+     * @exception IOException if data cannot be written
+     * @see #readCoefficients(ByteBuffer)
+     * @since 10.0
+     */
+    protected void writeCoefficients(final DataOutput output) throws IOException {
+        output.writeBoolean(readComplete);
+        output.writeDouble(ae);
+        output.writeDouble(mu);
+        output.writeBoolean(normalized);
+        DataSnapshotCache.writeString(output, tideSystem.name());
+        writeTriangle(output, rawC);
+        writeTriangle(output, rawS);
+    }
+
+    /** Read the constant part of the field from a snapshot.
+     * <p>
+     * This method is intended to help subclasses implementing
+     * {@link org.orekit.data.SnapshotDataLoader}.
+     * </p>
+     * @param input buffer containing the snapshot
+     * @see #writeCoefficients(DataOutput)
+     * @since 10.0
+     */
+    protected void readCoefficients(final ByteBuffer input) {
+        readComplete = input.get() != 0;
+        ae           = input.getDouble();
+        mu           = input.getDouble();
+        normalized   = input.get() != 0;
+        tideSystem   = TideSystem.valueOf(DataSnapshotCache.readString(input));
+        rawC         = readTriangle(input);
+        rawS         = readTriangle(input);
+    }
+
+    /** Write a triangular array in a snapshot.
+     * @param output output where data should be written
+     * @param array array to write
+     * @exception IOException if data cannot be written
+     */
+    private static void writeTriangle(final DataOutput output, final double[][] array)
+        throws IOException {
+        output.writeInt(array.length);
+        for (final double[] row : array) {
+            output.writeInt(row.length);
+            for (final double value : row) {
+                output.writeDouble(value);
+            }
+        }
+    }
+
+    /** Read a triangular array from a snapshot.
+     * @param input buffer containing the snapshot
+     * @return array read
+     */
+    private static double[][] readTriangle(final ByteBuffer input) {
+        // each row uses at least 4 bytes for its own length
+        final double[][] array = new double[DataSnapshotCache.readLength(input, 4)][];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = new double[DataSnapshotCache.readLength(input, 8)];
+            input.asDoubleBuffer().get(array[i]);
+            input.position(input.position() + 8 * array[i].length);
+        }
+        return array;
+    }
+
     /** Get the maximal degree available in the last file parsed.
      * @return maximal degree available in the last file parsed
      * @since 6.0
@@ -0,0 +1,193 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.orekit.data.MergeableDataLoader;
+import org.orekit.data.SnapshotDataLoader;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScale;
+import org.orekit.utils.IERSConventions;
+
+/** Base class for parsers producing lists of Earth Orientation Parameters entries.
+ * <p>
+ * This class handles merging and snapshots. As the nutation correction converter
+ * is not part of the snapshots, they contain the nutation corrections as read
+ * in the files (either equinox-based or Non-Rotating Origin), and the other
+ * ones are computed again when snapshots are restored.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 10.0
+ */
+abstract class AbstractEOPParser implements SnapshotDataLoader {
+
+    /** Version of the snapshot layout. */
+    private static final String SNAPSHOT_VERSION = " 1";
+
+    /** Converter for nutation corrections. */
+    private final IERSConventions.NutationCorrectionConverter converter;
+
+    /** Configuration for ITRF versions. */
+    private final ITRFVersionLoader itrfVersionLoader;
+
+    /** UTC time scale. */
+    private final TimeScale utc;
+
+    /** History entries. */
+    private final List<EOPEntry> history;
+
+    /** Indicators for entries read with Non-Rotating Origin nutation corrections. */
+    private final BitSet readAsNonRotating;
+
+    /** Simple constructor.
+     * @param converter converter to use
+     * @param itrfVersionLoader configuration for ITRF versions
+     * @param utc UTC time scale
+     */
+    protected AbstractEOPParser(final IERSConventions.NutationCorrectionConverter converter,
+                                final ITRFVersionLoader itrfVersionLoader,
+                                final TimeScale utc) {
+        this.converter         = converter;
+        this.itrfVersionLoader = itrfVersionLoader;
+        this.utc               = utc;
+        this.history           = new ArrayList<EOPEntry>();
+        this.readAsNonRotating = new BitSet();
+    }
+
+    /** Get the converter for nutation corrections.
+     * @return converter for nutation corrections
+     */
+    protected IERSConventions.NutationCorrectionConverter getConverter() {
+        return converter;
+    }
+
+    /** Get the configuration for ITRF versions.
+     * @return configuration for ITRF versions
+     */
+    protected ITRFVersionLoader getITRFVersionLoader() {
+        return itrfVersionLoader;
+    }
+
+    /** Get the UTC time scale.
+     * @return UTC time scale
+     */
+    protected TimeScale getUTC() {
+        return utc;
+    }
+
+    /** Get the history entries.
+     * @return history entries
+     */
+    public List<EOPEntry> getHistory() {
+        return history;
+    }
+
+    /** Add an entry to the history.
+     * @param entry entry to add
+     * @param isNonRotatingOrigin if true, the nutation corrections were read
+     * as Non-Rotating Origin corrections, otherwise they were read as equinox corrections
+     */
+    protected void addEntry(final EOPEntry entry, final boolean isNonRotatingOrigin) {
+        readAsNonRotating.set(history.size(), isNonRotatingOrigin);
+        history.add(entry);
+    }
+
+    /** {@inheritDoc} */
+    public boolean stillAcceptsData() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    public void merge(final MergeableDataLoader other) {
+        final AbstractEOPParser parser = (AbstractEOPParser) other;
+        final int offset = history.size();
+        history.addAll(parser.history);
+        parser.readAsNonRotating.stream().forEach(i -> readAsNonRotating.set(offset + i));
+    }
+
+    /** {@inheritDoc} */
+    public String getSnapshotFormat() {
+        return getClass().getName() + SNAPSHOT_VERSION;
+    }
+
+    /** {@inheritDoc} */
+    public void writeSnapshot(final DataOutput output) throws IOException {
+        output.writeInt(history.size());
+        for (int i = 0; i < history.size(); ++i) {
+            final EOPEntry entry = history.get(i);
+            output.writeInt(entry.getMjd());
+            output.writeDouble(entry.getUT1MinusUTC());
+            output.writeDouble(entry.getLOD());
+            output.writeDouble(entry.getX());
+            output.writeDouble(entry.getY());
+            if (readAsNonRotating.get(i)) {
+                output.writeBoolean(true);
+                output.writeDouble(entry.getDx());
+                output.writeDouble(entry.getDy());
+            } else {
+                output.writeBoolean(false);
+                output.writeDouble(entry.getDdPsi());
+                output.writeDouble(entry.getDdEps());
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    public void readSnapshot(final ByteBuffer input, final String name) {
+        ITRFVersionLoader.ITRFVersionConfiguration configuration = null;
+        for (int n = input.getInt(); n > 0; --n) {
+            final int     mjd                 = input.getInt();
+            final double  dtu1                = input.getDouble();
+            final double  lod                 = input.getDouble();
+            final double  x                   = input.getDouble();
+            final double  y                   = input.getDouble();
+            final boolean isNonRotatingOrigin = input.get() != 0;
+            final double  n0                  = input.getDouble();
+            final double  n1                  = input.getDouble();
+            final AbsoluteDate date =
+                    new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd), utc);
+            final double[] equinox;
+            final double[] nro;
+            if (isNonRotatingOrigin) {
+                nro     = new double[] {
+                    n0, n1
+                };
+                equinox = converter.toEquinox(date, n0, n1);
+            } else {
+                equinox = new double[] {
+                    n0, n1
+                };
+                nro     = converter.toNonRotating(date, n0, n1);
+            }
+            if (configuration == null || !configuration.isValid(mjd)) {
+                // get a configuration for current name and date range
+                configuration = itrfVersionLoader.getConfiguration(name, mjd);
+            }
+            addEntry(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
+                                  configuration.getVersion(), getUTC()),
+                     isNonRotatingOrigin);
+        }
+    }
+
+}
@@ -17,25 +17,32 @@
 package org.orekit.frames;
 
 import java.io.BufferedReader;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.hipparchus.util.FastMath;
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.DataSnapshotCache;
+import org.orekit.data.MergeableDataLoader;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitInternalError;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScale;
+import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
 
@@ -349,33 +356,63 @@ class BulletinAFilesLoader implements EOPHistoryLoader {
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
+    /** Supplier for the UTC time scale. */
+    private final Supplier<TimeScale> utcSupplier;
+
     /** Build a loader for IERS bulletins A files.
     * @param supportedNames regular expression for supported files names
     */
     BulletinAFilesLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance(), TimeScalesFactory::getUTC);
+    }
+
+    /** Build a loader for IERS bulletins A files.
+    * @param supportedNames regular expression for supported files names
+    * @param manager manager providing the data
+    * @param utcSupplier supplier for the UTC time scale, called each time the history is filled
+    * @since 10.0
+    */
+    BulletinAFilesLoader(final String supportedNames, final DataProvidersManager manager,
+                         final Supplier<TimeScale> utcSupplier) {
         this.supportedNames = supportedNames;
+        this.manager        = manager;
+        this.utcSupplier    = utcSupplier;
     }
 
     /** {@inheritDoc} */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser();
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
+        final Parser parser = new Parser(manager, utcSupplier.get());
+        manager.feed(supportedNames, parser);
         parser.fill(history);
     }
 
     /** Internal class performing the parsing. */
-    private static class Parser implements DataLoader {
+    private static class Parser implements SnapshotDataLoader {
+
+        /** Snapshot format. */
+        private static final String SNAPSHOT_FORMAT = "IERS bulletin A 2";
+
 
         /** Map for xp, yp, dut1 fields read in different sections. */
         private final Map<Integer, double[]> eopFieldsMap;
 
-        /** Map for pole offsets fields read in different sections. */
+        /** Map for pole offsets fields read in different sections.
+         * <p>
+         * Components not read yet are set to NaN.
+         * </p>
+         */
         private final Map<Integer, double[]> poleOffsetsFieldsMap;
 
         /** Configuration for ITRF versions. */
         private final ITRFVersionLoader itrfVersionLoader;
 
+        /** UTC time scale. */
+        private final TimeScale utc;
+
         /** ITRF version configuration. */
         private ITRFVersionLoader.ITRFVersionConfiguration configuration;
 
@@ -398,11 +435,22 @@ class BulletinAFilesLoader implements EOPHistoryLoader {
         private int firstMJD;
 
         /** Simple constructor.
+         * @param manager manager providing the ITRF versions configuration
+         * @param utc UTC time scale
+         */
+        Parser(final DataProvidersManager manager, final TimeScale utc) {
+            this(new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES, manager), utc);
+        }
+
+        /** Constructor sharing an already loaded ITRF versions configuration.
+         * @param itrfVersionLoader configuration for ITRF versions
+         * @param utc UTC time scale
          */
-        Parser() {
+        private Parser(final ITRFVersionLoader itrfVersionLoader, final TimeScale utc) {
             this.eopFieldsMap         = new HashMap<Integer, double[]>();
             this.poleOffsetsFieldsMap = new HashMap<Integer, double[]>();
-            this.itrfVersionLoader    = new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES);
+            this.itrfVersionLoader    = itrfVersionLoader;
+            this.utc                  = utc;
             this.lineNumber           = 0;
             this.mjdMin               = Integer.MAX_VALUE;
             this.mjdMax               = Integer.MIN_VALUE;
@@ -414,6 +462,112 @@ class BulletinAFilesLoader implements EOPHistoryLoader {
             return true;
         }
 
+        /** {@inheritDoc} */
+        public SnapshotDataLoader newLoader() {
+            return new Parser(itrfVersionLoader, utc);
+        }
+
+        /** {@inheritDoc} */
+        public void merge(final MergeableDataLoader other) {
+            final Parser parser = (Parser) other;
+            mergeFields(eopFieldsMap, parser.eopFieldsMap);
+            mergeFields(poleOffsetsFieldsMap, parser.poleOffsetsFieldsMap);
+            mjdMin   = FastMath.min(mjdMin, parser.mjdMin);
+            mjdMax   = FastMath.max(mjdMax, parser.mjdMax);
+            fileName = parser.fileName;
+        }
+
+        /** {@inheritDoc} */
+        public String getSnapshotFormat() {
+            return SNAPSHOT_FORMAT;
+        }
+
+        /** {@inheritDoc} */
+        public void writeSnapshot(final DataOutput output) throws IOException {
+            output.writeInt(mjdMin);
+            output.writeInt(mjdMax);
+            writeFields(output, eopFieldsMap);
+            writeFields(output, poleOffsetsFieldsMap);
+        }
+
+        /** {@inheritDoc} */
+        public void readSnapshot(final ByteBuffer input, final String name) {
+            fileName = name;
+            mjdMin   = input.getInt();
+            mjdMax   = input.getInt();
+            readFields(input, eopFieldsMap);
+            readFields(input, poleOffsetsFieldsMap);
+        }
+
+        /** Write a fields map in a snapshot.
+         * @param output output where data should be written
+         * @param fields fields map to write
+         * @exception IOException if data cannot be written
+         */
+        private void writeFields(final DataOutput output, final Map<Integer, double[]> fields)
+            throws IOException {
+            output.writeInt(fields.size());
+            for (final Map.Entry<Integer, double[]> entry : fields.entrySet()) {
+                output.writeInt(entry.getKey());
+                output.writeInt(entry.getValue().length);
+                for (final double value : entry.getValue()) {
+                    output.writeDouble(value);
+                }
+            }
+        }
+
+        /** Read a fields map from a snapshot.
+         * @param input buffer containing the snapshot
+         * @param fields fields map to fill up
+         */
+        private void readFields(final ByteBuffer input, final Map<Integer, double[]> fields) {
+            for (int n = input.getInt(); n > 0; --n) {
+                final int mjd = input.getInt();
+                final double[] values = new double[DataSnapshotCache.readLength(input, 8)];
+                for (int i = 0; i < values.length; ++i) {
+                    values[i] = input.getDouble();
+                }
+                fields.put(mjd, values);
+            }
+        }
+
+        /** Merge fields read from another file.
+         * <p>
+         * The rule is the same as when parsing files sequentially: components
+         * from the file whose first date is the latest take precedence, and
+         * components missing in this file are taken from older files.
+         * </p>
+         * @param fields fields map to update
+         * @param newFields fields map read from the other file
+         */
+        private void mergeFields(final Map<Integer, double[]> fields,
+                                 final Map<Integer, double[]> newFields) {
+            for (final Map.Entry<Integer, double[]> entry : newFields.entrySet()) {
+                final double[] current = fields.get(entry.getKey());
+                if (current == null) {
+                    fields.put(entry.getKey(), entry.getValue());
+                } else {
+                    final double[] other = entry.getValue();
+                    final boolean  newer = current[0] <= other[0];
+                    for (int i = 1; i < current.length; ++i) {
+                        if (!Double.isNaN(other[i]) && (newer || Double.isNaN(current[i]))) {
+                            current[i] = other[i];
+                        }
+                    }
+                    current[0] = FastMath.max(current[0], other[0]);
+                }
+            }
+        }
+
+        /** Get a pole offset component in radians.
+         * @param pole pole offsets fields
+         * @param index index of the component
+         * @return pole offset component, or 0 if it was not read
+         */
+        private double poleOffset(final double[] pole, final int index) {
+            return Double.isNaN(pole[index]) ? 0.0 : pole[index] * MILLI_ARC_SECONDS_TO_RADIANS;
+        }
+
         /** {@inheritDoc} */
         public void loadData(final InputStream input, final String name)
             throws IOException {
@@ -493,11 +647,11 @@ class BulletinAFilesLoader implements EOPHistoryLoader {
                         }
                         history.add(new EOPEntry(mjd,
                                                  0.0, 0.0, 0.0, 0.0,
-                                                 currentPole[1] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[2] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[3] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[4] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 configuration.getVersion()));
+                                                 poleOffset(currentPole, 1),
+                                                 poleOffset(currentPole, 2),
+                                                 poleOffset(currentPole, 3),
+                                                 poleOffset(currentPole, 4),
+                                                 configuration.getVersion(), utc));
                     }
                 } else {
 
@@ -532,18 +686,18 @@ class BulletinAFilesLoader implements EOPHistoryLoader {
                                                  currentEOP[1] * Constants.ARC_SECONDS_TO_RADIANS,
                                                  currentEOP[2] * Constants.ARC_SECONDS_TO_RADIANS,
                                                  0.0, 0.0, 0.0, 0.0,
-                                                 configuration.getVersion()));
+                                                 configuration.getVersion(), utc));
                     } else {
                         // we have complete data
                         history.add(new EOPEntry(mjd,
                                                  currentEOP[3], lod,
                                                  currentEOP[1]  * Constants.ARC_SECONDS_TO_RADIANS,
                                                  currentEOP[2]  * Constants.ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[1] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[2] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[3] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 currentPole[4] * MILLI_ARC_SECONDS_TO_RADIANS,
-                                                 configuration.getVersion()));
+                                                 poleOffset(currentPole, 1),
+                                                 poleOffset(currentPole, 2),
+                                                 poleOffset(currentPole, 3),
+                                                 poleOffset(currentPole, 4),
+                                                 configuration.getVersion(), utc));
                     }
                 }
 
@@ -673,22 +827,20 @@ class BulletinAFilesLoader implements EOPHistoryLoader {
                     if (poleOffsetsFieldsMap.containsKey(mjd)) {
                         pole = poleOffsetsFieldsMap.get(mjd);
                     } else {
-                        pole = new double[5];
+                        pole = new double[] {
+                            0.0, Double.NaN, Double.NaN, Double.NaN, Double.NaN
+                        };
                         poleOffsetsFieldsMap.put(mjd, pole);
                     }
 
-                    if (pole[0] <= firstMJD) {
-                        // either it is the first time we parse this date (pole[0] = 0),
+                    final int index = isNonRotatingOrigin ? 1 : 3;
+                    if (pole[0] <= firstMJD || Double.isNaN(pole[index])) {
+                        // either it is the first time we parse this component,
                         // or the new parsed data is from a more recent file
-                        // in both case, we should update the array
-                        pole[0] = firstMJD;
-                        if (isNonRotatingOrigin) {
-                            pole[1] = Double.parseDouble(fields[1]);
-                            pole[2] = Double.parseDouble(fields[2]);
-                        } else {
-                            pole[3] = Double.parseDouble(fields[1]);
-                            pole[4] = Double.parseDouble(fields[2]);
-                        }
+                        // in both case, we should update the component
+                        pole[0]         = FastMath.max(pole[0], firstMJD);
+                        pole[index]     = Double.parseDouble(fields[1]);
+                        pole[index + 1] = Double.parseDouble(fields[2]);
                     }
 
                 } else if (inValuesPart) {
@@ -20,22 +20,22 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.hipparchus.util.FastMath;
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateComponents;
 import org.orekit.time.Month;
+import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
@@ -223,36 +223,46 @@ class BulletinBFilesLoader implements EOPHistoryLoader {
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
+    /** Supplier for the UTC time scale. */
+    private final Supplier<TimeScale> utcSupplier;
+
     /** Build a loader for IERS bulletins B files.
     * @param supportedNames regular expression for supported files names
     */
     BulletinBFilesLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance(), TimeScalesFactory::getUTC);
+    }
+
+    /** Build a loader for IERS bulletins B files.
+    * @param supportedNames regular expression for supported files names
+    * @param manager manager providing the data
+    * @param utcSupplier supplier for the UTC time scale, called each time the history is filled
+    * @since 10.0
+    */
+    BulletinBFilesLoader(final String supportedNames, final DataProvidersManager manager,
+                         final Supplier<TimeScale> utcSupplier) {
         this.supportedNames = supportedNames;
+        this.manager        = manager;
+        this.utcSupplier    = utcSupplier;
     }
 
     /** {@inheritDoc} */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser(converter);
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
-        history.addAll(parser.history);
+        final Parser parser = new Parser(converter, manager, utcSupplier.get());
+        manager.feed(supportedNames, parser);
+        history.addAll(parser.getHistory());
     }
 
     /** Internal class performing the parsing. */
-    private static class Parser implements DataLoader {
-
-        /** Converter for nutation corrections. */
-        private final IERSConventions.NutationCorrectionConverter converter;
-
-        /** Configuration for ITRF versions. */
-        private final ITRFVersionLoader itrfVersionLoader;
+    private static class Parser extends AbstractEOPParser {
 
         /** ITRF version configuration. */
         private ITRFVersionLoader.ITRFVersionConfiguration configuration;
 
-        /** History entries. */
-        private final List<EOPEntry> history;
-
         /** Map for fields read in different sections. */
         private final Map<Integer, double[]> fieldsMap;
 
@@ -270,11 +280,24 @@ class BulletinBFilesLoader implements EOPHistoryLoader {
 
         /** Simple constructor.
          * @param converter converter to use
+         * @param manager manager providing the ITRF versions configuration
+         * @param utc UTC time scale
+         */
+        Parser(final IERSConventions.NutationCorrectionConverter converter,
+               final DataProvidersManager manager,
+               final TimeScale utc) {
+            this(converter, new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES, manager), utc);
+        }
+
+        /** Constructor sharing an already loaded ITRF versions configuration.
+         * @param converter converter to use
+         * @param itrfVersionLoader configuration for ITRF versions
+         * @param utc UTC time scale
          */
-        Parser(final IERSConventions.NutationCorrectionConverter converter) {
-            this.converter         = converter;
-            this.itrfVersionLoader = new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES);
-            this.history           = new ArrayList<EOPEntry>();
+        private Parser(final IERSConventions.NutationCorrectionConverter converter,
+                       final ITRFVersionLoader itrfVersionLoader,
+                       final TimeScale utc) {
+            super(converter, itrfVersionLoader, utc);
             this.fieldsMap         = new HashMap<Integer, double[]>();
             this.lineNumber        = 0;
             this.mjdMin            = Integer.MAX_VALUE;
@@ -282,8 +305,8 @@ class BulletinBFilesLoader implements EOPHistoryLoader {
         }
 
         /** {@inheritDoc} */
-        public boolean stillAcceptsData() {
-            return true;
+        public SnapshotDataLoader newLoader() {
+            return new Parser(getConverter(), getITRFVersionLoader(), getUTC());
         }
 
         /** {@inheritDoc} */
@@ -334,15 +357,16 @@ class BulletinBFilesLoader implements EOPHistoryLoader {
                     }
                     final AbsoluteDate mjdDate =
                             new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd),
-                                             TimeScalesFactory.getUTC());
-                    final double[] equinox = converter.toEquinox(mjdDate, array[4], array[5]);
+                                             getUTC());
+                    final double[] equinox = getConverter().toEquinox(mjdDate, array[4], array[5]);
                     if (configuration == null || !configuration.isValid(mjd)) {
                         // get a configuration for current name and date range
-                        configuration = itrfVersionLoader.getConfiguration(name, mjd);
+                        configuration = getITRFVersionLoader().getConfiguration(name, mjd);
                     }
-                    history.add(new EOPEntry(mjd, array[0], array[1], array[2], array[3],
-                                             equinox[0], equinox[1], array[4], array[5],
-                                             configuration.getVersion()));
+                    addEntry(new EOPEntry(mjd, array[0], array[1], array[2], array[3],
+                                          equinox[0], equinox[1], array[4], array[5],
+                                          configuration.getVersion(), getUTC()),
+                             true);
                 }
 
             }
@@ -435,7 +459,7 @@ class BulletinBFilesLoader implements EOPHistoryLoader {
                     if (mjd >= mjdMin) {
                         final AbsoluteDate mjdDate =
                                 new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd),
-                                                 TimeScalesFactory.getUTC());
+                                                 getUTC());
                         final double[] equinox;
                         final double[] nro;
                         if (isNonRotatingOrigin) {
@@ -443,20 +467,21 @@ class BulletinBFilesLoader implements EOPHistoryLoader {
                                 Double.parseDouble(matcher.group(6)) * MILLI_ARC_SECONDS_TO_RADIANS,
                                 Double.parseDouble(matcher.group(7)) * MILLI_ARC_SECONDS_TO_RADIANS
                             };
-                            equinox = converter.toEquinox(mjdDate, nro[0], nro[1]);
+                            equinox = getConverter().toEquinox(mjdDate, nro[0], nro[1]);
                         } else {
                             equinox = new double[] {
                                 Double.parseDouble(matcher.group(6)) * MILLI_ARC_SECONDS_TO_RADIANS,
                                 Double.parseDouble(matcher.group(7)) * MILLI_ARC_SECONDS_TO_RADIANS
                             };
-                            nro = converter.toNonRotating(mjdDate, equinox[0], equinox[1]);
+                            nro = getConverter().toNonRotating(mjdDate, equinox[0], equinox[1]);
                         }
                         if (configuration == null || !configuration.isValid(mjd)) {
                             // get a configuration for current name and date range
-                            configuration = itrfVersionLoader.getConfiguration(name, mjd);
+                            configuration = getITRFVersionLoader().getConfiguration(name, mjd);
                         }
-                        history.add(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
-                                                 configuration.getVersion()));
+                        addEntry(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
+                                              configuration.getVersion(), getUTC()),
+                                 isNonRotatingOrigin);
                         line = mjd < mjdMax ? reader.readLine() : null;
                     } else {
                         line = reader.readLine();
@@ -46,6 +46,9 @@ class CIRFProvider implements EOPBasedTransformProvider {
     /** Serializable UID. */
     private static final long serialVersionUID = 20130806L;
 
+    /** Amplitude threshold below which CIP/CIO series terms are dropped. */
+    private final double threshold;
+
     /** Function computing CIP/CIO components. */
     private final transient TimeVectorFunction xysPxy2Function;
 
@@ -57,9 +60,21 @@ class CIRFProvider implements EOPBasedTransformProvider {
      * @see Frame
      */
     CIRFProvider(final EOPHistory eopHistory) {
+        this(eopHistory, 0.0);
+    }
+
+    /** Simple constructor.
+     * @param eopHistory EOP history
+     * @param threshold amplitude threshold (rad) below which CIP/CIO series
+     * terms are dropped (0.0 keeps all terms)
+     * @see org.orekit.utils.IERSConventions#getXYSpXY2Function(double)
+     * @since 10.0
+     */
+    CIRFProvider(final EOPHistory eopHistory, final double threshold) {
 
         // load the nutation model
-        xysPxy2Function = eopHistory.getConventions().getXYSpXY2Function();
+        this.threshold       = threshold;
+        this.xysPxy2Function = eopHistory.getConventions().getXYSpXY2Function(threshold);
 
         // store correction to the model
         this.eopHistory = eopHistory;
@@ -75,7 +90,7 @@ class CIRFProvider implements EOPBasedTransformProvider {
     /** {@inheritDoc} */
     @Override
     public CIRFProvider getNonInterpolatingProvider() {
-        return new CIRFProvider(eopHistory.getNonInterpolatingEOPHistory());
+        return new CIRFProvider(eopHistory.getNonInterpolatingEOPHistory(), threshold);
     }
 
     /** {@inheritDoc} */
@@ -155,7 +170,7 @@ class CIRFProvider implements EOPBasedTransformProvider {
      * @return data transfer object that will be serialized
      */
     private Object writeReplace() {
-        return new DataTransferObject(eopHistory);
+        return new DataTransferObject(eopHistory, threshold);
     }
 
     /** Internal class used only for serialization. */
@@ -167,11 +182,16 @@ class CIRFProvider implements EOPBasedTransformProvider {
         /** EOP history. */
         private final EOPHistory eopHistory;
 
+        /** Amplitude threshold below which CIP/CIO series terms are dropped. */
+        private final double threshold;
+
         /** Simple constructor.
          * @param eopHistory EOP history
+         * @param threshold amplitude threshold below which CIP/CIO series terms are dropped
          */
-        DataTransferObject(final EOPHistory eopHistory) {
+        DataTransferObject(final EOPHistory eopHistory, final double threshold) {
             this.eopHistory = eopHistory;
+            this.threshold  = threshold;
         }
 
         /** Replace the deserialized data transfer object with a {@link CIRFProvider}.
@@ -180,7 +200,7 @@ class CIRFProvider implements EOPBasedTransformProvider {
         private Object readResolve() {
             try {
                 // retrieve a managed frame
-                return new CIRFProvider(eopHistory);
+                return new CIRFProvider(eopHistory, threshold);
             } catch (OrekitException oe) {
                 throw new OrekitInternalError(oe);
             }
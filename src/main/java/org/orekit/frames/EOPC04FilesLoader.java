@@ -20,18 +20,18 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.SortedSet;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
@@ -143,32 +143,42 @@ class EOPC04FilesLoader implements EOPHistoryLoader {
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
+    /** Supplier for the UTC time scale. */
+    private final Supplier<TimeScale> utcSupplier;
+
     /** Build a loader for IERS EOP C04 files.
      * @param supportedNames regular expression for supported files names
      */
     EOPC04FilesLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance(), TimeScalesFactory::getUTC);
+    }
+
+    /** Build a loader for IERS EOP C04 files.
+     * @param supportedNames regular expression for supported files names
+     * @param manager manager providing the data
+     * @param utcSupplier supplier for the UTC time scale, called each time the history is filled
+     * @since 10.0
+     */
+    EOPC04FilesLoader(final String supportedNames, final DataProvidersManager manager,
+                      final Supplier<TimeScale> utcSupplier) {
         this.supportedNames = supportedNames;
+        this.manager        = manager;
+        this.utcSupplier    = utcSupplier;
     }
 
     /** {@inheritDoc} */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser(converter);
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
-        history.addAll(parser.history);
+        final Parser parser = new Parser(converter, manager, utcSupplier.get());
+        manager.feed(supportedNames, parser);
+        history.addAll(parser.getHistory());
     }
 
     /** Internal class performing the parsing. */
-    private static class Parser implements DataLoader {
-
-        /** Converter for nutation corrections. */
-        private final IERSConventions.NutationCorrectionConverter converter;
-
-        /** Configuration for ITRF versions. */
-        private final ITRFVersionLoader itrfVersionLoader;
-
-        /** History entries. */
-        private final List<EOPEntry> history;
+    private static class Parser extends AbstractEOPParser {
 
         /** Current line number. */
         private int lineNumber;
@@ -184,19 +194,32 @@ class EOPC04FilesLoader implements EOPHistoryLoader {
 
         /** Simple constructor.
          * @param converter converter to use
+         * @param manager manager providing the ITRF versions configuration
+         * @param utc UTC time scale
+         */
+        Parser(final IERSConventions.NutationCorrectionConverter converter,
+               final DataProvidersManager manager,
+               final TimeScale utc) {
+            this(converter, new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES, manager), utc);
+        }
+
+        /** Constructor sharing an already loaded ITRF versions configuration.
+         * @param converter converter to use
+         * @param itrfVersionLoader configuration for ITRF versions
+         * @param utc UTC time scale
          */
-        Parser(final IERSConventions.NutationCorrectionConverter converter) {
-            this.converter           = converter;
-            this.itrfVersionLoader   = new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES);
-            this.history             = new ArrayList<EOPEntry>();
+        private Parser(final IERSConventions.NutationCorrectionConverter converter,
+                       final ITRFVersionLoader itrfVersionLoader,
+                       final TimeScale utc) {
+            super(converter, itrfVersionLoader, utc);
             this.lineNumber          = 0;
             this.inHeader            = true;
             this.isNonRotatingOrigin = false;
         }
 
         /** {@inheritDoc} */
-        public boolean stillAcceptsData() {
-            return true;
+        public SnapshotDataLoader newLoader() {
+            return new Parser(getConverter(), getITRFVersionLoader(), getUTC());
         }
 
         /** {@inheritDoc} */
@@ -239,7 +262,7 @@ class EOPC04FilesLoader implements EOPHistoryLoader {
                         throw new OrekitException(OrekitMessages.INCONSISTENT_DATES_IN_IERS_FILE,
                                                   name, dc.getYear(), dc.getMonth(), dc.getDay(), mjd);
                     }
-                    final AbsoluteDate date = new AbsoluteDate(dc, TimeScalesFactory.getUTC());
+                    final AbsoluteDate date = new AbsoluteDate(dc, getUTC());
 
                     // the first six fields are consistent with the expected format
                     final double x     = Double.parseDouble(fields[POLE_X_FIELD]) * Constants.ARC_SECONDS_TO_RADIANS;
@@ -253,20 +276,21 @@ class EOPC04FilesLoader implements EOPHistoryLoader {
                             Double.parseDouble(fields[NUT_0_FIELD]) * Constants.ARC_SECONDS_TO_RADIANS,
                             Double.parseDouble(fields[NUT_1_FIELD]) * Constants.ARC_SECONDS_TO_RADIANS
                         };
-                        equinox = converter.toEquinox(date, nro[0], nro[1]);
+                        equinox = getConverter().toEquinox(date, nro[0], nro[1]);
                     } else {
                         equinox = new double[] {
                             Double.parseDouble(fields[NUT_0_FIELD]) * Constants.ARC_SECONDS_TO_RADIANS,
                             Double.parseDouble(fields[NUT_1_FIELD]) * Constants.ARC_SECONDS_TO_RADIANS
                         };
-                        nro = converter.toNonRotating(date, equinox[0], equinox[1]);
+                        nro = getConverter().toNonRotating(date, equinox[0], equinox[1]);
                     }
                     if (configuration == null || !configuration.isValid(mjd)) {
                         // get a configuration for current name and date range
-                        configuration = itrfVersionLoader.getConfiguration(name, mjd);
+                        configuration = getITRFVersionLoader().getConfiguration(name, mjd);
                     }
-                    history.add(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
-                                             configuration.getVersion()));
+                    addEntry(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
+                                          configuration.getVersion(), getUTC()),
+                             isNonRotatingOrigin);
                     parsed = true;
 
                 }
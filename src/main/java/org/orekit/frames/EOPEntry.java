@@ -19,6 +19,7 @@ package org.orekit.frames;
 import java.io.Serializable;
 
 import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.time.TimeStamped;
 
@@ -80,9 +81,31 @@ public class EOPEntry implements TimeStamped, Serializable {
                     final double ddPsi, final double ddEps,
                     final double dx, final double dy,
                     final ITRFVersion itrfType) {
+        this(mjd, dt, lod, x, y, ddPsi, ddEps, dx, dy, itrfType, TimeScalesFactory.getUTC());
+    }
+
+    /** Simple constructor.
+     * @param mjd entry date (modified Julian day, 00h00 UTC scale)
+     * @param dt UT1-UTC in seconds
+     * @param lod length of day
+     * @param x X component of pole motion
+     * @param y Y component of pole motion
+     * @param ddPsi correction for nutation in longitude δΔΨ
+     * @param ddEps correction for nutation in obliquity δΔε
+     * @param dx correction for Celestial Intermediate Pole (CIP) coordinates
+     * @param dy correction for Celestial Intermediate Pole (CIP) coordinates
+     * @param itrfType ITRF version this entry defines
+     * @param utc UTC time scale used to compute the entry date
+     * @since 10.0
+     */
+    public EOPEntry(final int mjd, final double dt, final double lod,
+                    final double x, final double y,
+                    final double ddPsi, final double ddEps,
+                    final double dx, final double dy,
+                    final ITRFVersion itrfType, final TimeScale utc) {
 
         this.mjd      = mjd;
-        this.date     = AbsoluteDate.createMJDDate(mjd, 0.0, TimeScalesFactory.getUTC());
+        this.date     = AbsoluteDate.createMJDDate(mjd, 0.0, utc);
         this.dt       = dt;
         this.lod      = lod;
         this.x        = x;
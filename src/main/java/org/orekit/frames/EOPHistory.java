@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -28,6 +29,7 @@ import java.util.stream.Stream;
 import org.hipparchus.RealFieldElement;
 import org.hipparchus.analysis.interpolation.FieldHermiteInterpolator;
 import org.hipparchus.analysis.interpolation.HermiteInterpolator;
+import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitInternalError;
@@ -43,6 +45,7 @@ import org.orekit.utils.IERSConventions;
 import org.orekit.utils.ImmutableTimeStampedCache;
 import org.orekit.utils.OrekitConfiguration;
 import org.orekit.utils.TimeStampedCache;
+import org.orekit.utils.TimeStampedCachesRegistry;
 import org.orekit.utils.TimeStampedGenerator;
 
 /** This class loads any kind of Earth Orientation Parameter data throughout a large time range.
@@ -56,15 +59,8 @@ public class EOPHistory implements Serializable {
     /** Number of points to use in interpolation. */
     private static final int INTERPOLATION_POINTS = 4;
 
-    /**
-     * If this history has any EOP data.
-     *
-     * @see #hasDataFor(AbsoluteDate)
-     */
-    private final boolean hasData;
-
-    /** EOP history entries. */
-    private final transient ImmutableTimeStampedCache<EOPEntry> cache;
+    /** Current EOP history entries. */
+    private transient volatile Content content;
 
     /** IERS conventions to which EOP refers. */
     private final IERSConventions conventions;
@@ -72,6 +68,9 @@ public class EOPHistory implements Serializable {
     /** Correction to apply to EOP (may be null). */
     private final transient TimeVectorFunction tidalCorrection;
 
+    /** Loaders used to load the entries (null if unknown). */
+    private final transient List<EOPHistoryLoader> loaders;
+
     /** Simple constructor.
      * @param conventions IERS conventions to which EOP refers
      * @param data the EOP data to use
@@ -80,35 +79,84 @@ public class EOPHistory implements Serializable {
     protected EOPHistory(final IERSConventions conventions,
                          final Collection<EOPEntry> data,
                          final boolean simpleEOP) {
-        this(conventions, data, simpleEOP ? null : new CachedCorrection(conventions.getEOPTidalCorrection()));
+        this(conventions, data, simpleEOP, null);
+    }
+
+    /** Constructor for histories that can be reloaded.
+     * @param conventions IERS conventions to which EOP refers
+     * @param data the EOP data to use
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param loaders loaders used to load the entries (null if unknown)
+     * @see FramesFactory#reloadEOPHistory(EOPHistory)
+     * @since 10.0
+     */
+    EOPHistory(final IERSConventions conventions,
+               final Collection<EOPEntry> data,
+               final boolean simpleEOP,
+               final List<EOPHistoryLoader> loaders) {
+        this(conventions, data,
+             simpleEOP ? null : new CachedCorrection(conventions.getEOPTidalCorrection()),
+             loaders);
     }
 
     /** Simple constructor.
      * @param conventions IERS conventions to which EOP refers
      * @param data the EOP data to use
      * @param tidalCorrection correction to apply to EOP
+     * @param loaders loaders used to load the entries (null if unknown)
      */
     private EOPHistory(final IERSConventions conventions,
                          final Collection<EOPEntry> data,
-                         final TimeVectorFunction tidalCorrection) {
+                         final TimeVectorFunction tidalCorrection,
+                         final List<EOPHistoryLoader> loaders) {
         this.conventions      = conventions;
         this.tidalCorrection  = tidalCorrection;
-        if (data.size() >= INTERPOLATION_POINTS) {
-            // enough data to interpolate
-            cache = new ImmutableTimeStampedCache<EOPEntry>(INTERPOLATION_POINTS, data);
-            hasData = true;
-        } else {
-            // not enough data to interpolate -> always use null correction
-            cache = ImmutableTimeStampedCache.emptyCache();
-            hasData = false;
-        }
+        this.loaders          = loaders;
+        this.content          = new Content(data);
+    }
+
+    /** Replace the EOP entries by the entries of another history.
+     * <p>
+     * The new entries are swapped in atomically: concurrent calls to the
+     * other methods see either the former entries or the new ones, never
+     * a mix of both, and they are never blocked. The conventions and tidal
+     * correction settings of the instance are preserved.
+     * </p>
+     * @param source history providing the new entries
+     * @see FramesFactory#reloadEOPHistory(EOPHistory)
+     * @since 10.0
+     */
+    void setEntries(final EOPHistory source) {
+        this.content = source.content;
+    }
+
+    /** Get the loaders used to load the entries.
+     * @return loaders used to load the entries (null if unknown)
+     * @since 10.0
+     */
+    List<EOPHistoryLoader> getLoaders() {
+        return loaders;
+    }
+
+    /** Get the generation of the EOP entries.
+     * <p>
+     * The generation changes each time the entries are replaced, for example
+     * when the history is {@link FramesFactory#reloadEOPHistory(EOPHistory)
+     * reloaded}. Providers that cache values computed from the history can
+     * compare it with the generation they used to detect their caches are stale.
+     * </p>
+     * @return generation of the EOP entries
+     * @since 10.0
+     */
+    public long getGeneration() {
+        return content.generation;
     }
 
     /** Get non-interpolating version of the instance.
      * @return non-interpolatig version of the instance
      */
     public EOPHistory getNonInterpolatingEOPHistory() {
-        return new EOPHistory(conventions, getEntries(), conventions.getEOPTidalCorrection());
+        return new EOPHistory(conventions, getEntries(), conventions.getEOPTidalCorrection(), loaders);
     }
 
     /** Check if the instance uses interpolation on tidal corrections.
@@ -129,14 +177,14 @@ public class EOPHistory implements Serializable {
      * @return the start date of the available data
      */
     public AbsoluteDate getStartDate() {
-        return this.cache.getEarliest().getDate();
+        return content.cache.getEarliest().getDate();
     }
 
     /** Get the date of the last available Earth Orientation Parameters.
      * @return the end date of the available data
      */
     public AbsoluteDate getEndDate() {
-        return this.cache.getLatest().getDate();
+        return content.cache.getLatest().getDate();
     }
 
     /** Get the UT1-UTC value.
@@ -147,16 +195,22 @@ public class EOPHistory implements Serializable {
     public double getUT1MinusUTC(final AbsoluteDate date) {
 
         //check if there is data for date
-        if (!this.hasDataFor(date)) {
+        final Content c = content;
+        if (!c.covers(date)) {
             // no EOP data available for this date, we use a default 0.0 offset
             return (tidalCorrection == null) ? 0.0 : tidalCorrection.value(date)[2];
         }
 
         // we have EOP data -> interpolate offset
         try {
-            final DUT1Interpolator interpolator = new DUT1Interpolator(date);
-            getNeighbors(date).forEach(interpolator);
-            double interpolated = interpolator.getInterpolated();
+            double interpolated;
+            if (c.indexed == null) {
+                final DUT1Interpolator interpolator = new DUT1Interpolator(date);
+                c.cache.getNeighbors(date).forEach(interpolator);
+                interpolated = interpolator.getInterpolated();
+            } else {
+                interpolated = c.indexed.interpolateDUT1(date);
+            }
             if (tidalCorrection != null) {
                 interpolated += tidalCorrection.value(date)[2];
             }
@@ -179,7 +233,8 @@ public class EOPHistory implements Serializable {
 
         //check if there is data for date
         final AbsoluteDate absDate = date.toAbsoluteDate();
-        if (!this.hasDataFor(absDate)) {
+        final Content c = content;
+        if (!c.covers(absDate)) {
             // no EOP data available for this date, we use a default 0.0 offset
             return (tidalCorrection == null) ? date.getField().getZero() : tidalCorrection.value(date)[2];
         }
@@ -187,7 +242,7 @@ public class EOPHistory implements Serializable {
         // we have EOP data -> interpolate offset
         try {
             final FieldDUT1Interpolator<T> interpolator = new FieldDUT1Interpolator<>(date, absDate);
-            getNeighbors(absDate).forEach(interpolator);
+            c.cache.getNeighbors(absDate).forEach(interpolator);
             T interpolated = interpolator.getInterpolated();
             if (tidalCorrection != null) {
                 interpolated = interpolated.add(tidalCorrection.value(date)[2]);
@@ -329,7 +384,7 @@ public class EOPHistory implements Serializable {
      * @return array of cached entries surrounding specified date
      */
     protected Stream<EOPEntry> getNeighbors(final AbsoluteDate central) {
-        return cache.getNeighbors(central);
+        return content.cache.getNeighbors(central);
     }
 
     /** Get the LoD (Length of Day) value.
@@ -340,13 +395,16 @@ public class EOPHistory implements Serializable {
     public double getLOD(final AbsoluteDate date) {
 
         // check if there is data for date
-        if (!this.hasDataFor(date)) {
+        final Content c = content;
+        if (!c.covers(date)) {
             // no EOP data available for this date, we use a default null correction
             return (tidalCorrection == null) ? 0.0 : tidalCorrection.value(date)[3];
         }
 
         // we have EOP data for date -> interpolate correction
-        double interpolated = interpolate(date, entry -> entry.getLOD());
+        double interpolated = c.indexed == null ?
+                              interpolate(c, date, entry -> entry.getLOD()) :
+                              c.indexed.interpolate(date, c.indexed.lod);
         if (tidalCorrection != null) {
             interpolated += tidalCorrection.value(date)[3];
         }
@@ -366,13 +424,14 @@ public class EOPHistory implements Serializable {
         final AbsoluteDate aDate = date.toAbsoluteDate();
 
         // check if there is data for date
-        if (!this.hasDataFor(aDate)) {
+        final Content c = content;
+        if (!c.covers(aDate)) {
             // no EOP data available for this date, we use a default null correction
             return (tidalCorrection == null) ? date.getField().getZero() : tidalCorrection.value(date)[3];
         }
 
         // we have EOP data for date -> interpolate correction
-        T interpolated = interpolate(date, aDate, entry -> entry.getLOD());
+        T interpolated = interpolate(c, date, aDate, entry -> entry.getLOD());
         if (tidalCorrection != null) {
             interpolated = interpolated.add(tidalCorrection.value(date)[3]);
         }
@@ -390,7 +449,8 @@ public class EOPHistory implements Serializable {
     public PoleCorrection getPoleCorrection(final AbsoluteDate date) {
 
         // check if there is data for date
-        if (!this.hasDataFor(date)) {
+        final Content c = content;
+        if (!c.covers(date)) {
             // no EOP data available for this date, we use a default null correction
             if (tidalCorrection == null) {
                 return PoleCorrection.NULL_CORRECTION;
@@ -401,13 +461,23 @@ public class EOPHistory implements Serializable {
         }
 
         // we have EOP data for date -> interpolate correction
-        final double[] interpolated = interpolate(date, entry -> entry.getX(), entry -> entry.getY());
+        double xp;
+        double yp;
+        if (c.indexed == null) {
+            final double[] interpolated = interpolate(c, date, entry -> entry.getX(), entry -> entry.getY());
+            xp = interpolated[0];
+            yp = interpolated[1];
+        } else {
+            final int s = c.indexed.start(date);
+            xp = c.indexed.interpolate(date, s, c.indexed.x);
+            yp = c.indexed.interpolate(date, s, c.indexed.y);
+        }
         if (tidalCorrection != null) {
             final double[] correction = tidalCorrection.value(date);
-            interpolated[0] += correction[0];
-            interpolated[1] += correction[1];
+            xp += correction[0];
+            yp += correction[1];
         }
-        return new PoleCorrection(interpolated[0], interpolated[1]);
+        return new PoleCorrection(xp, yp);
 
     }
 
@@ -423,7 +493,8 @@ public class EOPHistory implements Serializable {
         final AbsoluteDate aDate = date.toAbsoluteDate();
 
         // check if there is data for date
-        if (!this.hasDataFor(aDate)) {
+        final Content c = content;
+        if (!c.covers(aDate)) {
             // no EOP data available for this date, we use a default null correction
             if (tidalCorrection == null) {
                 return new FieldPoleCorrection<>(date.getField().getZero(), date.getField().getZero());
@@ -434,7 +505,7 @@ public class EOPHistory implements Serializable {
         }
 
         // we have EOP data for date -> interpolate correction
-        final T[] interpolated = interpolate(date, aDate, entry -> entry.getX(), entry -> entry.getY());
+        final T[] interpolated = interpolate(c, date, aDate, entry -> entry.getX(), entry -> entry.getY());
         if (tidalCorrection != null) {
             final T[] correction = tidalCorrection.value(date);
             interpolated[0] = interpolated[0].add(correction[0]);
@@ -453,13 +524,20 @@ public class EOPHistory implements Serializable {
     public double[] getEquinoxNutationCorrection(final AbsoluteDate date) {
 
         // check if there is data for date
-        if (!this.hasDataFor(date)) {
+        final Content c = content;
+        if (!c.covers(date)) {
             // no EOP data available for this date, we use a default null correction
             return new double[2];
         }
 
         // we have EOP data for date -> interpolate correction
-        return interpolate(date, entry -> entry.getDdPsi(), entry -> entry.getDdEps());
+        if (c.indexed == null) {
+            return interpolate(c, date, entry -> entry.getDdPsi(), entry -> entry.getDdEps());
+        } else {
+            final double[] interpolated = new double[2];
+            c.indexed.interpolate(date, c.indexed.ddPsi, c.indexed.ddEps, interpolated);
+            return interpolated;
+        }
 
     }
 
@@ -475,13 +553,14 @@ public class EOPHistory implements Serializable {
         final AbsoluteDate aDate = date.toAbsoluteDate();
 
         // check if there is data for date
-        if (!this.hasDataFor(aDate)) {
+        final Content c = content;
+        if (!c.covers(aDate)) {
             // no EOP data available for this date, we use a default null correction
             return MathArrays.buildArray(date.getField(), 2);
         }
 
         // we have EOP data for date -> interpolate correction
-        return interpolate(date, aDate, entry -> entry.getDdPsi(), entry -> entry.getDdEps());
+        return interpolate(c, date, aDate, entry -> entry.getDdPsi(), entry -> entry.getDdEps());
 
     }
 
@@ -494,13 +573,20 @@ public class EOPHistory implements Serializable {
     public double[] getNonRotatinOriginNutationCorrection(final AbsoluteDate date) {
 
         // check if there is data for date
-        if (!this.hasDataFor(date)) {
+        final Content c = content;
+        if (!c.covers(date)) {
             // no EOP data available for this date, we use a default null correction
             return new double[2];
         }
 
         // we have EOP data for date -> interpolate correction
-        return interpolate(date, entry -> entry.getDx(), entry -> entry.getDy());
+        if (c.indexed == null) {
+            return interpolate(c, date, entry -> entry.getDx(), entry -> entry.getDy());
+        } else {
+            final double[] interpolated = new double[2];
+            c.indexed.interpolate(date, c.indexed.dx, c.indexed.dy, interpolated);
+            return interpolated;
+        }
 
     }
 
@@ -516,13 +602,14 @@ public class EOPHistory implements Serializable {
         final AbsoluteDate aDate = date.toAbsoluteDate();
 
         // check if there is data for date
-        if (!this.hasDataFor(aDate)) {
+        final Content c = content;
+        if (!c.covers(aDate)) {
             // no EOP data available for this date, we use a default null correction
             return MathArrays.buildArray(date.getField(), 2);
         }
 
         // we have EOP data for date -> interpolate correction
-        return interpolate(date, aDate, entry -> entry.getDx(), entry -> entry.getDy());
+        return interpolate(c, date, aDate, entry -> entry.getDx(), entry -> entry.getDy());
 
     }
 
@@ -534,14 +621,20 @@ public class EOPHistory implements Serializable {
     public ITRFVersion getITRFVersion(final AbsoluteDate date) {
 
         // check if there is data for date
-        if (!this.hasDataFor(date)) {
+        final Content c = content;
+        if (!c.covers(date)) {
             // no EOP data available for this date, we use a default ITRF 2014
             return ITRFVersion.ITRF_2014;
         }
 
+        if (c.indexed != null) {
+            // we have EOP data for date, with direct access
+            return c.indexed.entries[c.indexed.start(date)].getITRFType();
+        }
+
         try {
             // we have EOP data for date
-            final Optional<EOPEntry> first = getNeighbors(date).findFirst();
+            final Optional<EOPEntry> first = c.cache.getNeighbors(date).findFirst();
             return first.isPresent() ? first.get().getITRFType() : ITRFVersion.ITRF_2014;
 
         } catch (TimeStampedCacheException tce) {
@@ -556,7 +649,7 @@ public class EOPHistory implements Serializable {
      */
     public void checkEOPContinuity(final double maxGap) {
         TimeStamped preceding = null;
-        for (final TimeStamped current : this.cache.getAll()) {
+        for (final TimeStamped current : getEntries()) {
 
             // compare the dates of preceding and current entries
             if ((preceding != null) && ((current.getDate().durationFrom(preceding.getDate())) > maxGap)) {
@@ -575,37 +668,33 @@ public class EOPHistory implements Serializable {
      * {@link #getStartDate()} and {@link #getEndDate()}.
      *
      * @param date the requested date
-     * @return true if the {@link #cache} has data for the requested date, false
+     * @return true if the cache has data for the requested date, false
      *         otherwise.
      */
     protected boolean hasDataFor(final AbsoluteDate date) {
-        /*
-         * when there is no EOP data, short circuit getStartDate, which will
-         * throw an exception
-         */
-        return this.hasData && this.getStartDate().compareTo(date) <= 0 &&
-               date.compareTo(this.getEndDate()) <= 0;
+        return content.covers(date);
     }
 
     /** Get a non-modifiable view of the EOP entries.
      * @return non-modifiable view of the EOP entries
      */
     public List<EOPEntry> getEntries() {
-        return cache.getAll();
+        return content.cache.getAll();
     }
 
     /** Interpolate a single EOP component.
      * <p>
-     * This method should be called <em>only</em> when {@link #hasDataFor(AbsoluteDate)} returns true.
+     * This method should be called <em>only</em> when {@link Content#covers(AbsoluteDate)} returns true.
      * </p>
+     * @param c EOP entries to use
      * @param date interpolation date
      * @param selector selector for EOP entry component
      * @return interpolated value
      */
-    private double interpolate(final AbsoluteDate date, final Function<EOPEntry, Double> selector) {
+    private double interpolate(final Content c, final AbsoluteDate date, final Function<EOPEntry, Double> selector) {
         try {
             final HermiteInterpolator interpolator = new HermiteInterpolator();
-            getNeighbors(date).forEach(entry ->
+            c.cache.getNeighbors(date).forEach(entry ->
                                        interpolator.addSamplePoint(entry.getDate().durationFrom(date),
                                                                    new double[] {
                                                                        selector.apply(entry)
@@ -619,15 +708,17 @@ public class EOPHistory implements Serializable {
 
     /** Interpolate a single EOP component.
      * <p>
-     * This method should be called <em>only</em> when {@link #hasDataFor(AbsoluteDate)} returns true.
+     * This method should be called <em>only</em> when {@link Content#covers(AbsoluteDate)} returns true.
      * </p>
+     * @param c EOP entries to use
      * @param date interpolation date
      * @param aDate interpolation date, as an {@link AbsoluteDate}
      * @param selector selector for EOP entry component
      * @param <T> type of the field elements
      * @return interpolated value
      */
-    private <T extends RealFieldElement<T>> T interpolate(final FieldAbsoluteDate<T> date,
+    private <T extends RealFieldElement<T>> T interpolate(final Content c,
+                                                          final FieldAbsoluteDate<T> date,
                                                           final AbsoluteDate aDate,
                                                           final Function<EOPEntry, Double> selector) {
         try {
@@ -637,7 +728,7 @@ public class EOPHistory implements Serializable {
             final FieldAbsoluteDate<T> central = new FieldAbsoluteDate<>(aDate, zero); // here, we attempt to get a constant date,
                                                                                        // for example removing derivatives
                                                                                        // if T was DerivativeStructure
-            getNeighbors(aDate).forEach(entry -> {
+            c.cache.getNeighbors(aDate).forEach(entry -> {
                 y[0] = zero.add(selector.apply(entry));
                 interpolator.addSamplePoint(central.durationFrom(entry.getDate()).negate(), y);
             });
@@ -650,19 +741,21 @@ public class EOPHistory implements Serializable {
 
     /** Interpolate two EOP components.
      * <p>
-     * This method should be called <em>only</em> when {@link #hasDataFor(AbsoluteDate)} returns true.
+     * This method should be called <em>only</em> when {@link Content#covers(AbsoluteDate)} returns true.
      * </p>
+     * @param c EOP entries to use
      * @param date interpolation date
      * @param selector1 selector for first EOP entry component
      * @param selector2 selector for second EOP entry component
      * @return interpolated value
      */
-    private double[] interpolate(final AbsoluteDate date,
+    private double[] interpolate(final Content c,
+                                 final AbsoluteDate date,
                                  final Function<EOPEntry, Double> selector1,
                                  final Function<EOPEntry, Double> selector2) {
         try {
             final HermiteInterpolator interpolator = new HermiteInterpolator();
-            getNeighbors(date).forEach(entry ->
+            c.cache.getNeighbors(date).forEach(entry ->
                                        interpolator.addSamplePoint(entry.getDate().durationFrom(date),
                                                                    new double[] {
                                                                        selector1.apply(entry),
@@ -677,8 +770,9 @@ public class EOPHistory implements Serializable {
 
     /** Interpolate two EOP components.
      * <p>
-     * This method should be called <em>only</em> when {@link #hasDataFor(AbsoluteDate)} returns true.
+     * This method should be called <em>only</em> when {@link Content#covers(AbsoluteDate)} returns true.
      * </p>
+     * @param c EOP entries to use
      * @param date interpolation date
      * @param aDate interpolation date, as an {@link AbsoluteDate}
      * @param selector1 selector for first EOP entry component
@@ -686,7 +780,8 @@ public class EOPHistory implements Serializable {
      * @param <T> type of the field elements
      * @return interpolated value
      */
-    private <T extends RealFieldElement<T>> T[] interpolate(final FieldAbsoluteDate<T> date,
+    private <T extends RealFieldElement<T>> T[] interpolate(final Content c,
+                                                            final FieldAbsoluteDate<T> date,
                                                             final AbsoluteDate aDate,
                                                             final Function<EOPEntry, Double> selector1,
                                                             final Function<EOPEntry, Double> selector2) {
@@ -697,7 +792,7 @@ public class EOPHistory implements Serializable {
             final FieldAbsoluteDate<T> central = new FieldAbsoluteDate<>(aDate, zero); // here, we attempt to get a constant date,
                                                                                        // for example removing derivatives
                                                                                        // if T was DerivativeStructure
-            getNeighbors(aDate).forEach(entry -> {
+            c.cache.getNeighbors(aDate).forEach(entry -> {
                 y[0] = zero.add(selector1.apply(entry));
                 y[1] = zero.add(selector2.apply(entry));
                 interpolator.addSamplePoint(central.durationFrom(entry.getDate()).negate(), y);
@@ -761,6 +856,269 @@ public class EOPHistory implements Serializable {
 
     }
 
+    /** Immutable set of EOP entries, swapped as a whole when entries are replaced.
+     * @since 10.0
+     */
+    private static class Content {
+
+        /** Counter for generations. */
+        private static final AtomicLong GENERATIONS = new AtomicLong();
+
+        /** Generation of the entries. */
+        private final long generation;
+
+        /** Indicator for history having any EOP data. */
+        private final boolean hasData;
+
+        /** EOP history entries. */
+        private final ImmutableTimeStampedCache<EOPEntry> cache;
+
+        /** Direct access view of EOP entries (null if entries are not on a regular daily grid). */
+        private final IndexedEntries indexed;
+
+        /** Simple constructor.
+         * @param data the EOP data to use
+         */
+        Content(final Collection<EOPEntry> data) {
+            generation = GENERATIONS.incrementAndGet();
+            if (data.size() >= INTERPOLATION_POINTS) {
+                // enough data to interpolate
+                cache   = new ImmutableTimeStampedCache<EOPEntry>(INTERPOLATION_POINTS, data);
+                hasData = true;
+                indexed = IndexedEntries.build(cache.getAll());
+            } else {
+                // not enough data to interpolate -> always use null correction
+                cache   = ImmutableTimeStampedCache.emptyCache();
+                hasData = false;
+                indexed = null;
+            }
+        }
+
+        /** Check if the entries cover a date.
+         * @param date the requested date
+         * @return true if the entries cover the requested date
+         */
+        boolean covers(final AbsoluteDate date) {
+            // when there is no EOP data, short circuit the cache, which would throw an exception
+            return hasData &&
+                   cache.getEarliest().getDate().compareTo(date) <= 0 &&
+                   date.compareTo(cache.getLatest().getDate()) <= 0;
+        }
+
+    }
+
+    /** Direct access view of EOP entries lying on a regular daily grid.
+     * <p>
+     * As entries are one day apart, the interpolation neighbors can be found
+     * by indexing instead of searching, and all components are stored in
+     * primitive arrays. Interpolation is performed without building any
+     * intermediate objects, but uses exactly the same Newton divided differences
+     * scheme as {@link HermiteInterpolator} on the same neighbors, so results
+     * are identical to the ones computed from the general cache.
+     * </p>
+     * @since 10.0
+     */
+    private static class IndexedEntries {
+
+        /** EOP entries. */
+        private final EOPEntry[] entries;
+
+        /** UT1-UTC. */
+        private final double[] dut1;
+
+        /** Length of day. */
+        private final double[] lod;
+
+        /** X component of pole motion. */
+        private final double[] x;
+
+        /** Y component of pole motion. */
+        private final double[] y;
+
+        /** Correction for nutation in longitude. */
+        private final double[] ddPsi;
+
+        /** Correction for nutation in obliquity. */
+        private final double[] ddEps;
+
+        /** Correction for nutation in Celestial Intermediate Pole (CIP) coordinates. */
+        private final double[] dx;
+
+        /** Correction for nutation in Celestial Intermediate Pole (CIP) coordinates. */
+        private final double[] dy;
+
+        /** Simple constructor.
+         * @param entries EOP entries, on a regular daily grid
+         */
+        private IndexedEntries(final List<EOPEntry> entries) {
+            final int n  = entries.size();
+            this.entries = entries.toArray(new EOPEntry[n]);
+            this.dut1    = new double[n];
+            this.lod     = new double[n];
+            this.x       = new double[n];
+            this.y       = new double[n];
+            this.ddPsi   = new double[n];
+            this.ddEps   = new double[n];
+            this.dx      = new double[n];
+            this.dy      = new double[n];
+            for (int i = 0; i < n; ++i) {
+                final EOPEntry entry = this.entries[i];
+                dut1[i]  = entry.getUT1MinusUTC();
+                lod[i]   = entry.getLOD();
+                x[i]     = entry.getX();
+                y[i]     = entry.getY();
+                ddPsi[i] = entry.getDdPsi();
+                ddEps[i] = entry.getDdEps();
+                dx[i]    = entry.getDx();
+                dy[i]    = entry.getDy();
+            }
+        }
+
+        /** Build a direct access view of EOP entries.
+         * @param entries chronologically sorted EOP entries
+         * @return direct access view, or null if entries are not on a regular daily grid
+         */
+        static IndexedEntries build(final List<EOPEntry> entries) {
+            for (int i = 1; i < entries.size(); ++i) {
+                if (entries.get(i).getMjd() != entries.get(i - 1).getMjd() + 1) {
+                    // there are gaps or duplicates, we cannot use direct access
+                    return null;
+                }
+            }
+            return new IndexedEntries(entries);
+        }
+
+        /** Get the index of the first interpolation neighbor.
+         * <p>
+         * The neighbors selected are the same as the ones {@link ImmutableTimeStampedCache}
+         * would return.
+         * </p>
+         * @param date interpolation date (must be within the covered range)
+         * @return index of the first interpolation neighbor
+         */
+        int start(final AbsoluteDate date) {
+
+            // direct index, which may be off by one near leap seconds or range boundaries
+            final int n = entries.length;
+            int i = (int) FastMath.floor(date.durationFrom(entries[0].getDate()) / Constants.JULIAN_DAY);
+            i = FastMath.max(0, FastMath.min(n - 1, i));
+            while (i > 0 && entries[i].getDate().compareTo(date) > 0) {
+                --i;
+            }
+            while (i < n - 1 && entries[i + 1].getDate().compareTo(date) <= 0) {
+                ++i;
+            }
+
+            // force unbalanced range if necessary
+            final int end = FastMath.min(n, FastMath.max(0, i - (INTERPOLATION_POINTS - 1) / 2) + INTERPOLATION_POINTS);
+            return end - INTERPOLATION_POINTS;
+
+        }
+
+        /** Interpolate UT1-UTC, crossing leaps safely.
+         * @param date interpolation date (must be within the covered range)
+         * @return interpolated UT1-UTC
+         */
+        double interpolateDUT1(final AbsoluteDate date) {
+
+            final int s = start(date);
+
+            // remove leap seconds occurring within the interpolation sample
+            boolean beforeLeap = true;
+            final double y0 = dut1[s];
+            double y1 = dut1[s + 1];
+            if (y1 - y0 > 0.9) {
+                y1 -= 1.0;
+                beforeLeap = beforeLeap && entries[s + 1].getDate().compareTo(date) > 0;
+            }
+            double y2 = dut1[s + 2];
+            if (y2 - y0 > 0.9) {
+                y2 -= 1.0;
+                beforeLeap = beforeLeap && entries[s + 2].getDate().compareTo(date) > 0;
+            }
+            double y3 = dut1[s + 3];
+            if (y3 - y0 > 0.9) {
+                y3 -= 1.0;
+                beforeLeap = beforeLeap && entries[s + 3].getDate().compareTo(date) > 0;
+            }
+
+            final double interpolated = newton(date, s, y0, y1, y2, y3);
+            return beforeLeap ? interpolated : interpolated + 1.0;
+
+        }
+
+        /** Interpolate one EOP component.
+         * @param date interpolation date (must be within the covered range)
+         * @param component component values
+         * @return interpolated value
+         */
+        double interpolate(final AbsoluteDate date, final double[] component) {
+            return interpolate(date, start(date), component);
+        }
+
+        /** Interpolate one EOP component.
+         * @param date interpolation date (must be within the covered range)
+         * @param s index of the first interpolation neighbor, as returned by {@link #start(AbsoluteDate)}
+         * @param component component values
+         * @return interpolated value
+         */
+        double interpolate(final AbsoluteDate date, final int s, final double[] component) {
+            return newton(date, s, component[s], component[s + 1], component[s + 2], component[s + 3]);
+        }
+
+        /** Interpolate two EOP components.
+         * @param date interpolation date (must be within the covered range)
+         * @param component1 first component values
+         * @param component2 second component values
+         * @param interpolated placeholder where to put the interpolated values
+         * (provided by caller so no array is allocated here)
+         */
+        void interpolate(final AbsoluteDate date, final double[] component1, final double[] component2,
+                         final double[] interpolated) {
+            final int s = start(date);
+            interpolated[0] = interpolate(date, s, component1);
+            interpolated[1] = interpolate(date, s, component2);
+        }
+
+        /** Evaluate a Newton interpolation polynomial.
+         * <p>
+         * The operations are performed in the same order as in {@link HermiteInterpolator}.
+         * </p>
+         * @param date interpolation date
+         * @param s index of the first interpolation neighbor
+         * @param y0 value at first neighbor
+         * @param y1 value at second neighbor
+         * @param y2 value at third neighbor
+         * @param y3 value at fourth neighbor
+         * @return interpolated value
+         */
+        private double newton(final AbsoluteDate date, final int s,
+                              final double y0, final double y1, final double y2, final double y3) {
+
+            // abscissae, relative to interpolation date
+            final double x0 = entries[s].getDate().durationFrom(date);
+            final double x1 = entries[s + 1].getDate().durationFrom(date);
+            final double x2 = entries[s + 2].getDate().durationFrom(date);
+            final double x3 = entries[s + 3].getDate().durationFrom(date);
+
+            // divided differences
+            final double f01   = (1.0 / (x1 - x0)) * (y1 - y0);
+            final double f12   = (1.0 / (x2 - x1)) * (y2 - y1);
+            final double f012  = (1.0 / (x2 - x0)) * (f12 - f01);
+            final double f23   = (1.0 / (x3 - x2)) * (y3 - y2);
+            final double f123  = (1.0 / (x3 - x1)) * (f23 - f12);
+            final double f0123 = (1.0 / (x3 - x0)) * (f123 - f012);
+
+            // polynomial evaluation at interpolation date
+            final double c1 = -x0;
+            final double c2 = c1 * -x1;
+            final double c3 = c2 * -x2;
+            return y0 + f01 * c1 + f012 * c2 + f0123 * c3;
+
+        }
+
+    }
+
     /** Internal class for caching tidal correction. */
     private static class TidalCorrectionEntry implements TimeStamped {
 
@@ -807,11 +1165,12 @@ public class EOPHistory implements Serializable {
             this.step            = 60 * 60;
             this.tidalCorrection = tidalCorrection;
             this.cache           =
-                new GenericTimeStampedCache<TidalCorrectionEntry>(8,
-                                                                  OrekitConfiguration.getCacheSlotsNumber(),
-                                                                  Constants.JULIAN_DAY * 30,
-                                                                  Constants.JULIAN_DAY,
-                                                                  this);
+                TimeStampedCachesRegistry.register("EOPHistory(tidal correction)",
+                                                   new GenericTimeStampedCache<TidalCorrectionEntry>(8,
+                                                                                                     OrekitConfiguration.getCacheSlotsNumber(),
+                                                                                                     Constants.JULIAN_DAY * 30,
+                                                                                                     Constants.JULIAN_DAY,
+                                                                                                     this));
         }
 
         /** {@inheritDoc} */
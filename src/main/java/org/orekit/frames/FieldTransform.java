@@ -24,12 +24,14 @@ import java.util.stream.Stream;
 
 import org.hipparchus.Field;
 import org.hipparchus.RealFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldLine;
 import org.hipparchus.geometry.euclidean.threed.FieldRotation;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Line;
 import org.hipparchus.geometry.euclidean.threed.RotationConvention;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.time.TimeShiftable;
@@ -595,6 +597,84 @@ public class FieldTransform<T extends RealFieldElement<T>>
         return angular.getRotation().applyTo(vector);
     }
 
+    /** Transform positions stored in structure-of-arrays buffers (including translation effects).
+     * <p>
+     * The rotation matrix is computed only once, so this method is well suited
+     * to transform large sets of points sharing the same transform. The buffers
+     * are updated in place.
+     * </p>
+     * @param x abscissas of the positions to transform (will be overwritten)
+     * @param y ordinates of the positions to transform (will be overwritten)
+     * @param z heights of the positions to transform (will be overwritten)
+     * @see #transformPosition(FieldVector3D)
+     * @since 10.0
+     */
+    public void transformPositions(final T[] x, final T[] y, final T[] z) {
+
+        checkLengths(x, y, z);
+
+        final T[][] m = angular.getRotation().getMatrix();
+        final FieldVector3D<T> t = cartesian.getPosition();
+        final T tx = t.getX();
+        final T ty = t.getY();
+        final T tz = t.getZ();
+
+        for (int i = 0; i < x.length; ++i) {
+            final T px = x[i].add(tx);
+            final T py = y[i].add(ty);
+            final T pz = z[i].add(tz);
+            x[i] = px.linearCombination(m[0][0], px, m[0][1], py, m[0][2], pz);
+            y[i] = px.linearCombination(m[1][0], px, m[1][1], py, m[1][2], pz);
+            z[i] = px.linearCombination(m[2][0], px, m[2][1], py, m[2][2], pz);
+        }
+
+    }
+
+    /** Transform vectors stored in structure-of-arrays buffers (ignoring translation effects).
+     * <p>
+     * The rotation matrix is computed only once, so this method is well suited
+     * to transform large sets of vectors sharing the same transform. The buffers
+     * are updated in place.
+     * </p>
+     * @param x abscissas of the vectors to transform (will be overwritten)
+     * @param y ordinates of the vectors to transform (will be overwritten)
+     * @param z heights of the vectors to transform (will be overwritten)
+     * @see #transformVector(FieldVector3D)
+     * @since 10.0
+     */
+    public void transformVectors(final T[] x, final T[] y, final T[] z) {
+
+        checkLengths(x, y, z);
+
+        final T[][] m = angular.getRotation().getMatrix();
+        for (int i = 0; i < x.length; ++i) {
+            final T vx = x[i];
+            final T vy = y[i];
+            final T vz = z[i];
+            x[i] = vx.linearCombination(m[0][0], vx, m[0][1], vy, m[0][2], vz);
+            y[i] = vx.linearCombination(m[1][0], vx, m[1][1], vy, m[1][2], vz);
+            z[i] = vx.linearCombination(m[2][0], vx, m[2][1], vy, m[2][2], vz);
+        }
+
+    }
+
+    /** Check structure-of-arrays buffers all have the same length.
+     * @param x first buffer to check
+     * @param y second buffer to check
+     * @param z third buffer to check
+     * @param <T> type of the field elements
+     */
+    private static <T extends RealFieldElement<T>> void checkLengths(final T[] x, final T[] y, final T[] z) {
+        if (y.length != x.length) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     y.length, x.length);
+        }
+        if (z.length != x.length) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     z.length, x.length);
+        }
+    }
+
     /** Transform a line.
      * @param line to transform
      * @return transformed line
@@ -947,6 +1027,18 @@ public class FieldTransform<T extends RealFieldElement<T>>
             return vector;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public void transformPositions(final T[] x, final T[] y, final T[] z) {
+            // nothing to do
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void transformVectors(final T[] x, final T[] y, final T[] z) {
+            // nothing to do
+        }
+
         /** {@inheritDoc} */
         @Override
         public FieldLine<T> transformLine(final FieldLine<T> line) {
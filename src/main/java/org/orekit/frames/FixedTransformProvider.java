@@ -18,8 +18,8 @@
 package org.orekit.frames;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hipparchus.Field;
 import org.hipparchus.RealFieldElement;
@@ -39,14 +39,14 @@ public class FixedTransformProvider implements TransformProvider {
     private final Transform transform;
 
     /** Cached field-based transforms. */
-    private final transient Map<Field<? extends RealFieldElement<?>>, FieldTransform<? extends RealFieldElement<?>>> cached;
+    private final transient ConcurrentMap<Field<? extends RealFieldElement<?>>, FieldTransform<? extends RealFieldElement<?>>> cached;
 
     /** Simple constructor.
      * @param transform fixed transform
      */
     public FixedTransformProvider(final Transform transform) {
         this.transform = transform;
-        this.cached    = new HashMap<>();
+        this.cached    = new ConcurrentHashMap<>();
     }
 
     /** {@inheritDoc} */
@@ -58,13 +58,17 @@ public class FixedTransformProvider implements TransformProvider {
     @Override
     public <T extends RealFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
 
+        // plain lookup first, as computeIfAbsent locks the bin even when the key is already present
         @SuppressWarnings("unchecked")
-        FieldTransform<T> ft = (FieldTransform<T>) cached.get(date.getField());
-        if (ft == null) {
-            ft = new FieldTransform<>(date.getField(), transform);
-            cached.put(date.getField(), ft);
+        final FieldTransform<T> existing = (FieldTransform<T>) cached.get(date.getField());
+        if (existing != null) {
+            return existing;
         }
 
+        @SuppressWarnings("unchecked")
+        final FieldTransform<T> ft =
+            (FieldTransform<T>) cached.computeIfAbsent(date.getField(), f -> new FieldTransform<>((Field<T>) f, transform));
+
         return ft;
 
     }
@@ -0,0 +1,82 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import org.hipparchus.RealFieldElement;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+
+/** Transform provider flattening a path in the frames tree into a single provider.
+ * <p>
+ * The transforms are computed by walking the frames tree from the origin frame
+ * to the destination frame, bypassing the interpolation and caching features
+ * of the intermediate providers, as done by {@link
+ * FramesFactory#getNonInterpolatingTransform(Frame, Frame, AbsoluteDate)}.
+ * This is a <em>raw</em> provider, which is expected to be wrapped in a
+ * caching provider like {@link ShiftingTransformProvider}, so that
+ * the costly full computation is performed only at interpolation grid points.
+ * </p>
+ * @see FramesFactory#getFlattenedITRF(Frame, org.orekit.utils.IERSConventions, boolean, double)
+ * @since 10.0
+ */
+public class FlattenedTransformProvider implements TransformProvider {
+
+    /** Serializable UID. */
+    private static final long serialVersionUID = 20190502L;
+
+    /** Origin frame. */
+    private final Frame origin;
+
+    /** Destination frame. */
+    private final Frame destination;
+
+    /** Simple constructor.
+     * @param origin origin frame (will be the parent of the frame using this provider)
+     * @param destination destination frame
+     */
+    public FlattenedTransformProvider(final Frame origin, final Frame destination) {
+        this.origin      = origin;
+        this.destination = destination;
+    }
+
+    /** Get the origin frame.
+     * @return origin frame
+     */
+    public Frame getOrigin() {
+        return origin;
+    }
+
+    /** Get the destination frame.
+     * @return destination frame
+     */
+    public Frame getDestination() {
+        return destination;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Transform getTransform(final AbsoluteDate date) {
+        return FramesFactory.getNonInterpolatingTransform(origin, destination, date);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends RealFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
+        return FramesFactory.getNonInterpolatingTransform(origin, destination, date);
+    }
+
+}
@@ -19,6 +19,7 @@ package org.orekit.frames;
 import java.io.Serializable;
 
 import org.hipparchus.RealFieldElement;
+import org.hipparchus.util.FastMath;
 import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
@@ -55,6 +56,9 @@ public class Frame implements Serializable {
     /** Serializable UID. */
     private static final long serialVersionUID = -6981146543760234087L;
 
+    /** Maximum number of cached paths to destination frames. */
+    private static final int MAX_PATHS = 8;
+
     /** Parent frame (only the root frame doesn't have a parent). */
     private final Frame parent;
 
@@ -70,6 +74,14 @@ public class Frame implements Serializable {
     /** Indicator for pseudo-inertial frames. */
     private final boolean pseudoInertial;
 
+    /** Recently used paths to destination frames, most recent first.
+     * <p>
+     * The array is never modified once published, it is replaced as a whole
+     * when a new destination is used, so it can be read without locking.
+     * </p>
+     */
+    private transient volatile TransformPath[] paths;
+
     /** Private constructor used only for the root frame.
      * @param name name of the frame
      * @param pseudoInertial true if frame is considered pseudo-inertial
@@ -246,25 +258,30 @@ public class Frame implements Serializable {
             return Transform.IDENTITY;
         }
 
-        // common ancestor to both frames in the frames tree
-        final Frame common = findCommon(this, destination);
+        final TransformPath path = getPath(destination);
 
-        // transform from common to instance
-        Transform commonToInstance = Transform.IDENTITY;
-        for (Frame frame = this; frame != common; frame = frame.parent) {
-            commonToInstance =
-                new Transform(date, frame.transformProvider.getTransform(date), commonToInstance);
+        // transform from common ancestor to instance
+        Transform commonToInstance = null;
+        for (final TransformProvider provider : path.up) {
+            final Transform t = provider.getTransform(date);
+            commonToInstance = (commonToInstance == null) ? t : new Transform(date, t, commonToInstance);
         }
 
-        // transform from destination up to common
-        Transform commonToDestination = Transform.IDENTITY;
-        for (Frame frame = destination; frame != common; frame = frame.parent) {
-            commonToDestination =
-                new Transform(date, frame.transformProvider.getTransform(date), commonToDestination);
+        // transform from common ancestor to destination
+        Transform commonToDestination = null;
+        for (int i = path.down.length - 1; i >= 0; --i) {
+            final Transform t = path.down[i].getTransform(date);
+            commonToDestination = (commonToDestination == null) ? t : new Transform(date, t, commonToDestination);
         }
 
-        // transform from instance to destination via common
-        return new Transform(date, commonToInstance.getInverse(), commonToDestination);
+        // transform from instance to destination via common ancestor
+        if (commonToInstance == null) {
+            return path.down.length > 1 ? commonToDestination : stamp(commonToDestination, date);
+        } else if (commonToDestination == null) {
+            return path.up.length > 1 ? commonToInstance.getInverse() : stamp(commonToInstance.getInverse(), date);
+        } else {
+            return new Transform(date, commonToInstance.getInverse(), commonToDestination);
+        }
 
     }
 
@@ -281,25 +298,108 @@ public class Frame implements Serializable {
             return FieldTransform.getIdentity(date.getField());
         }
 
-        // common ancestor to both frames in the frames tree
-        final Frame common = findCommon(this, destination);
+        final TransformPath path = getPath(destination);
 
-        // transform from common to instance
-        FieldTransform<T> commonToInstance = FieldTransform.getIdentity(date.getField());
-        for (Frame frame = this; frame != common; frame = frame.parent) {
-            commonToInstance =
-                new FieldTransform<>(date, frame.transformProvider.getTransform(date), commonToInstance);
+        // transform from common ancestor to instance
+        FieldTransform<T> commonToInstance = null;
+        for (final TransformProvider provider : path.up) {
+            final FieldTransform<T> t = provider.getTransform(date);
+            commonToInstance = (commonToInstance == null) ? t : new FieldTransform<>(date, t, commonToInstance);
+        }
+
+        // transform from common ancestor to destination
+        FieldTransform<T> commonToDestination = null;
+        for (int i = path.down.length - 1; i >= 0; --i) {
+            final FieldTransform<T> t = path.down[i].getTransform(date);
+            commonToDestination = (commonToDestination == null) ? t : new FieldTransform<>(date, t, commonToDestination);
+        }
+
+        // transform from instance to destination via common ancestor
+        if (commonToInstance == null) {
+            return path.down.length > 1 ? commonToDestination : stamp(commonToDestination, date);
+        } else if (commonToDestination == null) {
+            return path.up.length > 1 ? commonToInstance.getInverse() : stamp(commonToInstance.getInverse(), date);
+        } else {
+            return new FieldTransform<>(date, commonToInstance.getInverse(), commonToDestination);
+        }
+
+    }
+
+    /** Stamp a transform that does not result from a composition.
+     * <p>
+     * Such transforms are the ones returned as is by the providers, which
+     * may have a date different from the requested one (typically for fixed
+     * transforms), and which should not be shared with callers.
+     * </p>
+     * @param transform transform returned by a provider
+     * @param date requested date
+     * @return new transform stamped with the requested date
+     */
+    private static Transform stamp(final Transform transform, final AbsoluteDate date) {
+        return new Transform(date, transform, Transform.IDENTITY);
+    }
+
+    /** Stamp a transform that does not result from a composition.
+     * <p>
+     * Such transforms are the ones returned as is by the providers, which
+     * may have a date different from the requested one (typically for fixed
+     * transforms), and which should not be shared with callers.
+     * </p>
+     * @param transform transform returned by a provider
+     * @param date requested date
+     * @param <T> the type of the field elements
+     * @return new transform stamped with the requested date
+     */
+    private static <T extends RealFieldElement<T>> FieldTransform<T> stamp(final FieldTransform<T> transform,
+                                                                           final FieldAbsoluteDate<T> date) {
+        return new FieldTransform<>(date, transform, FieldTransform.getIdentity(date.getField()));
+    }
+
+    /** Get the path from the instance to another frame.
+     * <p>
+     * The last few paths used are cached, so the frames tree
+     * needs to be walked only the first time a destination is used.
+     * </p>
+     * @param destination destination frame (must be different from instance)
+     * @return path from the instance to the destination frame
+     */
+    private TransformPath getPath(final Frame destination) {
+
+        // look for an already known path
+        final TransformPath[] known = paths;
+        if (known != null) {
+            for (final TransformPath path : known) {
+                if (path.destination == destination) {
+                    return path;
+                }
+            }
         }
 
-        // transform from destination up to common
-        FieldTransform<T> commonToDestination = FieldTransform.getIdentity(date.getField());
+        // build a new path
+        final Frame common = findCommon(this, destination);
+        final TransformProvider[] up = new TransformProvider[depth - common.depth];
+        int i = 0;
+        for (Frame frame = this; frame != common; frame = frame.parent) {
+            up[i++] = frame.transformProvider;
+        }
+        final TransformProvider[] down = new TransformProvider[destination.depth - common.depth];
+        i = down.length;
         for (Frame frame = destination; frame != common; frame = frame.parent) {
-            commonToDestination =
-                new FieldTransform<>(date, frame.transformProvider.getTransform(date), commonToDestination);
+            down[--i] = frame.transformProvider;
+        }
+        final TransformPath path = new TransformPath(destination, up, down);
+
+        // publish an updated cache, with the new path first
+        // (a concurrent update may be lost, it will simply be recomputed later)
+        final int n = (known == null) ? 0 : FastMath.min(known.length, MAX_PATHS - 1);
+        final TransformPath[] updated = new TransformPath[n + 1];
+        updated[0] = path;
+        if (n > 0) {
+            System.arraycopy(known, 0, updated, 1, n);
         }
+        paths = updated;
 
-        // transform from instance to destination via common
-        return new FieldTransform<>(date, commonToInstance.getInverse(), commonToDestination);
+        return path;
 
     }
 
@@ -378,6 +478,32 @@ public class Frame implements Serializable {
                          frozenName, reference.isPseudoInertial());
     }
 
+    /** Path from a frame to a destination frame in the frames tree. */
+    private static class TransformPath {
+
+        /** Destination frame. */
+        private final Frame destination;
+
+        /** Providers from the origin frame up to the common ancestor (excluded). */
+        private final TransformProvider[] up;
+
+        /** Providers from the common ancestor (excluded) down to the destination frame. */
+        private final TransformProvider[] down;
+
+        /** Simple constructor.
+         * @param destination destination frame
+         * @param up providers from the origin frame up to the common ancestor (excluded)
+         * @param down providers from the common ancestor (excluded) down to the destination frame
+         */
+        TransformPath(final Frame destination,
+                      final TransformProvider[] up, final TransformProvider[] down) {
+            this.destination = destination;
+            this.up          = up;
+            this.down        = down;
+        }
+
+    }
+
     // We use the Initialization on demand holder idiom to store
     // the singletons, as it is both thread-safe, efficient (no
     // synchronization) and works with all versions of java.
@@ -18,19 +18,29 @@ package org.orekit.frames;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 
 import org.hipparchus.RealFieldElement;
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.util.FastMath;
 import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.data.DataProvidersManager;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitInternalError;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.ChronologicalComparator;
 import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScale;
+import org.orekit.time.UTCScale;
 import org.orekit.utils.AngularDerivativesFilter;
 import org.orekit.utils.CartesianDerivativesFilter;
 import org.orekit.utils.Constants;
@@ -199,6 +209,25 @@ public class FramesFactory {
     private static transient Map<ITRFKey, VersionedITRF> VERSIONED_ITRF_FRAMES =
         new HashMap<ITRFKey, VersionedITRF>();
 
+    /** Flattened ITRF frames. */
+    private static transient Map<FlattenedITRFKey, Frame> FLATTENED_ITRF_FRAMES =
+        new HashMap<FlattenedITRFKey, Frame>();
+
+    /** Number of grid points for flattened ITRF frames interpolation. */
+    private static final int FLATTENED_ITRF_POINTS = 6;
+
+    /** Largest grid points time step for flattened ITRF frames interpolation. */
+    private static final double FLATTENED_ITRF_MAX_STEP = 3600.0;
+
+    /** Smallest grid points time step for flattened ITRF frames interpolation. */
+    private static final double FLATTENED_ITRF_MIN_STEP = 1.0;
+
+    /** Number of test dates for flattened ITRF frames grid step selection. */
+    private static final int FLATTENED_ITRF_TEST_DATES = 47;
+
+    /** Safety factor for flattened ITRF frames grid step selection (the error is only sampled). */
+    private static final double FLATTENED_ITRF_SAFETY_FACTOR = 0.8;
+
     /** Loaders for Earth Orientation parameters. */
     private static final Map<IERSConventions, List<EOPHistoryLoader>> EOP_HISTORY_LOADERS =
         new HashMap<IERSConventions, List<EOPHistoryLoader>>();
@@ -397,31 +426,154 @@ public class FramesFactory {
                 addDefaultEOP1980HistoryLoaders(null, null, null, null, null);
             }
 
-            // TimeStamped based set needed to remove duplicates
-            OrekitException pendingException = null;
-            final SortedSet<EOPEntry> data = new TreeSet<EOPEntry>(new ChronologicalComparator());
-
             // try to load canonical data if available
-            if (EOP_HISTORY_LOADERS.containsKey(conventions)) {
-                for (final EOPHistoryLoader loader : EOP_HISTORY_LOADERS.get(conventions)) {
-                    try {
-                        loader.fillHistory(conventions.getNutationCorrectionConverter(), data);
-                    } catch (OrekitException oe) {
-                        pendingException = oe;
-                    }
-                }
+            // the history keeps its own copy of the loaders, for reloading
+            final List<EOPHistoryLoader> loaders = EOP_HISTORY_LOADERS.get(conventions);
+            return loadEOPHistory(conventions, simpleEOP,
+                                  loaders == null ?
+                                  Collections.<EOPHistoryLoader>emptyList() :
+                                  new ArrayList<EOPHistoryLoader>(loaders));
+
+        }
+
+    }
+
+    /** Get Earth Orientation Parameters history loaded from a specific data providers manager.
+     * <p>
+     * The history is loaded using the default loaders (see {@link
+     * #addDefaultEOP1980HistoryLoaders(String, String, String, String, String)} and {@link
+     * #addDefaultEOP2000HistoryLoaders(String, String, String, String, String)}) with
+     * default supported file names, bound to the specified manager. The loaders
+     * registered in the factory are ignored. A new history is loaded at each call.
+     * It is intended to be used when building a {@link org.orekit.data.DataContext
+     * data context}, so the UTC time scale used to date the entries is also
+     * provided explicitly rather than taken from {@link
+     * org.orekit.time.TimeScalesFactory TimeScalesFactory}.
+     * </p>
+     * @param conventions conventions for which EOP history is requested
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param manager manager providing the EOP files
+     * @param utc UTC time scale used to date the EOP entries, it should be
+     * loaded from the same manager
+     * @return Earth Orientation Parameters history
+     * @since 10.0
+     */
+    public static EOPHistory getEOPHistory(final IERSConventions conventions, final boolean simpleEOP,
+                                           final DataProvidersManager manager,
+                                           final UTCScale utc) {
+        final Supplier<TimeScale> utcSupplier = () -> utc;
+        final List<EOPHistoryLoader> loaders = new ArrayList<EOPHistoryLoader>();
+        if (conventions == IERSConventions.IERS_1996) {
+            loaders.add(new RapidDataAndPredictionColumnsLoader(false, RAPID_DATA_PREDICTION_COLUMNS_1980_FILENAME, manager, utcSupplier));
+            loaders.add(new RapidDataAndPredictionXMLLoader(RAPID_DATA_PREDICTION_XML_1980_FILENAME, manager, utcSupplier));
+            loaders.add(new EOPC04FilesLoader(EOPC04_1980_FILENAME, manager, utcSupplier));
+            loaders.add(new BulletinBFilesLoader(BULLETINB_1980_FILENAME, manager, utcSupplier));
+        } else {
+            loaders.add(new RapidDataAndPredictionColumnsLoader(true, RAPID_DATA_PREDICITON_COLUMNS_2000_FILENAME, manager, utcSupplier));
+            loaders.add(new RapidDataAndPredictionXMLLoader(RAPID_DATA_PREDICITON_XML_2000_FILENAME, manager, utcSupplier));
+            loaders.add(new EOPC04FilesLoader(EOPC04_2000_FILENAME, manager, utcSupplier));
+            loaders.add(new BulletinBFilesLoader(BULLETINB_2000_FILENAME, manager, utcSupplier));
+        }
+        loaders.add(new BulletinAFilesLoader(BULLETINA_FILENAME, manager, utcSupplier));
+        return loadEOPHistory(conventions, simpleEOP, loaders);
+    }
+
+    /** Reload an Earth Orientation Parameters history.
+     * <p>
+     * This method is intended for long running applications that ingest new
+     * EOP files (for example rapid data or Bulletin A) while running, typically
+     * using a {@link org.orekit.data.WatchingDirectoryCrawler WatchingDirectoryCrawler}.
+     * The entries are loaded again using the same loaders as when the history
+     * was first loaded, hence from the same {@link org.orekit.data.DataProvidersManager
+     * data providers manager} (which may be the one of a {@link org.orekit.data.DataContext
+     * data context}), and swapped atomically into the history, so all frames already
+     * built on top of it see the new entries. Concurrent readers are never blocked and
+     * see either the former entries or the new ones. If a {@link
+     * org.orekit.data.DataSnapshotCache snapshot cache} is set up, only the
+     * new or changed files are parsed. Histories that were not loaded by the
+     * factory are reloaded using the loaders currently registered in the factory
+     * for the history conventions.
+     * </p>
+     * <p>
+     * Interpolating and shifting transform providers depending on the history
+     * notice the {@link EOPHistory#getGeneration() generation} change and drop
+     * the transforms they cached from the former entries.
+     * </p>
+     * @param history history to reload
+     * @see #reloadEOPHistories()
+     * @since 10.0
+     */
+    public static void reloadEOPHistory(final EOPHistory history) {
+
+        List<EOPHistoryLoader> loaders = history.getLoaders();
+        if (loaders == null) {
+            synchronized (EOP_HISTORY_LOADERS) {
+                final List<EOPHistoryLoader> registered = EOP_HISTORY_LOADERS.get(history.getConventions());
+                loaders = registered == null ?
+                          Collections.<EOPHistoryLoader>emptyList() :
+                          new ArrayList<EOPHistoryLoader>(registered);
             }
+        }
 
-            if (data.isEmpty() && pendingException != null) {
-                throw pendingException;
+        // serialize reloads of the same history, so the last entries swapped in are the last loaded
+        synchronized (history) {
+            // tidal effects are handled by the reloaded history itself, not by its entries
+            history.setEntries(loadEOPHistory(history.getConventions(), true, loaders));
+        }
+
+    }
+
+    /** Reload the Earth Orientation Parameters histories of all predefined frames already built.
+     * <p>
+     * This method calls {@link #reloadEOPHistory(EOPHistory)} once for each
+     * history used by the frames already returned by the factory.
+     * </p>
+     * @see #reloadEOPHistory(EOPHistory)
+     * @since 10.0
+     */
+    public static void reloadEOPHistories() {
+        final List<Frame> frames;
+        synchronized (FramesFactory.class) {
+            frames = new ArrayList<Frame>(FRAMES.values());
+        }
+        final Set<EOPHistory> histories = Collections.newSetFromMap(new IdentityHashMap<EOPHistory, Boolean>());
+        for (final Frame frame : frames) {
+            final EOPHistory history = findEOP(frame);
+            if (history != null && histories.add(history)) {
+                reloadEOPHistory(history);
             }
+        }
+    }
 
-            final EOPHistory history = new EOPHistory(conventions, data, simpleEOP);
-            history.checkEOPContinuity(EOP_CONTINUITY_THRESHOLD);
-            return history;
+    /** Load Earth Orientation Parameters history.
+     * @param conventions conventions for which EOP history is requested
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param loaders loaders to use
+     * @return Earth Orientation Parameters history
+     */
+    private static EOPHistory loadEOPHistory(final IERSConventions conventions, final boolean simpleEOP,
+                                             final List<EOPHistoryLoader> loaders) {
+
+        // TimeStamped based set needed to remove duplicates
+        OrekitException pendingException = null;
+        final SortedSet<EOPEntry> data = new TreeSet<EOPEntry>(new ChronologicalComparator());
+
+        for (final EOPHistoryLoader loader : loaders) {
+            try {
+                loader.fillHistory(conventions.getNutationCorrectionConverter(), data);
+            } catch (OrekitException oe) {
+                pendingException = oe;
+            }
+        }
 
+        if (data.isEmpty() && pendingException != null) {
+            throw pendingException;
         }
 
+        final EOPHistory history = new EOPHistory(conventions, data, simpleEOP, loaders);
+        history.checkEOPContinuity(EOP_CONTINUITY_THRESHOLD);
+        return history;
+
     }
 
     /** Get one of the predefined frames.
@@ -730,6 +882,122 @@ public class FramesFactory {
         }
     }
 
+    /** Get a flattened International Terrestrial Reference Frame.
+     * <p>
+     * The frame returned by {@link #getITRF(IERSConventions, boolean)} is
+     * the end of a chain of several frames (CIRF, TIRF, ITRF), each one with its
+     * own provider, so computing a transform from an inertial frame requires
+     * evaluating several providers. The frame returned by this method is an
+     * alternative ITRF which is a direct child of the {@code parent} frame,
+     * with a single {@link ShiftingTransformProvider caching provider} sampling
+     * the complete {@link FlattenedTransformProvider flattened} chain. The grid
+     * step is selected when the frame is first built, so that the error with
+     * respect to the complete chain remains below the specified bound.
+     * </p>
+     * <p>
+     * This frame is intended to be used as the body frame in Earth-related
+     * models (atmosphere, gravity field, ground stations...) when performance
+     * matters more than ultimate accuracy. Beware that it is <em>not</em> the same
+     * instance as the regular ITRF, so transforms between them are not identity
+     * but are tiny transforms that depend on the caching error.
+     * </p>
+     * @param parent parent frame, typically {@link #getGCRF() GCRF} or {@link #getEME2000() EME2000}
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param maxError maximum angular error (rad), for reference 1.0e-10 radians
+     * correspond to about 0.6 millimeters at Earth surface
+     * @return the selected reference frame singleton
+     * @exception OrekitException if the bound cannot be met even with a one second step
+     * @since 10.0
+     */
+    public static Frame getFlattenedITRF(final Frame parent, final IERSConventions conventions,
+                                         final boolean simpleEOP, final double maxError) {
+        synchronized (FramesFactory.class) {
+
+            // try to find an already built frame
+            final FlattenedITRFKey key = new FlattenedITRFKey(parent, conventions, simpleEOP, maxError);
+            Frame frame = FLATTENED_ITRF_FRAMES.get(key);
+
+            if (frame == null) {
+                // it's the first time we need this frame, build it and store it
+                final FactoryManagedFrame itrf = getITRF(conventions, simpleEOP);
+                final FlattenedTransformProvider raw = new FlattenedTransformProvider(parent, itrf);
+                frame = new Frame(parent, selectFlattenedProvider(raw, findEOP(itrf), maxError),
+                                  "flattened " + itrf.getName() + " from " + parent.getName(),
+                                  false);
+                FLATTENED_ITRF_FRAMES.put(key, frame);
+            }
+
+            return frame;
+
+        }
+    }
+
+    /** Select the caching provider for a flattened ITRF.
+     * <p>
+     * The grid step is selected by halving a start value until the error
+     * at a set of test dates spread over one day in the middle of the
+     * EOP history is below the specified bound, with a safety factor
+     * as the error is only sampled. The error depends mainly on the position
+     * of the dates with respect to the grid and very little on the dates
+     * themselves, so the bound still holds outside of this day.
+     * </p>
+     * @param raw raw provider to cache
+     * @param eopHistory EOP history (may be null)
+     * @param maxError maximum angular error (rad)
+     * @return caching provider
+     * @exception OrekitException if the bound cannot be met even with the smallest step
+     */
+    private static ShiftingTransformProvider selectFlattenedProvider(final TransformProvider raw,
+                                                                     final EOPHistory eopHistory,
+                                                                     final double maxError) {
+
+        // reference date for tests
+        final AbsoluteDate reference;
+        if (eopHistory == null || eopHistory.getEntries().isEmpty()) {
+            reference = AbsoluteDate.J2000_EPOCH;
+        } else {
+            final List<EOPEntry> entries = eopHistory.getEntries();
+            reference = entries.get(entries.size() / 2).getDate();
+        }
+
+        final double threshold = FLATTENED_ITRF_SAFETY_FACTOR * maxError;
+        double step = FLATTENED_ITRF_MAX_STEP;
+        while (true) {
+
+            final ShiftingTransformProvider candidate =
+                            new ShiftingTransformProvider(raw,
+                                                          CartesianDerivativesFilter.USE_P,
+                                                          AngularDerivativesFilter.USE_RR,
+                                                          FLATTENED_ITRF_POINTS, step,
+                                                          OrekitConfiguration.getCacheSlotsNumber(),
+                                                          Constants.JULIAN_YEAR, 30 * Constants.JULIAN_DAY);
+
+            double error = 0;
+            for (int i = 0; i < FLATTENED_ITRF_TEST_DATES && error <= threshold; ++i) {
+                // test dates are irregularly spread with respect to grid
+                final AbsoluteDate date = reference.shiftedBy(i * (Constants.JULIAN_DAY + 0.37 * step) /
+                                                              FLATTENED_ITRF_TEST_DATES);
+                error = FastMath.max(error,
+                                     Rotation.distance(candidate.getTransform(date).getRotation(),
+                                                       raw.getTransform(date).getRotation()));
+            }
+
+            if (error <= threshold) {
+                return candidate;
+            }
+
+            if (step <= FLATTENED_ITRF_MIN_STEP) {
+                throw new OrekitException(OrekitMessages.UNABLE_TO_REACH_FLATTENED_FRAME_ACCURACY,
+                                          maxError, error, step);
+            }
+
+            step = FastMath.max(0.5 * step, FLATTENED_ITRF_MIN_STEP);
+
+        }
+
+    }
+
     /** Get the TIRF reference frame.
      * @param conventions IERS conventions to apply
      * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
@@ -1335,23 +1603,45 @@ public class FramesFactory {
     public static EOPHistory findEOP(final Frame start) {
 
         for (Frame frame = start; frame != null; frame = frame.getParent()) {
-
-            TransformProvider peeled = frame.getTransformProvider();
-
-            boolean peeling = true;
-            while (peeling) {
-                if (peeled instanceof InterpolatingTransformProvider) {
-                    peeled = ((InterpolatingTransformProvider) peeled).getRawProvider();
-                } else if (peeled instanceof ShiftingTransformProvider) {
-                    peeled = ((ShiftingTransformProvider) peeled).getRawProvider();
-                } else if (peeled instanceof EOPBasedTransformProvider &&
-                           ((EOPBasedTransformProvider) peeled).getEOPHistory() != null) {
-                    return ((EOPBasedTransformProvider) peeled).getEOPHistory();
-                } else {
-                    peeling = false;
-                }
+            final EOPHistory history = findProviderEOP(frame.getTransformProvider());
+            if (history != null) {
+                return history;
             }
+        }
+
+        // no history found
+        return null;
+
+    }
+
+    /** Retrieve EOP from a transform provider.
+     * <p>
+     * Interpolation and shifting are peeled from the provider, and the
+     * destination frame of flattened providers is searched.
+     * </p>
+     * @param provider transform provider to check
+     * @return EOP history referenced by the provider, or null if
+     * no EOP history is found
+     * @since 10.0
+     */
+    static EOPHistory findProviderEOP(final TransformProvider provider) {
+
+        TransformProvider peeled = provider;
 
+        boolean peeling = true;
+        while (peeling) {
+            if (peeled instanceof InterpolatingTransformProvider) {
+                peeled = ((InterpolatingTransformProvider) peeled).getRawProvider();
+            } else if (peeled instanceof ShiftingTransformProvider) {
+                peeled = ((ShiftingTransformProvider) peeled).getRawProvider();
+            } else if (peeled instanceof EOPBasedTransformProvider &&
+                       ((EOPBasedTransformProvider) peeled).getEOPHistory() != null) {
+                return ((EOPBasedTransformProvider) peeled).getEOPHistory();
+            } else if (peeled instanceof FlattenedTransformProvider) {
+                return findEOP(((FlattenedTransformProvider) peeled).getDestination());
+            } else {
+                peeling = false;
+            }
         }
 
         // no history found
@@ -1442,4 +1732,65 @@ public class FramesFactory {
 
     }
 
+    /** Local class for flattened ITRF keys.
+     * @since 10.0
+     */
+    private static class FlattenedITRFKey {
+
+        /** Parent frame. */
+        private final Frame parent;
+
+        /** IERS conventions to apply. */
+        private final IERSConventions conventions;
+
+        /** Tidal effects flag. */
+        private final boolean simpleEOP;
+
+        /** Maximum angular interpolation error. */
+        private final double maxError;
+
+        /** Simple constructor.
+         * @param parent parent frame
+         * @param conventions IERS conventions to apply
+         * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+         * @param maxError maximum angular interpolation error (rad)
+         */
+        FlattenedITRFKey(final Frame parent, final IERSConventions conventions,
+                         final boolean simpleEOP, final double maxError) {
+            this.parent      = parent;
+            this.conventions = conventions;
+            this.simpleEOP   = simpleEOP;
+            this.maxError    = maxError;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(parent) ^
+                   (conventions.ordinal() << 1) ^
+                   (simpleEOP ? 0 : 1) ^
+                   Double.hashCode(maxError);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object other) {
+
+            if (this == other) {
+                return true;
+            }
+
+            if (other instanceof FlattenedITRFKey) {
+                final FlattenedITRFKey key = (FlattenedITRFKey) other;
+                return parent      == key.parent      &&
+                       conventions == key.conventions &&
+                       simpleEOP   == key.simpleEOP   &&
+                       Double.compare(maxError, key.maxError) == 0;
+            }
+
+            return false;
+        }
+
+    }
+
 }
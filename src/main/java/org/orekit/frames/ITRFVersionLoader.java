@@ -78,8 +78,17 @@ class ITRFVersionLoader {
      * @param supportedNames regular expression for supported files names
      */
     ITRFVersionLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance());
+    }
+
+    /** Build a loader for ITRF version configuration file.
+     * @param supportedNames regular expression for supported files names
+     * @param manager manager providing the data
+     * @since 10.0
+     */
+    ITRFVersionLoader(final String supportedNames, final DataProvidersManager manager) {
         this.configurations = new ArrayList<>();
-        DataProvidersManager.getInstance().feed(supportedNames, new Parser());
+        manager.feed(supportedNames, new Parser());
     }
 
     /** Get the ITRF version configuration defined by a given file at specified date.
@@ -18,9 +18,9 @@
 package org.orekit.frames;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,6 +31,7 @@ import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.AngularDerivativesFilter;
 import org.orekit.utils.CartesianDerivativesFilter;
 import org.orekit.utils.GenericTimeStampedCache;
+import org.orekit.utils.TimeStampedCachesRegistry;
 
 /** Transform provider using thread-safe interpolation on transforms sample.
  * <p>
@@ -40,6 +41,12 @@ import org.orekit.utils.GenericTimeStampedCache;
  * derivatives can be used, the derivatives will be added appropriately
  * by the interpolation process.
  * </p>
+ * <p>
+ * If the raw provider depends on an {@link EOPHistory Earth Orientation Parameters
+ * history}, the cached transforms are dropped when the history {@link
+ * EOPHistory#getGeneration() generation} changes, for example after a {@link
+ * FramesFactory#reloadEOPHistory(EOPHistory) reload}.
+ * </p>
  * @see GenericTimeStampedCache
  * @see ShiftingTransformProvider
  * @author Luc Maisonobe
@@ -58,17 +65,26 @@ public class InterpolatingTransformProvider implements TransformProvider {
     /** Filter for angular derivatives to use in interpolation. */
     private final AngularDerivativesFilter aFilter;
 
+    /** Number of interpolation grid points. */
+    private final int gridPoints;
+
     /** Grid points time step. */
     private final double step;
 
-    /** Cache for sample points. */
-    private final transient GenericTimeStampedCache<Transform> cache;
+    /** Maximum number of independent cached time slots. */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot. */
+    private final double maxSpan;
+
+    /** Time interval above which a new slot is created. */
+    private final double newSlotInterval;
 
-    /** Field caches for sample points. */
-    // we use Object as the value of fieldCaches because despite numerous attempts,
-    // we could not find a way to use GenericTimeStampedCache<FieldTransform<? extends RealFieldElement<?>>
-    // without the compiler complaining
-    private final transient Map<Field<? extends RealFieldElement<?>>, Object> fieldCaches;
+    /** EOP history the raw provider depends on (null if none). */
+    private final transient EOPHistory eopHistory;
+
+    /** Caches for sample points. */
+    private transient volatile Caches caches;
 
     /** Simple constructor.
      * @param rawProvider provider for raw (non-interpolated) transforms
@@ -89,15 +105,23 @@ public class InterpolatingTransformProvider implements TransformProvider {
                                           final AngularDerivativesFilter aFilter,
                                           final int gridPoints, final double step,
                                           final int maxSlots, final double maxSpan, final double newSlotInterval) {
-        this.rawProvider = rawProvider;
-        this.cFilter     = cFilter;
-        this.aFilter     = aFilter;
-        this.step        = step;
-        this.cache       = new GenericTimeStampedCache<Transform>(gridPoints, maxSlots, maxSpan, newSlotInterval,
-                                                                  new TransformGenerator(gridPoints,
-                                                                                         rawProvider,
-                                                                                         step));
-        this.fieldCaches = new HashMap<>();
+        this.rawProvider     = rawProvider;
+        this.cFilter         = cFilter;
+        this.aFilter         = aFilter;
+        this.gridPoints      = gridPoints;
+        this.step            = step;
+        this.maxSlots        = maxSlots;
+        this.maxSpan         = maxSpan;
+        this.newSlotInterval = newSlotInterval;
+        this.eopHistory      = FramesFactory.findProviderEOP(rawProvider);
+        this.caches          = new Caches(eopHistory == null ? 0L : eopHistory.getGeneration());
+    }
+
+    /** Get the name under which the caches are registered.
+     * @return name under which the caches are registered
+     */
+    private String cacheName() {
+        return "InterpolatingTransformProvider(" + rawProvider.getClass().getSimpleName() + ")";
     }
 
     /** Get the underlying provider for raw (non-interpolated) transforms.
@@ -111,7 +135,7 @@ public class InterpolatingTransformProvider implements TransformProvider {
      * @return number of interpolation grid points
      */
     public int getGridPoints() {
-        return cache.getNeighborsSize();
+        return gridPoints;
     }
 
     /** Get the grid points time step.
@@ -125,7 +149,7 @@ public class InterpolatingTransformProvider implements TransformProvider {
     @Override
     public Transform getTransform(final AbsoluteDate date) {
         // retrieve a sample from the thread-safe cache
-        final List<Transform> sample = cache.getNeighbors(date).collect(Collectors.toList());
+        final List<Transform> sample = getCaches().cache.getNeighbors(date).collect(Collectors.toList());
 
         // interpolate to specified date
         return Transform.interpolate(date, cFilter, aFilter, sample);
@@ -134,21 +158,8 @@ public class InterpolatingTransformProvider implements TransformProvider {
     /** {@inheritDoc} */
     @Override
     public <T extends RealFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
-        @SuppressWarnings("unchecked")
-        GenericTimeStampedCache<FieldTransform<T>> fieldCache =
-            (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
-        if (fieldCache == null) {
-            fieldCache =
-                new GenericTimeStampedCache<FieldTransform<T>>(cache.getNeighborsSize(),
-                                                               cache.getMaxSlots(),
-                                                               cache.getMaxSpan(),
-                                                               cache.getNewSlotQuantumGap(),
-                                                               new FieldTransformGenerator<>(date.getField(),
-                                                                                             cache.getNeighborsSize(),
-                                                                                             rawProvider,
-                                                                                             step));
-            fieldCaches.put(date.getField(), fieldCache);
-        }
+        // retrieve (or create) the cache for this field, in a thread-safe way
+        final GenericTimeStampedCache<FieldTransform<T>> fieldCache = getCaches().getFieldCache(date.getField());
 
         // retrieve a sample from the thread-safe cache
         final Stream<FieldTransform<T>> sample = fieldCache.getNeighbors(date.toAbsoluteDate());
@@ -157,6 +168,24 @@ public class InterpolatingTransformProvider implements TransformProvider {
         return FieldTransform.interpolate(date, cFilter, aFilter, sample);
     }
 
+    /** Get the caches, dropping them if the EOP history has changed.
+     * @return caches consistent with the current EOP history generation
+     */
+    private Caches getCaches() {
+        final Caches current = caches;
+        if (eopHistory == null) {
+            return current;
+        }
+        final long generation = eopHistory.getGeneration();
+        if (current.generation == generation) {
+            return current;
+        }
+        // the EOP entries have been replaced, transforms computed from the former ones are stale
+        final Caches fresh = new Caches(generation);
+        caches = fresh;
+        return fresh;
+    }
+
     /** Replace the instance with a data transfer object for serialization.
      * <p>
      * This intermediate class serializes only the data needed for generation,
@@ -167,8 +196,71 @@ public class InterpolatingTransformProvider implements TransformProvider {
      */
     private Object writeReplace() {
         return new DTO(rawProvider, cFilter.getMaxOrder(), aFilter.getMaxOrder(),
-                       cache.getNeighborsSize(), step,
-                       cache.getMaxSlots(), cache.getMaxSpan(), cache.getNewSlotQuantumGap());
+                       gridPoints, step, maxSlots, maxSpan, newSlotInterval);
+    }
+
+    /** Caches built from one generation of EOP entries. */
+    private class Caches {
+
+        /** Generation of the EOP entries used to fill up the caches. */
+        private final long generation;
+
+        /** Cache for sample points. */
+        private final GenericTimeStampedCache<Transform> cache;
+
+        /** Field caches for sample points. */
+        // we use Object as the value of fieldCaches because despite numerous attempts,
+        // we could not find a way to use GenericTimeStampedCache<FieldTransform<? extends RealFieldElement<?>>
+        // without the compiler complaining
+        private final ConcurrentMap<Field<? extends RealFieldElement<?>>, Object> fieldCaches;
+
+        /** Simple constructor.
+         * @param generation generation of the EOP entries used to fill up the caches
+         */
+        Caches(final long generation) {
+            this.generation  = generation;
+            this.cache       = TimeStampedCachesRegistry.register(cacheName(),
+                                                                  new GenericTimeStampedCache<Transform>(gridPoints, maxSlots, maxSpan, newSlotInterval,
+                                                                                                         new TransformGenerator(gridPoints,
+                                                                                                                                rawProvider,
+                                                                                                                                step)));
+            this.fieldCaches = new ConcurrentHashMap<>();
+        }
+
+        /** Get the cache for field transforms, creating it if needed.
+         * <p>
+         * The map is looked up first without locking, as {@code computeIfAbsent}
+         * locks the bin even when the key is already present.
+         * </p>
+         * @param field field to which the elements belong
+         * @param <T> type of the field elements
+         * @return cache for the field
+         */
+        @SuppressWarnings("unchecked")
+        private <T extends RealFieldElement<T>> GenericTimeStampedCache<FieldTransform<T>> getFieldCache(final Field<T> field) {
+            final Object existing = fieldCaches.get(field);
+            if (existing != null) {
+                return (GenericTimeStampedCache<FieldTransform<T>>) existing;
+            }
+            return (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.computeIfAbsent(field, f -> createFieldCache((Field<T>) f));
+        }
+
+        /** Create a cache for field transforms.
+         * @param field field to which the elements belong
+         * @param <T> type of the field elements
+         * @return new cache, registered in the {@link TimeStampedCachesRegistry caches registry}
+         */
+        private <T extends RealFieldElement<T>> GenericTimeStampedCache<FieldTransform<T>> createFieldCache(final Field<T> field) {
+            final GenericTimeStampedCache<FieldTransform<T>> fieldCache =
+                            new GenericTimeStampedCache<FieldTransform<T>>(gridPoints, maxSlots, maxSpan, newSlotInterval,
+                                                                           new FieldTransformGenerator<>(field,
+                                                                                                         gridPoints,
+                                                                                                         rawProvider,
+                                                                                                         step));
+            return TimeStampedCachesRegistry.register(cacheName() + "/" + field.getClass().getSimpleName(),
+                                                      fieldCache);
+        }
+
     }
 
     /** Internal class used only for serialization. */
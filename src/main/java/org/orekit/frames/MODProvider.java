@@ -17,8 +17,8 @@
 package org.orekit.frames;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hipparchus.Field;
 import org.hipparchus.RealFieldElement;
@@ -56,7 +56,7 @@ class MODProvider implements TransformProvider {
     private final Rotation r4;
 
     /** Constant rotations between ecliptic and equator poles at J2000.0. */
-    private final transient Map<Field<? extends RealFieldElement<?>>, FieldRotation<? extends RealFieldElement<?>>> fieldR4;
+    private final transient ConcurrentMap<Field<? extends RealFieldElement<?>>, FieldRotation<? extends RealFieldElement<?>>> fieldR4;
 
     /** Simple constructor.
      * @param conventions IERS conventions to apply
@@ -68,7 +68,7 @@ class MODProvider implements TransformProvider {
         final AbsoluteDate date0 = conventions.getNutationReferenceEpoch();
         final double epsilon0 = epsilonAFunction.value(date0);
         r4 = new Rotation(Vector3D.PLUS_I, epsilon0, RotationConvention.FRAME_TRANSFORM);
-        fieldR4 = new HashMap<>();
+        fieldR4 = new ConcurrentHashMap<>();
     }
 
     /** {@inheritDoc} */
@@ -95,12 +95,13 @@ class MODProvider implements TransformProvider {
         // compute the precession angles phiA, omegaA, chiA
         final T[] angles = precessionFunction.value(date);
 
+        // plain lookup first, as computeIfAbsent locks the bin even when the key is already present
         @SuppressWarnings("unchecked")
-        FieldRotation<T> fR4 = (FieldRotation<T>) fieldR4.get(date.getField());
-        if (fR4 == null) {
-            fR4 = new FieldRotation<>(date.getField(), r4);
-            fieldR4.put(date.getField(), fR4);
-        }
+        final FieldRotation<T> existing = (FieldRotation<T>) fieldR4.get(date.getField());
+        @SuppressWarnings("unchecked")
+        final FieldRotation<T> fR4 = existing != null ?
+                                     existing :
+                                     (FieldRotation<T>) fieldR4.computeIfAbsent(date.getField(), f -> new FieldRotation<>((Field<T>) f, r4));
 
         // complete precession
         final FieldRotation<T> precession = fR4.compose(new FieldRotation<>(RotationOrder.ZXZ, RotationConvention.FRAME_TRANSFORM,
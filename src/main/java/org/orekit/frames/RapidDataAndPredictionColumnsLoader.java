@@ -20,19 +20,19 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.SortedSet;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.hipparchus.util.MathUtils;
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.IERSConventions;
 
@@ -134,6 +134,12 @@ class RapidDataAndPredictionColumnsLoader implements EOPHistoryLoader {
     /** File supported name. */
     private final String  supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
+    /** Supplier for the UTC time scale. */
+    private final Supplier<TimeScale> utcSupplier;
+
     /** Build a loader for IERS bulletins B files.
      * @param isNonRotatingOrigin if true the supported files <em>must</em>
      * contain δX/δY nutation corrections, otherwise they
@@ -143,33 +149,43 @@ class RapidDataAndPredictionColumnsLoader implements EOPHistoryLoader {
      */
     RapidDataAndPredictionColumnsLoader(final boolean isNonRotatingOrigin,
                                                final String supportedNames) {
+        this(isNonRotatingOrigin, supportedNames, DataProvidersManager.getInstance(), TimeScalesFactory::getUTC);
+    }
+
+    /** Build a loader for IERS bulletins B files.
+     * @param isNonRotatingOrigin if true the supported files <em>must</em>
+     * contain δX/δY nutation corrections, otherwise they
+     * <em>must</em> contain δΔψ/δΔε nutation
+     * corrections
+     * @param supportedNames regular expression for supported files names
+     * @param manager manager providing the data
+     * @param utcSupplier supplier for the UTC time scale, called each time the history is filled
+     * @since 10.0
+     */
+    RapidDataAndPredictionColumnsLoader(final boolean isNonRotatingOrigin,
+                                        final String supportedNames,
+                                        final DataProvidersManager manager,
+                                        final Supplier<TimeScale> utcSupplier) {
         this.isNonRotatingOrigin = isNonRotatingOrigin;
         this.supportedNames      = supportedNames;
+        this.manager             = manager;
+        this.utcSupplier         = utcSupplier;
     }
 
     /** {@inheritDoc} */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser(converter, isNonRotatingOrigin);
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
-        history.addAll(parser.history);
+        final Parser parser = new Parser(converter, isNonRotatingOrigin, manager, utcSupplier.get());
+        manager.feed(supportedNames, parser);
+        history.addAll(parser.getHistory());
     }
 
     /** Internal class performing the parsing. */
-    private static class Parser implements DataLoader {
-
-        /** Converter for nutation corrections. */
-        private final IERSConventions.NutationCorrectionConverter converter;
-
-        /** Configuration for ITRF versions. */
-        private final ITRFVersionLoader itrfVersionLoader;
+    private static class Parser extends AbstractEOPParser {
 
         /** Indicator for Non-Rotating Origin. */
         private final boolean isNonRotatingOrigin;
 
-        /** History entries. */
-        private final List<EOPEntry> history;
-
         /** Current line number. */
         private int lineNumber;
 
@@ -179,19 +195,42 @@ class RapidDataAndPredictionColumnsLoader implements EOPHistoryLoader {
         /** Simple constructor.
          * @param converter converter to use
          * @param isNonRotatingOrigin type of nutation correction
+         * @param manager manager providing the ITRF versions configuration
+         * @param utc UTC time scale
          */
         Parser(final IERSConventions.NutationCorrectionConverter converter,
-               final boolean isNonRotatingOrigin) {
-            this.converter           = converter;
-            this.itrfVersionLoader   = new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES);
+               final boolean isNonRotatingOrigin,
+               final DataProvidersManager manager,
+               final TimeScale utc) {
+            this(converter, isNonRotatingOrigin,
+                 new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES, manager), utc);
+        }
+
+        /** Constructor sharing an already loaded ITRF versions configuration.
+         * @param converter converter to use
+         * @param isNonRotatingOrigin type of nutation correction
+         * @param itrfVersionLoader configuration for ITRF versions
+         * @param utc UTC time scale
+         */
+        private Parser(final IERSConventions.NutationCorrectionConverter converter,
+                       final boolean isNonRotatingOrigin,
+                       final ITRFVersionLoader itrfVersionLoader,
+                       final TimeScale utc) {
+            super(converter, itrfVersionLoader, utc);
             this.isNonRotatingOrigin = isNonRotatingOrigin;
-            this.history             = new ArrayList<EOPEntry>();
             this.lineNumber          = 0;
         }
 
         /** {@inheritDoc} */
-        public boolean stillAcceptsData() {
-            return true;
+        public SnapshotDataLoader newLoader() {
+            return new Parser(getConverter(), isNonRotatingOrigin, getITRFVersionLoader(), getUTC());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String getSnapshotFormat() {
+            // the same file is interpreted differently depending on the nutation correction type
+            return super.getSnapshotFormat() + (isNonRotatingOrigin ? " NRO" : " equinox");
         }
 
         /** {@inheritDoc} */
@@ -296,20 +335,20 @@ class RapidDataAndPredictionColumnsLoader implements EOPHistoryLoader {
                     final Matcher nutationMatcher = NUTATION_PATTERN.matcher(nutationPart);
                     final AbsoluteDate mjdDate =
                             new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd),
-                                             TimeScalesFactory.getUTC());
+                                             getUTC());
                     if (nutationMatcher.matches()) {
                         if (isNonRotatingOrigin) {
                             nro = new double[] {
                                 MILLI_ARC_SECONDS_TO_RADIANS * Double.parseDouble(nutationMatcher.group(1)),
                                 MILLI_ARC_SECONDS_TO_RADIANS * Double.parseDouble(nutationMatcher.group(3))
                             };
-                            equinox = converter.toEquinox(mjdDate, nro[0], nro[1]);
+                            equinox = getConverter().toEquinox(mjdDate, nro[0], nro[1]);
                         } else {
                             equinox = new double[] {
                                 MILLI_ARC_SECONDS_TO_RADIANS * Double.parseDouble(nutationMatcher.group(1)),
                                 MILLI_ARC_SECONDS_TO_RADIANS * Double.parseDouble(nutationMatcher.group(3))
                             };
-                            nro = converter.toNonRotating(mjdDate, equinox[0], equinox[1]);
+                            nro = getConverter().toNonRotating(mjdDate, equinox[0], equinox[1]);
                         }
                     } else {
                         throw new OrekitException(OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
@@ -319,10 +358,11 @@ class RapidDataAndPredictionColumnsLoader implements EOPHistoryLoader {
 
                 if (configuration == null || !configuration.isValid(mjd)) {
                     // get a configuration for current name and date range
-                    configuration = itrfVersionLoader.getConfiguration(name, mjd);
+                    configuration = getITRFVersionLoader().getConfiguration(name, mjd);
                 }
-                history.add(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
-                                         configuration.getVersion()));
+                addEntry(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
+                                      configuration.getVersion(), getUTC()),
+                         isNonRotatingOrigin);
 
             }
 
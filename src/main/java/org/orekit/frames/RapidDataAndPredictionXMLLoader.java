@@ -19,20 +19,20 @@ package org.orekit.frames;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.SortedSet;
+import java.util.function.Supplier;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
@@ -69,45 +69,68 @@ class RapidDataAndPredictionXMLLoader implements EOPHistoryLoader {
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
+    /** Supplier for the UTC time scale. */
+    private final Supplier<TimeScale> utcSupplier;
+
     /** Build a loader for IERS XML EOP files.
      * @param supportedNames regular expression for supported files names
      */
     RapidDataAndPredictionXMLLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance(), TimeScalesFactory::getUTC);
+    }
+
+    /** Build a loader for IERS XML EOP files.
+     * @param supportedNames regular expression for supported files names
+     * @param manager manager providing the data
+     * @param utcSupplier supplier for the UTC time scale, called each time the history is filled
+     * @since 10.0
+     */
+    RapidDataAndPredictionXMLLoader(final String supportedNames, final DataProvidersManager manager,
+                                    final Supplier<TimeScale> utcSupplier) {
         this.supportedNames = supportedNames;
+        this.manager        = manager;
+        this.utcSupplier    = utcSupplier;
     }
 
     /** {@inheritDoc} */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser(converter);
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
-        history.addAll(parser.history);
+        final Parser parser = new Parser(converter, manager, utcSupplier.get());
+        manager.feed(supportedNames, parser);
+        history.addAll(parser.getHistory());
     }
 
     /** Internal class performing the parsing. */
-    private static class Parser implements DataLoader {
-
-        /** Converter for nutation corrections. */
-        private final IERSConventions.NutationCorrectionConverter converter;
-
-        /** Configuration for ITRF versions. */
-        private final ITRFVersionLoader itrfVersionLoader;
-
-        /** History entries. */
-        private final List<EOPEntry> history;
+    private static class Parser extends AbstractEOPParser {
 
         /** Simple constructor.
          * @param converter converter to use
+         * @param manager manager providing the ITRF versions configuration
+         * @param utc UTC time scale
+         */
+        Parser(final IERSConventions.NutationCorrectionConverter converter,
+               final DataProvidersManager manager,
+               final TimeScale utc) {
+            this(converter, new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES, manager), utc);
+        }
+
+        /** Constructor sharing an already loaded ITRF versions configuration.
+         * @param converter converter to use
+         * @param itrfVersionLoader configuration for ITRF versions
+         * @param utc UTC time scale
          */
-        Parser(final IERSConventions.NutationCorrectionConverter converter) {
-            this.converter         = converter;
-            this.itrfVersionLoader = new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES);
-            this.history           = new ArrayList<EOPEntry>();
+        private Parser(final IERSConventions.NutationCorrectionConverter converter,
+                       final ITRFVersionLoader itrfVersionLoader,
+                       final TimeScale utc) {
+            super(converter, itrfVersionLoader, utc);
         }
 
         /** {@inheritDoc} */
-        public boolean stillAcceptsData() {
-            return true;
+        public SnapshotDataLoader newLoader() {
+            return new Parser(getConverter(), getITRFVersionLoader(), getUTC());
         }
 
         /** {@inheritDoc} */
@@ -321,7 +344,7 @@ class RapidDataAndPredictionXMLLoader implements EOPHistoryLoader {
                 } else if (qName.equals(MJD_ELT) && (buffer.length() > 0)) {
                     mjd     = Integer.parseInt(buffer.toString());
                     mjdDate = new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd),
-                                               TimeScalesFactory.getUTC());
+                                               getUTC());
                 } else if (qName.equals(UT1_M_UTC_ELT)) {
                     dtu1 = overwrite(dtu1, 1.0);
                 } else if (qName.equals(LOD_ELT)) {
@@ -349,19 +372,20 @@ class RapidDataAndPredictionXMLLoader implements EOPHistoryLoader {
                             nro = new double[] {
                                 dx, dy
                             };
-                            equinox = converter.toEquinox(mjdDate, nro[0], nro[1]);
+                            equinox = getConverter().toEquinox(mjdDate, nro[0], nro[1]);
                         } else {
                             equinox = new double[] {
                                 dpsi, deps
                             };
-                            nro = converter.toNonRotating(mjdDate, equinox[0], equinox[1]);
+                            nro = getConverter().toNonRotating(mjdDate, equinox[0], equinox[1]);
                         }
                         if (configuration == null || !configuration.isValid(mjd)) {
                             // get a configuration for current name and date range
-                            configuration = itrfVersionLoader.getConfiguration(name, mjd);
+                            configuration = getITRFVersionLoader().getConfiguration(name, mjd);
                         }
-                        history.add(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
-                                                 configuration.getVersion()));
+                        addEntry(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
+                                              configuration.getVersion(), getUTC()),
+                                 Double.isNaN(dpsi));
                     }
                 }
             }
@@ -380,7 +404,7 @@ class RapidDataAndPredictionXMLLoader implements EOPHistoryLoader {
                 } else if (qName.equals(MJD_ELT) && (buffer.length() > 0)) {
                     mjd     = Integer.parseInt(buffer.toString());
                     mjdDate = new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd),
-                                               TimeScalesFactory.getUTC());
+                                               getUTC());
                 } else if (qName.equals(UT1_U_UTC_ELT)) {
                     dtu1 = overwrite(dtu1, 1.0);
                 } else if (qName.equals(LOD_ELT)) {
@@ -408,19 +432,20 @@ class RapidDataAndPredictionXMLLoader implements EOPHistoryLoader {
                             nro = new double[] {
                                 dx, dy
                             };
-                            equinox = converter.toEquinox(mjdDate, nro[0], nro[1]);
+                            equinox = getConverter().toEquinox(mjdDate, nro[0], nro[1]);
                         } else {
                             equinox = new double[] {
                                 dpsi, deps
                             };
-                            nro = converter.toNonRotating(mjdDate, equinox[0], equinox[1]);
+                            nro = getConverter().toNonRotating(mjdDate, equinox[0], equinox[1]);
                         }
                         if (configuration == null || !configuration.isValid(mjd)) {
                             // get a configuration for current name and date range
-                            configuration = itrfVersionLoader.getConfiguration(name, mjd);
+                            configuration = getITRFVersionLoader().getConfiguration(name, mjd);
                         }
-                        history.add(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
-                                                 configuration.getVersion()));
+                        addEntry(new EOPEntry(mjd, dtu1, lod, x, y, equinox[0], equinox[1], nro[0], nro[1],
+                                              configuration.getVersion(), getUTC()),
+                                 Double.isNaN(dpsi));
                     }
                 }
             }
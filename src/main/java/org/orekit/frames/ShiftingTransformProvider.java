@@ -18,8 +18,8 @@
 package org.orekit.frames;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hipparchus.Field;
 import org.hipparchus.RealFieldElement;
@@ -29,11 +29,18 @@ import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.AngularDerivativesFilter;
 import org.orekit.utils.CartesianDerivativesFilter;
 import org.orekit.utils.GenericTimeStampedCache;
+import org.orekit.utils.TimeStampedCachesRegistry;
 
 /** Transform provider using thread-safe shifts on transforms sample.
  * <p>
  * The shifts take derivatives into account, up to user specified order.
  * </p>
+ * <p>
+ * If the raw provider depends on an {@link EOPHistory Earth Orientation Parameters
+ * history}, the cached transforms are dropped when the history {@link
+ * EOPHistory#getGeneration() generation} changes, for example after a {@link
+ * FramesFactory#reloadEOPHistory(EOPHistory) reload}.
+ * </p>
  * @see GenericTimeStampedCache
  * @see InterpolatingTransformProvider
  * @since 7.1
@@ -47,14 +54,20 @@ public class ShiftingTransformProvider implements TransformProvider {
     /** First level cache. */
     private final InterpolatingTransformProvider interpolatingProvider;
 
-    /** Cache for sample points. */
-    private final transient GenericTimeStampedCache<Transform> cache;
+    /** Maximum number of independent cached time slots. */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot. */
+    private final double maxSpan;
+
+    /** Time interval above which a new slot is created. */
+    private final double newSlotInterval;
 
-    /** Field caches for sample points. */
-    // we use Object as the value of fieldCaches because despite numerous attempts,
-    // we could not find a way to use GenericTimeStampedCache<FieldTransform<? extends RealFieldElement<?>>
-    // without the compiler complaining
-    private final transient Map<Field<? extends RealFieldElement<?>>, Object> fieldCaches;
+    /** EOP history the raw provider depends on (null if none). */
+    private final transient EOPHistory eopHistory;
+
+    /** Caches for sample points. */
+    private transient volatile Caches caches;
 
     /** Simple constructor.
      * @param rawProvider provider for raw (non-interpolated) transforms
@@ -92,11 +105,18 @@ public class ShiftingTransformProvider implements TransformProvider {
     private ShiftingTransformProvider(final InterpolatingTransformProvider interpolatingProvider,
                                      final int maxSlots, final double maxSpan, final double newSlotInterval) {
         this.interpolatingProvider = interpolatingProvider;
-        this.cache = new GenericTimeStampedCache<Transform>(2, maxSlots, maxSpan, newSlotInterval,
-                                                            new TransformGenerator(2,
-                                                                                   interpolatingProvider,
-                                                                                   interpolatingProvider.getStep()));
-        this.fieldCaches = new HashMap<>();
+        this.maxSlots              = maxSlots;
+        this.maxSpan               = maxSpan;
+        this.newSlotInterval       = newSlotInterval;
+        this.eopHistory            = FramesFactory.findProviderEOP(interpolatingProvider);
+        this.caches                = new Caches(eopHistory == null ? 0L : eopHistory.getGeneration());
+    }
+
+    /** Get the name under which the caches are registered.
+     * @return name under which the caches are registered
+     */
+    private String cacheName() {
+        return "ShiftingTransformProvider(" + getRawProvider().getClass().getSimpleName() + ")";
     }
 
     /** Get the underlying provider for raw (non-interpolated) transforms.
@@ -123,7 +143,7 @@ public class ShiftingTransformProvider implements TransformProvider {
     /** {@inheritDoc} */
     public Transform getTransform(final AbsoluteDate date) {
         // retrieve a sample from the thread-safe cache
-        final Transform closest = cache.getNeighbors(date).reduce((t0, t1) ->
+        final Transform closest = getCaches().cache.getNeighbors(date).reduce((t0, t1) ->
             FastMath.abs(date.durationFrom(t0.getDate())) < FastMath.abs(date.durationFrom(t1.getDate())) ? t0 : t1
         ).get();
         return closest.shiftedBy(date.durationFrom(closest.getDate()));
@@ -131,21 +151,8 @@ public class ShiftingTransformProvider implements TransformProvider {
 
     /** {@inheritDoc} */
     public <T extends RealFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
-        @SuppressWarnings("unchecked")
-        GenericTimeStampedCache<FieldTransform<T>> fieldCache =
-            (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
-        if (fieldCache == null) {
-            fieldCache =
-                new GenericTimeStampedCache<FieldTransform<T>>(cache.getNeighborsSize(),
-                                                               cache.getMaxSlots(),
-                                                               cache.getMaxSpan(),
-                                                               cache.getNewSlotQuantumGap(),
-                                                               new FieldTransformGenerator<>(date.getField(),
-                                                                                             cache.getNeighborsSize(),
-                                                                                             interpolatingProvider,
-                                                                                             interpolatingProvider.getStep()));
-            fieldCaches.put(date.getField(), fieldCache);
-        }
+        // retrieve (or create) the cache for this field, in a thread-safe way
+        final GenericTimeStampedCache<FieldTransform<T>> fieldCache = getCaches().getFieldCache(date.getField());
 
         // retrieve a sample from the thread-safe cache
         final FieldTransform<T> closest = fieldCache.getNeighbors(date.toAbsoluteDate()).reduce((t0, t1) ->
@@ -155,6 +162,24 @@ public class ShiftingTransformProvider implements TransformProvider {
         return closest.shiftedBy(date.durationFrom(closest.getDate()));
     }
 
+    /** Get the caches, dropping them if the EOP history has changed.
+     * @return caches consistent with the current EOP history generation
+     */
+    private Caches getCaches() {
+        final Caches current = caches;
+        if (eopHistory == null) {
+            return current;
+        }
+        final long generation = eopHistory.getGeneration();
+        if (current.generation == generation) {
+            return current;
+        }
+        // the EOP entries have been replaced, transforms computed from the former ones are stale
+        final Caches fresh = new Caches(generation);
+        caches = fresh;
+        return fresh;
+    }
+
     /** Replace the instance with a data transfer object for serialization.
      * <p>
      * This intermediate class serializes only the data needed for generation,
@@ -164,8 +189,71 @@ public class ShiftingTransformProvider implements TransformProvider {
      * @return data transfer object that will be serialized
      */
     private Object writeReplace() {
-        return new DTO(interpolatingProvider,
-                       cache.getMaxSlots(), cache.getMaxSpan(), cache.getNewSlotQuantumGap());
+        return new DTO(interpolatingProvider, maxSlots, maxSpan, newSlotInterval);
+    }
+
+    /** Caches built from one generation of EOP entries. */
+    private class Caches {
+
+        /** Generation of the EOP entries used to fill up the caches. */
+        private final long generation;
+
+        /** Cache for sample points. */
+        private final GenericTimeStampedCache<Transform> cache;
+
+        /** Field caches for sample points. */
+        // we use Object as the value of fieldCaches because despite numerous attempts,
+        // we could not find a way to use GenericTimeStampedCache<FieldTransform<? extends RealFieldElement<?>>
+        // without the compiler complaining
+        private final ConcurrentMap<Field<? extends RealFieldElement<?>>, Object> fieldCaches;
+
+        /** Simple constructor.
+         * @param generation generation of the EOP entries used to fill up the caches
+         */
+        Caches(final long generation) {
+            this.generation  = generation;
+            this.cache       = TimeStampedCachesRegistry.register(cacheName(),
+                                                                  new GenericTimeStampedCache<Transform>(2, maxSlots, maxSpan, newSlotInterval,
+                                                                                                         new TransformGenerator(2,
+                                                                                                                                interpolatingProvider,
+                                                                                                                                interpolatingProvider.getStep())));
+            this.fieldCaches = new ConcurrentHashMap<>();
+        }
+
+        /** Get the cache for field transforms, creating it if needed.
+         * <p>
+         * The map is looked up first without locking, as {@code computeIfAbsent}
+         * locks the bin even when the key is already present.
+         * </p>
+         * @param field field to which the elements belong
+         * @param <T> type of the field elements
+         * @return cache for the field
+         */
+        @SuppressWarnings("unchecked")
+        private <T extends RealFieldElement<T>> GenericTimeStampedCache<FieldTransform<T>> getFieldCache(final Field<T> field) {
+            final Object existing = fieldCaches.get(field);
+            if (existing != null) {
+                return (GenericTimeStampedCache<FieldTransform<T>>) existing;
+            }
+            return (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.computeIfAbsent(field, f -> createFieldCache((Field<T>) f));
+        }
+
+        /** Create a cache for field transforms.
+         * @param field field to which the elements belong
+         * @param <T> type of the field elements
+         * @return new cache, registered in the {@link TimeStampedCachesRegistry caches registry}
+         */
+        private <T extends RealFieldElement<T>> GenericTimeStampedCache<FieldTransform<T>> createFieldCache(final Field<T> field) {
+            final GenericTimeStampedCache<FieldTransform<T>> fieldCache =
+                            new GenericTimeStampedCache<FieldTransform<T>>(2, maxSlots, maxSpan, newSlotInterval,
+                                                                           new FieldTransformGenerator<>(field,
+                                                                                                         2,
+                                                                                                         interpolatingProvider,
+                                                                                                         interpolatingProvider.getStep()));
+            return TimeStampedCachesRegistry.register(cacheName() + "/" + field.getClass().getSimpleName(),
+                                                      fieldCache);
+        }
+
     }
 
     /** Internal class used only for serialization. */
@@ -59,8 +59,17 @@ class TIRFProvider implements EOPBasedTransformProvider {
      * @param eopHistory EOP history
      */
     protected TIRFProvider(final EOPHistory eopHistory) {
+        this(eopHistory, TimeScalesFactory.getUT1(eopHistory));
+    }
+
+    /** Simple constructor.
+     * @param eopHistory EOP history
+     * @param ut1 UT1 time scale
+     * @since 10.0
+     */
+    TIRFProvider(final EOPHistory eopHistory, final UT1Scale ut1) {
 
-        this.ut1        = TimeScalesFactory.getUT1(eopHistory);
+        this.ut1        = ut1;
         this.eopHistory = eopHistory;
         this.era        = eopHistory.getConventions().getEarthOrientationAngleFunction(ut1);
 
@@ -75,7 +84,9 @@ class TIRFProvider implements EOPBasedTransformProvider {
     /** {@inheritDoc} */
     @Override
     public TIRFProvider getNonInterpolatingProvider() {
-        return new TIRFProvider(eopHistory.getNonInterpolatingEOPHistory());
+        final EOPHistory nonInterpolating = eopHistory.getNonInterpolatingEOPHistory();
+        return new TIRFProvider(nonInterpolating,
+                                TimeScalesFactory.getUT1(nonInterpolating, ut1.getUTCScale()));
     }
 
     /** {@inheritDoc} */
@@ -47,6 +47,9 @@ class TODProvider implements EOPBasedTransformProvider {
     /** EOP history. */
     private final EOPHistory eopHistory;
 
+    /** Amplitude threshold below which nutation series terms are dropped. */
+    private final double threshold;
+
     /** Function computing the mean obliquity. */
     private final transient TimeScalarFunction obliquityFunction;
 
@@ -58,10 +61,23 @@ class TODProvider implements EOPBasedTransformProvider {
      * @param eopHistory EOP history
      */
     TODProvider(final IERSConventions conventions, final EOPHistory eopHistory) {
+        this(conventions, eopHistory, 0.0);
+    }
+
+    /** Simple constructor.
+     * @param conventions IERS conventions to apply
+     * @param eopHistory EOP history
+     * @param threshold amplitude threshold (rad) below which nutation series
+     * terms are dropped (0.0 keeps all terms)
+     * @see IERSConventions#getNutationFunction(double)
+     * @since 10.0
+     */
+    TODProvider(final IERSConventions conventions, final EOPHistory eopHistory, final double threshold) {
         this.conventions       = conventions;
         this.eopHistory        = eopHistory;
+        this.threshold         = threshold;
         this.obliquityFunction = conventions.getMeanObliquityFunction();
-        this.nutationFunction  = conventions.getNutationFunction();
+        this.nutationFunction  = conventions.getNutationFunction(threshold);
     }
 
     /** {@inheritDoc} */
@@ -73,7 +89,7 @@ class TODProvider implements EOPBasedTransformProvider {
     /** {@inheritDoc} */
     @Override
     public TODProvider getNonInterpolatingProvider() {
-        return new TODProvider(conventions, eopHistory.getNonInterpolatingEOPHistory());
+        return new TODProvider(conventions, eopHistory.getNonInterpolatingEOPHistory(), threshold);
     }
 
     /** {@inheritDoc} */
@@ -146,7 +162,7 @@ class TODProvider implements EOPBasedTransformProvider {
      * @return data transfer object that will be serialized
      */
     private Object writeReplace() {
-        return new DataTransferObject(conventions, eopHistory);
+        return new DataTransferObject(conventions, eopHistory, threshold);
     }
 
     /** Internal class used only for serialization. */
@@ -161,13 +177,19 @@ class TODProvider implements EOPBasedTransformProvider {
         /** EOP history. */
         private final EOPHistory eopHistory;
 
+        /** Amplitude threshold below which nutation series terms are dropped. */
+        private final double threshold;
+
         /** Simple constructor.
          * @param conventions IERS conventions to apply
          * @param eopHistory EOP history
+         * @param threshold amplitude threshold below which nutation series terms are dropped
          */
-        DataTransferObject(final IERSConventions conventions, final EOPHistory eopHistory) {
+        DataTransferObject(final IERSConventions conventions, final EOPHistory eopHistory,
+                           final double threshold) {
             this.conventions = conventions;
             this.eopHistory  = eopHistory;
+            this.threshold   = threshold;
         }
 
         /** Replace the deserialized data transfer object with a {@link TODProvider}.
@@ -176,7 +198,7 @@ class TODProvider implements EOPBasedTransformProvider {
         private Object readResolve() {
             try {
                 // retrieve a managed frame
-                return new TODProvider(conventions, eopHistory);
+                return new TODProvider(conventions, eopHistory, threshold);
             } catch (OrekitException oe) {
                 throw new OrekitInternalError(oe);
             }
@@ -0,0 +1,131 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import org.orekit.time.UT1Scale;
+import org.orekit.utils.AngularDerivativesFilter;
+import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.Constants;
+import org.orekit.utils.OrekitConfiguration;
+
+/** Chain of CIO-based terrestrial frames built on a specific EOP history.
+ * <p>
+ * The frames returned by {@link FramesFactory} are built once on the EOP
+ * history loaded through the shared {@link org.orekit.data.DataProvidersManager
+ * data providers manager}. This class builds the same CIRF, TIRF and ITRF
+ * chain, with the same caching settings, but on an explicit EOP history and
+ * UT1 scale. All frames are built in the constructor, so several instances
+ * using different EOP snapshots can coexist and be used concurrently.
+ * </p>
+ * <p>
+ * This class is immutable and hence thread-safe.
+ * </p>
+ * @see org.orekit.data.DataContext
+ * @since 10.0
+ */
+public class TerrestrialFrames {
+
+    /** EOP history. */
+    private final EOPHistory eopHistory;
+
+    /** UT1 scale. */
+    private final UT1Scale ut1;
+
+    /** Celestial Intermediate Reference Frame. */
+    private final Frame cirf;
+
+    /** Terrestrial Intermediate Reference Frame. */
+    private final Frame tirf;
+
+    /** International Terrestrial Reference Frame. */
+    private final Frame itrf;
+
+    /** Simple constructor.
+     * @param eopHistory EOP history
+     * @param ut1 UT1 scale, consistent with the EOP history
+     * @param name name qualifier appended to frames names
+     */
+    public TerrestrialFrames(final EOPHistory eopHistory, final UT1Scale ut1, final String name) {
+        this(eopHistory, ut1, name, 0.0);
+    }
+
+    /** Constructor with truncated CIP/CIO series.
+     * <p>
+     * The CIRF frame built by this constructor drops the CIP/CIO series terms
+     * whose amplitude is below the threshold, which is faster but less accurate.
+     * The bounds of the resulting errors can be retrieved by calling {@link
+     * org.orekit.utils.IERSConventions#getXYSpXY2Function(double)} with the same
+     * threshold.
+     * </p>
+     * @param eopHistory EOP history
+     * @param ut1 UT1 scale, consistent with the EOP history
+     * @param name name qualifier appended to frames names
+     * @param threshold amplitude threshold (rad) below which CIP/CIO series
+     * terms are dropped (0.0 keeps all terms)
+     */
+    public TerrestrialFrames(final EOPHistory eopHistory, final UT1Scale ut1, final String name,
+                             final double threshold) {
+        this.eopHistory = eopHistory;
+        this.ut1        = ut1;
+        final TransformProvider shifting =
+                        new ShiftingTransformProvider(new CIRFProvider(eopHistory, threshold),
+                                                      CartesianDerivativesFilter.USE_PVA,
+                                                      AngularDerivativesFilter.USE_R,
+                                                      6, Constants.JULIAN_DAY / 24,
+                                                      OrekitConfiguration.getCacheSlotsNumber(),
+                                                      Constants.JULIAN_YEAR, 30 * Constants.JULIAN_DAY);
+        this.cirf = new Frame(FramesFactory.getGCRF(), shifting, "CIRF/" + name, true);
+        this.tirf = new Frame(cirf, new TIRFProvider(eopHistory, ut1), "TIRF/" + name, false);
+        this.itrf = new Frame(tirf, new ITRFProvider(eopHistory), "ITRF/" + name, false);
+    }
+
+    /** Get the EOP history.
+     * @return EOP history
+     */
+    public EOPHistory getEOPHistory() {
+        return eopHistory;
+    }
+
+    /** Get the UT1 scale.
+     * @return UT1 scale
+     */
+    public UT1Scale getUT1() {
+        return ut1;
+    }
+
+    /** Get the Celestial Intermediate Reference Frame.
+     * @return Celestial Intermediate Reference Frame
+     */
+    public Frame getCIRF() {
+        return cirf;
+    }
+
+    /** Get the Terrestrial Intermediate Reference Frame.
+     * @return Terrestrial Intermediate Reference Frame
+     */
+    public Frame getTIRF() {
+        return tirf;
+    }
+
+    /** Get the International Terrestrial Reference Frame.
+     * @return International Terrestrial Reference Frame
+     */
+    public Frame getITRF() {
+        return itrf;
+    }
+
+}
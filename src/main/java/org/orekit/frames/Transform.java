@@ -25,12 +25,14 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.hipparchus.RealFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldRotation;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Line;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.RotationConvention;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeInterpolable;
 import org.orekit.time.TimeShiftable;
@@ -567,6 +569,208 @@ public class Transform
                                                                    pv.getAcceleration().add(cartesian.getAcceleration())));
     }
 
+    /** Transform positions stored in structure-of-arrays buffers (including translation effects).
+     * <p>
+     * The rotation matrix is computed only once, so this method is well suited
+     * to transform large sets of points sharing the same transform without
+     * creating any intermediate object. The buffers are updated in place.
+     * </p>
+     * @param x abscissas of the positions to transform (will be overwritten)
+     * @param y ordinates of the positions to transform (will be overwritten)
+     * @param z heights of the positions to transform (will be overwritten)
+     * @see #transformPosition(Vector3D)
+     * @since 10.0
+     */
+    public void transformPositions(final double[] x, final double[] y, final double[] z) {
+
+        checkLengths(x, y, z);
+
+        final double[][] m = angular.getRotation().getMatrix();
+        final Vector3D   t = cartesian.getPosition();
+        final double tx = t.getX();
+        final double ty = t.getY();
+        final double tz = t.getZ();
+
+        for (int i = 0; i < x.length; ++i) {
+            final double px = x[i] + tx;
+            final double py = y[i] + ty;
+            final double pz = z[i] + tz;
+            x[i] = m[0][0] * px + m[0][1] * py + m[0][2] * pz;
+            y[i] = m[1][0] * px + m[1][1] * py + m[1][2] * pz;
+            z[i] = m[2][0] * px + m[2][1] * py + m[2][2] * pz;
+        }
+
+    }
+
+    /** Transform vectors stored in structure-of-arrays buffers (ignoring translation effects).
+     * <p>
+     * The rotation matrix is computed only once, so this method is well suited
+     * to transform large sets of vectors sharing the same transform without
+     * creating any intermediate object. The buffers are updated in place.
+     * </p>
+     * @param x abscissas of the vectors to transform (will be overwritten)
+     * @param y ordinates of the vectors to transform (will be overwritten)
+     * @param z heights of the vectors to transform (will be overwritten)
+     * @see #transformVector(Vector3D)
+     * @since 10.0
+     */
+    public void transformVectors(final double[] x, final double[] y, final double[] z) {
+
+        checkLengths(x, y, z);
+
+        final double[][] m = angular.getRotation().getMatrix();
+        for (int i = 0; i < x.length; ++i) {
+            final double vx = x[i];
+            final double vy = y[i];
+            final double vz = z[i];
+            x[i] = m[0][0] * vx + m[0][1] * vy + m[0][2] * vz;
+            y[i] = m[1][0] * vx + m[1][1] * vy + m[1][2] * vz;
+            z[i] = m[2][0] * vx + m[2][1] * vy + m[2][2] * vz;
+        }
+
+    }
+
+    /** Transform positions and velocities stored in structure-of-arrays buffers
+     * (including kinematic effects).
+     * <p>
+     * The rotation matrix is computed only once, so this method is well suited
+     * to transform large sets of points sharing the same transform without
+     * creating any intermediate object. The buffers are updated in place.
+     * </p>
+     * @param x abscissas of the positions to transform (will be overwritten)
+     * @param y ordinates of the positions to transform (will be overwritten)
+     * @param z heights of the positions to transform (will be overwritten)
+     * @param vx abscissas of the velocities to transform (will be overwritten)
+     * @param vy ordinates of the velocities to transform (will be overwritten)
+     * @param vz heights of the velocities to transform (will be overwritten)
+     * @see #transformPVCoordinates(PVCoordinates)
+     * @since 10.0
+     */
+    public void transformPVCoordinates(final double[] x,  final double[] y,  final double[] z,
+                                       final double[] vx, final double[] vy, final double[] vz) {
+        transformPVCoordinates(x, y, z, vx, vy, vz, null, null, null);
+    }
+
+    /** Transform positions, velocities and accelerations stored in structure-of-arrays
+     * buffers (including kinematic effects).
+     * <p>
+     * The rotation matrix is computed only once, so this method is well suited
+     * to transform large sets of points sharing the same transform without
+     * creating any intermediate object. The buffers are updated in place.
+     * </p>
+     * @param x abscissas of the positions to transform (will be overwritten)
+     * @param y ordinates of the positions to transform (will be overwritten)
+     * @param z heights of the positions to transform (will be overwritten)
+     * @param vx abscissas of the velocities to transform (will be overwritten)
+     * @param vy ordinates of the velocities to transform (will be overwritten)
+     * @param vz heights of the velocities to transform (will be overwritten)
+     * @param ax abscissas of the accelerations to transform (will be overwritten),
+     * may be null if accelerations are not needed, in which case {@code ay} and
+     * {@code az} must also be null
+     * @param ay ordinates of the accelerations to transform (will be overwritten)
+     * @param az heights of the accelerations to transform (will be overwritten)
+     * @see #transformPVCoordinates(PVCoordinates)
+     * @since 10.0
+     */
+    public void transformPVCoordinates(final double[] x,  final double[] y,  final double[] z,
+                                       final double[] vx, final double[] vy, final double[] vz,
+                                       final double[] ax, final double[] ay, final double[] az) {
+
+        final boolean withAcceleration = ax != null;
+        if (withAcceleration) {
+            checkLengths(x, y, z, vx, vy, vz, ax, ay, az);
+        } else {
+            checkLengths(x, y, z, vx, vy, vz);
+        }
+
+        // translation part
+        final Vector3D t    = cartesian.getPosition();
+        final Vector3D tDot = cartesian.getVelocity();
+        final Vector3D tDDt = cartesian.getAcceleration();
+        final double tx     = t.getX();
+        final double ty     = t.getY();
+        final double tz     = t.getZ();
+        final double tDotX  = tDot.getX();
+        final double tDotY  = tDot.getY();
+        final double tDotZ  = tDot.getZ();
+        final double tDDtX  = tDDt.getX();
+        final double tDDtY  = tDDt.getY();
+        final double tDDtZ  = tDDt.getZ();
+
+        // rotation part
+        final double[][] m  = angular.getRotation().getMatrix();
+        final Vector3D o    = angular.getRotationRate();
+        final Vector3D oDot = angular.getRotationAcceleration();
+        final double ox     = o.getX();
+        final double oy     = o.getY();
+        final double oz     = o.getZ();
+        final double oDotX  = oDot.getX();
+        final double oDotY  = oDot.getY();
+        final double oDotZ  = oDot.getZ();
+
+        for (int i = 0; i < x.length; ++i) {
+
+            // P' = R(P + T)
+            final double px  = x[i] + tx;
+            final double py  = y[i] + ty;
+            final double pz  = z[i] + tz;
+            final double p1x = m[0][0] * px + m[0][1] * py + m[0][2] * pz;
+            final double p1y = m[1][0] * px + m[1][1] * py + m[1][2] * pz;
+            final double p1z = m[2][0] * px + m[2][1] * py + m[2][2] * pz;
+
+            // V' = R(V + dT/dt) - Ω × P'
+            final double vxi  = vx[i] + tDotX;
+            final double vyi  = vy[i] + tDotY;
+            final double vzi  = vz[i] + tDotZ;
+            final double opx  = oy * p1z - oz * p1y;
+            final double opy  = oz * p1x - ox * p1z;
+            final double opz  = ox * p1y - oy * p1x;
+            final double v1x  = m[0][0] * vxi + m[0][1] * vyi + m[0][2] * vzi - opx;
+            final double v1y  = m[1][0] * vxi + m[1][1] * vyi + m[1][2] * vzi - opy;
+            final double v1z  = m[2][0] * vxi + m[2][1] * vyi + m[2][2] * vzi - opz;
+
+            if (withAcceleration) {
+                // A' = R(A + d²T/dt²) - 2 Ω × V' - Ω × (Ω × P') - dΩ/dt × P'
+                final double axi  = ax[i] + tDDtX;
+                final double ayi  = ay[i] + tDDtY;
+                final double azi  = az[i] + tDDtZ;
+                final double ovx  = oy * v1z - oz * v1y;
+                final double ovy  = oz * v1x - ox * v1z;
+                final double ovz  = ox * v1y - oy * v1x;
+                final double oopx = oy * opz - oz * opy;
+                final double oopy = oz * opx - ox * opz;
+                final double oopz = ox * opy - oy * opx;
+                final double odpx = oDotY * p1z - oDotZ * p1y;
+                final double odpy = oDotZ * p1x - oDotX * p1z;
+                final double odpz = oDotX * p1y - oDotY * p1x;
+                ax[i] = m[0][0] * axi + m[0][1] * ayi + m[0][2] * azi - 2 * ovx - oopx - odpx;
+                ay[i] = m[1][0] * axi + m[1][1] * ayi + m[1][2] * azi - 2 * ovy - oopy - odpy;
+                az[i] = m[2][0] * axi + m[2][1] * ayi + m[2][2] * azi - 2 * ovz - oopz - odpz;
+            }
+
+            x[i]  = p1x;
+            y[i]  = p1y;
+            z[i]  = p1z;
+            vx[i] = v1x;
+            vy[i] = v1y;
+            vz[i] = v1z;
+
+        }
+
+    }
+
+    /** Check structure-of-arrays buffers all have the same length.
+     * @param arrays buffers to check
+     */
+    private static void checkLengths(final double[]... arrays) {
+        for (final double[] array : arrays) {
+            if (array.length != arrays[0].length) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         array.length, arrays[0].length);
+            }
+        }
+    }
+
     /** Compute the Jacobian of the {@link #transformPVCoordinates(PVCoordinates)}
      * method of the transform.
      * <p>
@@ -804,6 +1008,26 @@ public class Transform
             return pv;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public void transformPositions(final double[] x, final double[] y, final double[] z) {
+            // nothing to do
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void transformVectors(final double[] x, final double[] y, final double[] z) {
+            // nothing to do
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void transformPVCoordinates(final double[] x,  final double[] y,  final double[] z,
+                                           final double[] vx, final double[] vy, final double[] vz,
+                                           final double[] ax, final double[] ay, final double[] az) {
+            // nothing to do
+        }
+
         /** {@inheritDoc} */
         @Override
         public void getJacobian(final CartesianDerivativesFilter selector, final double[][] jacobian) {
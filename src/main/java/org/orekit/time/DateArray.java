@@ -0,0 +1,313 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+
+/** Compact chronological sequence of dates.
+ * <p>
+ * Each {@link AbsoluteDate} is an object holding a {@code long} and a {@code double},
+ * so storing a very large number of dates (for example the epochs of a long ephemeris
+ * or measurements set) in a {@code List<AbsoluteDate>} wastes a lot of memory in object
+ * headers and references. This class stores the same two fields in parallel primitive
+ * arrays and creates {@link AbsoluteDate} instances only on demand.
+ * </p>
+ * <p>
+ * As it implements {@code List<AbsoluteDate>}, instances can be used wherever a list or
+ * a collection of dates is expected, and in particular {@link
+ * org.orekit.utils.ImmutableTimeStampedCache ImmutableTimeStampedCache&lt;AbsoluteDate&gt;}
+ * uses them directly without copying. Searches ({@link #floorIndex(AbsoluteDate)}) and
+ * windowing ({@link #window(AbsoluteDate, AbsoluteDate)}, {@link #subList(int, int)}) work
+ * directly on the primitive arrays, windows share the arrays of the original sequence.
+ * </p>
+ * <p>
+ * Dates are always sorted in non-decreasing chronological order. Instances are built
+ * either from an existing collection or incrementally using a {@link Builder}, which
+ * can also parse dates directly from text using a {@link DateTimeCodec}.
+ * </p>
+ * <p>
+ * This class is immutable and hence thread-safe.
+ * </p>
+ * @see Builder
+ * @since 10.0
+ */
+public class DateArray extends AbstractList<AbsoluteDate> implements RandomAccess {
+
+    /** Whole seconds from 2000-01-01T12:00:00 TAI. */
+    private final long[] epochs;
+
+    /** Fractional seconds, between 0.0 (included) and 1.0 (excluded). */
+    private final double[] offsets;
+
+    /** Index of the first date in the arrays. */
+    private final int first;
+
+    /** Number of dates. */
+    private final int size;
+
+    /** Build a sequence from a collection of time stamped elements.
+     * @param stamped time stamped elements, in chronological order
+     * @exception OrekitIllegalArgumentException if elements are not in chronological order
+     */
+    public DateArray(final Collection<? extends TimeStamped> stamped) {
+        final Builder builder = new Builder(stamped.size());
+        for (final TimeStamped ts : stamped) {
+            builder.add(ts.getDate());
+        }
+        this.epochs  = builder.epochs;
+        this.offsets = builder.offsets;
+        this.first   = 0;
+        this.size    = builder.size;
+    }
+
+    /** Build a view on primitive arrays.
+     * @param epochs whole seconds from 2000-01-01T12:00:00 TAI
+     * @param offsets fractional seconds
+     * @param first index of the first date in the arrays
+     * @param size number of dates
+     */
+    private DateArray(final long[] epochs, final double[] offsets, final int first, final int size) {
+        this.epochs  = epochs;
+        this.offsets = offsets;
+        this.first   = first;
+        this.size    = size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate get(final int index) {
+        checkIndex(index);
+        return new AbsoluteDate(epochs[first + index], offsets[first + index]);
+    }
+
+    /** Get the whole seconds part of a date.
+     * @param index index of the date
+     * @return whole seconds from 2000-01-01T12:00:00 TAI
+     * @see DateTimeCodec#toDate(long, double)
+     */
+    public long getEpoch(final int index) {
+        checkIndex(index);
+        return epochs[first + index];
+    }
+
+    /** Get the fractional seconds part of a date.
+     * @param index index of the date
+     * @return fractional seconds, between 0.0 (included) and 1.0 (excluded)
+     * @see DateTimeCodec#toDate(long, double)
+     */
+    public double getOffset(final int index) {
+        checkIndex(index);
+        return offsets[first + index];
+    }
+
+    /** Compute the physically elapsed duration between a date of the sequence and another instant.
+     * <p>
+     * This method is equivalent to {@code get(index).durationFrom(instant)}
+     * but does not build any intermediate object.
+     * </p>
+     * @param index index of the date
+     * @param instant instant to subtract from the date
+     * @return offset in seconds between the date and the instant
+     * (may be negative if the date is before the instant)
+     * @see AbsoluteDate#durationFrom(AbsoluteDate)
+     */
+    public double durationFrom(final int index, final AbsoluteDate instant) {
+        checkIndex(index);
+        return (epochs[first + index] - instant.getEpoch()) + (offsets[first + index] - instant.getOffset());
+    }
+
+    /** Find the last date of the sequence that is before or at a specified instant.
+     * @param instant instant to locate
+     * @return index of the last date {@code d} such that {@code d <= instant},
+     * or -1 if the instant is before the first date
+     */
+    public int floorIndex(final AbsoluteDate instant) {
+        final long   epoch  = instant.getEpoch();
+        final double offset = instant.getOffset();
+        int low  = first;
+        int high = first + size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (epochs[mid] < epoch || (epochs[mid] == epoch && offsets[mid] <= offset)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high - first;
+    }
+
+    /** Get a window of the sequence.
+     * <p>
+     * The window shares the arrays of the instance, it does not copy any date.
+     * </p>
+     * @param start start of the window (included)
+     * @param end end of the window (included)
+     * @return dates of the sequence between start and end (may be empty)
+     */
+    public DateArray window(final AbsoluteDate start, final AbsoluteDate end) {
+        final int from = firstIndexNotBefore(start);
+        final int to   = FastMath.max(from, floorIndex(end) + 1);
+        return subList(from, to);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The returned list shares the arrays of the instance, it does not copy any date.
+     * </p>
+     */
+    @Override
+    public DateArray subList(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + "[ / " + size);
+        }
+        return new DateArray(epochs, offsets, first + fromIndex, toIndex - fromIndex);
+    }
+
+    /** Find the first date of the sequence that is at or after a specified instant.
+     * @param instant instant to locate
+     * @return index of the first date {@code d} such that {@code d >= instant},
+     * or {@link #size()} if the instant is after the last date
+     */
+    private int firstIndexNotBefore(final AbsoluteDate instant) {
+        final long   epoch  = instant.getEpoch();
+        final double offset = instant.getOffset();
+        int low  = first;
+        int high = first + size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (epochs[mid] < epoch || (epochs[mid] == epoch && offsets[mid] < offset)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low - first;
+    }
+
+    /** Check an index.
+     * @param index index to check
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + " / " + size);
+        }
+    }
+
+    /** Builder for {@link DateArray}.
+     * <p>
+     * Dates must be added in non-decreasing chronological order.
+     * </p>
+     */
+    public static class Builder {
+
+        /** Whole seconds from 2000-01-01T12:00:00 TAI. */
+        private long[] epochs;
+
+        /** Fractional seconds. */
+        private double[] offsets;
+
+        /** Number of dates already added. */
+        private int size;
+
+        /** Simple constructor.
+         * @param capacity expected number of dates (the builder grows as needed)
+         */
+        public Builder(final int capacity) {
+            this.epochs  = new long[FastMath.max(capacity, 1)];
+            this.offsets = new double[epochs.length];
+            this.size    = 0;
+        }
+
+        /** Add a date.
+         * @param date date to add
+         * @return this builder
+         * @exception OrekitIllegalArgumentException if the date is before the last date added
+         */
+        public Builder add(final AbsoluteDate date) {
+            ensureCapacity();
+            epochs[size]  = date.getEpoch();
+            offsets[size] = date.getOffset();
+            return commit();
+        }
+
+        /** Parse and add a date.
+         * @param codec codec to use for parsing
+         * @param text text containing the date in ISO-8601 format
+         * @param start index of the first character of the date in the text
+         * @param end index after the last character of the date in the text
+         * @return this builder
+         * @exception OrekitIllegalArgumentException if the text cannot be parsed
+         * or if the date is before the last date added
+         */
+        public Builder parse(final DateTimeCodec codec, final CharSequence text, final int start, final int end) {
+            ensureCapacity();
+            codec.parse(text, start, end, epochs, offsets, size);
+            return commit();
+        }
+
+        /** Build the sequence.
+         * <p>
+         * The builder can be reused after this call, dates added later
+         * will not appear in the already built sequence.
+         * </p>
+         * @return sequence of the dates added so far
+         */
+        public DateArray build() {
+            return new DateArray(Arrays.copyOf(epochs, size), Arrays.copyOf(offsets, size), 0, size);
+        }
+
+        /** Make room for one more date. */
+        private void ensureCapacity() {
+            if (size == epochs.length) {
+                final int newLength = epochs.length + (epochs.length >> 1) + 1;
+                epochs  = Arrays.copyOf(epochs,  newLength);
+                offsets = Arrays.copyOf(offsets, newLength);
+            }
+        }
+
+        /** Commit the date just stored after checking chronological order.
+         * @return this builder
+         */
+        private Builder commit() {
+            if (size > 0 &&
+                (epochs[size] < epochs[size - 1] ||
+                 (epochs[size] == epochs[size - 1] && offsets[size] < offsets[size - 1]))) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
+                                                         new AbsoluteDate(epochs[size - 1], offsets[size - 1]),
+                                                         new AbsoluteDate(epochs[size], offsets[size]));
+            }
+            ++size;
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,621 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+
+/** Streaming parser and formatter for ISO-8601 dates in one time scale.
+ * <p>
+ * This class is intended for bulk conversions, for example when reading
+ * tracking logs or writing ephemeris files with millions of dates. It
+ * produces exactly the same results as {@link AbsoluteDate#AbsoluteDate(String,
+ * TimeScale)} and {@link AbsoluteDate#toString(TimeScale)}, but it works on
+ * {@link CharSequence} slices (hence also on {@link java.nio.CharBuffer}) and
+ * {@link StringBuilder}, does not use regular expressions nor {@link
+ * DecimalFormat} (except for rare rounding ties), and caches the date and time scale offset of the
+ * last day processed. When consecutive dates belong to the same day, parsing
+ * and formatting do not allocate any object.
+ * </p>
+ * <p>
+ * Dates can be stored in primitive arrays, using the same representation as
+ * {@link AbsoluteDate}: a whole number of seconds from 2000-01-01T12:00:00 TAI
+ * (beware, it is not {@link AbsoluteDate#J2000_EPOCH} since it is in TAI and not
+ * in TT) in a {@code long} and a fractional part between 0.0 (included) and 1.0
+ * (excluded) in a {@code double}.
+ * </p>
+ * <p>
+ * The calendar date formats (YYYY-MM-DD and YYYYMMDD) are parsed directly, the
+ * ordinal and week date formats are delegated to {@link DateComponents#parseDate(String)}.
+ * </p>
+ * <p>
+ * This class is <em>not</em> thread-safe, each thread should use its own instance.
+ * </p>
+ * @see DateTimeComponents#parseDateTime(String)
+ * @see AbsoluteDate#toString(TimeScale)
+ * @since 10.0
+ */
+public class DateTimeCodec {
+
+    /** Number of seconds in one day. */
+    private static final long DAY = 86400l;
+
+    /** Maximum number of fractional digits of seconds parsed without {@link Double#parseDouble(String)}. */
+    private static final int MAX_DIGITS = 13;
+
+    /** Last time of day. */
+    private static final TimeComponents END_OF_DAY = new TimeComponents(23, 59, 59);
+
+    /** Powers of 10. */
+    private static final double[] POWERS_OF_TEN = new double[MAX_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+            POWERS_OF_TEN[i] = 10.0 * POWERS_OF_TEN[i - 1];
+        }
+    }
+
+    /** Time scale. */
+    private final TimeScale timeScale;
+
+    /** Indicator for time scales whose offset can be cached per day. */
+    private final boolean cacheable;
+
+    /** Last date parsed. */
+    private DateComponents parsedDate;
+
+    /** Modified Julian Day of the cached offset to TAI. */
+    private int offsetToTAIDay;
+
+    /** Cached offset to TAI. */
+    private double offsetToTAI;
+
+    /** Hour number of the last parsed time. */
+    private int hour;
+
+    /** Minute number of the last parsed time. */
+    private int minute;
+
+    /** Second number of the last parsed time. */
+    private double second;
+
+    /** Offset from UTC of the last parsed time. */
+    private int minutesFromUTC;
+
+    /** Whole seconds of the last parsed date. */
+    private long parsedEpoch;
+
+    /** Fractional seconds of the last parsed date. */
+    private double parsedOffset;
+
+    /** Start of the interval where the offset from TAI is cached (included). */
+    private long offsetFromTAIStart;
+
+    /** End of the interval where the offset from TAI is cached (excluded). */
+    private long offsetFromTAIEnd;
+
+    /** Cached offset from TAI. */
+    private double offsetFromTAI;
+
+    /** Last date formatted. */
+    private DateComponents formattedDate;
+
+    /** Format for seconds, used only for rounding ties (lazily built). */
+    private DecimalFormat secondsFormat;
+
+    /** Simple constructor.
+     * @param timeScale time scale in which dates are parsed and formatted
+     */
+    public DateTimeCodec(final TimeScale timeScale) {
+        this.timeScale          = timeScale;
+        this.cacheable          = timeScale instanceof UTCScale     ||
+                                  timeScale instanceof TAIScale     ||
+                                  timeScale instanceof TTScale      ||
+                                  timeScale instanceof GPSScale     ||
+                                  timeScale instanceof GalileoScale ||
+                                  timeScale instanceof QZSSScale    ||
+                                  timeScale instanceof BDTScale     ||
+                                  timeScale instanceof IRNSSScale;
+        this.parsedDate         = DateComponents.J2000_EPOCH;
+        this.offsetToTAIDay     = Integer.MIN_VALUE;
+        this.offsetFromTAIStart = 0l;
+        this.offsetFromTAIEnd   = 0l;
+        this.formattedDate      = DateComponents.J2000_EPOCH;
+    }
+
+    /** Get the time scale.
+     * @return time scale in which dates are parsed and formatted
+     */
+    public TimeScale getTimeScale() {
+        return timeScale;
+    }
+
+    /** Parse a date.
+     * @param text text containing the date in ISO-8601 format
+     * @return parsed date
+     * @see AbsoluteDate#AbsoluteDate(String, TimeScale)
+     */
+    public AbsoluteDate parse(final CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /** Parse a date.
+     * @param text text containing the date in ISO-8601 format
+     * @param start index of the first character of the date in the text
+     * @param end index after the last character of the date in the text
+     * @return parsed date
+     * @see AbsoluteDate#AbsoluteDate(String, TimeScale)
+     */
+    public AbsoluteDate parse(final CharSequence text, final int start, final int end) {
+        parseDateTime(text, start, end);
+        return new AbsoluteDate(parsedEpoch, parsedOffset);
+    }
+
+    /** Parse a date and store it in primitive arrays.
+     * @param text text containing the date in ISO-8601 format
+     * @param start index of the first character of the date in the text
+     * @param end index after the last character of the date in the text
+     * @param epochs array where to store the whole seconds from 2000-01-01T12:00:00 TAI
+     * @param offsets array where to store the fractional seconds
+     * @param index index in the arrays where to store the date
+     */
+    public void parse(final CharSequence text, final int start, final int end,
+                      final long[] epochs, final double[] offsets, final int index) {
+        parseDateTime(text, start, end);
+        epochs[index]  = parsedEpoch;
+        offsets[index] = parsedOffset;
+    }
+
+    /** Build a date from its primitive representation.
+     * @param epoch whole seconds from 2000-01-01T12:00:00 TAI
+     * @param offset fractional seconds, between 0.0 (included) and 1.0 (excluded)
+     * @return date
+     */
+    public static AbsoluteDate toDate(final long epoch, final double offset) {
+        return new AbsoluteDate(epoch, offset);
+    }
+
+    /** Format a date.
+     * @param date date to format
+     * @param builder builder where to append the date in ISO-8601 format
+     * @return the builder
+     * @see AbsoluteDate#toString(TimeScale)
+     */
+    public StringBuilder format(final AbsoluteDate date, final StringBuilder builder) {
+        return format(date.getEpoch(), date.getOffset(), builder);
+    }
+
+    /** Format a date from its primitive representation.
+     * @param epoch whole seconds from 2000-01-01T12:00:00 TAI
+     * @param offset fractional seconds, between 0.0 (included) and 1.0 (excluded)
+     * @param builder builder where to append the date in ISO-8601 format
+     * @return the builder
+     * @see AbsoluteDate#toString(TimeScale)
+     */
+    public StringBuilder format(final long epoch, final double offset, final StringBuilder builder) {
+
+        if (Double.isInfinite(offset)) {
+            // past and future infinity are not worth optimizing
+            return builder.append(new AbsoluteDate(epoch, offset).toString(timeScale));
+        }
+
+        final double taiOffset;
+        final double leap;
+        final int    minuteDuration;
+        if ((epoch >= offsetFromTAIStart && epoch < offsetFromTAIEnd) || updateOffsetFromTAI(epoch)) {
+            // no leap second may occur in the cached interval
+            taiOffset      = offsetFromTAI;
+            leap           = 0.0;
+            minuteDuration = 60;
+        } else {
+            final AbsoluteDate date = new AbsoluteDate(epoch, offset);
+            taiOffset      = timeScale.offsetFromTAI(date);
+            leap           = timeScale.insideLeap(date) ? timeScale.getLeap(date) : 0.0;
+            minuteDuration = timeScale.minuteDuration(date);
+        }
+
+        // compute offset from 2000-01-01T00:00:00 in time scale exactly,
+        // using the same Møller-Knuth TwoSum algorithm as AbsoluteDate.getComponents
+        // the following statements must NOT be simplified, they rely on floating point
+        // arithmetic properties (rounding and representable numbers)
+        final double sum       = offset + taiOffset;
+        final double oPrime    = sum - taiOffset;
+        final double dPrime    = sum - oPrime;
+        final double deltaO    = offset - oPrime;
+        final double deltaD    = taiOffset - dPrime;
+        final double residual  = deltaO + deltaD;
+
+        // split date and time
+        final long   carry = (long) FastMath.floor(sum);
+        double offset2000B = (sum - carry) + residual;
+        long   offset2000A = epoch + carry + 43200l;
+        if (offset2000B < 0) {
+            offset2000A -= 1;
+            offset2000B += 1;
+        }
+        long time = offset2000A % DAY;
+        if (time < 0l) {
+            time += DAY;
+        }
+        int j2000Day = (int) ((offset2000A - time) / DAY);
+
+        // extract clock elements, as in TimeComponents(int, double)
+        final int    secondCarry = (int) FastMath.floor(offset2000B);
+        int          wholeSeconds = (int) time + secondCarry;
+        final double fractional   = offset2000B - secondCarry;
+        if (wholeSeconds < 0 || wholeSeconds > DAY) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.OUT_OF_RANGE_SECONDS_NUMBER,
+                                                     wholeSeconds + fractional);
+        }
+        int h = wholeSeconds / 3600;
+        wholeSeconds -= 3600 * h;
+        int m = wholeSeconds / 60;
+        wholeSeconds -= 60 * m;
+        double s = wholeSeconds + fractional + leap;
+
+        if (s >= minuteDuration - 0.0005) {
+            // we should wrap around next millisecond, as in DateTimeComponents.toString(int)
+            s = 0;
+            ++m;
+            if (m > 59) {
+                m = 0;
+                ++h;
+                if (h > 23) {
+                    h = 0;
+                    ++j2000Day;
+                }
+            }
+        }
+
+        if (j2000Day != formattedDate.getJ2000Day()) {
+            formattedDate = new DateComponents(j2000Day);
+        }
+
+        appendPadded(builder, formattedDate.getYear(), 4).append('-');
+        appendPadded(builder, formattedDate.getMonth(), 2).append('-');
+        appendPadded(builder, formattedDate.getDay(), 2).append('T');
+        appendPadded(builder, h, 2).append(':');
+        appendPadded(builder, m, 2).append(':');
+        return appendSeconds(builder, s);
+
+    }
+
+    /** Try to cache the offset from TAI for the day containing an epoch.
+     * @param epoch whole seconds from 2000-01-01T12:00:00 TAI
+     * @return true if the offset could be cached
+     */
+    private boolean updateOffsetFromTAI(final long epoch) {
+        if (!cacheable) {
+            return false;
+        }
+        final long   start   = epoch - FastMath.floorMod(epoch, DAY);
+        final double atStart = timeScale.offsetFromTAI(new AbsoluteDate(start, 0.0));
+        // look one minute beyond the day so a leap second occurring just after
+        // the interval still changes the minute duration at the end of the interval
+        final double atEnd   = timeScale.offsetFromTAI(new AbsoluteDate(start + DAY + 61l, 0.0));
+        if (atStart != atEnd) {
+            // there is either a leap second or a drift (UTC before 1972) in this interval
+            return false;
+        }
+        offsetFromTAIStart = start;
+        offsetFromTAIEnd   = start + DAY;
+        offsetFromTAI      = atStart;
+        return true;
+    }
+
+    /** Append a number of seconds rounded to milliseconds, as {@link TimeComponents#toString()} does.
+     * @param builder builder where to append the seconds
+     * @param s number of seconds
+     * @return the builder
+     */
+    private StringBuilder appendSeconds(final StringBuilder builder, final double s) {
+        final double scaled  = 1000 * s;
+        final double rounded = FastMath.rint(scaled);
+        if (FastMath.abs(scaled - rounded) == 0.5) {
+            // the product is exactly halfway, so we let DecimalFormat
+            // decide how to round, just as TimeComponents does
+            if (secondsFormat == null) {
+                secondsFormat = new DecimalFormat("00.000", new DecimalFormatSymbols(Locale.US));
+            }
+            return builder.append(secondsFormat.format(s));
+        }
+        final long milliseconds = (long) rounded;
+        appendPadded(builder, (int) (milliseconds / 1000), 2).append('.');
+        return appendPadded(builder, (int) (milliseconds % 1000), 3);
+    }
+
+    /** Append a zero-padded integer.
+     * @param builder builder where to append the integer
+     * @param value integer to append
+     * @param width minimum number of digits
+     * @return the builder
+     */
+    private static StringBuilder appendPadded(final StringBuilder builder, final int value, final int width) {
+        int abs = value;
+        if (value < 0) {
+            builder.append('-');
+            abs = -value;
+        }
+        for (int threshold = 10, i = 1; i < width; threshold *= 10, ++i) {
+            if (abs < threshold) {
+                builder.append('0');
+            }
+        }
+        return builder.append(abs);
+    }
+
+    /** Parse a date and time, setting {@link #parsedEpoch} and {@link #parsedOffset}.
+     * @param text text containing the date in ISO-8601 format
+     * @param start index of the first character of the date in the text
+     * @param end index after the last character of the date in the text
+     */
+    private void parseDateTime(final CharSequence text, final int start, final int end) {
+
+        // is there a time ?
+        int tIndex = -1;
+        for (int i = start; i < end; ++i) {
+            if (text.charAt(i) == 'T') {
+                tIndex = i;
+                break;
+            }
+        }
+        final int dateEnd = tIndex > start ? tIndex : end;
+
+        // date part
+        if (!parseCalendarDate(text, start, dateEnd)) {
+            // ordinal and week dates are rare, we delegate them
+            parsedDate = DateComponents.parseDate(text.subSequence(start, dateEnd).toString());
+        }
+
+        // time part
+        if (dateEnd == end) {
+            hour           = 0;
+            minute         = 0;
+            second         = 0.0;
+            minutesFromUTC = 0;
+        } else if (!parseTime(text, dateEnd + 1, end)) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NON_EXISTENT_TIME,
+                                                     text.subSequence(dateEnd + 1, end).toString());
+        } else if (hour > 23 || minute > 59 || second >= 61.0) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NON_EXISTENT_HMS_TIME,
+                                                     hour, minute, second);
+        }
+
+        // compute sum exactly, using the same Møller-Knuth TwoSum algorithm as
+        // AbsoluteDate(DateComponents, TimeComponents, TimeScale)
+        // the following statements must NOT be simplified, they rely on floating point
+        // arithmetic properties (rounding and representable numbers)
+        final double tsOffset = getOffsetToTAI();
+        final double sum      = second + tsOffset;
+        final double sPrime   = sum - tsOffset;
+        final double tPrime   = sum - sPrime;
+        final double deltaS   = second   - sPrime;
+        final double deltaT   = tsOffset - tPrime;
+        final double residual = deltaS   + deltaT;
+        final long   dl       = (long) FastMath.floor(sum);
+
+        parsedOffset = (sum - dl) + residual;
+        parsedEpoch  = 60l * ((parsedDate.getJ2000Day() * 24l + hour) * 60l +
+                              minute - minutesFromUTC - 720l) + dl;
+
+    }
+
+    /** Get the offset to TAI for the last parsed date and time.
+     * @return offset to TAI
+     */
+    private double getOffsetToTAI() {
+
+        if (cacheable) {
+            // same day selection as in UTCScale.offsetToTAI, ignoring seconds
+            final int minuteInDay = hour * 60 + minute - minutesFromUTC;
+            final int correction  = minuteInDay < 0 ? (minuteInDay - 1439) / 1440 : minuteInDay / 1440;
+            final int mjd         = parsedDate.getMJD() + correction;
+            if (mjd == offsetToTAIDay) {
+                return offsetToTAI;
+            }
+            final DateComponents day     = new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd);
+            final double         atStart = timeScale.offsetToTAI(day, TimeComponents.H00);
+            final double         atEnd   = timeScale.offsetToTAI(day, END_OF_DAY);
+            if (atStart == atEnd) {
+                offsetToTAIDay = mjd;
+                offsetToTAI    = atStart;
+                return atStart;
+            }
+        }
+
+        // the offset changes within the day
+        return timeScale.offsetToTAI(parsedDate, new TimeComponents(hour, minute, second, minutesFromUTC));
+
+    }
+
+    /** Parse a calendar date in basic or extended format, setting {@link #parsedDate}.
+     * @param text text containing the date
+     * @param start index of the first character of the date in the text
+     * @param end index after the last character of the date in the text
+     * @return true if the text is a calendar date
+     */
+    private boolean parseCalendarDate(final CharSequence text, final int start, final int end) {
+
+        int i = start;
+        final boolean negative = i < end && text.charAt(i) == '-';
+        if (negative) {
+            ++i;
+        }
+
+        final int year = parseDigits(text, i, end, 4);
+        if (year < 0) {
+            return false;
+        }
+        i += 4;
+
+        if (i < end && text.charAt(i) == '-') {
+            ++i;
+        }
+        final int month = parseDigits(text, i, end, 2);
+        if (month < 0) {
+            return false;
+        }
+        i += 2;
+
+        if (i < end && text.charAt(i) == '-') {
+            ++i;
+        }
+        final int day = parseDigits(text, i, end, 2);
+        if (day < 0 || i + 2 != end) {
+            return false;
+        }
+
+        final int signedYear = negative ? -year : year;
+        if (signedYear != parsedDate.getYear() || month != parsedDate.getMonth() || day != parsedDate.getDay()) {
+            parsedDate = new DateComponents(signedYear, month, day);
+        }
+        return true;
+
+    }
+
+    /** Parse a time, with optional seconds and offset from UTC.
+     * @param text text containing the time
+     * @param start index of the first character of the time in the text
+     * @param end index after the last character of the time in the text
+     * @return true if the text is a time
+     */
+    private boolean parseTime(final CharSequence text, final int start, final int end) {
+
+        int i = start;
+
+        hour = parseDigits(text, i, end, 2);
+        if (hour < 0) {
+            return false;
+        }
+        i += 2;
+        if (i < end && text.charAt(i) == ':') {
+            ++i;
+        }
+
+        minute = parseDigits(text, i, end, 2);
+        if (minute < 0) {
+            return false;
+        }
+        i += 2;
+        if (i < end && text.charAt(i) == ':') {
+            ++i;
+        }
+
+        // optional seconds
+        final int wholeSeconds = parseDigits(text, i, end, 2);
+        if (wholeSeconds < 0) {
+            second = 0.0;
+        } else {
+            final int secondsStart = i;
+            i += 2;
+            if (i < end && (text.charAt(i) == '.' || text.charAt(i) == ',')) {
+                long mantissa = wholeSeconds;
+                int  n        = 0;
+                int  j        = i + 1;
+                for (int d = digit(text, j, end); d >= 0; d = digit(text, ++j, end)) {
+                    if (n < MAX_DIGITS) {
+                        mantissa = 10 * mantissa + d;
+                    }
+                    ++n;
+                }
+                if (n == 0) {
+                    return false;
+                }
+                if (n <= MAX_DIGITS) {
+                    // both numbers are exact, so the division is correctly rounded like parseDouble
+                    second = mantissa / POWERS_OF_TEN[n];
+                } else {
+                    second = Double.parseDouble(text.subSequence(secondsStart, j).toString().replace(',', '.'));
+                }
+                i = j;
+            } else {
+                second = wholeSeconds;
+            }
+        }
+
+        // optional offset from UTC
+        minutesFromUTC = 0;
+        if (i < end) {
+            final char c = text.charAt(i++);
+            if (c == 'Z') {
+                return i == end;
+            } else if (c != '+' && c != '-') {
+                return false;
+            }
+            final int hourOffset = parseDigits(text, i, end, 2);
+            if (hourOffset < 0) {
+                return false;
+            }
+            i += 2;
+            int minutesOffset = 0;
+            if (i < end) {
+                if (text.charAt(i) == ':') {
+                    ++i;
+                }
+                minutesOffset = parseDigits(text, i, end, 2);
+                if (minutesOffset < 0) {
+                    return false;
+                }
+                i += 2;
+            }
+            minutesFromUTC = (c == '-' ? -1 : +1) * (minutesOffset + 60 * hourOffset);
+        }
+
+        return i == end;
+
+    }
+
+    /** Parse a fixed number of decimal digits.
+     * @param text text containing the digits
+     * @param start index of the first digit
+     * @param end index after the last character allowed
+     * @param n number of digits
+     * @return parsed value, or -1 if there are not enough digits
+     */
+    private static int parseDigits(final CharSequence text, final int start, final int end, final int n) {
+        int value = 0;
+        for (int i = start; i < start + n; ++i) {
+            final int d = digit(text, i, end);
+            if (d < 0) {
+                return -1;
+            }
+            value = 10 * value + d;
+        }
+        return value;
+    }
+
+    /** Get a decimal digit.
+     * @param text text containing the digit
+     * @param index index of the digit
+     * @param end index after the last character allowed
+     * @return digit value, or -1 if there is no digit at this index
+     */
+    private static int digit(final CharSequence text, final int index, final int end) {
+        if (index >= end) {
+            return -1;
+        }
+        final char c = text.charAt(index);
+        return (c >= '0' && c <= '9') ? c - '0' : -1;
+    }
+
+}
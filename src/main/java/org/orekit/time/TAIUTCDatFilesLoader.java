@@ -47,18 +47,31 @@ public class TAIUTCDatFilesLoader implements UTCTAIOffsetsLoader {
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
     /** Build a loader for tai-utc.dat file from USNO.
      * @param supportedNames regular expression for supported files names
      */
     public TAIUTCDatFilesLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance());
+    }
+
+    /** Build a loader for tai-utc.dat file from USNO.
+     * @param supportedNames regular expression for supported files names
+     * @param manager manager providing the data
+     * @since 10.0
+     */
+    public TAIUTCDatFilesLoader(final String supportedNames, final DataProvidersManager manager) {
         this.supportedNames = supportedNames;
+        this.manager        = manager;
     }
 
     /** {@inheritDoc} */
     @Override
     public List<OffsetModel> loadOffsets() {
         final Parser parser = new Parser();
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
+        manager.feed(supportedNames, parser);
         return parser.getOffsets();
     }
 
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.orekit.data.DataProvidersManager;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.EOPHistory;
@@ -44,7 +45,7 @@ public class TimeScalesFactory implements Serializable {
     private static TAIScale tai = null;
 
     /** Universal Time Coordinate depscale. */
-    private static UTCScale utc = null;
+    private static volatile UTCScale utc = null;
 
     /** Universal Time 1 scale (tidal effects ignored). */
     private static Map<IERSConventions, UT1Scale> ut1MapSimpleEOP = new HashMap<IERSConventions, UT1Scale>();
@@ -171,29 +172,103 @@ public class TimeScalesFactory implements Serializable {
      * @see #addDefaultUTCTAIOffsetsLoaders()
      */
     public static UTCScale getUTC() {
+
+        // fast path without locking once the scale has been loaded, so
+        // data loaders running in parallel never wait for the factory lock
+        final UTCScale loaded = utc;
+        if (loaded != null) {
+            return loaded;
+        }
+
         synchronized (TimeScalesFactory.class) {
 
             if (utc == null) {
-                List<OffsetModel> entries = null;
                 if (loaders.isEmpty()) {
                     addDefaultUTCTAIOffsetsLoaders();
                 }
-                for (UTCTAIOffsetsLoader loader : loaders) {
-                    entries = loader.loadOffsets();
-                    if (!entries.isEmpty()) {
-                        break;
-                    }
-                }
-                if (entries.isEmpty()) {
-                    throw new OrekitException(OrekitMessages.NO_IERS_UTC_TAI_HISTORY_DATA_LOADED);
-                }
-                utc = new UTCScale(entries);
+                utc = loadUTC(loaders);
             }
 
             return utc;
         }
     }
 
+    /** Get a Universal Time Coordinate scale loaded from a specific data providers manager.
+     * <p>
+     * The scale is loaded using the default loaders (see {@link
+     * #addDefaultUTCTAIOffsetsLoaders()}) bound to the specified manager.
+     * As this method allow loading any data set, it does <em>not</em>
+     * cache the resulting {@link UTCScale UTCScale} instance, a new
+     * instance will be returned each time. It is intended to be used when
+     * building a {@link org.orekit.data.DataContext data context}.
+     * </p>
+     * @param manager manager providing the UTC-TAI offsets history files
+     * @return Universal Time Coordinate scale
+     * @see #getUTC()
+     * @since 10.0
+     */
+    public static UTCScale getUTC(final DataProvidersManager manager) {
+        final List<UTCTAIOffsetsLoader> managedLoaders = new ArrayList<UTCTAIOffsetsLoader>();
+        managedLoaders.add(new TAIUTCDatFilesLoader(TAIUTCDatFilesLoader.DEFAULT_SUPPORTED_NAMES, manager));
+        managedLoaders.add(new UTCTAIHistoryFilesLoader(manager));
+        return loadUTC(managedLoaders);
+    }
+
+    /** Reload the UTC-TAI offsets of the Universal Time Coordinate scale.
+     * <p>
+     * This method is intended for long running applications that ingest new
+     * UTC-TAI history files while running, for example using a {@link
+     * org.orekit.data.WatchingDirectoryCrawler WatchingDirectoryCrawler}. The
+     * offsets are loaded again using the current loaders and swapped atomically
+     * into the {@link UTCScale UTCScale} instance already returned by {@link
+     * #getUTC()}, so all dates, frames and models already referencing it see the
+     * new leap seconds. Concurrent readers are never blocked and see either the
+     * former offsets or the new ones. If the scale has not been loaded yet, it is
+     * simply loaded.
+     * </p>
+     * @return Universal Time Coordinate scale
+     * @see #getUTC()
+     * @since 10.0
+     */
+    public static UTCScale reloadUTC() {
+        synchronized (TimeScalesFactory.class) {
+            if (utc == null) {
+                return getUTC();
+            }
+            if (loaders.isEmpty()) {
+                addDefaultUTCTAIOffsetsLoaders();
+            }
+            utc.setOffsets(loadOffsets(loaders));
+            return utc;
+        }
+    }
+
+    /** Load a Universal Time Coordinate scale.
+     * @param offsetsLoaders loaders to try, in order
+     * @return Universal Time Coordinate scale built from the first loader providing data
+     */
+    private static UTCScale loadUTC(final List<UTCTAIOffsetsLoader> offsetsLoaders) {
+        return new UTCScale(loadOffsets(offsetsLoaders));
+    }
+
+    /** Load UTC-TAI offsets.
+     * @param offsetsLoaders loaders to try, in order
+     * @return offsets from the first loader providing data
+     */
+    private static List<OffsetModel> loadOffsets(final List<UTCTAIOffsetsLoader> offsetsLoaders) {
+        List<OffsetModel> entries = null;
+        for (UTCTAIOffsetsLoader loader : offsetsLoaders) {
+            entries = loader.loadOffsets();
+            if (!entries.isEmpty()) {
+                break;
+            }
+        }
+        if (entries == null || entries.isEmpty()) {
+            throw new OrekitException(OrekitMessages.NO_IERS_UTC_TAI_HISTORY_DATA_LOADED);
+        }
+        return entries;
+    }
+
     /** Get the Universal Time 1 scale.
      * <p>
      * UT1 scale depends on both UTC scale and Earth Orientation Parameters,
@@ -238,7 +313,25 @@ public class TimeScalesFactory implements Serializable {
      * @see #getUT1(IERSConventions, boolean)
      */
     public static UT1Scale getUT1(final EOPHistory history) {
-        return new UT1Scale(history, getUTC());
+        return getUT1(history, getUTC());
+    }
+
+    /** Get the Universal Time 1 scale.
+     * <p>
+     * As this method allow associating any history and UTC scale with the time scale,
+     * it does <em>not</em> cache the resulting {@link UT1Scale UT1Scale} instance,
+     * a new instance will be returned each time. It is intended to be used when
+     * building a {@link org.orekit.data.DataContext data context}.
+     * </p>
+     * @param history EOP parameters providing dUT1
+     * (may be null if no correction is desired)
+     * @param utcScale UTC scale the UT1 scale refers to
+     * @return Universal Time 1 scale
+     * @see #getUT1(EOPHistory)
+     * @since 10.0
+     */
+    public static UT1Scale getUT1(final EOPHistory history, final UTCScale utcScale) {
+        return new UT1Scale(history, utcScale);
     }
 
     /** Get the Terrestrial Time scale.
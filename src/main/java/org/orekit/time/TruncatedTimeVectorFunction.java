@@ -0,0 +1,69 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import org.hipparchus.RealFieldElement;
+
+/** Multi-valued function of time evaluated from truncated series.
+ * <p>
+ * In addition to the function values, this class provides for each component
+ * a bound for the error due to the series terms that were dropped. The bound
+ * is valid only within the time span over which the truncation was checked.
+ * </p>
+ * @see org.orekit.data.PoissonSeries#truncate(double, double)
+ * @see org.orekit.utils.IERSConventions#getNutationFunction(double)
+ * @see org.orekit.utils.IERSConventions#getXYSpXY2Function(double)
+ * @since 10.0
+ */
+public class TruncatedTimeVectorFunction implements TimeVectorFunction {
+
+    /** Function evaluating the truncated series. */
+    private final TimeVectorFunction function;
+
+    /** Bounds for the truncation errors of each component. */
+    private final double[] truncationErrors;
+
+    /** Simple constructor.
+     * @param function function evaluating the truncated series
+     * @param truncationErrors bounds for the truncation errors of each component
+     */
+    public TruncatedTimeVectorFunction(final TimeVectorFunction function, final double... truncationErrors) {
+        this.function         = function;
+        this.truncationErrors = truncationErrors.clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] value(final AbsoluteDate date) {
+        return function.value(date);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends RealFieldElement<T>> T[] value(final FieldAbsoluteDate<T> date) {
+        return function.value(date);
+    }
+
+    /** Get the bounds for the truncation errors.
+     * @return bounds for the truncation errors of each component, in the same
+     * units as the function values (all zero if no terms were dropped)
+     */
+    public double[] getTruncationErrors() {
+        return truncationErrors.clone();
+    }
+
+}
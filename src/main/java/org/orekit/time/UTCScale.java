@@ -46,8 +46,8 @@ public class UTCScale implements TimeScale {
     /** Serializable UID. */
     private static final long serialVersionUID = 20150402L;
 
-    /** UTC-TAI offsets. */
-    private UTCTAIOffset[] offsets;
+    /** Current UTC-TAI offsets and lookup tables. */
+    private transient volatile OffsetsTable table;
 
     /** Package private constructor for the factory.
      * Used to create the prototype instance of this class that is used to
@@ -56,93 +56,45 @@ public class UTCScale implements TimeScale {
      * @param offsetModels UTC-TAI offsets
      */
     UTCScale(final List<OffsetModel> offsetModels) {
+        this.table = new OffsetsTable(offsetModels);
+    }
 
-        if (offsetModels.get(0).getStart().getYear() > 1968) {
-            // the pre-1972 linear offsets are missing, add them manually
-            // excerpt from UTC-TAI.history file:
-            //  1961  Jan.  1 - 1961  Aug.  1     1.422 818 0s + (MJD - 37 300) x 0.001 296s
-            //        Aug.  1 - 1962  Jan.  1     1.372 818 0s +        ""
-            //  1962  Jan.  1 - 1963  Nov.  1     1.845 858 0s + (MJD - 37 665) x 0.001 123 2s
-            //  1963  Nov.  1 - 1964  Jan.  1     1.945 858 0s +        ""
-            //  1964  Jan.  1 -       April 1     3.240 130 0s + (MJD - 38 761) x 0.001 296s
-            //        April 1 -       Sept. 1     3.340 130 0s +        ""
-            //        Sept. 1 - 1965  Jan.  1     3.440 130 0s +        ""
-            //  1965  Jan.  1 -       March 1     3.540 130 0s +        ""
-            //        March 1 -       Jul.  1     3.640 130 0s +        ""
-            //        Jul.  1 -       Sept. 1     3.740 130 0s +        ""
-            //        Sept. 1 - 1966  Jan.  1     3.840 130 0s +        ""
-            //  1966  Jan.  1 - 1968  Feb.  1     4.313 170 0s + (MJD - 39 126) x 0.002 592s
-            //  1968  Feb.  1 - 1972  Jan.  1     4.213 170 0s +        ""
-            offsetModels.add( 0, new OffsetModel(new DateComponents(1961,  1, 1), 37300, 1.4228180, 0.0012960));
-            offsetModels.add( 1, new OffsetModel(new DateComponents(1961,  8, 1), 37300, 1.3728180, 0.0012960));
-            offsetModels.add( 2, new OffsetModel(new DateComponents(1962,  1, 1), 37665, 1.8458580, 0.0011232));
-            offsetModels.add( 3, new OffsetModel(new DateComponents(1963, 11, 1), 37665, 1.9458580, 0.0011232));
-            offsetModels.add( 4, new OffsetModel(new DateComponents(1964,  1, 1), 38761, 3.2401300, 0.0012960));
-            offsetModels.add( 5, new OffsetModel(new DateComponents(1964,  4, 1), 38761, 3.3401300, 0.0012960));
-            offsetModels.add( 6, new OffsetModel(new DateComponents(1964,  9, 1), 38761, 3.4401300, 0.0012960));
-            offsetModels.add( 7, new OffsetModel(new DateComponents(1965,  1, 1), 38761, 3.5401300, 0.0012960));
-            offsetModels.add( 8, new OffsetModel(new DateComponents(1965,  3, 1), 38761, 3.6401300, 0.0012960));
-            offsetModels.add( 9, new OffsetModel(new DateComponents(1965,  7, 1), 38761, 3.7401300, 0.0012960));
-            offsetModels.add(10, new OffsetModel(new DateComponents(1965,  9, 1), 38761, 3.8401300, 0.0012960));
-            offsetModels.add(11, new OffsetModel(new DateComponents(1966,  1, 1), 39126, 4.3131700, 0.0025920));
-            offsetModels.add(12, new OffsetModel(new DateComponents(1968,  2, 1), 39126, 4.2131700, 0.0025920));
-        }
-
-        // create cache
-        offsets = new UTCTAIOffset[offsetModels.size()];
-
-        UTCTAIOffset previous = null;
-
-        // link the offsets together
-        final TimeScale tai = TimeScalesFactory.getTAI();
-        for (int i = 0; i < offsetModels.size(); ++i) {
-
-            final OffsetModel    o      = offsetModels.get(i);
-            final DateComponents date   = o.getStart();
-            final int            mjdRef = o.getMJDRef();
-            final double         offset = o.getOffset();
-            final double         slope  = o.getSlope();
-
-            // start of the leap
-            final double previousOffset    = (previous == null) ? 0.0 : previous.getOffset(date, TimeComponents.H00);
-            final AbsoluteDate leapStart   = new AbsoluteDate(date, tai).shiftedBy(previousOffset);
-
-            // end of the leap
-            final double startOffset       = offset + slope * (date.getMJD() - mjdRef);
-            final AbsoluteDate leapEnd     = new AbsoluteDate(date, tai).shiftedBy(startOffset);
-
-            // leap computed at leap start and in UTC scale
-            final double normalizedSlope   = slope / Constants.JULIAN_DAY;
-            final double leap              = leapEnd.durationFrom(leapStart) / (1 + normalizedSlope);
-
-            previous = new UTCTAIOffset(leapStart, date.getMJD(), leap, offset, mjdRef, normalizedSlope);
-            offsets[i] = previous;
-
-        }
-
+    /** Replace the UTC-TAI offsets.
+     * <p>
+     * The new offsets are swapped in atomically: concurrent calls to the
+     * other methods see either the former offsets or the new ones, never
+     * a mix of both.
+     * </p>
+     * @param offsetModels new UTC-TAI offsets
+     * @since 10.0
+     */
+    void setOffsets(final List<OffsetModel> offsetModels) {
+        this.table = new OffsetsTable(offsetModels);
     }
 
     /** {@inheritDoc} */
     @Override
     public double offsetFromTAI(final AbsoluteDate date) {
-        final int offsetIndex = findOffsetIndex(date);
+        final OffsetsTable t = table;
+        final int offsetIndex = t.findOffsetIndex(date);
         if (offsetIndex < 0) {
             // the date is before the first known leap
             return 0;
         } else {
-            return -offsets[offsetIndex].getOffset(date);
+            return -t.offsets[offsetIndex].getOffset(date);
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public <T extends RealFieldElement<T>> T offsetFromTAI(final FieldAbsoluteDate<T> date) {
-        final int offsetIndex = findOffsetIndex(date.toAbsoluteDate());
+        final OffsetsTable t = table;
+        final int offsetIndex = t.findOffsetIndex(date.toAbsoluteDate());
         if (offsetIndex < 0) {
             // the date is before the first known leap
             return date.getField().getZero();
         } else {
-            return offsets[offsetIndex].getOffset(date).negate();
+            return t.offsets[offsetIndex].getOffset(date).negate();
         }
     }
 
@@ -159,7 +111,7 @@ public class UTCScale implements TimeScale {
 
         // find close neighbors, assuming date in TAI, i.e a date earlier than real UTC date
         final int mjd = date.getMJD() + correction;
-        final UTCTAIOffset offset = findOffset(mjd);
+        final UTCTAIOffset offset = table.findOffset(mjd);
         if (offset == null) {
             // the date is before the first known leap
             return 0;
@@ -183,25 +135,27 @@ public class UTCScale implements TimeScale {
      * @return date of the first known leap second
      */
     public AbsoluteDate getFirstKnownLeapSecond() {
-        return offsets[0].getDate();
+        return table.offsets[0].getDate();
     }
 
     /** Get the date of the last known leap second.
      * @return date of the last known leap second
      */
     public AbsoluteDate getLastKnownLeapSecond() {
-        return offsets[offsets.length - 1].getDate();
+        final OffsetsTable t = table;
+        return t.offsets[t.offsets.length - 1].getDate();
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean insideLeap(final AbsoluteDate date) {
-        final int offsetIndex = findOffsetIndex(date);
+        final OffsetsTable t = table;
+        final int offsetIndex = t.findOffsetIndex(date);
         if (offsetIndex < 0) {
             // the date is before the first known leap
             return false;
         } else {
-            return date.compareTo(offsets[offsetIndex].getValidityStart()) < 0;
+            return date.compareTo(t.offsets[offsetIndex].getValidityStart()) < 0;
         }
     }
 
@@ -214,18 +168,19 @@ public class UTCScale implements TimeScale {
     /** {@inheritDoc} */
     @Override
     public int minuteDuration(final AbsoluteDate date) {
-        final int offsetIndex = findOffsetIndex(date);
+        final OffsetsTable t = table;
+        final int offsetIndex = t.findOffsetIndex(date);
         if (offsetIndex < 0) {
             // the date is before the first known leap
             return 60;
         } else {
-            if (date.compareTo(offsets[offsetIndex].getValidityStart()) < 0) {
+            if (date.compareTo(t.offsets[offsetIndex].getValidityStart()) < 0) {
                 // the date is during the leap itself
                 return 61;
             } else {
                 // the date is after a leap, but it may be just before the next one
-                if (offsetIndex + 1 < offsets.length &&
-                    offsets[offsetIndex + 1].getDate().durationFrom(date) <= 60.0) {
+                if (offsetIndex + 1 < t.offsets.length &&
+                    t.offsets[offsetIndex + 1].getDate().durationFrom(date) <= 60.0) {
                     // the next leap will start in one minute, it will extend the current minute
                     return 61;
                 } else {
@@ -245,12 +200,13 @@ public class UTCScale implements TimeScale {
     /** {@inheritDoc} */
     @Override
     public double getLeap(final AbsoluteDate date) {
-        final int offsetIndex = findOffsetIndex(date);
+        final OffsetsTable t = table;
+        final int offsetIndex = t.findOffsetIndex(date);
         if (offsetIndex < 0) {
             // the date is before the first known leap
             return 0;
         } else {
-            return offsets[offsetIndex].getLeap();
+            return t.offsets[offsetIndex].getLeap();
         }
     }
 
@@ -260,56 +216,159 @@ public class UTCScale implements TimeScale {
         return date.getField().getZero().add(getLeap(date.toAbsoluteDate()));
     }
 
-    /** Find the index of the offset valid at some date.
-     * @param date date at which offset is requested
-     * @return index of the offset valid at this date, or -1 if date is before first offset.
-     */
-    private int findOffsetIndex(final AbsoluteDate date) {
-        int inf = 0;
-        int sup = offsets.length;
-        while (sup - inf > 1) {
-            final int middle = (inf + sup) >>> 1;
-            if (date.compareTo(offsets[middle].getDate()) < 0) {
-                sup = middle;
-            } else {
-                inf = middle;
+    /** Immutable UTC-TAI offsets with constant time lookup tables. */
+    private static class OffsetsTable {
+
+        /** UTC-TAI offsets. */
+        private final UTCTAIOffset[] offsets;
+
+        /** Start of the first day covered by the {@link #dayIndices} lookup table. */
+        private final AbsoluteDate firstDay;
+
+        /** Index of the offset valid at start of each day since {@link #firstDay}. */
+        private final int[] dayIndices;
+
+        /** Modified Julian Day of the first offset. */
+        private final int firstMJD;
+
+        /** Index of the offset valid at each Modified Julian Day since {@link #firstMJD}. */
+        private final int[] mjdIndices;
+
+        /** Simple constructor.
+         * @param offsetModels UTC-TAI offsets
+         */
+        OffsetsTable(final List<OffsetModel> offsetModels) {
+
+            if (offsetModels.get(0).getStart().getYear() > 1968) {
+                // the pre-1972 linear offsets are missing, add them manually
+                // excerpt from UTC-TAI.history file:
+                //  1961  Jan.  1 - 1961  Aug.  1     1.422 818 0s + (MJD - 37 300) x 0.001 296s
+                //        Aug.  1 - 1962  Jan.  1     1.372 818 0s +        ""
+                //  1962  Jan.  1 - 1963  Nov.  1     1.845 858 0s + (MJD - 37 665) x 0.001 123 2s
+                //  1963  Nov.  1 - 1964  Jan.  1     1.945 858 0s +        ""
+                //  1964  Jan.  1 -       April 1     3.240 130 0s + (MJD - 38 761) x 0.001 296s
+                //        April 1 -       Sept. 1     3.340 130 0s +        ""
+                //        Sept. 1 - 1965  Jan.  1     3.440 130 0s +        ""
+                //  1965  Jan.  1 -       March 1     3.540 130 0s +        ""
+                //        March 1 -       Jul.  1     3.640 130 0s +        ""
+                //        Jul.  1 -       Sept. 1     3.740 130 0s +        ""
+                //        Sept. 1 - 1966  Jan.  1     3.840 130 0s +        ""
+                //  1966  Jan.  1 - 1968  Feb.  1     4.313 170 0s + (MJD - 39 126) x 0.002 592s
+                //  1968  Feb.  1 - 1972  Jan.  1     4.213 170 0s +        ""
+                offsetModels.add( 0, new OffsetModel(new DateComponents(1961,  1, 1), 37300, 1.4228180, 0.0012960));
+                offsetModels.add( 1, new OffsetModel(new DateComponents(1961,  8, 1), 37300, 1.3728180, 0.0012960));
+                offsetModels.add( 2, new OffsetModel(new DateComponents(1962,  1, 1), 37665, 1.8458580, 0.0011232));
+                offsetModels.add( 3, new OffsetModel(new DateComponents(1963, 11, 1), 37665, 1.9458580, 0.0011232));
+                offsetModels.add( 4, new OffsetModel(new DateComponents(1964,  1, 1), 38761, 3.2401300, 0.0012960));
+                offsetModels.add( 5, new OffsetModel(new DateComponents(1964,  4, 1), 38761, 3.3401300, 0.0012960));
+                offsetModels.add( 6, new OffsetModel(new DateComponents(1964,  9, 1), 38761, 3.4401300, 0.0012960));
+                offsetModels.add( 7, new OffsetModel(new DateComponents(1965,  1, 1), 38761, 3.5401300, 0.0012960));
+                offsetModels.add( 8, new OffsetModel(new DateComponents(1965,  3, 1), 38761, 3.6401300, 0.0012960));
+                offsetModels.add( 9, new OffsetModel(new DateComponents(1965,  7, 1), 38761, 3.7401300, 0.0012960));
+                offsetModels.add(10, new OffsetModel(new DateComponents(1965,  9, 1), 38761, 3.8401300, 0.0012960));
+                offsetModels.add(11, new OffsetModel(new DateComponents(1966,  1, 1), 39126, 4.3131700, 0.0025920));
+                offsetModels.add(12, new OffsetModel(new DateComponents(1968,  2, 1), 39126, 4.2131700, 0.0025920));
+            }
+
+            // create cache
+            offsets = new UTCTAIOffset[offsetModels.size()];
+
+            UTCTAIOffset previous = null;
+
+            // link the offsets together
+            final TimeScale tai = TimeScalesFactory.getTAI();
+            for (int i = 0; i < offsetModels.size(); ++i) {
+
+                final OffsetModel    o      = offsetModels.get(i);
+                final DateComponents date   = o.getStart();
+                final int            mjdRef = o.getMJDRef();
+                final double         offset = o.getOffset();
+                final double         slope  = o.getSlope();
+
+                // start of the leap
+                final double previousOffset    = (previous == null) ? 0.0 : previous.getOffset(date, TimeComponents.H00);
+                final AbsoluteDate leapStart   = new AbsoluteDate(date, tai).shiftedBy(previousOffset);
+
+                // end of the leap
+                final double startOffset       = offset + slope * (date.getMJD() - mjdRef);
+                final AbsoluteDate leapEnd     = new AbsoluteDate(date, tai).shiftedBy(startOffset);
+
+                // leap computed at leap start and in UTC scale
+                final double normalizedSlope   = slope / Constants.JULIAN_DAY;
+                final double leap              = leapEnd.durationFrom(leapStart) / (1 + normalizedSlope);
+
+                previous = new UTCTAIOffset(leapStart, date.getMJD(), leap, offset, mjdRef, normalizedSlope);
+                offsets[i] = previous;
+
+            }
+
+            // set up lookup tables, so offsets search is constant time
+            // (offsets are always several months apart, so one day buckets
+            // contain at most one offset change)
+            firstDay   = offsets[0].getDate();
+            dayIndices = new int[dayBucket(offsets[offsets.length - 1].getDate()) + 1];
+            firstMJD   = offsets[0].getMJD();
+            mjdIndices = new int[offsets[offsets.length - 1].getMJD() - firstMJD + 1];
+            for (int i = 0; i < offsets.length; ++i) {
+                final int nextDay = (i + 1 < offsets.length) ? dayBucket(offsets[i + 1].getDate()) + 1 : dayIndices.length;
+                for (int j = dayBucket(offsets[i].getDate()) + ((i == 0) ? 0 : 1); j < nextDay; ++j) {
+                    dayIndices[j] = i;
+                }
+                final int nextMJD = (i + 1 < offsets.length) ? offsets[i + 1].getMJD() : firstMJD + mjdIndices.length;
+                for (int j = offsets[i].getMJD(); j < nextMJD; ++j) {
+                    mjdIndices[j - firstMJD] = i;
+                }
             }
+
         }
-        if (sup == offsets.length) {
-            // the date is after the last known leap second
-            return offsets.length - 1;
-        } else if (date.compareTo(offsets[inf].getDate()) < 0) {
-            // the date is before the first known leap
-            return -1;
-        } else {
-            return inf;
+
+        /** Get the index of the day bucket containing a date.
+         * @param date date to check (must not be before {@link #firstDay})
+         * @return index of the day bucket containing the date
+         */
+        private int dayBucket(final AbsoluteDate date) {
+            return (int) (date.durationFrom(firstDay) / Constants.JULIAN_DAY);
         }
-    }
 
-    /** Find the offset valid at some date.
-     * @param mjd Modified Julian Day of the date at which offset is requested
-     * @return offset valid at this date, or null if date is before first offset.
-     */
-    private UTCTAIOffset findOffset(final int mjd) {
-        int inf = 0;
-        int sup = offsets.length;
-        while (sup - inf > 1) {
-            final int middle = (inf + sup) >>> 1;
-            if (mjd < offsets[middle].getMJD()) {
-                sup = middle;
-            } else {
-                inf = middle;
+        /** Find the index of the offset valid at some date.
+         * @param date date at which offset is requested
+         * @return index of the offset valid at this date, or -1 if date is before first offset.
+         */
+        private int findOffsetIndex(final AbsoluteDate date) {
+            final double dt = date.durationFrom(firstDay);
+            if (dt < 0) {
+                // the date is before the first known leap
+                return -1;
+            }
+            final int bucket = (int) (dt / Constants.JULIAN_DAY);
+            if (bucket >= dayIndices.length) {
+                // the date is after the last known leap second
+                return offsets.length - 1;
             }
+            // the day bucket contains at most one offset change,
+            // which may occur after the date
+            final int index = dayIndices[bucket];
+            return (index + 1 < offsets.length && date.compareTo(offsets[index + 1].getDate()) >= 0) ?
+                   index + 1 : index;
         }
-        if (sup == offsets.length) {
-            // the date is after the last known leap second
-            return offsets[offsets.length - 1];
-        } else if (mjd < offsets[inf].getMJD()) {
-            // the date is before the first known leap
-            return null;
-        } else {
-            return offsets[inf];
+
+        /** Find the offset valid at some date.
+         * @param mjd Modified Julian Day of the date at which offset is requested
+         * @return offset valid at this date, or null if date is before first offset.
+         */
+        private UTCTAIOffset findOffset(final int mjd) {
+            final int i = mjd - firstMJD;
+            if (i < 0) {
+                // the date is before the first known leap
+                return null;
+            } else if (i >= mjdIndices.length) {
+                // the date is after the last known leap second
+                return offsets[offsets.length - 1];
+            } else {
+                return offsets[mjdIndices[i]];
+            }
         }
+
     }
 
     /** Replace the instance with a data transfer object for serialization.
@@ -64,11 +64,24 @@ public class UTCTAIBulletinAFilesLoader implements UTCTAIOffsetsLoader {
     /** Regular expression for supported files names. */
     private final String supportedNames;
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
     /** Build a loader for IERS bulletins A files.
     * @param supportedNames regular expression for supported files names
     */
     public UTCTAIBulletinAFilesLoader(final String supportedNames) {
+        this(supportedNames, DataProvidersManager.getInstance());
+    }
+
+    /** Build a loader for IERS bulletins A files.
+    * @param supportedNames regular expression for supported files names
+    * @param manager manager providing the data
+    * @since 10.0
+    */
+    public UTCTAIBulletinAFilesLoader(final String supportedNames, final DataProvidersManager manager) {
         this.supportedNames = supportedNames;
+        this.manager        = manager;
     }
 
     /** {@inheritDoc} */
@@ -76,7 +89,7 @@ public class UTCTAIBulletinAFilesLoader implements UTCTAIOffsetsLoader {
     public List<OffsetModel> loadOffsets() {
 
         final Parser parser = new Parser();
-        DataProvidersManager.getInstance().feed(supportedNames, parser);
+        manager.feed(supportedNames, parser);
         final SortedMap<Integer, Integer> taiUtc = parser.getTaiUtc();
         final SortedMap<Integer, Double>  ut1Utc = parser.getUt1Utc();
 
@@ -17,17 +17,20 @@
 package org.orekit.time;
 
 import java.io.BufferedReader;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.orekit.data.DataLoader;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.data.MergeableDataLoader;
+import org.orekit.data.SnapshotDataLoader;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 
@@ -47,20 +50,35 @@ public class UTCTAIHistoryFilesLoader implements UTCTAIOffsetsLoader {
     /** Supported files name pattern. */
     private static final String SUPPORTED_NAMES = "^UTC-TAI\\.history$";
 
+    /** Manager providing the data. */
+    private final DataProvidersManager manager;
+
     /** Build a loader for UTC-TAI history file. */
     public UTCTAIHistoryFilesLoader() {
+        this(DataProvidersManager.getInstance());
+    }
+
+    /** Build a loader for UTC-TAI history file.
+     * @param manager manager providing the data
+     * @since 10.0
+     */
+    public UTCTAIHistoryFilesLoader(final DataProvidersManager manager) {
+        this.manager = manager;
     }
 
     /** {@inheritDoc} */
     @Override
     public List<OffsetModel> loadOffsets() {
         final Parser parser = new Parser();
-        DataProvidersManager.getInstance().feed(SUPPORTED_NAMES, parser);
+        manager.feed(SUPPORTED_NAMES, parser);
         return parser.getOffsets();
     }
 
     /** Internal class performing the parsing. */
-    private static class Parser implements DataLoader {
+    private static class Parser implements SnapshotDataLoader {
+
+        /** Snapshot format. */
+        private static final String SNAPSHOT_FORMAT = "UTC-TAI history 1";
 
         /** Regular data lines pattern. */
         private Pattern regularPattern;
@@ -132,6 +150,43 @@ public class UTCTAIHistoryFilesLoader implements UTCTAIOffsetsLoader {
             return offsets.isEmpty();
         }
 
+        /** {@inheritDoc} */
+        public SnapshotDataLoader newLoader() {
+            return new Parser();
+        }
+
+        /** {@inheritDoc} */
+        public void merge(final MergeableDataLoader other) {
+            // as in sequential loading, the last file loaded replaces the previous ones
+            offsets.clear();
+            offsets.addAll(((Parser) other).offsets);
+        }
+
+        /** {@inheritDoc} */
+        public String getSnapshotFormat() {
+            return SNAPSHOT_FORMAT;
+        }
+
+        /** {@inheritDoc} */
+        public void writeSnapshot(final DataOutput output) throws IOException {
+            output.writeInt(offsets.size());
+            for (final OffsetModel offset : offsets) {
+                output.writeInt(offset.getStart().getMJD());
+                output.writeInt(offset.getMJDRef());
+                output.writeDouble(offset.getOffset());
+                output.writeDouble(offset.getSlope());
+            }
+        }
+
+        /** {@inheritDoc} */
+        public void readSnapshot(final ByteBuffer input, final String name) {
+            offsets.clear();
+            for (int n = input.getInt(); n > 0; --n) {
+                final DateComponents start = new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, input.getInt());
+                offsets.add(new OffsetModel(start, input.getInt(), input.getDouble(), input.getDouble()));
+            }
+        }
+
         /** Load UTC-TAI offsets entries read from some file.
          * @param input data input stream
          * @param name name of the file (or zip entry)
@@ -17,12 +17,12 @@
 package org.orekit.utils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
@@ -35,6 +35,21 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeStamped;
 
 /** Generic thread-safe cache for {@link TimeStamped time-stamped} data.
+ * <p>
+ * The cache content is organized as independent time slots. Slots are immutable
+ * and the list of slots is itself an immutable snapshot replaced atomically each
+ * time the cache content changes. This allows the {@link #getNeighbors(AbsoluteDate)}
+ * method to be lock-free when the requested data is already available (which is
+ * by far the most frequent case). Only cache misses, which imply generating new
+ * data, are serialized. They never block threads that read already cached data,
+ * they only create new snapshots that later readers will see.
+ * </p>
+ * <p>
+ * When the maximum number of slots is reached, the least recently used slot is
+ * evicted. In order to keep the lock-free path cheap, recency is measured using
+ * a logical clock that only advances on cache misses: a hit stamps its slot with
+ * a relaxed write, and only if the slot was not already stamped since the last miss.
+ * </p>
 
  * @param <T> Type of the cached data.
 
@@ -66,20 +81,34 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
     /** Number of entries in a neighbors array. */
     private final int neighborsSize;
 
-    /** Independent time slots cached. */
-    private final List<Slot> slots;
+    /** Independent time slots cached (immutable snapshot, replaced as a whole on updates). */
+    private final AtomicReference<List<Slot>> slots;
 
     /** Number of calls to the getNeighbors method. */
-    private final AtomicInteger getNeighborsCalls;
+    private final LongAdder getNeighborsCalls;
+
+    /** Number of calls to the getNeighbors method that could not be served from cached data. */
+    private final AtomicLong misses;
 
     /** Number of calls to the generate method. */
-    private final AtomicInteger generateCalls;
+    private final AtomicLong generateCalls;
+
+    /** Cumulated time spent in the generate method (nanoseconds). */
+    private final AtomicLong generationTime;
 
     /** Number of evictions. */
-    private final AtomicInteger evictions;
+    private final AtomicLong evictions;
 
-    /** Global lock. */
-    private final ReadWriteLock lock;
+    /** Lock serializing cache updates (readers never acquire it). */
+    private final ReentrantLock updateLock;
+
+    /** Logical clock used to stamp slots accesses, advanced by 2 on each cache miss.
+     * <p>
+     * Misses use even stamps and hits use odd stamps, so a slot hit after a miss
+     * is always considered more recent than the slot used by this miss.
+     * </p>
+     */
+    private final AtomicLong accessClock;
 
     /** Simple constructor.
      * @param neighborsSize fixed size of the arrays to be returned by {@link
@@ -109,11 +138,14 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
         this.newSlotQuantumGap = FastMath.round(newSlotInterval / QUANTUM_STEP);
         this.generator         = generator;
         this.neighborsSize     = neighborsSize;
-        this.slots             = new ArrayList<Slot>(maxSlots);
-        this.getNeighborsCalls = new AtomicInteger(0);
-        this.generateCalls     = new AtomicInteger(0);
-        this.evictions         = new AtomicInteger(0);
-        this.lock              = new ReentrantReadWriteLock();
+        this.slots             = new AtomicReference<List<Slot>>(Collections.emptyList());
+        this.getNeighborsCalls = new LongAdder();
+        this.misses            = new AtomicLong(0L);
+        this.generateCalls     = new AtomicLong(0L);
+        this.generationTime    = new AtomicLong(0L);
+        this.evictions         = new AtomicLong(0L);
+        this.updateLock        = new ReentrantLock();
+        this.accessClock       = new AtomicLong(0L);
 
     }
 
@@ -153,11 +185,42 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * <p>
      * This number of calls is used as a reference to interpret {@link #getGenerateCalls()}.
      * </p>
-     * @return number of calls to the {@link #getNeighbors(AbsoluteDate)} method
+     * @return number of calls to the {@link #getNeighbors(AbsoluteDate)} method,
+     * saturated at {@code Integer.MAX_VALUE}
      * @see #getGenerateCalls()
+     * @deprecated as of 10.0, replaced by {@link #getNeighborsCallsCount()}
      */
+    @Deprecated
     public int getGetNeighborsCalls() {
-        return getNeighborsCalls.get();
+        return saturate(getNeighborsCallsCount());
+    }
+
+    /** Get the number of calls to the {@link #getNeighbors(AbsoluteDate)} method.
+     * <p>
+     * This number of calls is used as a reference to interpret {@link #getGenerateCallsCount()}.
+     * </p>
+     * @return number of calls to the {@link #getNeighbors(AbsoluteDate)} method
+     * @see #getGenerateCallsCount()
+     * @since 10.0
+     */
+    public long getNeighborsCallsCount() {
+        return getNeighborsCalls.sum();
+    }
+
+    /** Get the number of calls to the {@link #getNeighbors(AbsoluteDate)} method that were cache misses.
+     * <p>
+     * A cache miss is a call that could not be served using already cached data
+     * and that therefore needed to acquire the update lock. Most misses trigger
+     * new calls to the generate method, but some misses may be served from data
+     * generated by another thread while the current thread was waiting for the lock.
+     * </p>
+     * @return number of cache misses
+     * @see #getGetNeighborsCalls()
+     * @see #getGenerateCalls()
+     * @since 10.0
+     */
+    public long getCacheMisses() {
+        return misses.get();
     }
 
     /** Get the number of calls to the generate method.
@@ -168,13 +231,40 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * date is far offset from the existing cache, depending on the number of
      * elements and step between elements in the arrays returned by the generator.
      * </p>
-     * @return number of calls to the generate method
+     * @return number of calls to the generate method, saturated at {@code Integer.MAX_VALUE}
      * @see #getGetNeighborsCalls()
+     * @deprecated as of 10.0, replaced by {@link #getGenerateCallsCount()}
      */
+    @Deprecated
     public int getGenerateCalls() {
+        return saturate(getGenerateCallsCount());
+    }
+
+    /** Get the number of calls to the generate method.
+     * <p>
+     * This number of calls is related to the number of cache misses and may
+     * be used to tune the cache configuration. Each cache miss implies at
+     * least one call is performed, but may require several calls if the new
+     * date is far offset from the existing cache, depending on the number of
+     * elements and step between elements in the arrays returned by the generator.
+     * </p>
+     * @return number of calls to the generate method
+     * @see #getNeighborsCallsCount()
+     * @since 10.0
+     */
+    public long getGenerateCallsCount() {
         return generateCalls.get();
     }
 
+    /** Get the cumulated time spent in the generate method.
+     * @return cumulated time spent in the generate method (s)
+     * @see #getGenerateCalls()
+     * @since 10.0
+     */
+    public double getGenerationTime() {
+        return 1.0e-9 * generationTime.get();
+    }
+
     /** Get the number of slots evictions.
      * <p>
      * This number should remain small when the max number of slots is sufficient
@@ -183,42 +273,53 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * does not really improve things (in this case, the {@link #getGenerateCalls()
      * number of calls to the generate method} will probably increase too.
      * </p>
-     * @return number of slots evictions
+     * @return number of slots evictions, saturated at {@code Integer.MAX_VALUE}
+     * @deprecated as of 10.0, replaced by {@link #getSlotsEvictionsCount()}
      */
+    @Deprecated
     public int getSlotsEvictions() {
+        return saturate(getSlotsEvictionsCount());
+    }
+
+    /** Get the number of slots evictions.
+     * <p>
+     * This number should remain small when the max number of slots is sufficient
+     * with respect to the number of concurrent requests to the cache. If it
+     * increases too much, then the cache configuration is probably bad and cache
+     * does not really improve things (in this case, the {@link #getGenerateCallsCount()
+     * number of calls to the generate method} will probably increase too.
+     * </p>
+     * @return number of slots evictions
+     * @since 10.0
+     */
+    public long getSlotsEvictionsCount() {
         return evictions.get();
     }
 
+    /** Saturate a counter to the int range.
+     * @param count counter value
+     * @return counter value, or {@code Integer.MAX_VALUE} if it does not fit in an int
+     */
+    private static int saturate(final long count) {
+        return (int) FastMath.min(count, Integer.MAX_VALUE);
+    }
+
     /** Get the number of slots in use.
      * @return number of slots in use
      */
     public int getSlots() {
-
-        lock.readLock().lock();
-        try {
-            return slots.size();
-        } finally {
-            lock.readLock().unlock();
-        }
-
+        return slots.get().size();
     }
 
     /** Get the total number of entries cached.
      * @return total number of entries cached
      */
     public int getEntries() {
-
-        lock.readLock().lock();
-        try {
-            int entries = 0;
-            for (final Slot slot : slots) {
-                entries += slot.getEntries();
-            }
-            return entries;
-        } finally {
-            lock.readLock().unlock();
+        int entries = 0;
+        for (final Slot slot : slots.get()) {
+            entries += slot.getEntries();
         }
-
+        return entries;
     }
 
     /** Get the earliest cached entry.
@@ -227,17 +328,11 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * @see #getSlots()
      */
     public T getEarliest() throws IllegalStateException {
-
-        lock.readLock().lock();
-        try {
-            if (slots.isEmpty()) {
-                throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
-            }
-            return slots.get(0).getEarliest();
-        } finally {
-            lock.readLock().unlock();
+        final List<Slot> current = slots.get();
+        if (current.isEmpty()) {
+            throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
         }
-
+        return current.get(0).getEarliest();
     }
 
     /** Get the latest cached entry.
@@ -246,17 +341,11 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * @see #getSlots()
      */
     public T getLatest() throws IllegalStateException {
-
-        lock.readLock().lock();
-        try {
-            if (slots.isEmpty()) {
-                throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
-            }
-            return slots.get(slots.size() - 1).getLatest();
-        } finally {
-            lock.readLock().unlock();
+        final List<Slot> current = slots.get();
+        if (current.isEmpty()) {
+            throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
         }
-
+        return current.get(current.size() - 1).getLatest();
     }
 
     /** Get the fixed size of the arrays to be returned by {@link #getNeighbors(AbsoluteDate)}.
@@ -276,6 +365,10 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * (and cached) entries. A typical example of the later case is leap seconds
      * cache, since the number of leap seconds cannot be arbitrarily increased.
      * </p>
+     * <p>
+     * This method does not acquire any lock when the requested entries are
+     * already cached.
+     * </p>
      * @param central central date
      * @return array of cached entries surrounding specified date (the size
      * of the array is fixed to the one specified in the {@link
@@ -285,122 +378,203 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      */
     public Stream<T> getNeighbors(final AbsoluteDate central) {
 
-        lock.readLock().lock();
+        getNeighborsCalls.increment();
+        final long dateQuantum = quantum(central);
+
+        // lock-free path, using the current snapshot
+        final List<Slot> current = slots.get();
+        if (!current.isEmpty()) {
+            final Slot slot = current.get(slotIndex(current, dateQuantum));
+            if (isSuitable(slot, dateQuantum)) {
+                final int firstNeighbor = slot.entryIndex(dateQuantum) - (neighborsSize - 1) / 2;
+                if (firstNeighbor >= 0 && firstNeighbor + neighborsSize <= slot.getEntries()) {
+                    // cache hit
+                    slot.touch(accessClock.get() + 1);
+                    return slot.getNeighbors(firstNeighbor);
+                }
+            }
+        }
+
+        // cache miss, we need to generate new data
+        misses.incrementAndGet();
+        updateLock.lock();
         try {
-            getNeighborsCalls.incrementAndGet();
-            final long dateQuantum = quantum(central);
-            return selectSlot(central, dateQuantum).getNeighbors(central, dateQuantum);
+            return generateNeighbors(central, dateQuantum);
         } finally {
-            lock.readLock().unlock();
+            updateLock.unlock();
         }
 
     }
 
     /** Convert a date to a rough global quantum.
-     * <p>
-     * We own a global read lock while calling this method.
-     * </p>
      * @param date date to convert
      * @return quantum corresponding to the date
      */
     private long quantum(final AbsoluteDate date) {
-        reference.compareAndSet(null, date);
-        return FastMath.round(date.durationFrom(reference.get()) / QUANTUM_STEP);
+        AbsoluteDate ref = reference.get();
+        if (ref == null) {
+            // first call ever, several threads may compete to set up the reference
+            reference.compareAndSet(null, date);
+            ref = reference.get();
+        }
+        return FastMath.round(date.durationFrom(ref) / QUANTUM_STEP);
+    }
+
+    /** Check if a slot is suitable for covering a date.
+     * @param slot slot to check
+     * @param dateQuantum global quantum of the date
+     * @return true if the slot already covers the date or can be extended to cover it
+     */
+    private boolean isSuitable(final Slot slot, final long dateQuantum) {
+        return slot.getEarliestQuantum() <= dateQuantum + newSlotQuantumGap &&
+               slot.getLatestQuantum()   >= dateQuantum - newSlotQuantumGap;
     }
 
-    /** Select a slot containing a date.
+    /** Generate the entries surrounding a central date and update the cache.
      * <p>
-     * We own a global read lock while calling this method.
+     * We own the update lock while calling this method.
      * </p>
-     * @param date target date
+     * @param central central date
      * @param dateQuantum global quantum of the date
-     * @return slot covering the date
+     * @return array of cached entries surrounding specified date
      */
-    private Slot selectSlot(final AbsoluteDate date, final long dateQuantum) {
-
-        Slot selected = null;
-
-        int index = slots.isEmpty() ? 0 : slotIndex(dateQuantum);
-        if (slots.isEmpty() ||
-            slots.get(index).getEarliestQuantum() > dateQuantum + newSlotQuantumGap ||
-            slots.get(index).getLatestQuantum()   < dateQuantum - newSlotQuantumGap) {
-            // no existing slot is suitable
-
-            // upgrade the read lock to a write lock so we can change the list of available slots
-            lock.readLock().unlock();
-            lock.writeLock().lock();
-
-            try {
-                // check slots again as another thread may have changed
-                // the list while we were waiting for the write lock
-                index = slots.isEmpty() ? 0 : slotIndex(dateQuantum);
-                if (slots.isEmpty() ||
-                    slots.get(index).getEarliestQuantum() > dateQuantum + newSlotQuantumGap ||
-                    slots.get(index).getLatestQuantum()   < dateQuantum - newSlotQuantumGap) {
-
-                    // we really need to create a new slot in the current thread
-                    // (no other threads have created it while we were waiting for the lock)
-                    if ((!slots.isEmpty()) &&
-                        slots.get(index).getLatestQuantum() < dateQuantum - newSlotQuantumGap) {
-                        ++index;
+    private Stream<T> generateNeighbors(final AbsoluteDate central, final long dateQuantum) {
+
+        final long now = accessClock.addAndGet(2);
+
+        // check slots again as another thread may have changed
+        // the list while we were waiting for the lock
+        final List<Slot> updated = new ArrayList<Slot>(slots.get());
+        boolean changed = false;
+        int index = updated.isEmpty() ? 0 : slotIndex(updated, dateQuantum);
+        if (updated.isEmpty() || !isSuitable(updated.get(index), dateQuantum)) {
+
+            // we really need to create a new slot in the current thread
+            // (no other threads have created it while we were waiting for the lock)
+            if ((!updated.isEmpty()) &&
+                updated.get(index).getLatestQuantum() < dateQuantum - newSlotQuantumGap) {
+                ++index;
+            }
+
+            // generate the slot before evicting anything, so a failed
+            // generation leaves the cache unchanged
+            final Slot created = new Slot(createEntries(central), new AtomicLong(now));
+
+            if (updated.size() >= maxSlots) {
+                // we must prevent exceeding allowed max
+
+                // select the least recently used slot for eviction
+                int evict = 0;
+                for (int i = 0; i < updated.size(); ++i) {
+                    if (updated.get(i).getLastAccess() < updated.get(evict).getLastAccess()) {
+                        evict = i;
                     }
+                }
 
-                    if (slots.size() >= maxSlots) {
-                        // we must prevent exceeding allowed max
+                // evict the selected slot
+                evictions.incrementAndGet();
+                updated.remove(evict);
 
-                        // select the oldest accessed slot for eviction
-                        int evict = 0;
-                        for (int i = 0; i < slots.size(); ++i) {
-                            if (slots.get(i).getLastAccess() < slots.get(evict).getLastAccess()) {
-                                evict = i;
-                            }
-                        }
+                if (evict < index) {
+                    // adjust index of created slot as it was shifted by the eviction
+                    index--;
+                }
+            }
 
-                        // evict the selected slot
-                        evictions.incrementAndGet();
-                        slots.remove(evict);
+            updated.add(index, created);
 
-                        if (evict < index) {
-                            // adjust index of created slot as it was shifted by the eviction
-                            index--;
-                        }
+            changed = true;
+
+        }
+
+        final Slot selected = updated.get(index);
+        selected.touch(now);
+        final List<Entry> cache = new ArrayList<Entry>(selected.cache);
+        int firstNeighbor;
+        try {
+
+            // generate new data until the slot is balanced around the desired date
+            boolean loop = true;
+            do {
+                firstNeighbor = entryIndex(cache, dateQuantum) - (neighborsSize - 1) / 2;
+                if (firstNeighbor < 0 || firstNeighbor + neighborsSize > cache.size()) {
+
+                    // estimate which data we need to be generated
+                    final double step = getMeanStep(cache);
+                    final AbsoluteDate existingDate;
+                    final AbsoluteDate generationDate;
+                    final boolean simplyRebalance;
+                    if (firstNeighbor < 0) {
+                        existingDate    = cache.get(0).getData().getDate();
+                        generationDate  = existingDate.getDate().shiftedBy(step * firstNeighbor);
+                        simplyRebalance = existingDate.getDate().compareTo(central) <= 0;
+                    } else {
+                        existingDate    = cache.get(cache.size() - 1).getData().getDate();
+                        generationDate  = existingDate.getDate().shiftedBy(step * (firstNeighbor + neighborsSize - cache.size()));
+                        simplyRebalance = existingDate.getDate().compareTo(central) >= 0;
                     }
+                    generateCalls.incrementAndGet();
 
-                    slots.add(index, new Slot(date));
+                    // generated data and add it to the slot
+                    try {
+                        if (firstNeighbor < 0) {
+                            insertAtStart(cache, generateAndCheck(existingDate, generationDate));
+                        } else {
+                            appendAtEnd(cache, generateAndCheck(existingDate, generationDate));
+                        }
+                        changed = true;
+                    } catch (TimeStampedCacheException tce) {
+                        if (simplyRebalance) {
+                            // we were simply trying to rebalance an unbalanced interval near slot end
+                            // we failed, but the central date is already covered by the existing (unbalanced) data
+                            // so we ignore the exception and stop the loop, we will continue with what we have
+                            loop = false;
+                        } else {
+                            throw tce;
+                        }
+                    }
 
+                } else {
+                    loop = false;
                 }
+            } while (loop);
 
-            } finally {
-                // downgrade back to a read lock
-                lock.readLock().lock();
-                lock.writeLock().unlock();
+        } finally {
+            if (changed) {
+                // publish the new snapshot, including the data generated before a potential failure
+                updated.set(index, new Slot(cache, selected.lastAccess));
+                slots.set(Collections.unmodifiableList(updated));
             }
         }
 
-        selected = slots.get(index);
-
+        if (firstNeighbor + neighborsSize > cache.size()) {
+            // we end up with a non-balanced neighborhood,
+            // adjust the start point to fit within the cache
+            firstNeighbor = cache.size() - neighborsSize;
+        }
+        if (firstNeighbor < 0) {
+            firstNeighbor = 0;
+        }
 
-        return selected;
+        return updated.get(index).getNeighbors(firstNeighbor);
 
     }
 
     /** Get the index of the slot in which a date could be cached.
-     * <p>
-     * We own a global read lock while calling this method.
-     * </p>
+     * @param current current slots (must not be empty)
      * @param dateQuantum quantum of the date to search for
      * @return the slot in which the date could be cached
      */
-    private int slotIndex(final long dateQuantum) {
+    private int slotIndex(final List<Slot> current, final long dateQuantum) {
 
         int  iInf = 0;
-        final long qInf = slots.get(iInf).getEarliestQuantum();
-        int  iSup = slots.size() - 1;
-        final long qSup = slots.get(iSup).getLatestQuantum();
+        final long qInf = current.get(iInf).getEarliestQuantum();
+        int  iSup = current.size() - 1;
+        final long qSup = current.get(iSup).getLatestQuantum();
         while (iSup - iInf > 0) {
             final int iInterp = (int) ((iInf * (qSup - dateQuantum) + iSup * (dateQuantum - qInf)) / (qSup - qInf));
             final int iMed    = FastMath.max(iInf, FastMath.min(iInterp, iSup));
-            final Slot slot   = slots.get(iMed);
+            final Slot slot   = current.get(iMed);
             if (dateQuantum < slot.getEarliestQuantum()) {
                 iSup = iMed - 1;
             } else if (dateQuantum > slot.getLatestQuantum()) {
@@ -414,67 +588,223 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
 
     }
 
-    /** Time slot. */
-    private final class Slot {
+    /** Get the index of the entry corresponding to a date.
+     * @param cache cached entries
+     * @param dateQuantum global quantum of the date
+     * @return index in the array such that entry[index] is before
+     * date and entry[index + 1] is after date (or they are at array boundaries)
+     */
+    private int entryIndex(final List<Entry> cache, final long dateQuantum) {
 
-        /** Cached time-stamped entries. */
-        private final List<Entry> cache;
+        if (dateQuantum < cache.get(0).getQuantum()) {
+            // date if before the first entry
+            return -1;
+        } else if (dateQuantum > cache.get(cache.size() - 1).getQuantum()) {
+            // date is after the last entry
+            return cache.size();
+        } else {
+
+            // try to get an existing entry
+            int  iInf = 0;
+            final long qInf = cache.get(iInf).getQuantum();
+            int  iSup = cache.size() - 1;
+            final long qSup = cache.get(iSup).getQuantum();
+            while (iSup - iInf > 0) {
+                // within a continuous slot, entries are expected to be roughly linear
+                final int iInterp = (int) ((iInf * (qSup - dateQuantum) + iSup * (dateQuantum - qInf)) / (qSup - qInf));
+                final int iMed    = FastMath.max(iInf + 1, FastMath.min(iInterp, iSup));
+                final Entry entry = cache.get(iMed);
+                if (dateQuantum < entry.getQuantum()) {
+                    iSup = iMed - 1;
+                } else if (dateQuantum > entry.getQuantum()) {
+                    iInf = iMed;
+                } else {
+                    return iMed;
+                }
+            }
 
-        /** Earliest quantum. */
-        private AtomicLong earliestQuantum;
+            return iInf;
 
-        /** Latest quantum. */
-        private AtomicLong latestQuantum;
+        }
 
-        /** Index from a previous recent call. */
-        private AtomicInteger guessedIndex;
+    }
 
-        /** Last access time. */
-        private AtomicLong lastAccess;
+    /** Create the entries for a new slot.
+     * @param date central date for initial entries to insert in the slot
+     * @return chronologically sorted entries, with at least {@link #getNeighborsSize()} elements
+     */
+    private List<Entry> createEntries(final AbsoluteDate date) {
 
-        /** Simple constructor.
-         * @param date central date for initial entries to insert in the slot
-         */
-        Slot(final AbsoluteDate date) {
+        // allocate cache
+        final List<Entry> cache = new ArrayList<Entry>();
+
+        // set up first entries
+        AbsoluteDate generationDate = date;
 
-            // allocate cache
-            this.cache = new ArrayList<Entry>();
+        generateCalls.incrementAndGet();
+        for (final T entry : generateAndCheck(null, generationDate)) {
+            cache.add(new Entry(entry, quantum(entry.getDate())));
+        }
 
-            // set up first entries
-            AbsoluteDate generationDate = date;
+        while (cache.size() < neighborsSize) {
+            // we need to generate more entries
 
+            final AbsoluteDate entry0 = cache.get(0).getData().getDate();
+            final AbsoluteDate entryN = cache.get(cache.size() - 1).getData().getDate();
             generateCalls.incrementAndGet();
-            for (final T entry : generateAndCheck(null, generationDate)) {
-                cache.add(new Entry(entry, quantum(entry.getDate())));
+
+            final AbsoluteDate existingDate;
+            if (entryN.getDate().durationFrom(date) <= date.durationFrom(entry0.getDate())) {
+                // generate additional point at the end of the slot
+                existingDate = entryN;
+                generationDate = entryN.getDate().shiftedBy(getMeanStep(cache) * (neighborsSize - cache.size()));
+                appendAtEnd(cache, generateAndCheck(existingDate, generationDate));
+            } else {
+                // generate additional point at the start of the slot
+                existingDate = entry0;
+                generationDate = entry0.getDate().shiftedBy(-getMeanStep(cache) * (neighborsSize - cache.size()));
+                insertAtStart(cache, generateAndCheck(existingDate, generationDate));
             }
-            earliestQuantum = new AtomicLong(cache.get(0).getQuantum());
-            latestQuantum   = new AtomicLong(cache.get(cache.size() - 1).getQuantum());
-
-            while (cache.size() < neighborsSize) {
-                // we need to generate more entries
-
-                final AbsoluteDate entry0 = cache.get(0).getData().getDate();
-                final AbsoluteDate entryN = cache.get(cache.size() - 1).getData().getDate();
-                generateCalls.incrementAndGet();
-
-                final AbsoluteDate existingDate;
-                if (entryN.getDate().durationFrom(date) <= date.durationFrom(entry0.getDate())) {
-                    // generate additional point at the end of the slot
-                    existingDate = entryN;
-                    generationDate = entryN.getDate().shiftedBy(getMeanStep() * (neighborsSize - cache.size()));
-                    appendAtEnd(generateAndCheck(existingDate, generationDate));
-                } else {
-                    // generate additional point at the start of the slot
-                    existingDate = entry0;
-                    generationDate = entry0.getDate().shiftedBy(-getMeanStep() * (neighborsSize - cache.size()));
-                    insertAtStart(generateAndCheck(existingDate, generationDate));
-                }
 
+        }
+
+        return cache;
+
+    }
+
+    /** Get the mean step between entries.
+     * @param cache cached entries
+     * @return mean step between entries (or an arbitrary non-null value
+     * if there are fewer than 2 entries)
+     */
+    private double getMeanStep(final List<Entry> cache) {
+        if (cache.size() < 2) {
+            return 1.0;
+        } else {
+            final AbsoluteDate t0 = cache.get(0).getData().getDate();
+            final AbsoluteDate tn = cache.get(cache.size() - 1).getData().getDate();
+            return tn.durationFrom(t0) / (cache.size() - 1);
+        }
+    }
+
+    /** Insert data at slot start.
+     * @param cache cached entries to update
+     * @param data data to insert
+     */
+    private void insertAtStart(final List<Entry> cache, final List<T> data) {
+
+        // insert data at start
+        boolean inserted = false;
+        final long q0 = cache.get(0).getQuantum();
+        for (int i = 0; i < data.size(); ++i) {
+            final long quantum = quantum(data.get(i).getDate());
+            if (quantum < q0) {
+                cache.add(i, new Entry(data.get(i), quantum));
+                inserted = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!inserted) {
+            throw new TimeStampedCacheException(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE,
+                                                cache.get(0).getData().getDate());
+        }
+
+        // evict excess data at end
+        final AbsoluteDate t0 = cache.get(0).getData().getDate();
+        while (cache.size() > neighborsSize &&
+               cache.get(cache.size() - 1).getData().getDate().durationFrom(t0) > maxSpan) {
+            cache.remove(cache.size() - 1);
+        }
+
+    }
+
+    /** Append data at slot end.
+     * @param cache cached entries to update
+     * @param data data to append
+     */
+    private void appendAtEnd(final List<Entry> cache, final List<T> data) {
+
+        // append data at end
+        boolean appended = false;
+        final long qn = cache.get(cache.size() - 1).getQuantum();
+        final int  n  = cache.size();
+        for (int i = data.size() - 1; i >= 0; --i) {
+            final long quantum = quantum(data.get(i).getDate());
+            if (quantum > qn) {
+                cache.add(n, new Entry(data.get(i), quantum));
+                appended = true;
+            } else {
+                break;
             }
+        }
 
-            guessedIndex    = new AtomicInteger(cache.size() / 2);
-            lastAccess      = new AtomicLong(System.currentTimeMillis());
+        if (!appended) {
+            throw new TimeStampedCacheException(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER,
+                                                cache.get(cache.size() - 1).getData().getDate());
+        }
 
+        // evict excess data at start
+        final AbsoluteDate tn = cache.get(cache.size() - 1).getData().getDate();
+        while (cache.size() > neighborsSize &&
+               tn.durationFrom(cache.get(0).getData().getDate()) > maxSpan) {
+            cache.remove(0);
+        }
+
+    }
+
+    /** Generate entries and check ordering.
+     * @param existingDate date of the closest already existing entry (may be null)
+     * @param date date that must be covered by the range of the generated array
+     * @return chronologically sorted list of generated entries
+     */
+    private List<T> generateAndCheck(final AbsoluteDate existingDate, final AbsoluteDate date) {
+        final long start = System.nanoTime();
+        final List<T> entries;
+        try {
+            entries = generator.generate(existingDate, date);
+        } finally {
+            generationTime.addAndGet(System.nanoTime() - start);
+        }
+        if (entries.isEmpty()) {
+            throw new TimeStampedCacheException(OrekitMessages.NO_DATA_GENERATED, date);
+        }
+        for (int i = 1; i < entries.size(); ++i) {
+            if (entries.get(i).getDate().compareTo(entries.get(i - 1).getDate()) < 0) {
+                throw new TimeStampedCacheException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
+                                                    entries.get(i - 1).getDate(),
+                                                    entries.get(i).getDate());
+            }
+        }
+        return entries;
+    }
+
+    /** Immutable time slot. */
+    private final class Slot {
+
+        /** Cached time-stamped entries (never modified once the slot is built). */
+        private final List<Entry> cache;
+
+        /** Earliest quantum. */
+        private final long earliestQuantum;
+
+        /** Latest quantum. */
+        private final long latestQuantum;
+
+        /** Last access stamp (shared with the slots replacing this one when it is extended). */
+        private final AtomicLong lastAccess;
+
+        /** Simple constructor.
+         * @param cache chronologically sorted entries (the list must not be modified
+         * by the caller afterwards)
+         * @param lastAccess last access stamp
+         */
+        Slot(final List<Entry> cache, final AtomicLong lastAccess) {
+            this.cache           = cache;
+            this.earliestQuantum = cache.get(0).getQuantum();
+            this.latestQuantum   = cache.get(cache.size() - 1).getQuantum();
+            this.lastAccess      = lastAccess;
         }
 
         /** Get the earliest entry contained in the slot.
@@ -488,7 +818,7 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
          * @return quantum of the earliest date contained in the slot
          */
         public long getEarliestQuantum() {
-            return earliestQuantum.get();
+            return earliestQuantum;
         }
 
         /** Get the latest entry contained in the slot.
@@ -502,7 +832,7 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
          * @return quantum of the latest date contained in the slot
          */
         public long getLatestQuantum() {
-            return latestQuantum.get();
+            return latestQuantum;
         }
 
         /** Get the number of entries contained din the slot.
@@ -512,325 +842,79 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
             return cache.size();
         }
 
-        /** Get the mean step between entries.
-         * @return mean step between entries (or an arbitrary non-null value
-         * if there are fewer than 2 entries)
-         */
-        private double getMeanStep() {
-            if (cache.size() < 2) {
-                return 1.0;
-            } else {
-                final AbsoluteDate t0 = cache.get(0).getData().getDate();
-                final AbsoluteDate tn = cache.get(cache.size() - 1).getData().getDate();
-                return tn.durationFrom(t0) / (cache.size() - 1);
-            }
-        }
-
-        /** Get last access time of slot.
-         * @return last known access time
+        /** Get last access stamp of slot.
+         * @return last access stamp
          */
         public long getLastAccess() {
             return lastAccess.get();
         }
 
-        /** Get the entries surrounding a central date.
+        /** Record an access to the slot.
          * <p>
-         * If the central date is well within covered slot, the returned array
-         * will be balanced with half the points before central date and half the
-         * points after it (depending on n parity, of course). If the central date
-         * is near slot boundary and the underlying {@link TimeStampedGenerator
-         * generator} cannot extend it (i.e. it returns null), then the returned
-         * array will be unbalanced and will contain only the n earliest (or latest)
-         * cached entries. A typical example of the later case is leap seconds cache,
-         * since the number of leap seconds cannot be arbitrarily increased.
+         * The stamp is written with relaxed ordering, and only if it changed,
+         * so repeated hits between two cache misses do not write anything.
          * </p>
-         * @param central central date
-         * @param dateQuantum global quantum of the date
-         * @return a new array containing date neighbors
-         * @see #getBefore(AbsoluteDate)
-         * @see #getAfter(AbsoluteDate)
+         * @param stamp current value of the access clock
          */
-        public Stream<T> getNeighbors(final AbsoluteDate central, final long dateQuantum) {
-
-            int index         = entryIndex(central, dateQuantum);
-            int firstNeighbor = index - (neighborsSize - 1) / 2;
-
-            if (firstNeighbor < 0 || firstNeighbor + neighborsSize > cache.size()) {
-                // the cache is not balanced around the desired date, we can try to generate new data
-
-                // upgrade the read lock to a write lock so we can change the list of available slots
-                lock.readLock().unlock();
-                lock.writeLock().lock();
-
-                try {
-                    // check entries again as another thread may have changed
-                    // the list while we were waiting for the write lock
-                    boolean loop = true;
-                    while (loop) {
-                        index         = entryIndex(central, dateQuantum);
-                        firstNeighbor = index - (neighborsSize - 1) / 2;
-                        if (firstNeighbor < 0 || firstNeighbor + neighborsSize > cache.size()) {
-
-                            // estimate which data we need to be generated
-                            final double step = getMeanStep();
-                            final AbsoluteDate existingDate;
-                            final AbsoluteDate generationDate;
-                            final boolean simplyRebalance;
-                            if (firstNeighbor < 0) {
-                                existingDate    = cache.get(0).getData().getDate();
-                                generationDate  = existingDate.getDate().shiftedBy(step * firstNeighbor);
-                                simplyRebalance = existingDate.getDate().compareTo(central) <= 0;
-                            } else {
-                                existingDate    = cache.get(cache.size() - 1).getData().getDate();
-                                generationDate  = existingDate.getDate().shiftedBy(step * (firstNeighbor + neighborsSize - cache.size()));
-                                simplyRebalance = existingDate.getDate().compareTo(central) >= 0;
-                            }
-                            generateCalls.incrementAndGet();
-
-                            // generated data and add it to the slot
-                            try {
-                                if (firstNeighbor < 0) {
-                                    insertAtStart(generateAndCheck(existingDate, generationDate));
-                                } else {
-                                    appendAtEnd(generateAndCheck(existingDate, generationDate));
-                                }
-                            } catch (TimeStampedCacheException tce) {
-                                if (simplyRebalance) {
-                                    // we were simply trying to rebalance an unbalanced interval near slot end
-                                    // we failed, but the central date is already covered by the existing (unbalanced) data
-                                    // so we ignore the exception and stop the loop, we will continue with what we have
-                                    loop = false;
-                                } else {
-                                    throw tce;
-                                }
-                            }
-
-                        } else {
-                            loop = false;
-                        }
-                    }
-                } finally {
-                    // downgrade back to a read lock
-                    lock.readLock().lock();
-                    lock.writeLock().unlock();
-                }
-
-            }
-
-            if (firstNeighbor + neighborsSize > cache.size()) {
-                // we end up with a non-balanced neighborhood,
-                // adjust the start point to fit within the cache
-                firstNeighbor = cache.size() - neighborsSize;
-            }
-            if (firstNeighbor < 0) {
-                firstNeighbor = 0;
+        public void touch(final long stamp) {
+            if (lastAccess.get() < stamp) {
+                lastAccess.lazySet(stamp);
             }
-            final Stream.Builder<T> builder = Stream.builder();
-            for (int i = 0; i < neighborsSize; ++i) {
-                builder.accept(cache.get(firstNeighbor + i).getData());
-            }
-
-            return builder.build();
+        }
 
+        /** Get the neighbors starting at some index.
+         * @param firstNeighbor index of the first neighbor
+         * @return stream of {@link #getNeighborsSize()} entries
+         */
+        public Stream<T> getNeighbors(final int firstNeighbor) {
+            return cache.subList(firstNeighbor, firstNeighbor + neighborsSize).stream().map(Entry::getData);
         }
 
         /** Get the index of the entry corresponding to a date.
-         * <p>
-         * We own a local read lock while calling this method.
-         * </p>
-         * @param date date
          * @param dateQuantum global quantum of the date
          * @return index in the array such that entry[index] is before
          * date and entry[index + 1] is after date (or they are at array boundaries)
          */
-        private int entryIndex(final AbsoluteDate date, final long dateQuantum) {
-
-            // first quick guesses, assuming a recent search was close enough
-            final int guess = guessedIndex.get();
-            if (guess > 0 && guess < cache.size()) {
-                if (cache.get(guess).getQuantum() <= dateQuantum) {
-                    if (guess + 1 < cache.size() && cache.get(guess + 1).getQuantum() > dateQuantum) {
-                        // good guess!
-                        return guess;
-                    } else {
-                        // perhaps we have simply shifted just one point forward ?
-                        if (guess + 2 < cache.size() && cache.get(guess + 2).getQuantum() > dateQuantum) {
-                            guessedIndex.set(guess + 1);
-                            return guess + 1;
-                        }
-                    }
-                } else {
-                    // perhaps we have simply shifted just one point backward ?
-                    if (guess > 1 && cache.get(guess - 1).getQuantum() <= dateQuantum) {
-                        guessedIndex.set(guess - 1);
-                        return guess - 1;
-                    }
-                }
-            }
-
-            // quick guesses have failed, we need to perform a full blown search
-            if (dateQuantum < getEarliestQuantum()) {
-                // date if before the first entry
-                return -1;
-            } else if (dateQuantum > getLatestQuantum()) {
-                // date is after the last entry
-                return cache.size();
-            } else {
-
-                // try to get an existing entry
-                int  iInf = 0;
-                final long qInf = cache.get(iInf).getQuantum();
-                int  iSup = cache.size() - 1;
-                final long qSup = cache.get(iSup).getQuantum();
-                while (iSup - iInf > 0) {
-                    // within a continuous slot, entries are expected to be roughly linear
-                    final int iInterp = (int) ((iInf * (qSup - dateQuantum) + iSup * (dateQuantum - qInf)) / (qSup - qInf));
-                    final int iMed    = FastMath.max(iInf + 1, FastMath.min(iInterp, iSup));
-                    final Entry entry = cache.get(iMed);
-                    if (dateQuantum < entry.getQuantum()) {
-                        iSup = iMed - 1;
-                    } else if (dateQuantum > entry.getQuantum()) {
-                        iInf = iMed;
-                    } else {
-                        guessedIndex.set(iMed);
-                        return iMed;
-                    }
-                }
-
-                guessedIndex.set(iInf);
-                return iInf;
-
-            }
-
+        public int entryIndex(final long dateQuantum) {
+            // no hint from previous calls is kept, as it would be a shared write
+            // on the lock-free path, the interpolation search is fast on regular grids
+            return GenericTimeStampedCache.this.entryIndex(cache, dateQuantum);
         }
 
-        /** Insert data at slot start.
-         * @param data data to insert
-         */
-        private void insertAtStart(final List<T> data) {
-
-            // insert data at start
-            boolean inserted = false;
-            final long q0 = earliestQuantum.get();
-            for (int i = 0; i < data.size(); ++i) {
-                final long quantum = quantum(data.get(i).getDate());
-                if (quantum < q0) {
-                    cache.add(i, new Entry(data.get(i), quantum));
-                    inserted = true;
-                } else {
-                    break;
-                }
-            }
+    }
 
-            if (!inserted) {
-                throw new TimeStampedCacheException(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE,
-                                                              cache.get(0).getData().getDate());
-            }
+    /** Container for entries. */
+    private class Entry {
 
-            // evict excess data at end
-            final AbsoluteDate t0 = cache.get(0).getData().getDate();
-            while (cache.size() > neighborsSize &&
-                   cache.get(cache.size() - 1).getData().getDate().durationFrom(t0) > maxSpan) {
-                cache.remove(cache.size() - 1);
-            }
+        /** Entry data. */
+        private final T data;
 
-            // update boundaries
-            earliestQuantum.set(cache.get(0).getQuantum());
-            latestQuantum.set(cache.get(cache.size() - 1).getQuantum());
+        /** Global quantum of the entry. */
+        private final long quantum;
 
+        /** Simple constructor.
+         * @param data entry data
+         * @param quantum entry quantum
+         */
+        Entry(final T data, final long quantum) {
+            this.quantum = quantum;
+            this.data  = data;
         }
 
-        /** Append data at slot end.
-         * @param data data to append
+        /** Get the quantum.
+         * @return quantum
          */
-        private void appendAtEnd(final List<T> data) {
-
-            // append data at end
-            boolean appended = false;
-            final long qn = latestQuantum.get();
-            final int  n  = cache.size();
-            for (int i = data.size() - 1; i >= 0; --i) {
-                final long quantum = quantum(data.get(i).getDate());
-                if (quantum > qn) {
-                    cache.add(n, new Entry(data.get(i), quantum));
-                    appended = true;
-                } else {
-                    break;
-                }
-            }
-
-            if (!appended) {
-                throw new TimeStampedCacheException(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER,
-                                                    cache.get(cache.size() - 1).getData().getDate());
-            }
-
-            // evict excess data at start
-            final AbsoluteDate tn = cache.get(cache.size() - 1).getData().getDate();
-            while (cache.size() > neighborsSize &&
-                   tn.durationFrom(cache.get(0).getData().getDate()) > maxSpan) {
-                cache.remove(0);
-            }
-
-            // update boundaries
-            earliestQuantum.set(cache.get(0).getQuantum());
-            latestQuantum.set(cache.get(cache.size() - 1).getQuantum());
-
+        public long getQuantum() {
+            return quantum;
         }
 
-        /** Generate entries and check ordering.
-         * @param existingDate date of the closest already existing entry (may be null)
-         * @param date date that must be covered by the range of the generated array
-         * (guaranteed to lie between {@link #getEarliest()} and {@link #getLatest()})
-         * @return chronologically sorted list of generated entries
+        /** Get the data.
+         * @return data
          */
-        private List<T> generateAndCheck(final AbsoluteDate existingDate, final AbsoluteDate date) {
-            final List<T> entries = generator.generate(existingDate, date);
-            if (entries.isEmpty()) {
-                throw new TimeStampedCacheException(OrekitMessages.NO_DATA_GENERATED, date);
-            }
-            for (int i = 1; i < entries.size(); ++i) {
-                if (entries.get(i).getDate().compareTo(entries.get(i - 1).getDate()) < 0) {
-                    throw new TimeStampedCacheException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
-                                                                  entries.get(i - 1).getDate(),
-                                                                  entries.get(i).getDate());
-                }
-            }
-            return entries;
+        public T getData() {
+            return data;
         }
 
-        /** Container for entries. */
-        private class Entry {
-
-            /** Entry data. */
-            private final T data;
-
-            /** Global quantum of the entry. */
-            private final long quantum;
-
-            /** Simple constructor.
-             * @param data entry data
-             * @param quantum entry quantum
-             */
-            Entry(final T data, final long quantum) {
-                this.quantum = quantum;
-                this.data  = data;
-            }
-
-            /** Get the quantum.
-             * @return quantum
-             */
-            public long getQuantum() {
-                return quantum;
-            }
-
-            /** Get the data.
-             * @return data
-             */
-            public T getData() {
-                return data;
-            }
-
-        }
     }
 
 }
@@ -57,6 +57,7 @@ import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.time.TimeStamped;
 import org.orekit.time.TimeVectorFunction;
+import org.orekit.time.TruncatedTimeVectorFunction;
 
 
 /** Supported IERS conventions.
@@ -139,7 +140,7 @@ public enum IERSConventions {
 
         /** {@inheritDoc} */
         @Override
-        public TimeVectorFunction getXYSpXY2Function() {
+        public TruncatedTimeVectorFunction getXYSpXY2Function(final double threshold) {
 
             // set up nutation arguments
             final FundamentalNutationArguments arguments = getNutationArguments(null);
@@ -167,7 +168,8 @@ public enum IERSConventions {
                     baseParser.
                     withSinCos(0, 7, deciMilliAS, -1, deciMilliAS).
                     withSinCos(1, 8, deciMilliAS,  9, deciMilliAS);
-            final PoissonSeries xSum = xParser.parse(getStream(X_Y_SERIES), X_Y_SERIES);
+            final PoissonSeries xSum = xParser.parse(getStream(X_Y_SERIES), X_Y_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
 
             // Y = -0.00013″ - 22.40992″t² + 0.001836″t³ + 0.0011130″t⁴
             //     + Σ [(Bi + Bi' t) cos(ARGUMENT) + Bi'' t sin(ARGUMENT)]
@@ -186,7 +188,8 @@ public enum IERSConventions {
                     baseParser.
                     withSinCos(0, -1, deciMilliAS, 10, deciMilliAS).
                     withSinCos(1, 12, deciMilliAS, 11, deciMilliAS);
-            final PoissonSeries ySum = yParser.parse(getStream(X_Y_SERIES), X_Y_SERIES);
+            final PoissonSeries ySum = yParser.parse(getStream(X_Y_SERIES), X_Y_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
 
             final PoissonSeries.CompiledSeries xySum =
                     PoissonSeries.compile(xSum, ySum);
@@ -200,7 +203,7 @@ public enum IERSConventions {
             final double fST2SinOm    =  0.00074 * Constants.ARC_SECONDS_TO_RADIANS;
             final double fST2Sin2FDOm =  0.00006 * Constants.ARC_SECONDS_TO_RADIANS;
 
-            return new TimeVectorFunction() {
+            final TimeVectorFunction function = new TimeVectorFunction() {
 
                 /** {@inheritDoc} */
                 @Override
@@ -273,6 +276,11 @@ public enum IERSConventions {
 
             };
 
+            return new TruncatedTimeVectorFunction(function,
+                                                   FastMath.abs(sinEps0) * xSum.getTruncationError(),
+                                                   ySum.getTruncationError(),
+                                                   0.0);
+
         }
 
         /** {@inheritDoc} */
@@ -306,7 +314,7 @@ public enum IERSConventions {
 
         /** {@inheritDoc} */
         @Override
-        public TimeVectorFunction getNutationFunction() {
+        public TruncatedTimeVectorFunction getNutationFunction(final double threshold) {
 
             // set up nutation arguments
             final FundamentalNutationArguments arguments = getNutationArguments(null);
@@ -320,18 +328,20 @@ public enum IERSConventions {
                     baseParser.
                     withSinCos(0, 7, deciMilliAS, -1, deciMilliAS).
                     withSinCos(1, 8, deciMilliAS, -1, deciMilliAS);
-            final PoissonSeries psiSeries = psiParser.parse(getStream(PSI_EPSILON_SERIES), PSI_EPSILON_SERIES);
+            final PoissonSeries psiSeries = psiParser.parse(getStream(PSI_EPSILON_SERIES), PSI_EPSILON_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
 
             final PoissonSeriesParser epsilonParser =
                     baseParser.
                     withSinCos(0, -1, deciMilliAS, 9, deciMilliAS).
                     withSinCos(1, -1, deciMilliAS, 10, deciMilliAS);
-            final PoissonSeries epsilonSeries = epsilonParser.parse(getStream(PSI_EPSILON_SERIES), PSI_EPSILON_SERIES);
+            final PoissonSeries epsilonSeries = epsilonParser.parse(getStream(PSI_EPSILON_SERIES), PSI_EPSILON_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
 
             final PoissonSeries.CompiledSeries psiEpsilonSeries =
                     PoissonSeries.compile(psiSeries, epsilonSeries);
 
-            return new TimeVectorFunction() {
+            final TimeVectorFunction function = new TimeVectorFunction() {
 
                 /** {@inheritDoc} */
                 @Override
@@ -357,6 +367,11 @@ public enum IERSConventions {
 
             };
 
+            return new TruncatedTimeVectorFunction(function,
+                                                   psiSeries.getTruncationError(),
+                                                   epsilonSeries.getTruncationError(),
+                                                   0.0);
+
         }
 
         /** {@inheritDoc} */
@@ -810,7 +825,7 @@ public enum IERSConventions {
 
         /** {@inheritDoc} */
         @Override
-        public TimeVectorFunction getXYSpXY2Function() {
+        public TruncatedTimeVectorFunction getXYSpXY2Function(final double threshold) {
 
             // set up nutation arguments
             final FundamentalNutationArguments arguments = getNutationArguments(null);
@@ -824,13 +839,16 @@ public enum IERSConventions {
                         withFirstPlanetary(9).
                         withSinCos(0, 2, microAS, 3, microAS);
 
-            final PoissonSeries xSeries = parser.parse(getStream(X_SERIES), X_SERIES);
-            final PoissonSeries ySeries = parser.parse(getStream(Y_SERIES), Y_SERIES);
-            final PoissonSeries sSeries = parser.parse(getStream(S_SERIES), S_SERIES);
+            final PoissonSeries xSeries = parser.parse(getStream(X_SERIES), X_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
+            final PoissonSeries ySeries = parser.parse(getStream(Y_SERIES), Y_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
+            final PoissonSeries sSeries = parser.parse(getStream(S_SERIES), S_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
             final PoissonSeries.CompiledSeries xys = PoissonSeries.compile(xSeries, ySeries, sSeries);
 
             // create a function evaluating the series
-            return new TimeVectorFunction() {
+            final TimeVectorFunction function = new TimeVectorFunction() {
 
                 /** {@inheritDoc} */
                 @Override
@@ -846,6 +864,11 @@ public enum IERSConventions {
 
             };
 
+            return new TruncatedTimeVectorFunction(function,
+                                                   xSeries.getTruncationError(),
+                                                   ySeries.getTruncationError(),
+                                                   sSeries.getTruncationError());
+
         }
 
 
@@ -877,7 +900,7 @@ public enum IERSConventions {
 
         /** {@inheritDoc} */
         @Override
-        public TimeVectorFunction getNutationFunction() {
+        public TruncatedTimeVectorFunction getNutationFunction(final double threshold) {
 
             // set up nutation arguments
             final FundamentalNutationArguments arguments = getNutationArguments(null);
@@ -891,13 +914,15 @@ public enum IERSConventions {
                     withSinCos(0, 7, milliAS, 11, milliAS).
                     withSinCos(1, 8, milliAS, 12, milliAS);
             final PoissonSeries psiLuniSolarSeries =
-                    luniSolarPsiParser.parse(getStream(LUNI_SOLAR_SERIES), LUNI_SOLAR_SERIES);
+                    luniSolarPsiParser.parse(getStream(LUNI_SOLAR_SERIES), LUNI_SOLAR_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
             final PoissonSeriesParser luniSolarEpsilonParser =
                     luniSolarParser.
                     withSinCos(0, 13, milliAS, 9, milliAS).
                     withSinCos(1, 14, milliAS, 10, milliAS);
             final PoissonSeries epsilonLuniSolarSeries =
-                    luniSolarEpsilonParser.parse(getStream(LUNI_SOLAR_SERIES), LUNI_SOLAR_SERIES);
+                    luniSolarEpsilonParser.parse(getStream(LUNI_SOLAR_SERIES), LUNI_SOLAR_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
 
             final PoissonSeriesParser planetaryParser =
                     new PoissonSeriesParser(21).
@@ -906,18 +931,20 @@ public enum IERSConventions {
             final PoissonSeriesParser planetaryPsiParser =
                     planetaryParser.withSinCos(0, 17, milliAS, 18, milliAS);
             final PoissonSeries psiPlanetarySeries =
-                    planetaryPsiParser.parse(getStream(PLANETARY_SERIES), PLANETARY_SERIES);
+                    planetaryPsiParser.parse(getStream(PLANETARY_SERIES), PLANETARY_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
             final PoissonSeriesParser planetaryEpsilonParser =
                     planetaryParser.withSinCos(0, 19, milliAS, 20, milliAS);
             final PoissonSeries epsilonPlanetarySeries =
-                    planetaryEpsilonParser.parse(getStream(PLANETARY_SERIES), PLANETARY_SERIES);
+                    planetaryEpsilonParser.parse(getStream(PLANETARY_SERIES), PLANETARY_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
 
             final PoissonSeries.CompiledSeries luniSolarSeries =
                     PoissonSeries.compile(psiLuniSolarSeries, epsilonLuniSolarSeries);
             final PoissonSeries.CompiledSeries planetarySeries =
                     PoissonSeries.compile(psiPlanetarySeries, epsilonPlanetarySeries);
 
-            return new TimeVectorFunction() {
+            final TimeVectorFunction function = new TimeVectorFunction() {
 
                 /** {@inheritDoc} */
                 @Override
@@ -946,6 +973,13 @@ public enum IERSConventions {
 
             };
 
+            return new TruncatedTimeVectorFunction(function,
+                                                   psiLuniSolarSeries.getTruncationError() +
+                                                   psiPlanetarySeries.getTruncationError(),
+                                                   epsilonLuniSolarSeries.getTruncationError() +
+                                                   epsilonPlanetarySeries.getTruncationError(),
+                                                   0.0);
+
         }
 
         /** {@inheritDoc} */
@@ -1554,7 +1588,7 @@ public enum IERSConventions {
 
         /** {@inheritDoc} */
         @Override
-        public TimeVectorFunction getXYSpXY2Function() {
+        public TruncatedTimeVectorFunction getXYSpXY2Function(final double threshold) {
 
             // set up nutation arguments
             final FundamentalNutationArguments arguments = getNutationArguments(null);
@@ -1567,13 +1601,16 @@ public enum IERSConventions {
                         withFirstDelaunay(4).
                         withFirstPlanetary(9).
                         withSinCos(0, 2, microAS, 3, microAS);
-            final PoissonSeries xSeries = parser.parse(getStream(X_SERIES), X_SERIES);
-            final PoissonSeries ySeries = parser.parse(getStream(Y_SERIES), Y_SERIES);
-            final PoissonSeries sSeries = parser.parse(getStream(S_SERIES), S_SERIES);
+            final PoissonSeries xSeries = parser.parse(getStream(X_SERIES), X_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
+            final PoissonSeries ySeries = parser.parse(getStream(Y_SERIES), Y_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
+            final PoissonSeries sSeries = parser.parse(getStream(S_SERIES), S_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
             final PoissonSeries.CompiledSeries xys = PoissonSeries.compile(xSeries, ySeries, sSeries);
 
             // create a function evaluating the series
-            return new TimeVectorFunction() {
+            final TimeVectorFunction function = new TimeVectorFunction() {
 
                 /** {@inheritDoc} */
                 @Override
@@ -1589,6 +1626,11 @@ public enum IERSConventions {
 
             };
 
+            return new TruncatedTimeVectorFunction(function,
+                                                   xSeries.getTruncationError(),
+                                                   ySeries.getTruncationError(),
+                                                   sSeries.getTruncationError());
+
         }
 
         /** {@inheritDoc} */
@@ -1902,7 +1944,7 @@ public enum IERSConventions {
 
          /** {@inheritDoc} */
         @Override
-        public TimeVectorFunction getNutationFunction() {
+        public TruncatedTimeVectorFunction getNutationFunction(final double threshold) {
 
             // set up nutation arguments
             final FundamentalNutationArguments arguments = getNutationArguments(null);
@@ -1914,12 +1956,14 @@ public enum IERSConventions {
                         withFirstDelaunay(4).
                         withFirstPlanetary(9).
                         withSinCos(0, 2, microAS, 3, microAS);
-            final PoissonSeries psiSeries     = parser.parse(getStream(PSI_SERIES), PSI_SERIES);
-            final PoissonSeries epsilonSeries = parser.parse(getStream(EPSILON_SERIES), EPSILON_SERIES);
+            final PoissonSeries psiSeries     = parser.parse(getStream(PSI_SERIES), PSI_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
+            final PoissonSeries epsilonSeries = parser.parse(getStream(EPSILON_SERIES), EPSILON_SERIES).
+                    truncate(threshold, NUTATION_TRUNCATION_SPAN);
             final PoissonSeries.CompiledSeries psiEpsilonSeries =
                     PoissonSeries.compile(psiSeries, epsilonSeries);
 
-            return new TimeVectorFunction() {
+            final TimeVectorFunction function = new TimeVectorFunction() {
 
                 /** {@inheritDoc} */
                 @Override
@@ -1945,6 +1989,11 @@ public enum IERSConventions {
 
             };
 
+            return new TruncatedTimeVectorFunction(function,
+                                                   psiSeries.getTruncationError(),
+                                                   epsilonSeries.getTruncationError(),
+                                                   0.0);
+
         }
 
         /** {@inheritDoc} */
@@ -2160,6 +2209,9 @@ public enum IERSConventions {
     /** IERS conventions resources base directory. */
     private static final String IERS_BASE = "/assets/org/orekit/IERS-conventions/";
 
+    /** Time span around reference epoch over which nutation series truncation is checked (Julian centuries). */
+    private static final double NUTATION_TRUNCATION_SPAN = 1.0;
+
     /** Get the reference epoch for fundamental nutation arguments.
      * @return reference epoch for fundamental nutation arguments
      * @since 6.1
@@ -2206,10 +2258,33 @@ public enum IERSConventions {
      * <p>
      * The returned function computes the two X, Y components of CIP and the S+XY/2 component of the non-rotating CIO.
      * </p>
+     * <p>
+     * This method is equivalent to {@link #getXYSpXY2Function(double) getXYSpXY2Function(0.0)},
+     * i.e. all series terms are kept.
+     * </p>
      * @return function computing the Celestial Intermediate Pole and Celestial Intermediate Origin components
           * @since 6.1
      */
-    public abstract TimeVectorFunction getXYSpXY2Function();
+    public TimeVectorFunction getXYSpXY2Function() {
+        return getXYSpXY2Function(0.0);
+    }
+
+    /** Get the function computing the Celestial Intermediate Pole and Celestial Intermediate Origin components,
+     * with truncated series.
+     * <p>
+     * The returned function computes the two X, Y components of CIP and the S+XY/2 component of the non-rotating CIO.
+     * The Poisson series terms whose amplitude remains below {@code threshold} within one century of the
+     * reference epoch are dropped (see {@link PoissonSeries#truncate(double, double)}), which speeds up
+     * evaluation when the full accuracy is not needed. The bounds of the errors due to the dropped
+     * terms, valid within one century of the reference epoch, are available from the returned function.
+     * </p>
+     * @param threshold amplitude threshold (rad) below which series terms are dropped
+     * (0.0 keeps all terms)
+     * @return function computing the Celestial Intermediate Pole and Celestial Intermediate Origin components,
+     * with the bounds of the truncation errors
+     * @since 10.0
+     */
+    public abstract TruncatedTimeVectorFunction getXYSpXY2Function(double threshold);
 
     /** Get the function computing the raw Earth Orientation Angle.
      * <p>
@@ -2247,11 +2322,36 @@ public enum IERSConventions {
      * and the correction to the equation of equinoxes introduced since 1997-02-27 by IAU 1994
      * resolution C7 (the correction is forced to 0 before this date)
      * </p>
+     * <p>
+     * This method is equivalent to {@link #getNutationFunction(double) getNutationFunction(0.0)},
+     * i.e. all series terms are kept.
+     * </p>
      * @return function computing the nutation in longitude ΔΨ and Δε
      * and the correction of equation of equinoxes
           * @since 6.1
      */
-    public abstract TimeVectorFunction getNutationFunction();
+    public TimeVectorFunction getNutationFunction() {
+        return getNutationFunction(0.0);
+    }
+
+    /** Get the function computing the nutation angles, with truncated series.
+     * <p>
+     * The function returned computes the two classical angles ΔΨ and Δε,
+     * and the correction to the equation of equinoxes introduced since 1997-02-27 by IAU 1994
+     * resolution C7 (the correction is forced to 0 before this date). The Poisson series
+     * terms whose amplitude remains below {@code threshold} within one century of the
+     * reference epoch are dropped (see {@link PoissonSeries#truncate(double, double)}),
+     * which speeds up evaluation when the full accuracy is not needed. The bounds of the errors
+     * due to the dropped terms, valid within one century of the reference epoch, are available
+     * from the returned function.
+     * </p>
+     * @param threshold amplitude threshold (rad) below which series terms are dropped
+     * (0.0 keeps all terms)
+     * @return function computing the nutation in longitude ΔΨ and Δε
+     * and the correction of equation of equinoxes, with the bounds of the truncation errors
+     * @since 10.0
+     */
+    public abstract TruncatedTimeVectorFunction getNutationFunction(double threshold);
 
     /** Get the function computing Greenwich mean sidereal time, in radians.
      * @param ut1 UT1 time scale
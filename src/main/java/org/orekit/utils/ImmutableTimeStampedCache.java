@@ -30,6 +30,7 @@ import org.orekit.errors.OrekitMessages;
 import org.orekit.errors.TimeStampedCacheException;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.ChronologicalComparator;
+import org.orekit.time.DateArray;
 import org.orekit.time.TimeStamped;
 
 /**
@@ -75,7 +76,8 @@ public class ImmutableTimeStampedCache<T extends TimeStamped>
      *        {@link #getNeighbors(AbsoluteDate)}. Must be less than or equal to
      *        {@code data.size()}.
      * @param data the backing data for this cache. The list will be copied to
-     *        ensure immutability. To guarantee immutability the entries in
+     *        ensure immutability, except if it is a {@link DateArray} which is
+     *        already immutable. To guarantee immutability the entries in
      *        {@code data} must be immutable themselves. There must be more data
      *        than {@code neighborsSize}.
      * @throws IllegalArgumentException if {@code neightborsSize > data.size()}
@@ -95,9 +97,17 @@ public class ImmutableTimeStampedCache<T extends TimeStamped>
 
         // assign instance variables
         this.neighborsSize = neighborsSize;
-        // sort and copy data first
-        this.data = new ArrayList<T>(data);
-        Collections.sort(this.data, CMP);
+        if (data instanceof DateArray) {
+            // compact date sequences are already sorted and immutable,
+            // copying them would only waste memory
+            @SuppressWarnings("unchecked")
+            final List<T> compact = (List<T>) data;
+            this.data = compact;
+        } else {
+            // sort and copy data first
+            this.data = new ArrayList<T>(data);
+            Collections.sort(this.data, CMP);
+        }
     }
 
     /**
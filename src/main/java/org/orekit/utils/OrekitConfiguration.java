@@ -16,6 +16,7 @@
  */
 package org.orekit.utils;
 
+import java.io.File;
 
 /** Utility class for setting global configuration parameters.
 
@@ -26,6 +27,9 @@ public class OrekitConfiguration {
     /** Number of slots to use in caches. */
     private static int CACHE_SLOTS_NUMBER;
 
+    /** Directory for persistent Poisson series cache (null if cache is disabled). */
+    private static File POISSON_SERIES_CACHE_DIRECTORY;
+
     static {
         CACHE_SLOTS_NUMBER = 100;
     }
@@ -52,4 +56,32 @@ public class OrekitConfiguration {
         return CACHE_SLOTS_NUMBER;
     }
 
+    /** Set the directory for the persistent Poisson series cache.
+     * <p>
+     * Parsing the IERS nutation, precession and sidereal time tables takes
+     * some time at first use. When a cache directory is set, the parsed series
+     * are stored there in a compact binary form, and later runs read them back
+     * without parsing the tables again. Files are automatically invalidated
+     * when the tables or the parser settings change, as they are identified by
+     * a checksum of both.
+     * </p>
+     * <p>
+     * The cache is disabled by default.
+     * </p>
+     * @param directory directory for the cache (created if needed), or null to disable the cache
+     * @see org.orekit.data.PoissonSeriesParser
+     * @since 10.0
+     */
+    public static void setPoissonSeriesCacheDirectory(final File directory) {
+        OrekitConfiguration.POISSON_SERIES_CACHE_DIRECTORY = directory;
+    }
+
+    /** Get the directory for the persistent Poisson series cache.
+     * @return directory for the cache, or null if the cache is disabled
+     * @since 10.0
+     */
+    public static File getPoissonSeriesCacheDirectory() {
+        return POISSON_SERIES_CACHE_DIRECTORY;
+    }
+
 }
@@ -0,0 +1,40 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+/** Listener for {@link GenericTimeStampedCache time-stamped caches} registration.
+ * <p>
+ * Instances of this interface can be registered in {@link TimeStampedCachesRegistry}
+ * in order to be notified each time Orekit creates an internal cache, for example
+ * to plug the cache counters into some monitoring system.
+ * </p>
+ * @see TimeStampedCachesRegistry#addListener(TimeStampedCacheListener)
+ * @since 10.0
+ */
+public interface TimeStampedCacheListener {
+
+    /** Notify that a cache has been registered.
+     * <p>
+     * This method is called from the thread that created the cache, it
+     * should therefore return quickly and must be thread-safe.
+     * </p>
+     * @param name name of the cache (may be shared by several caches)
+     * @param cache registered cache
+     */
+    void cacheRegistered(String name, GenericTimeStampedCache<?> cache);
+
+}
@@ -0,0 +1,186 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+/** Snapshot of the usage statistics of one {@link GenericTimeStampedCache time-stamped cache}.
+ * <p>
+ * These statistics are intended to help tuning the caches configuration,
+ * i.e. the maximum number of slots and maximum span of each slot. A low
+ * {@link #getHitRatio() hit ratio} together with a large number of {@link
+ * #getSlotsEvictions() evictions} typically means the number of slots is too
+ * small with respect to the number of concurrent requests (for example when
+ * several satellites are propagated at the same time over long spans).
+ * </p>
+ * <p>
+ * The counters are retrieved one at a time from a cache that may be in use
+ * by other threads, so they are only approximately consistent with each other.
+ * </p>
+ * @see TimeStampedCachesRegistry#getStatistics()
+ * @since 10.0
+ */
+public class TimeStampedCacheStatistics {
+
+    /** Name of the cache. */
+    private final String name;
+
+    /** Number of entries in a neighbors array. */
+    private final int neighborsSize;
+
+    /** Maximum number of independent cached time slots. */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot. */
+    private final double maxSpan;
+
+    /** Number of slots in use. */
+    private final int slots;
+
+    /** Total number of entries cached. */
+    private final int entries;
+
+    /** Number of calls to the getNeighbors method. */
+    private final long getNeighborsCalls;
+
+    /** Number of cache misses. */
+    private final long misses;
+
+    /** Number of calls to the generate method. */
+    private final long generateCalls;
+
+    /** Cumulated time spent in the generate method. */
+    private final double generationTime;
+
+    /** Number of slots evictions. */
+    private final long evictions;
+
+    /** Simple constructor.
+     * @param name name of the cache
+     * @param cache cache to monitor
+     */
+    public TimeStampedCacheStatistics(final String name, final GenericTimeStampedCache<?> cache) {
+        this.name              = name;
+        this.neighborsSize     = cache.getNeighborsSize();
+        this.maxSlots          = cache.getMaxSlots();
+        this.maxSpan           = cache.getMaxSpan();
+        this.slots             = cache.getSlots();
+        this.entries           = cache.getEntries();
+        this.getNeighborsCalls = cache.getNeighborsCallsCount();
+        this.misses            = cache.getCacheMisses();
+        this.generateCalls     = cache.getGenerateCallsCount();
+        this.generationTime    = cache.getGenerationTime();
+        this.evictions         = cache.getSlotsEvictionsCount();
+    }
+
+    /** Get the name of the cache.
+     * @return name of the cache
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** Get the number of entries in a neighbors array.
+     * @return number of entries in a neighbors array
+     */
+    public int getNeighborsSize() {
+        return neighborsSize;
+    }
+
+    /** Get the maximum number of independent cached time slots.
+     * @return maximum number of independent cached time slots
+     */
+    public int getMaxSlots() {
+        return maxSlots;
+    }
+
+    /** Get the maximum duration span in seconds of one slot.
+     * @return maximum duration span in seconds of one slot
+     */
+    public double getMaxSpan() {
+        return maxSpan;
+    }
+
+    /** Get the number of slots in use.
+     * @return number of slots in use
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    /** Get the total number of entries cached.
+     * @return total number of entries cached
+     */
+    public int getEntries() {
+        return entries;
+    }
+
+    /** Get the number of calls to the getNeighbors method.
+     * @return number of calls to the getNeighbors method
+     */
+    public long getGetNeighborsCalls() {
+        return getNeighborsCalls;
+    }
+
+    /** Get the number of cache misses.
+     * @return number of cache misses
+     */
+    public long getCacheMisses() {
+        return misses;
+    }
+
+    /** Get the hit ratio.
+     * @return ratio of calls to the getNeighbors method that were served
+     * directly from cached data (1.0 if the cache has never been used)
+     */
+    public double getHitRatio() {
+        return getNeighborsCalls == 0 ? 1.0 : 1.0 - ((double) misses) / getNeighborsCalls;
+    }
+
+    /** Get the number of calls to the generate method.
+     * @return number of calls to the generate method
+     */
+    public long getGenerateCalls() {
+        return generateCalls;
+    }
+
+    /** Get the cumulated time spent in the generate method.
+     * @return cumulated time spent in the generate method (s)
+     */
+    public double getGenerationTime() {
+        return generationTime;
+    }
+
+    /** Get the number of slots evictions.
+     * @return number of slots evictions
+     */
+    public long getSlotsEvictions() {
+        return evictions;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return name +
+               ": calls = "       + getNeighborsCalls +
+               ", hit ratio = "   + getHitRatio() +
+               ", generations = " + generateCalls +
+               ", time = "        + generationTime +
+               "s, slots = "      + slots + "/" + maxSlots +
+               ", entries = "     + entries +
+               ", evictions = "   + evictions;
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.orekit.time.TimeStamped;
+
+/** Registry for the {@link GenericTimeStampedCache time-stamped caches} created by Orekit.
+ * <p>
+ * Many Orekit classes use internal caches whose configuration (number of slots,
+ * span of slots) has a strong effect on performances. These caches register
+ * themselves here at creation, so they can be enumerated and their statistics
+ * monitored even if the caches themselves are not reachable from user code
+ * (for example the caches hidden inside {@link
+ * org.orekit.frames.InterpolatingTransformProvider InterpolatingTransformProvider},
+ * {@link org.orekit.frames.ShiftingTransformProvider ShiftingTransformProvider},
+ * {@link org.orekit.frames.EOPHistory EOPHistory}, {@link
+ * org.orekit.forces.gravity.OceanTides OceanTides} or {@link
+ * org.orekit.forces.gravity.SolidTides SolidTides}).
+ * </p>
+ * <p>
+ * The registry holds only weak references to the caches, so registering
+ * a cache does not prevent it from being garbage collected.
+ * </p>
+ * @since 10.0
+ */
+public class TimeStampedCachesRegistry {
+
+    /** Registered caches. */
+    private static final Map<GenericTimeStampedCache<?>, String> CACHES = new WeakHashMap<>();
+
+    /** Registered listeners. */
+    private static final List<TimeStampedCacheListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /** Private constructor.
+     * <p>This class is a utility class, it should neither have a public
+     * nor a default constructor. This private constructor prevents
+     * the compiler from generating one automatically.</p>
+     */
+    private TimeStampedCachesRegistry() {
+    }
+
+    /** Register a cache.
+     * <p>
+     * All registered {@link TimeStampedCacheListener listeners} are notified.
+     * </p>
+     * @param name name of the cache (may be shared by several caches)
+     * @param cache cache to register
+     * @param <T> type of the cached data
+     * @return the registered cache (i.e. {@code cache} itself)
+     */
+    public static <T extends TimeStamped> GenericTimeStampedCache<T> register(final String name,
+                                                                               final GenericTimeStampedCache<T> cache) {
+        synchronized (CACHES) {
+            CACHES.put(cache, name);
+        }
+        for (final TimeStampedCacheListener listener : LISTENERS) {
+            listener.cacheRegistered(name, cache);
+        }
+        return cache;
+    }
+
+    /** Add a listener for caches registration.
+     * <p>
+     * The listener is notified only about caches registered after it
+     * has been added, already registered caches can be retrieved by
+     * calling {@link #getStatistics()}.
+     * </p>
+     * @param listener listener to add
+     */
+    public static void addListener(final TimeStampedCacheListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /** Remove a listener for caches registration.
+     * @param listener listener to remove
+     */
+    public static void removeListener(final TimeStampedCacheListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /** Get the statistics of all the registered caches still in use.
+     * @return statistics of all the registered caches still in use
+     */
+    public static List<TimeStampedCacheStatistics> getStatistics() {
+        final List<TimeStampedCacheStatistics> statistics = new ArrayList<>();
+        synchronized (CACHES) {
+            for (final Map.Entry<GenericTimeStampedCache<?>, String> entry : CACHES.entrySet()) {
+                statistics.add(new TimeStampedCacheStatistics(entry.getValue(), entry.getKey()));
+            }
+        }
+        return statistics;
+    }
+
+}
@@ -17,14 +17,26 @@
 package org.orekit.bodies;
 
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.orekit.Utils;
 import org.orekit.data.DataProvidersManager;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
 import org.orekit.time.AbsoluteDate;
@@ -261,6 +273,126 @@ public class JPLEphemeridesLoaderTest {
 
     }
 
+    @Test
+    public void testMappedVsStream() throws URISyntaxException {
+        Utils.setDataRoot("regular-data/de405-ephemerides");
+        final File file = getResource("regular-data/de405-ephemerides/unxp0003.405");
+        final AbsoluteDate t0 = new AbsoluteDate(2002, 12, 20, TimeScalesFactory.getTT());
+        for (final JPLEphemeridesLoader.EphemerisType type : JPLEphemeridesLoader.EphemerisType.values()) {
+            final JPLEphemeridesLoader mappedLoader = new JPLEphemeridesLoader(file, type);
+            final JPLEphemeridesLoader streamLoader = new JPLEphemeridesLoader("^unxp0003\\.405$", type);
+            Assert.assertEquals(streamLoader.getLoadedAstronomicalUnit(),
+                                mappedLoader.getLoadedAstronomicalUnit(),
+                                1.0e-10);
+            Assert.assertEquals(streamLoader.getLoadedGravitationalCoefficient(type),
+                                mappedLoader.getLoadedGravitationalCoefficient(type),
+                                1.0e-10);
+            final CelestialBody mapped = mappedLoader.loadCelestialBody(type.name());
+            final CelestialBody stream = streamLoader.loadCelestialBody(type.name());
+            final Frame eme2000 = FramesFactory.getEME2000();
+            for (double dt = 0; dt < 400 * Constants.JULIAN_DAY; dt += 0.37 * Constants.JULIAN_DAY) {
+                final AbsoluteDate date = t0.shiftedBy(dt);
+                final PVCoordinates pvMapped = mapped.getPVCoordinates(date, eme2000);
+                final PVCoordinates pvStream = stream.getPVCoordinates(date, eme2000);
+                Assert.assertEquals(0.0, Vector3D.distance(pvMapped.getPosition(), pvStream.getPosition()), 1.0e-15);
+                Assert.assertEquals(0.0, Vector3D.distance(pvMapped.getVelocity(), pvStream.getVelocity()), 1.0e-15);
+            }
+        }
+    }
+
+    @Test
+    public void testMappedEndianness() throws URISyntaxException {
+        Utils.setDataRoot("inpop");
+        final JPLEphemeridesLoader.EphemerisType type = JPLEphemeridesLoader.EphemerisType.MARS;
+        final JPLEphemeridesLoader loaderBig =
+                new JPLEphemeridesLoader(getResource("inpop/inpop10b_TCB_summer_1969_bigendian.dat"), type);
+        final JPLEphemeridesLoader loaderLittle =
+                new JPLEphemeridesLoader(getResource("inpop/inpop10b_TCB_summer_1969_littleendian.dat"), type);
+        Assert.assertEquals(1.0, loaderBig.getLoadedConstant("TIMESC"), 1.0e-10);
+        Assert.assertEquals(1.0, loaderLittle.getLoadedConstant("TIMESC"), 1.0e-10);
+        final CelestialBody big    = loaderBig.loadCelestialBody(CelestialBodyFactory.MARS);
+        final CelestialBody little = loaderLittle.loadCelestialBody(CelestialBodyFactory.MARS);
+        final CelestialBody stream =
+                new JPLEphemeridesLoader("^inpop.*_TCB_.*_bigendian\\.dat$", type).loadCelestialBody(CelestialBodyFactory.MARS);
+        final AbsoluteDate t0 = new AbsoluteDate(1969, 7, 17, 10, 43, 23.4, TimeScalesFactory.getTT());
+        final Frame eme2000   = FramesFactory.getEME2000();
+        for (double dt = 0; dt < 30 * Constants.JULIAN_DAY; dt += 3600) {
+            final AbsoluteDate date = t0.shiftedBy(dt);
+            final Vector3D pBig     = big.getPVCoordinates(date, eme2000).getPosition();
+            Assert.assertEquals(0.0, pBig.distance(little.getPVCoordinates(date, eme2000).getPosition()), 1.0e-10);
+            Assert.assertEquals(0.0, pBig.distance(stream.getPVCoordinates(date, eme2000).getPosition()), 1.0e-10);
+        }
+        // the mapped files were not read through the data providers manager
+        Assert.assertTrue(DataProvidersManager.getInstance().getLoadedDataNames().stream().
+                          noneMatch(name -> name.contains("littleendian")));
+    }
+
+    @Test
+    public void testMappedOutOfRange() throws URISyntaxException {
+        final JPLEphemeridesLoader loader =
+                new JPLEphemeridesLoader(getResource("regular-data/de405-ephemerides/unxp0003.405"),
+                                         JPLEphemeridesLoader.EphemerisType.MOON);
+        final CelestialBody moon = loader.loadCelestialBody(CelestialBodyFactory.MOON);
+        try {
+            moon.getPVCoordinates(new AbsoluteDate(2010, 1, 1, TimeScalesFactory.getTT()), FramesFactory.getGCRF());
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testMappedNotAnEphemeris() throws URISyntaxException {
+        try {
+            new JPLEphemeridesLoader(getResource("regular-data/UTC-TAI.history"),
+                                     JPLEphemeridesLoader.EphemerisType.MOON);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.UNABLE_TO_READ_JPL_HEADER, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testMappedConcurrent() throws URISyntaxException, InterruptedException, ExecutionException {
+        final JPLEphemeridesLoader loader =
+                new JPLEphemeridesLoader(getResource("regular-data/de431-ephemerides/lnxp0000.431"),
+                                         JPLEphemeridesLoader.EphemerisType.MOON);
+        final CelestialBody moon = loader.loadCelestialBody(CelestialBodyFactory.MOON);
+        final Frame gcrf = FramesFactory.getGCRF();
+        final AbsoluteDate t0 = new AbsoluteDate(1999, 12, 1, TimeScalesFactory.getTT());
+        final List<Vector3D> reference = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            reference.add(moon.getPVCoordinates(t0.shiftedBy(i * 14000.0), gcrf).getPosition());
+        }
+
+        // each thread scans the same range with a different phase, so chunks change all the time
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Double>> futures = new ArrayList<>();
+            for (int k = 0; k < 8; ++k) {
+                final int phase = 127 * k;
+                futures.add(executor.submit(() -> {
+                    double maxError = 0;
+                    for (int i = 0; i < reference.size(); ++i) {
+                        final int j = (i + phase) % reference.size();
+                        final Vector3D p = moon.getPVCoordinates(t0.shiftedBy(j * 14000.0), gcrf).getPosition();
+                        maxError = FastMath.max(maxError, Vector3D.distance(p, reference.get(j)));
+                    }
+                    return maxError;
+                }));
+            }
+            for (final Future<Double> future : futures) {
+                Assert.assertEquals(0.0, future.get(), 1.0e-15);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private File getResource(final String name) throws URISyntaxException {
+        return new File(getClass().getClassLoader().getResource(name).toURI());
+    }
+
     private void checkDerivative(String supportedNames, AbsoluteDate date, double maxChunkDuration)
         {
         JPLEphemeridesLoader loader =
@@ -0,0 +1,93 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.bodies;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.orekit.Utils;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.PVCoordinates;
+
+public class PosVelChebyshevTest {
+
+    private PosVelChebyshev chebyshev;
+
+    @Before
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        final RandomGenerator random = new Well19937a(0x8e1b7e5ad1c2e32fl);
+        final int n = 13;
+        final double[] x = new double[n];
+        final double[] y = new double[n];
+        final double[] z = new double[n];
+        for (int k = 0; k < n; ++k) {
+            // decreasing coefficients, as in real ephemerides
+            final double scale = 1.0e11 / (1 << (2 * k));
+            x[k] = scale * (2 * random.nextDouble() - 1);
+            y[k] = scale * (2 * random.nextDouble() - 1);
+            z[k] = scale * (2 * random.nextDouble() - 1);
+        }
+        chebyshev = new PosVelChebyshev(new AbsoluteDate(2003, 5, 7, TimeScalesFactory.getTDB()),
+                                        TimeScalesFactory.getTDB(), 8 * Constants.JULIAN_DAY,
+                                        x, y, z);
+    }
+
+    @Test
+    public void testSingleDate() {
+        final double[] pva = new double[11];
+        for (double dt = 0; dt <= 8 * Constants.JULIAN_DAY; dt += 1000.0) {
+            final AbsoluteDate date = chebyshev.getDate().shiftedBy(dt);
+            final PVCoordinates reference = chebyshev.getPositionVelocityAcceleration(date);
+            chebyshev.getPositionVelocityAcceleration(date, pva, 2);
+            checkPVA(reference, pva, 2);
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        final AbsoluteDate[] dates = new AbsoluteDate[100];
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = chebyshev.getDate().shiftedBy(i * 0.01 * 8 * Constants.JULIAN_DAY);
+        }
+        final double[] pva = new double[9 * dates.length];
+        chebyshev.getPositionVelocityAcceleration(dates, pva);
+        for (int i = 0; i < dates.length; ++i) {
+            checkPVA(chebyshev.getPositionVelocityAcceleration(dates[i]), pva, 9 * i);
+        }
+    }
+
+    private void checkPVA(final PVCoordinates reference, final double[] pva, final int offset) {
+        final double pTol = 1.0e-15 * reference.getPosition().getNorm();
+        final double vTol = 1.0e-14 * reference.getVelocity().getNorm();
+        final double aTol = 1.0e-13 * reference.getAcceleration().getNorm();
+        Assert.assertEquals(reference.getPosition().getX(),     pva[offset],     pTol);
+        Assert.assertEquals(reference.getPosition().getY(),     pva[offset + 1], pTol);
+        Assert.assertEquals(reference.getPosition().getZ(),     pva[offset + 2], pTol);
+        Assert.assertEquals(reference.getVelocity().getX(),     pva[offset + 3], vTol);
+        Assert.assertEquals(reference.getVelocity().getY(),     pva[offset + 4], vTol);
+        Assert.assertEquals(reference.getVelocity().getZ(),     pva[offset + 5], vTol);
+        Assert.assertEquals(reference.getAcceleration().getX(), pva[offset + 6], aTol);
+        Assert.assertEquals(reference.getAcceleration().getY(), pva[offset + 7], aTol);
+        Assert.assertEquals(reference.getAcceleration().getZ(), pva[offset + 8], aTol);
+    }
+
+}
@@ -322,6 +322,40 @@ public class SolarBodyTest {
         CelestialBodyFactory.getSun();
     }
 
+    @Test
+    public void testSharedPVCache() {
+        Utils.setDataRoot("regular-data");
+        final CelestialBody moon    = CelestialBodyFactory.getMoon();
+        final Frame         eme2000 = FramesFactory.getEME2000();
+        final Frame         gcrf    = FramesFactory.getGCRF();
+        final AbsoluteDate  date    = new AbsoluteDate(2003, 6, 1, TimeScalesFactory.getUTC());
+
+        // all users of the body share the same computed position-velocity
+        final PVCoordinates pv = moon.getPVCoordinates(date, eme2000);
+        Assert.assertSame(pv, moon.getPVCoordinates(date, eme2000));
+        Assert.assertSame(pv, moon.getPVCoordinates(date.shiftedBy(0.0), eme2000));
+        Assert.assertNotSame(pv, moon.getPVCoordinates(date, gcrf));
+        Assert.assertNotSame(pv, moon.getPVCoordinates(date.shiftedBy(1.0e-3), eme2000));
+
+        // cached values are the same as freshly computed ones
+        final CelestialBody fresh =
+                new JPLEphemeridesLoader(JPLEphemeridesLoader.DEFAULT_DE_SUPPORTED_NAMES,
+                                         JPLEphemeridesLoader.EphemerisType.MOON).
+                loadCelestialBody(CelestialBodyFactory.MOON);
+        final PVCoordinates reference = fresh.getPVCoordinates(date, eme2000);
+        Assert.assertEquals(0.0, Vector3D.distance(reference.getPosition(), pv.getPosition()), 1.0e-15);
+        Assert.assertEquals(0.0, Vector3D.distance(reference.getVelocity(), pv.getVelocity()), 1.0e-15);
+
+        // old entries are evicted
+        for (int i = 0; i < 8; ++i) {
+            moon.getPVCoordinates(date.shiftedBy(60.0 * (i + 1)), eme2000);
+        }
+        final PVCoordinates recomputed = moon.getPVCoordinates(date, eme2000);
+        Assert.assertNotSame(pv, recomputed);
+        Assert.assertEquals(0.0, Vector3D.distance(recomputed.getPosition(), pv.getPosition()), 1.0e-15);
+
+    }
+
     @Test
     public void testFrameShift() {
         Utils.setDataRoot("regular-data");
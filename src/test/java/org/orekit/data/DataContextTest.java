@@ -0,0 +1,206 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.junit.Assert;
+import org.junit.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.Transform;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.IERSConventions;
+
+public class DataContextTest {
+
+    @Test
+    public void testSameAsFactories() {
+
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        final DataContext context =
+                        new DataContext.Builder(manager("regular-data", "potential/icgem-format")).
+                        withEOP(IERSConventions.IERS_2010, true).
+                        withCelestialBodies(CelestialBodyFactory.SUN, CelestialBodyFactory.MOON).
+                        withGravityField(4, 4).
+                        build();
+
+        final AbsoluteDate date = new AbsoluteDate(2004, 6, 1, 3, 25, 0.0, TimeScalesFactory.getUTC());
+        Assert.assertEquals(TimeScalesFactory.getUTC().offsetFromTAI(date),
+                            context.getUTC().offsetFromTAI(date), 1.0e-15);
+        Assert.assertEquals(FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true).getUT1MinusUTC(date),
+                            context.getEOPHistory(IERSConventions.IERS_2010, true).getUT1MinusUTC(date),
+                            1.0e-15);
+        Assert.assertEquals(TimeScalesFactory.getUT1(IERSConventions.IERS_2010, true).offsetFromTAI(date),
+                            context.getUT1(IERSConventions.IERS_2010, true).offsetFromTAI(date),
+                            1.0e-15);
+
+        final Transform reference = FramesFactory.getGCRF().
+                                    getTransformTo(FramesFactory.getITRF(IERSConventions.IERS_2010, true), date);
+        final Transform t         = context.getGCRF().
+                                    getTransformTo(context.getITRF(IERSConventions.IERS_2010, true), date);
+        Assert.assertEquals(0.0, Rotation.distance(reference.getRotation(), t.getRotation()), 1.0e-15);
+        Assert.assertNotSame(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                             context.getITRF(IERSConventions.IERS_2010, true));
+
+        // the ephemerides test files do not cover the EOP dates
+        final AbsoluteDate bodiesDate = new AbsoluteDate(1969, 7, 23, TimeScalesFactory.getTT());
+        final Vector3D sun = context.getCelestialBody(CelestialBodyFactory.SUN).
+                             getPVCoordinates(bodiesDate, FramesFactory.getGCRF()).getPosition();
+        Assert.assertEquals(0.0,
+                            Vector3D.distance(CelestialBodyFactory.getSun().
+                                              getPVCoordinates(bodiesDate, FramesFactory.getGCRF()).getPosition(),
+                                              sun),
+                            1.0e-3);
+
+        final NormalizedSphericalHarmonicsProvider gravity = GravityFieldFactory.getNormalizedProvider(4, 4);
+        Assert.assertEquals(gravity.getMu(), context.getGravityField().getMu(), 1.0e-15 * gravity.getMu());
+        Assert.assertEquals(gravity.onDate(date).getNormalizedCnm(2, 0),
+                            context.getGravityField().onDate(date).getNormalizedCnm(2, 0),
+                            1.0e-20);
+
+    }
+
+    @Test
+    public void testIndependentContexts() throws InterruptedException, ExecutionException {
+
+        Utils.setDataRoot("regular-data");
+        final DataContext regular = new DataContext.Builder(manager("regular-data")).
+                                    withEOP(IERSConventions.IERS_2010, true).
+                                    build();
+        final DataContext zero    = new DataContext.Builder(manager("zero-EOP")).
+                                    withEOP(IERSConventions.IERS_2010, true).
+                                    build();
+
+        Assert.assertTrue(regular.getEOPHistory(IERSConventions.IERS_2010, true).
+                          getStartDate().getComponents(regular.getUTC()).getDate().getYear() > 2000);
+        Assert.assertEquals(2000, zero.getEOPHistory(IERSConventions.IERS_2010, true).
+                                  getStartDate().getComponents(zero.getUTC()).getDate().getYear());
+
+        // both contexts can be used concurrently, without cross-talk
+        final AbsoluteDate regularDate = new AbsoluteDate(2004, 6, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        final AbsoluteDate zeroDate    = new AbsoluteDate(2000, 6, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Double>> regularResults = new ArrayList<>();
+        final List<Future<Double>> zeroResults    = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            final double dt = i * 3600.0;
+            regularResults.add(executor.submit(() -> regular.getEOPHistory(IERSConventions.IERS_2010, true).
+                                                     getUT1MinusUTC(regularDate.shiftedBy(dt))));
+            zeroResults.add(executor.submit(() -> zero.getEOPHistory(IERSConventions.IERS_2010, true).
+                                                  getUT1MinusUTC(zeroDate.shiftedBy(dt))));
+        }
+        executor.shutdown();
+        for (int i = 0; i < regularResults.size(); ++i) {
+            final AbsoluteDate current = regularDate.shiftedBy(i * 3600.0);
+            Assert.assertEquals(FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true).getUT1MinusUTC(current),
+                                regularResults.get(i).get(), 1.0e-15);
+            Assert.assertEquals(0.0, zeroResults.get(i).get(), 1.0e-15);
+        }
+        final Transform t = zero.getTIRF(IERSConventions.IERS_2010, true).
+                            getTransformTo(zero.getITRF(IERSConventions.IERS_2010, true), zeroDate);
+        Assert.assertEquals(0.0, t.getRotation().getAngle(), 1.0e-11);
+
+    }
+
+    @Test
+    public void testEmptyGlobalManager() {
+
+        // nothing at all is available from the factories
+        Utils.clearFactories();
+        System.clearProperty(DataProvidersManager.OREKIT_DATA_PATH);
+        DataProvidersManager.getInstance().addProvider((supported, visitor) -> false);
+        try {
+            TimeScalesFactory.getUTC();
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.NO_IERS_UTC_TAI_HISTORY_DATA_LOADED, oe.getSpecifier());
+        }
+
+        // the context loads UTC and EOP from its own manager only
+        final DataContext context = new DataContext.Builder(manager("regular-data")).
+                                    withEOP(IERSConventions.IERS_2010, true).
+                                    build();
+        final AbsoluteDate date = new AbsoluteDate(2004, 6, 1, 0, 0, 0.0, context.getUTC());
+        Assert.assertEquals(-32.0, context.getUTC().offsetFromTAI(date), 1.0e-15);
+        Assert.assertEquals(context.getEOPHistory(IERSConventions.IERS_2010, true).getUT1MinusUTC(date),
+                            context.getUT1(IERSConventions.IERS_2010, true).offsetFromTAI(date) -
+                            context.getUTC().offsetFromTAI(date),
+                            1.0e-12);
+        Assert.assertNotNull(context.getITRF(IERSConventions.IERS_2010, true).getTransformTo(context.getGCRF(), date));
+
+        // results are the same as the ones from the factories once they are set up
+        Utils.setDataRoot("regular-data");
+        Assert.assertEquals(FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true).getUT1MinusUTC(date),
+                            context.getEOPHistory(IERSConventions.IERS_2010, true).getUT1MinusUTC(date),
+                            1.0e-15);
+
+    }
+
+    @Test
+    public void testMissingData() {
+        final DataContext context = new DataContext.Builder(manager("regular-data")).build();
+        try {
+            context.getITRF(IERSConventions.IERS_2010, true);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.NO_EARTH_ORIENTATION_PARAMETERS_LOADED, oe.getSpecifier());
+        }
+        try {
+            context.getCelestialBody(CelestialBodyFactory.MARS);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.NO_DATA_LOADED_FOR_CELESTIAL_BODY, oe.getSpecifier());
+        }
+        try {
+            context.getGravityField();
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.NO_GRAVITY_FIELD_DATA_LOADED, oe.getSpecifier());
+        }
+    }
+
+    private DataProvidersManager manager(final String... roots) {
+        try {
+            final DataProvidersManager manager = new DataProvidersManager();
+            for (final String root : roots) {
+                manager.addProvider(new DirectoryCrawler(new File(getClass().getClassLoader().
+                                                                  getResource(root).toURI().getPath())));
+            }
+            return manager;
+        } catch (URISyntaxException use) {
+            Assert.fail(use.getLocalizedMessage());
+            return null;
+        }
+    }
+
+}
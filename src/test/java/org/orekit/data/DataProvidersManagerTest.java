@@ -20,9 +20,12 @@ package org.orekit.data;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -89,6 +92,46 @@ public class DataProvidersManagerTest {
         Assert.assertEquals(18, crawler.getCount());
     }
 
+    @Test
+    public void testParallelFeed() {
+        System.setProperty(DataProvidersManager.OREKIT_DATA_PATH, getPath("regular-data"));
+        DataProvidersManager manager = DataProvidersManager.getInstance();
+        manager.clearProviders();
+        manager.clearLoadedDataNames();
+        NamesLoader sequential = new NamesLoader();
+        Assert.assertTrue(manager.feed(".*", sequential));
+        Assert.assertEquals(18, sequential.names.size());
+        final List<String> sequentialLoaded = new ArrayList<>(manager.getLoadedDataNames());
+
+        manager.clearLoadedDataNames();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            manager.setExecutor(executor);
+            Assert.assertSame(executor, manager.getExecutor());
+            NamesLoader parallel = new NamesLoader();
+            Assert.assertTrue(manager.feed(".*", parallel));
+            Assert.assertEquals(sequential.names, parallel.names);
+            Assert.assertEquals(sequentialLoaded, new ArrayList<>(manager.getLoadedDataNames()));
+
+            // non-mergeable loaders are still fed sequentially
+            CountingLoader crawler = new CountingLoader(false);
+            Assert.assertTrue(manager.feed(".*", crawler));
+            Assert.assertEquals(18, crawler.getCount());
+
+            // failures are reported only if nothing could be loaded
+            try {
+                manager.feed(".*", new NamesLoader("intentional failure"));
+                Assert.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assert.assertEquals("intentional failure", oe.getMessage());
+            }
+
+        } finally {
+            manager.setExecutor(null);
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testEmptyProperty() {
         System.setProperty(DataProvidersManager.OREKIT_DATA_PATH, "");
@@ -240,6 +283,33 @@ public class DataProvidersManagerTest {
         }
     }
 
+    private static class NamesLoader implements MergeableDataLoader {
+        private final String failure;
+        private final List<String> names;
+        public NamesLoader() {
+            this(null);
+        }
+        public NamesLoader(final String failure) {
+            this.failure = failure;
+            this.names   = new ArrayList<>();
+        }
+        public boolean stillAcceptsData() {
+            return true;
+        }
+        public void loadData(InputStream input, String name) {
+            if (failure != null) {
+                throw new OrekitException(new DummyLocalizable(failure));
+            }
+            names.add(name);
+        }
+        public MergeableDataLoader newLoader() {
+            return new NamesLoader(failure);
+        }
+        public void merge(MergeableDataLoader other) {
+            names.addAll(((NamesLoader) other).names);
+        }
+    }
+
     private static class CountingFilter implements DataFilter {
         private Map<NamedData, NamedData> filtered;
         private int opened;
@@ -0,0 +1,250 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.BufferedReader;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class DataSnapshotCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File data;
+    private DataSnapshotCache cache;
+    private DataProvidersManager manager;
+
+    @Before
+    public void setUp() throws IOException {
+        data  = folder.newFolder("data");
+        write("a.txt", "a1", "a2");
+        write("b.txt", "b1");
+        write("c.txt", "c1", "c2", "c3");
+        cache   = new DataSnapshotCache(folder.newFolder("cache"));
+        manager = new DataProvidersManager();
+        manager.addProvider(new DirectoryCrawler(data));
+        manager.setSnapshotCache(cache);
+        Assert.assertSame(cache, manager.getSnapshotCache());
+    }
+
+    @After
+    public void tearDown() {
+        manager.setSnapshotCache(null);
+        manager.setExecutor(null);
+    }
+
+    @Test
+    public void testNotADirectory() throws IOException {
+        final File file = folder.newFile("not-a-directory");
+        try {
+            new DataSnapshotCache(file);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.NOT_A_DIRECTORY, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testParseOnlyOnce() {
+
+        final LinesLoader first = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", first));
+        Assert.assertEquals(3, first.parsed.size());
+        Assert.assertEquals(3, cache.getDirectory().list().length);
+
+        final LinesLoader second = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", second));
+        Assert.assertEquals(0, second.parsed.size());
+        Assert.assertEquals(first.lines, second.lines);
+        Assert.assertEquals(6, second.lines.size());
+        Assert.assertEquals(3, manager.getLoadedDataNames().size());
+
+        // a loader with a different snapshot format does not use the same snapshots
+        final LinesLoader other = new LinesLoader("other");
+        Assert.assertTrue(manager.feed(".*\\.txt", other));
+        Assert.assertEquals(3, other.parsed.size());
+        Assert.assertEquals(6, cache.getDirectory().list().length);
+
+    }
+
+    @Test
+    public void testModifiedFile() throws IOException {
+
+        Assert.assertTrue(manager.feed(".*\\.txt", new LinesLoader()));
+
+        // same size, different content
+        write("b.txt", "B1");
+        final LinesLoader modified = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", modified));
+        Assert.assertEquals(1, modified.parsed.size());
+        Assert.assertTrue(modified.parsed.get(0).endsWith("b.txt"));
+        Assert.assertTrue(modified.lines.contains("B1"));
+        Assert.assertFalse(modified.lines.contains("b1"));
+
+        // the modified snapshot replaced the former one
+        Assert.assertEquals(3, cache.getDirectory().list().length);
+        final LinesLoader again = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", again));
+        Assert.assertEquals(0, again.parsed.size());
+        Assert.assertEquals(modified.lines, again.lines);
+
+    }
+
+    @Test
+    public void testCorruptedSnapshot() throws IOException {
+
+        Assert.assertTrue(manager.feed(".*\\.txt", new LinesLoader()));
+        for (final File snapshot : cache.getDirectory().listFiles()) {
+            final byte[] bytes = Files.readAllBytes(snapshot.toPath());
+            Files.write(snapshot.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+        }
+
+        final LinesLoader loader = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", loader));
+        Assert.assertEquals(3, loader.parsed.size());
+        Assert.assertEquals(6, loader.lines.size());
+
+        final LinesLoader again = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", again));
+        Assert.assertEquals(0, again.parsed.size());
+        Assert.assertEquals(loader.lines, again.lines);
+
+    }
+
+    @Test
+    public void testCorruptedLength() throws IOException {
+
+        Assert.assertTrue(manager.feed(".*\\.txt", new LinesLoader()));
+        final File[] snapshots = cache.getDirectory().listFiles();
+        for (int i = 0; i < snapshots.length; ++i) {
+            // the last line has two characters, its length is stored just before them
+            final byte[] bytes = Files.readAllBytes(snapshots[i].toPath());
+            ByteBuffer.wrap(bytes).putInt(bytes.length - 6, (i % 2 == 0) ? -1 : Integer.MAX_VALUE);
+            Files.write(snapshots[i].toPath(), bytes);
+        }
+
+        final LinesLoader loader = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", loader));
+        Assert.assertEquals(3, loader.parsed.size());
+        Assert.assertEquals(6, loader.lines.size());
+
+        final LinesLoader again = new LinesLoader();
+        Assert.assertTrue(manager.feed(".*\\.txt", again));
+        Assert.assertEquals(0, again.parsed.size());
+        Assert.assertEquals(loader.lines, again.lines);
+
+    }
+
+    @Test
+    public void testParallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            manager.setExecutor(executor);
+            final LinesLoader first = new LinesLoader();
+            Assert.assertTrue(manager.feed(".*\\.txt", first));
+            Assert.assertEquals(3, first.parsed.size());
+            final LinesLoader second = new LinesLoader();
+            Assert.assertTrue(manager.feed(".*\\.txt", second));
+            Assert.assertEquals(0, second.parsed.size());
+            Assert.assertEquals(first.lines, second.lines);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void write(final String name, final String... lines) throws IOException {
+        Files.write(new File(data, name).toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private static class LinesLoader implements SnapshotDataLoader {
+
+        private final String format;
+        private final List<String> lines;
+        private final List<String> parsed;
+
+        LinesLoader() {
+            this("lines");
+        }
+
+        LinesLoader(final String format) {
+            this.format = format;
+            this.lines  = new ArrayList<>();
+            this.parsed = new ArrayList<>();
+        }
+
+        public boolean stillAcceptsData() {
+            return true;
+        }
+
+        public void loadData(InputStream input, String name) throws IOException {
+            parsed.add(name);
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+
+        public SnapshotDataLoader newLoader() {
+            return new LinesLoader(format);
+        }
+
+        public void merge(MergeableDataLoader other) {
+            lines.addAll(((LinesLoader) other).lines);
+            parsed.addAll(((LinesLoader) other).parsed);
+        }
+
+        public String getSnapshotFormat() {
+            return format;
+        }
+
+        public void writeSnapshot(DataOutput output) throws IOException {
+            output.writeInt(lines.size());
+            for (final String line : lines) {
+                DataSnapshotCache.writeString(output, line);
+            }
+        }
+
+        public void readSnapshot(ByteBuffer input, String name) {
+            for (int n = input.getInt(); n > 0; --n) {
+                lines.add(DataSnapshotCache.readString(input));
+            }
+        }
+
+    }
+
+}
@@ -18,7 +18,10 @@ package org.orekit.data;
 
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
@@ -32,7 +35,9 @@ import org.hipparchus.util.Decimal64;
 import org.hipparchus.util.Decimal64Field;
 import org.hipparchus.util.FastMath;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.orekit.Utils;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
@@ -43,10 +48,14 @@ import org.orekit.time.TimeScale;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
+import org.orekit.utils.OrekitConfiguration;
 
 
 public class PoissonSeriesParserTest {
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Test(expected=OrekitException.class)
     public void testEmptyData() {
         buildData("");
@@ -436,6 +445,130 @@ public class PoissonSeriesParserTest {
 
     }
 
+    @Test
+    public void testPersistentCache() throws IOException {
+        Utils.setDataRoot("regular-data");
+        String directory = "/assets/org/orekit/IERS-conventions/";
+        String name      = directory + "2010/tab5.2a.txt";
+        PoissonSeriesParser xParser =
+                new PoissonSeriesParser(17).withPolynomialPart('t', PolynomialParser.Unit.NO_UNITS).
+                    withFirstDelaunay(4).withFirstPlanetary(9).withSinCos(0, 2, 1.0, 3, 1.0);
+        PoissonSeriesParser yParser =
+                new PoissonSeriesParser(17).withPolynomialPart('t', PolynomialParser.Unit.NO_UNITS).
+                    withFirstDelaunay(4).withFirstPlanetary(9).withSinCos(0, 2, 0.5, 3, 0.5);
+        File cacheDirectory = new File(tempFolder.getRoot(), "poisson");
+
+        PoissonSeries reference = xParser.parse(getClass().getResourceAsStream(name), name);
+        Assert.assertFalse(cacheDirectory.exists());
+
+        PoissonSeries stored;
+        PoissonSeries loaded;
+        PoissonSeries scaled;
+        try {
+            OrekitConfiguration.setPoissonSeriesCacheDirectory(cacheDirectory);
+            stored = xParser.parse(getClass().getResourceAsStream(name), name);
+            Assert.assertEquals(1, cacheDirectory.listFiles().length);
+            loaded = xParser.parse(getClass().getResourceAsStream(name), name);
+            Assert.assertEquals(1, cacheDirectory.listFiles().length);
+
+            // changing parser settings on the same data must not reuse the cached series
+            scaled = yParser.parse(getClass().getResourceAsStream(name), name);
+            Assert.assertEquals(2, cacheDirectory.listFiles().length);
+
+            // corrupted files are ignored
+            for (final File file : cacheDirectory.listFiles()) {
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                    raf.setLength(raf.length() / 2);
+                }
+            }
+            Assert.assertEquals(reference.getNonPolynomialSize(),
+                                xParser.parse(getClass().getResourceAsStream(name), name).getNonPolynomialSize());
+
+        } finally {
+            OrekitConfiguration.setPoissonSeriesCacheDirectory(null);
+        }
+
+        Assert.assertEquals(reference.getNonPolynomialSize(), loaded.getNonPolynomialSize());
+        PoissonSeries.CompiledSeries compiledReference = PoissonSeries.compile(reference, reference);
+        PoissonSeries.CompiledSeries compiledLoaded    = PoissonSeries.compile(stored, loaded);
+        TimeScale ut1 = TimeScalesFactory.getUT1(FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true));
+        FundamentalNutationArguments arguments = IERSConventions.IERS_2010.getNutationArguments(ut1);
+        for (double dt = 0; dt < 100 * Constants.JULIAN_YEAR; dt += 0.37 * Constants.JULIAN_YEAR) {
+            BodiesElements elements = arguments.evaluateAll(AbsoluteDate.J2000_EPOCH.shiftedBy(dt));
+            Assert.assertEquals(reference.value(elements), stored.value(elements), 0.0);
+            Assert.assertEquals(reference.value(elements), loaded.value(elements), 0.0);
+            double p = reference.getPolynomial().value(elements.getTC());
+            Assert.assertEquals(0.5 * (reference.value(elements) - p), scaled.value(elements) - p, 1.0e-6);
+            Assert.assertArrayEquals(compiledReference.value(elements), compiledLoaded.value(elements), 0.0);
+            Assert.assertArrayEquals(compiledReference.derivative(elements), compiledLoaded.derivative(elements), 0.0);
+        }
+
+    }
+
+    @Test
+    public void testTruncation() {
+        Utils.setDataRoot("regular-data");
+        String directory = "/assets/org/orekit/IERS-conventions/";
+        PoissonSeriesParser parser =
+                new PoissonSeriesParser(17).withPolynomialPart('t', PolynomialParser.Unit.NO_UNITS).
+                    withFirstDelaunay(4).withFirstPlanetary(9).withSinCos(0, 2, 1.0, 3, 1.0);
+        PoissonSeries xSeries =
+                        parser.parse(getClass().getResourceAsStream(directory + "2010/tab5.2a.txt"), "2010/tab5.2a.txt");
+        PoissonSeries ySeries =
+                        parser.parse(getClass().getResourceAsStream(directory + "2010/tab5.2b.txt"), "2010/tab5.2b.txt");
+        Assert.assertEquals(0.0, xSeries.getTruncationError(), 0.0);
+
+        // a null threshold keeps everything
+        PoissonSeries xAll = xSeries.truncate(0.0, 1.0);
+        Assert.assertEquals(xSeries.getNonPolynomialSize(), xAll.getNonPolynomialSize());
+        Assert.assertEquals(0.0, xAll.getTruncationError(), 0.0);
+
+        // series values are in microarcseconds, keep only terms above 100µas
+        final double maxTC = 0.5;
+        PoissonSeries xTruncated = xSeries.truncate(100.0, maxTC);
+        PoissonSeries yTruncated = ySeries.truncate(100.0, maxTC);
+        Assert.assertEquals(1306, xSeries.getNonPolynomialSize());
+        Assert.assertEquals(  66, xTruncated.getNonPolynomialSize());
+        Assert.assertEquals( 990, ySeries.getNonPolynomialSize());
+        Assert.assertEquals(  55, yTruncated.getNonPolynomialSize());
+        Assert.assertEquals(5021.9, xTruncated.getTruncationError(), 0.1);
+        Assert.assertEquals(4340.6, yTruncated.getTruncationError(), 0.1);
+
+        // truncating again accumulates the errors bounds
+        PoissonSeries xTwice = xTruncated.truncate(1000.0, maxTC);
+        Assert.assertTrue(xTwice.getNonPolynomialSize() < xTruncated.getNonPolynomialSize());
+        Assert.assertTrue(xTwice.getTruncationError() > xTruncated.getTruncationError());
+
+        TimeScale ut1 = TimeScalesFactory.getUT1(FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true));
+        FundamentalNutationArguments arguments = IERSConventions.IERS_2010.getNutationArguments(ut1);
+        PoissonSeries.CompiledSeries compiled = PoissonSeries.compile(xTruncated, yTruncated);
+        double maxErrorX = 0;
+        double maxErrorY = 0;
+        for (double dt = -maxTC * Constants.JULIAN_CENTURY; dt <= maxTC * Constants.JULIAN_CENTURY; dt += 3.7 * Constants.JULIAN_DAY) {
+            AbsoluteDate date = AbsoluteDate.J2000_EPOCH.shiftedBy(dt);
+            BodiesElements elements = arguments.evaluateAll(date);
+            double[] values = compiled.value(elements);
+            Assert.assertEquals(xTruncated.value(elements), values[0], 1.0e-6);
+            Assert.assertEquals(yTruncated.value(elements), values[1], 1.0e-6);
+            maxErrorX = FastMath.max(maxErrorX, FastMath.abs(values[0] - xSeries.value(elements)));
+            maxErrorY = FastMath.max(maxErrorY, FastMath.abs(values[1] - ySeries.value(elements)));
+
+            // field evaluation
+            FieldBodiesElements<Decimal64> fieldElements =
+                            arguments.evaluateAll(new FieldAbsoluteDate<>(Decimal64Field.getInstance(), date));
+            Decimal64[] fieldValues = compiled.value(fieldElements);
+            Assert.assertEquals(values[0], fieldValues[0].getReal(), 1.0e-6);
+            Assert.assertEquals(values[1], fieldValues[1].getReal(), 1.0e-6);
+            Assert.assertEquals(xTruncated.value(elements), xTruncated.value(fieldElements).getReal(), 1.0e-6);
+
+        }
+        Assert.assertTrue(maxErrorX <= xTruncated.getTruncationError());
+        Assert.assertTrue(maxErrorY <= yTruncated.getTruncationError());
+        Assert.assertTrue(maxErrorX > 0.1 * xTruncated.getTruncationError());
+        Assert.assertTrue(maxErrorY > 0.1 * yTruncated.getTruncationError());
+
+    }
+
     @Test
     public void testCorruptedLDelaunayMultiplier() {
         checkCorrupted("/tides/tab6.5a-corrupted-l-Delaunay-multiplier.txt", "σ₁");
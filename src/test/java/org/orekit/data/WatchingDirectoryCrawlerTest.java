@@ -0,0 +1,351 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.drag.atmosphere.data.MarshallSolarActivityFutureEstimation;
+import org.orekit.frames.EOPHistory;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.Transform;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.time.UTCScale;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+public class WatchingDirectoryCrawlerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+    private WatchingDirectoryCrawler crawler;
+
+    @Before
+    public void setUp() throws IOException {
+        Utils.setDataRoot("no-data");
+        root    = folder.newFolder("data");
+        crawler = null;
+    }
+
+    @After
+    public void tearDown() {
+        if (crawler != null) {
+            crawler.close();
+        }
+        DataProvidersManager.getInstance().clearProviders();
+    }
+
+    @Test
+    public void testNotADirectory() throws IOException {
+        final File file = folder.newFile("not-a-directory");
+        try {
+            new WatchingDirectoryCrawler(file);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.NOT_A_DIRECTORY, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testChanges() throws IOException, InterruptedException {
+
+        write(root, "a.txt", "a1");
+        crawler = new WatchingDirectoryCrawler(root);
+        Assert.assertTrue(crawler.pollChanges().isEmpty());
+
+        write(root, "a.txt", "a2");
+        write(root, "b.txt", "b1");
+        final List<String> changed = waitFor(2);
+        Assert.assertEquals(new File(root, "a.txt").getPath(), changed.get(0));
+        Assert.assertEquals(new File(root, "b.txt").getPath(), changed.get(1));
+        Assert.assertTrue(crawler.pollChanges().isEmpty());
+
+        final CountingLoader loader = new CountingLoader();
+        Assert.assertTrue(crawler.feed(Pattern.compile(".*\\.txt$"), loader));
+        Assert.assertEquals(2, loader.getCount());
+
+        Files.delete(new File(root, "a.txt").toPath());
+        Assert.assertEquals(new File(root, "a.txt").getPath(), waitFor(1).get(0));
+
+    }
+
+    @Test
+    public void testNewSubDirectory() throws IOException, InterruptedException {
+
+        crawler = new WatchingDirectoryCrawler(root);
+
+        // files in a new sub-directory are reported, even if they were
+        // created before the sub-directory itself has been registered
+        final File sub = new File(root, "sub");
+        Files.createDirectory(sub.toPath());
+        write(sub, "c.txt", "c1");
+        Assert.assertEquals(new File(sub, "c.txt").getPath(), waitFor(1).get(0));
+
+        // files created later in the sub-directory are reported too
+        write(sub, "d.txt", "d1");
+        Assert.assertEquals(new File(sub, "d.txt").getPath(), waitFor(1).get(0));
+
+    }
+
+    @Test
+    public void testClosed() throws IOException, InterruptedException {
+        write(root, "a.txt", "a1");
+        crawler = new WatchingDirectoryCrawler(root);
+        crawler.close();
+        write(root, "b.txt", "b1");
+        Assert.assertTrue(crawler.pollChanges().isEmpty());
+        Assert.assertTrue(crawler.waitForChanges(10, TimeUnit.MILLISECONDS).isEmpty());
+        final CountingLoader loader = new CountingLoader();
+        Assert.assertTrue(crawler.feed(Pattern.compile(".*\\.txt$"), loader));
+        Assert.assertEquals(2, loader.getCount());
+    }
+
+    @Test
+    public void testReloadUTC() throws IOException, URISyntaxException, InterruptedException {
+
+        copy("regular-data/UTC-TAI.history");
+        crawler = new WatchingDirectoryCrawler(root);
+        DataProvidersManager.getInstance().addProvider(crawler);
+
+        final UTCScale utc = TimeScalesFactory.getUTC();
+        // the leap second starts one second before midnight
+        Assert.assertEquals(1.0,
+                            new AbsoluteDate(2015, 7, 1, utc).durationFrom(utc.getLastKnownLeapSecond()),
+                            1.0e-10);
+        final AbsoluteDate date = new AbsoluteDate(2017, 6, 1, TimeScalesFactory.getTAI());
+        Assert.assertEquals(-36.0, utc.offsetFromTAI(date), 1.0e-10);
+
+        // a new leap second is announced
+        final Path history = new File(root, "UTC-TAI.history").toPath();
+        final List<String> lines = new ArrayList<>();
+        for (final String line : Files.readAllLines(history, StandardCharsets.UTF_8)) {
+            if (line.startsWith(" 2015  Jul   1 -")) {
+                lines.add(" 2015  Jul   1 - 2017  Jan.  1    36s");
+                lines.add(" 2017  Jan.  1 -                  37s");
+            } else {
+                lines.add(line);
+            }
+        }
+        Files.write(history, lines, StandardCharsets.UTF_8);
+        Assert.assertFalse(waitFor(1).isEmpty());
+
+        // the same scale instance sees the new leap second
+        Assert.assertSame(utc, TimeScalesFactory.reloadUTC());
+        Assert.assertSame(utc, TimeScalesFactory.getUTC());
+        // the leap second starts one second before midnight
+        Assert.assertEquals(1.0,
+                            new AbsoluteDate(2017, 1, 1, utc).durationFrom(utc.getLastKnownLeapSecond()),
+                            1.0e-10);
+        Assert.assertEquals(-37.0, utc.offsetFromTAI(date), 1.0e-10);
+
+    }
+
+    @Test
+    public void testReloadEOP() throws IOException, URISyntaxException, InterruptedException {
+
+        copy("bulletinA/UTC-TAI.history");
+        copy("bulletinA/bulletina-xxvi-036.txt");
+        crawler = new WatchingDirectoryCrawler(root);
+        DataProvidersManager.getInstance().addProvider(crawler);
+        FramesFactory.setEOPContinuityThreshold(Constants.JULIAN_DAY * 40);
+
+        final Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        final EOPHistory history = FramesFactory.findEOP(itrf);
+        final AbsoluteDate start = history.getStartDate();
+        final AbsoluteDate end   = history.getEndDate();
+
+        // a new bulletin is published
+        copy("bulletinA/bulletina-xxvi-037.txt");
+        Assert.assertFalse(waitFor(1).isEmpty());
+        FramesFactory.reloadEOPHistories();
+
+        // the frames see the new entries
+        Assert.assertSame(history, FramesFactory.findEOP(itrf));
+        Assert.assertEquals(0.0, history.getStartDate().durationFrom(start), 1.0e-10);
+        Assert.assertEquals(7 * Constants.JULIAN_DAY, history.getEndDate().durationFrom(end), 1.0e-10);
+
+    }
+
+    @Test
+    public void testReloadEOPTransforms() throws IOException, URISyntaxException, InterruptedException {
+
+        copy("bulletinA/UTC-TAI.history");
+        copy("bulletinA/bulletina-xxvi-036.txt");
+        crawler = new WatchingDirectoryCrawler(root);
+        DataProvidersManager.getInstance().addProvider(crawler);
+        FramesFactory.setEOPContinuityThreshold(Constants.JULIAN_DAY * 40);
+
+        // this date is in the predictions of the first bulletin
+        // and in the rapid service data of the second one
+        final AbsoluteDate date = new AbsoluteDate(2013, 9, 8, 12, 0, 0.0, TimeScalesFactory.getUTC());
+        final Frame gcrf      = FramesFactory.getGCRF();
+        final Frame itrf      = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        final Frame flattened = FramesFactory.getFlattenedITRF(gcrf, IERSConventions.IERS_2010, true, 1.0e-10);
+
+        // fill up the caches with transforms computed from the first bulletin
+        final Transform before = gcrf.getTransformTo(itrf, date);
+        gcrf.getTransformTo(flattened, date);
+
+        // a new bulletin is published
+        copy("bulletinA/bulletina-xxvi-037.txt");
+        Assert.assertFalse(waitFor(1).isEmpty());
+        FramesFactory.reloadEOPHistories();
+
+        // frame built from scratch using the same files
+        final DataProvidersManager manager = new DataProvidersManager();
+        manager.addProvider(new DirectoryCrawler(root));
+        final Frame fresh = new DataContext.Builder(manager).
+                            withEOP(IERSConventions.IERS_2010, true).
+                            build().
+                            getITRF(IERSConventions.IERS_2010, true);
+        final Transform expected = gcrf.getTransformTo(fresh, date);
+        Assert.assertTrue(Rotation.distance(expected.getRotation(), before.getRotation()) > 1.0e-9);
+
+        // the cached transforms computed from the first bulletin have been dropped
+        Assert.assertEquals(0.0,
+                            Rotation.distance(expected.getRotation(),
+                                              gcrf.getTransformTo(itrf, date).getRotation()),
+                            1.0e-15);
+        Assert.assertEquals(0.0,
+                            Rotation.distance(expected.getRotation(),
+                                              gcrf.getTransformTo(flattened, date).getRotation()),
+                            1.0e-10);
+
+    }
+
+    @Test
+    public void testReloadDataContextEOP() throws IOException, URISyntaxException, InterruptedException {
+
+        copy("bulletinA/UTC-TAI.history");
+        copy("bulletinA/bulletina-xxvi-036.txt");
+        crawler = new WatchingDirectoryCrawler(root);
+        FramesFactory.setEOPContinuityThreshold(Constants.JULIAN_DAY * 40);
+
+        // the context manager is the only one that knows about the files
+        final DataProvidersManager manager = new DataProvidersManager();
+        manager.addProvider(crawler);
+        final DataContext context = new DataContext.Builder(manager).
+                                    withEOP(IERSConventions.IERS_2010, true).
+                                    build();
+        final EOPHistory history = context.getEOPHistory(IERSConventions.IERS_2010, true);
+        final AbsoluteDate start = history.getStartDate();
+        final AbsoluteDate end   = history.getEndDate();
+        final long generation    = history.getGeneration();
+
+        // a new bulletin is published
+        copy("bulletinA/bulletina-xxvi-037.txt");
+        Assert.assertFalse(waitFor(1).isEmpty());
+        FramesFactory.reloadEOPHistory(history);
+
+        // the history has been reloaded from the context manager
+        Assert.assertNotEquals(generation, history.getGeneration());
+        Assert.assertEquals(0.0, history.getStartDate().durationFrom(start), 1.0e-10);
+        Assert.assertEquals(7 * Constants.JULIAN_DAY, history.getEndDate().durationFrom(end), 1.0e-10);
+
+    }
+
+    @Test
+    public void testReloadSolarActivity() throws IOException, URISyntaxException, InterruptedException {
+
+        copy("regular-data/UTC-TAI.history");
+        copy("atmosphere/Nov2010F10.txt");
+        crawler = new WatchingDirectoryCrawler(root);
+        DataProvidersManager.getInstance().addProvider(crawler);
+
+        final MarshallSolarActivityFutureEstimation msafe =
+                new MarshallSolarActivityFutureEstimation("\\p{Alpha}\\p{Lower}\\p{Lower}\\p{Digit}\\p{Digit}\\p{Digit}\\p{Digit}F10\\.(?:txt|TXT)",
+                                                          MarshallSolarActivityFutureEstimation.StrengthLevel.AVERAGE);
+        final AbsoluteDate start = msafe.getMinDate();
+        final AbsoluteDate end   = msafe.getMaxDate();
+        final AbsoluteDate date  = new AbsoluteDate(2011, 6, 1, TimeScalesFactory.getUTC());
+        Assert.assertEquals(new DateComponents(2010, 11, 1), msafe.getFileDate(date));
+
+        // a new file is published
+        copy("atmosphere/Dec2010F10.txt");
+        Assert.assertFalse(waitFor(1).isEmpty());
+        msafe.reload();
+
+        // the fresher entries replace the former ones
+        Assert.assertEquals(0.0, msafe.getMinDate().durationFrom(start), 1.0e-10);
+        Assert.assertEquals(0.0, msafe.getMaxDate().durationFrom(end), 1.0e-10);
+        Assert.assertEquals(new DateComponents(2010, 12, 1), msafe.getFileDate(date));
+
+    }
+
+    private List<String> waitFor(final int expected) throws InterruptedException {
+        // some platforms do not have native notifications and poll the files periodically
+        final List<String> changed = new ArrayList<>();
+        final long deadline = System.currentTimeMillis() + 30000l;
+        while (changed.size() < expected && System.currentTimeMillis() < deadline) {
+            for (final String name : crawler.waitForChanges(100, TimeUnit.MILLISECONDS)) {
+                if (!changed.contains(name)) {
+                    changed.add(name);
+                }
+            }
+        }
+        changed.sort(String::compareTo);
+        return changed;
+    }
+
+    private void write(final File directory, final String name, final String content) throws IOException {
+        Files.write(new File(directory, name).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void copy(final String resource) throws IOException, URISyntaxException {
+        final Path source = Paths.get(getClass().getClassLoader().getResource(resource).toURI());
+        Files.copy(source, new File(root, source.getFileName().toString()).toPath());
+    }
+
+    private static class CountingLoader implements DataLoader {
+        private int count = 0;
+        public boolean stillAcceptsData() {
+            return true;
+        }
+        public void loadData(InputStream input, String name) {
+            ++count;
+        }
+        public int getCount() {
+            return count;
+        }
+    }
+
+}
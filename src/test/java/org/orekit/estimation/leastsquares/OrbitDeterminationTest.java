@@ -400,7 +400,7 @@ public class OrbitDeterminationTest {
         Assert.assertEquals(7.6720e-11, covariances.getEntry(11, 11), 1.0e-15);
     }
 
-   private class ResultOD {
+   class ResultOD {
        private int numberOfIteration;
        private int numberOfEvaluation;
        private TimeStampedPVCoordinates estimatedPV;
@@ -459,7 +459,7 @@ public class OrbitDeterminationTest {
 
    }
 
-    private ResultOD run(final File input, final boolean print)
+    ResultOD run(final File input, final boolean print)
         throws IOException, IllegalArgumentException, OrekitException, ParseException {
 
         // read input parameters
@@ -0,0 +1,284 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.Decimal64;
+import org.hipparchus.util.Decimal64Field;
+import org.hipparchus.util.FastMath;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.ForceModel;
+import org.orekit.forces.gravity.potential.GRGSFormatReader;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngle;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateComponents;
+import org.orekit.time.TimeComponents;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.IERSConventions;
+
+public class GriddedGravityModelTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Frame                             itrf;
+    private AbsoluteDate                      date;
+    private HolmesFeatherstoneAttractionModel reference;
+    private File                              gridFile;
+
+    @Before
+    public void setUp() throws IOException {
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        itrf      = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        date      = new AbsoluteDate(new DateComponents(2000, 7, 1),
+                                     new TimeComponents(13, 59, 27.816),
+                                     TimeScalesFactory.getUTC());
+        reference = new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(20, 20));
+        gridFile  = new File(folder.getRoot(), "leo.grid");
+        GriddedGravityModel.writeGrid(gridFile, reference, date, 6.9e6, 7.1e6, 6, 180);
+    }
+
+    @After
+    public void tearDown() {
+        itrf      = null;
+        date      = null;
+        reference = null;
+        gridFile  = null;
+    }
+
+    @Test
+    public void testHeader() {
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        Assert.assertEquals(6.9e6, grid.getMinRadius(), 0.0);
+        Assert.assertEquals(7.1e6, grid.getMaxRadius(), 0.0);
+        Assert.assertEquals(reference.getMu(), grid.getMu(), 0.0);
+        Assert.assertTrue(grid.dependsOnPositionOnly());
+        Assert.assertEquals(1, grid.getParametersDrivers().length);
+        Assert.assertEquals(NewtonianAttraction.CENTRAL_ATTRACTION_COEFFICIENT,
+                            grid.getParametersDrivers()[0].getName());
+        Assert.assertEquals(0, grid.getEventsDetectors().count());
+        Assert.assertEquals(0, grid.getFieldEventsDetectors(Decimal64Field.getInstance()).count());
+        Assert.assertEquals(24l * 6 * 180 * 360 + 48, gridFile.length());
+    }
+
+    @Test
+    public void testNodes() {
+        // at grid nodes, interpolation reproduces the reference model
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        final double step = FastMath.PI / 180;
+        for (final int i : new int[] { 0, 2, 4 }) {
+            final double r = 6.9e6 + i * 4.0e4;
+            for (final int j : new int[] { 0, 1, 90, 178, 179 }) {
+                final double lat = -0.5 * FastMath.PI + (j + 0.5) * step;
+                for (final int k : new int[] { 0, 17, 180, 359 }) {
+                    final Vector3D position = new Vector3D(k * step, lat).scalarMultiply(r);
+                    final double[] expected = reference.gradient(date, position, reference.getMu());
+                    final double[] interpolated = grid.gradient(position, reference.getMu());
+                    for (int l = 0; l < 3; ++l) {
+                        Assert.assertEquals(expected[l], interpolated[l], 1.0e-12 * new Vector3D(expected).getNorm());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAccuracy() {
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        final GriddedGravityModel.AccuracyReport report =
+                        grid.checkAccuracy(reference, date, 2000, new Well19937a(0x3e5f8a91c0d7b264l));
+        Assert.assertEquals(2000, report.getSamples());
+        Assert.assertEquals(0.0, report.getMaxError(), 2.0e-8);
+        Assert.assertEquals(0.0, report.getRMSError(), 5.0e-9);
+        Assert.assertEquals(0.0, report.getMaxRelativeError(), 1.0e-3);
+        Assert.assertTrue(report.getRMSError() <= report.getMaxError());
+    }
+
+    @Test
+    public void testPoles() {
+        // interpolation near poles uses nodes on the other side of the pole
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        final RandomGenerator random = new Well19937a(0x71a4b2c9e8d30f56l);
+        for (int i = 0; i < 200; ++i) {
+            final double r   = 6.9e6 + 2.0e5 * random.nextDouble();
+            final double lat = (0.5 * FastMath.PI - 0.03 * random.nextDouble()) * (i % 2 == 0 ? 1 : -1);
+            final double lon = 2 * FastMath.PI * (random.nextDouble() - 0.5);
+            final Vector3D position = new Vector3D(lon, lat).scalarMultiply(r);
+            final Vector3D expected = new Vector3D(reference.gradient(date, position, reference.getMu()));
+            final Vector3D interpolated = new Vector3D(grid.gradient(position, reference.getMu()));
+            Assert.assertEquals(0.0, Vector3D.distance(expected, interpolated), 2.0e-8);
+        }
+    }
+
+    @Test
+    public void testMuScaling() {
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        final Vector3D position = new Vector3D(0.3, 0.7).scalarMultiply(7.0e6);
+        final double[] g1 = grid.gradient(position, grid.getMu());
+        final double[] g2 = grid.gradient(position, 2 * grid.getMu());
+        for (int l = 0; l < 3; ++l) {
+            Assert.assertEquals(2 * g1[l], g2[l], 1.0e-15 * FastMath.abs(g2[l]));
+        }
+    }
+
+    @Test
+    public void testField() {
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        final RandomGenerator random = new Well19937a(0x2b6c9d0e4f1a7358l);
+        for (int i = 0; i < 100; ++i) {
+            final double r = 6.9e6 + 2.0e5 * random.nextDouble();
+            final Vector3D position = new Vector3D(2 * FastMath.PI * random.nextDouble(),
+                                                   FastMath.PI * (random.nextDouble() - 0.5)).scalarMultiply(r);
+            final double[] g = grid.gradient(position, grid.getMu());
+            final Decimal64[] gField = grid.gradient(new FieldVector3D<>(Decimal64Field.getInstance(), position),
+                                                     new Decimal64(grid.getMu()));
+            for (int l = 0; l < 3; ++l) {
+                Assert.assertEquals(g[l], gField[l].getReal(), 1.0e-12 * new Vector3D(g).getNorm());
+            }
+        }
+    }
+
+    @Test
+    public void testPropagation() {
+
+        final KeplerianOrbit orbit =
+                        new KeplerianOrbit(7.0e6, 0.001, FastMath.toRadians(98.0),
+                                           FastMath.toRadians(30.0), FastMath.toRadians(120.0), 0.0,
+                                           PositionAngle.MEAN, FramesFactory.getEME2000(), date,
+                                           reference.getMu());
+        final SpacecraftState referenceState = propagate(orbit, reference);
+        final SpacecraftState gridState      = propagate(orbit, new GriddedGravityModel(itrf, gridFile));
+        Assert.assertEquals(0.0,
+                            Vector3D.distance(referenceState.getPVCoordinates().getPosition(),
+                                              gridState.getPVCoordinates().getPosition()),
+                            0.2);
+
+    }
+
+    @Test
+    public void testOutOfRange() {
+        final GriddedGravityModel grid = new GriddedGravityModel(itrf, gridFile);
+        try {
+            grid.gradient(new Vector3D(7.2e6, 0, 0), grid.getMu());
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.OUT_OF_RANGE_RADIUS, oe.getSpecifier());
+            Assert.assertEquals(7.2e6, (Double) oe.getParts()[0], 1.0e-6);
+            Assert.assertEquals(6.9e6, (Double) oe.getParts()[1], 1.0e-6);
+            Assert.assertEquals(7.1e6, (Double) oe.getParts()[2], 1.0e-6);
+        }
+    }
+
+    @Test
+    public void testWrongDimensions() {
+        final File file = new File(folder.getRoot(), "wrong.grid");
+        try {
+            GriddedGravityModel.writeGrid(file, reference, date, 7.1e6, 6.9e6, 6, 90);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, oiae.getSpecifier());
+        }
+        try {
+            GriddedGravityModel.writeGrid(file, reference, date, 6.9e6, 7.1e6, 3, 90);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+        try {
+            GriddedGravityModel.writeGrid(file, reference, date, 6.9e6, 7.1e6, 6, 3);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+        Assert.assertFalse(file.exists());
+    }
+
+    @Test
+    public void testNotAGrid() throws IOException {
+        final File file = new File(folder.getRoot(), "not-a-grid");
+        Files.write(file.toPath(), "this is not a grid file".getBytes(StandardCharsets.UTF_8));
+        try {
+            new GriddedGravityModel(itrf, file);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testTruncatedGrid() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(gridFile, "rw")) {
+            raf.setLength(raf.length() - 8);
+        }
+        try {
+            new GriddedGravityModel(itrf, gridFile);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.CORRUPTED_FILE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testMissingFile() {
+        try {
+            new GriddedGravityModel(itrf, new File(folder.getRoot(), "missing.grid"));
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertTrue(oe.getCause() instanceof IOException);
+        }
+    }
+
+    private SpacecraftState propagate(final KeplerianOrbit orbit, final ForceModel model) {
+        final double[][] tolerances = NumericalPropagator.tolerances(0.001, orbit, OrbitType.CARTESIAN);
+        final NumericalPropagator propagator =
+                        new NumericalPropagator(new DormandPrince853Integrator(0.001, 200,
+                                                                               tolerances[0], tolerances[1]));
+        propagator.setOrbitType(OrbitType.CARTESIAN);
+        propagator.addForceModel(model);
+        propagator.setInitialState(new SpacecraftState(orbit));
+        return propagator.propagate(date.shiftedBy(2 * orbit.getKeplerianPeriod()));
+    }
+
+}
@@ -19,11 +19,19 @@ package org.orekit.forces.gravity;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hipparchus.Field;
 import org.hipparchus.analysis.differentiation.DSFactory;
 import org.hipparchus.analysis.differentiation.DerivativeStructure;
 import org.hipparchus.dfp.Dfp;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldRotation;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
@@ -40,6 +48,8 @@ import org.hipparchus.random.GaussianRandomGenerator;
 import org.hipparchus.random.RandomGenerator;
 import org.hipparchus.random.UncorrelatedRandomVectorGenerator;
 import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.Decimal64;
+import org.hipparchus.util.Decimal64Field;
 import org.hipparchus.util.FastMath;
 import org.junit.After;
 import org.junit.Assert;
@@ -49,6 +59,7 @@ import org.orekit.Utils;
 import org.orekit.attitudes.LofOffset;
 import org.orekit.bodies.CelestialBodyFactory;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.forces.AbstractLegacyForceModelTest;
 import org.orekit.forces.ForceModel;
 import org.orekit.forces.gravity.potential.GRGSFormatReader;
@@ -157,10 +168,10 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
         providerField.setAccessible(true);
         NormalizedSphericalHarmonicsProvider provider = (NormalizedSphericalHarmonicsProvider) providerField.get(hfModel);
         java.lang.reflect.Method createDistancePowersArrayMethod =
-                        HolmesFeatherstoneAttractionModel.class.getDeclaredMethod("createDistancePowersArray", Double.TYPE);
+                        HolmesFeatherstoneAttractionModel.class.getDeclaredMethod("fillDistancePowersArray", Double.TYPE, double[].class);
         createDistancePowersArrayMethod.setAccessible(true);
         java.lang.reflect.Method createCosSinArraysMethod =
-                        HolmesFeatherstoneAttractionModel.class.getDeclaredMethod("createCosSinArrays", Double.TYPE, Double.TYPE);
+                        HolmesFeatherstoneAttractionModel.class.getDeclaredMethod("fillCosSinArrays", Double.TYPE, Double.TYPE, double[][].class);
         createCosSinArraysMethod.setAccessible(true);
         java.lang.reflect.Method computeTesseralMethod =
                         HolmesFeatherstoneAttractionModel.class.getDeclaredMethod("computeTesseral",
@@ -198,10 +209,10 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
         final double tOu  = z / rho;
 
         // compute distance powers
-        final double[] aOrN = (double[]) createDistancePowersArrayMethod.invoke(hfModel, provider.getAe() / r);
+        final double[] aOrN = (double[]) createDistancePowersArrayMethod.invoke(hfModel, provider.getAe() / r, new double[degree + 1]);
 
         // compute longitude cosines/sines
-        final double[][] cosSinLambda = (double[][]) createCosSinArraysMethod.invoke(hfModel, position.getX() / rho, position.getY() / rho);
+        final double[][] cosSinLambda = (double[][]) createCosSinArraysMethod.invoke(hfModel, position.getX() / rho, position.getY() / rho, new double[2][order + 1]);
 
         // outer summation over order
         int    index = 0;
@@ -671,6 +682,136 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
 
     }
 
+    @Test
+    public void testConcurrentWorkspaces() throws InterruptedException, ExecutionException {
+
+        int max = 60;
+        NormalizedSphericalHarmonicsProvider provider = new GleasonProvider(max, max);
+        final HolmesFeatherstoneAttractionModel model =
+                new HolmesFeatherstoneAttractionModel(itrf, provider);
+
+        final List<Vector3D> positions = new ArrayList<>();
+        final List<double[]> reference = new ArrayList<>();
+        for (double lambda = 0; lambda < 2 * FastMath.PI; lambda += 0.5) {
+            for (double theta = 0.05; theta < 3.11; theta += 0.1) {
+                final Vector3D position = new Vector3D(1.25, new Vector3D(lambda, 0.5 * FastMath.PI - theta));
+                positions.add(position);
+                reference.add(model.gradient(null, position, model.getMu()));
+            }
+        }
+
+        // each thread uses its own workspace, and reusing a workspace does not change the results
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int k = 0; k < 8; ++k) {
+                final int phase = 7 * k;
+                futures.add(executor.submit(() -> {
+                    boolean identical = true;
+                    for (int i = 0; i < positions.size(); ++i) {
+                        final int j = (i + phase) % positions.size();
+                        final double[] gradient = model.gradient(null, positions.get(j), model.getMu());
+                        identical &= Arrays.equals(reference.get(j), gradient);
+                    }
+                    return identical;
+                }));
+            }
+            for (final Future<Boolean> future : futures) {
+                Assert.assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    @Test
+    public void testBatchGradients() {
+
+        int max = 50;
+        NormalizedSphericalHarmonicsProvider provider = new GleasonProvider(max, max);
+        HolmesFeatherstoneAttractionModel model =
+                new HolmesFeatherstoneAttractionModel(itrf, provider);
+
+        final List<Vector3D> positions = new ArrayList<>();
+        for (double lambda = 0; lambda < 2 * FastMath.PI; lambda += 0.5) {
+            for (double theta = 0.05; theta < 3.11; theta += 0.1) {
+                positions.add(new Vector3D(1.25, new Vector3D(lambda, 0.5 * FastMath.PI - theta)));
+            }
+        }
+        final int n = positions.size();
+        final double[] x = new double[n];
+        final double[] y = new double[n];
+        final double[] z = new double[n];
+        for (int i = 0; i < n; ++i) {
+            x[i] = positions.get(i).getX();
+            y[i] = positions.get(i).getY();
+            z[i] = positions.get(i).getZ();
+        }
+
+        final double[] gx = new double[n];
+        final double[] gy = new double[n];
+        final double[] gz = new double[n];
+        model.gradients(null, x, y, z, model.getMu(), gx, gy, gz);
+        final double[][] hessians = new double[6][n];
+        final double[] hgx = new double[n];
+        final double[] hgy = new double[n];
+        final double[] hgz = new double[n];
+        model.gradients(null, x, y, z, model.getMu(), hgx, hgy, hgz, hessians);
+
+        for (int i = 0; i < n; ++i) {
+
+            // the batch evaluation gives exactly the same gradients as point evaluation
+            final double[] gradient = model.gradient(null, positions.get(i), model.getMu());
+            Assert.assertEquals(gradient[0], gx[i], 0.0);
+            Assert.assertEquals(gradient[1], gy[i], 0.0);
+            Assert.assertEquals(gradient[2], gz[i], 0.0);
+            final double norm = FastMath.sqrt(gx[i] * gx[i] + gy[i] * gy[i] + gz[i] * gz[i]);
+            Assert.assertEquals(gx[i], hgx[i], 1.0e-15 * norm);
+            Assert.assertEquals(gy[i], hgy[i], 1.0e-15 * norm);
+            Assert.assertEquals(gz[i], hgz[i], 1.0e-15 * norm);
+
+            final double[][] hessian = gradientHessian(model, null, positions.get(i)).getHessian();
+            final double[] upper = new double[] {
+                hessian[0][0], hessian[0][1], hessian[0][2], hessian[1][1], hessian[1][2], hessian[2][2]
+            };
+            double normH2 = 0;
+            double normE2 = 0;
+            for (int j = 0; j < upper.length; ++j) {
+                final double error = upper[j] - hessians[j][i];
+                normH2 += upper[j] * upper[j];
+                normE2 += error * error;
+            }
+            Assert.assertEquals(0, FastMath.sqrt(normE2 / normH2), 1.0e-14);
+
+        }
+
+    }
+
+    @Test
+    public void testBatchGradientsDimensionMismatch() {
+        HolmesFeatherstoneAttractionModel model =
+                new HolmesFeatherstoneAttractionModel(itrf, new GleasonProvider(5, 5));
+        try {
+            model.gradients(null, new double[3], new double[3], new double[2], model.getMu(),
+                            new double[3], new double[3], new double[3]);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+            Assert.assertEquals(2, ((Integer) oiae.getParts()[0]).intValue());
+            Assert.assertEquals(3, ((Integer) oiae.getParts()[1]).intValue());
+        }
+        try {
+            model.gradients(null, new double[3], new double[3], new double[3], model.getMu(),
+                            new double[3], new double[3], new double[3], new double[5][3]);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+            Assert.assertEquals(5, ((Integer) oiae.getParts()[0]).intValue());
+            Assert.assertEquals(6, ((Integer) oiae.getParts()[1]).intValue());
+        }
+    }
+
     @Test
     public void testHessian() {
 
@@ -1064,6 +1205,79 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
         return propagator.getGeneratedEphemeris();
     }
 
+    @Test
+    public void testNoTruncationByDefault() {
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        HolmesFeatherstoneAttractionModel hfModel =
+                new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(50, 50));
+        Assert.assertEquals(0.0, hfModel.getAccuracy(), 0.0);
+        for (double r = 6.8e6; r < 5.0e7; r += 1.0e6) {
+            Assert.assertEquals(50, hfModel.getTruncationDegree(AbsoluteDate.J2000_EPOCH, r));
+        }
+    }
+
+    @Test
+    public void testAdaptiveTruncation() {
+
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        final AbsoluteDate date = new AbsoluteDate(new DateComponents(2000, 07, 01),
+                                                   new TimeComponents(13, 59, 27.816),
+                                                   TimeScalesFactory.getUTC());
+        final double accuracy = 1.0e-9;
+        HolmesFeatherstoneAttractionModel adaptive =
+                new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(50, 50),
+                                                      accuracy);
+        HolmesFeatherstoneAttractionModel full =
+                new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(50, 50));
+        Assert.assertEquals(accuracy, adaptive.getAccuracy(), 0.0);
+
+        // the truncation degree decreases as the distance increases
+        Assert.assertEquals(50, adaptive.getTruncationDegree(date, 6.8e6));
+        Assert.assertEquals( 7, adaptive.getTruncationDegree(date, 2.66e7));
+        Assert.assertEquals( 4, adaptive.getTruncationDegree(date, 4.2164e7));
+        int previous = 50;
+        for (double r = 6.8e6; r < 5.0e7; r += 1.0e6) {
+            final int degree = adaptive.getTruncationDegree(date, r);
+            Assert.assertTrue(degree <= previous);
+            previous = degree;
+        }
+
+        final RandomGenerator random = new Well19937a(0x8d1c7a5b2e4f6039l);
+        for (int i = 0; i < 100; ++i) {
+            final double r = 6.8e6 + 3.6e7 * random.nextDouble();
+            final Vector3D position = new Vector3D(r,
+                                                   new Vector3D(2 * FastMath.PI * random.nextDouble(),
+                                                                FastMath.PI * (random.nextDouble() - 0.5)));
+
+            // the truncated field is exactly the field of a truncated provider
+            final int degree = adaptive.getTruncationDegree(date, r);
+            final HolmesFeatherstoneAttractionModel truncated =
+                    new HolmesFeatherstoneAttractionModel(itrf,
+                                                          GravityFieldFactory.getNormalizedProvider(degree, degree));
+            final Vector3D gAdaptive  = new Vector3D(adaptive.gradient(date, position, adaptive.getMu()));
+            final Vector3D gTruncated = new Vector3D(truncated.gradient(date, position, truncated.getMu()));
+            Assert.assertEquals(0.0, Vector3D.distance(gAdaptive, gTruncated), 1.0e-15 * gTruncated.getNorm());
+
+            // the field-based computation uses the same truncation
+            final Decimal64[] gField = adaptive.gradient(new FieldAbsoluteDate<>(Decimal64Field.getInstance(), date),
+                                                         new FieldVector3D<>(Decimal64Field.getInstance(), position),
+                                                         new Decimal64(adaptive.getMu()));
+            Assert.assertEquals(0.0,
+                                Vector3D.distance(gAdaptive, new Vector3D(gField[0].getReal(),
+                                                                          gField[1].getReal(),
+                                                                          gField[2].getReal())),
+                                1.0e-12 * gTruncated.getNorm());
+
+            // and it is close to the full field
+            final Vector3D gFull = new Vector3D(full.gradient(date, position, full.getMu()));
+            Assert.assertTrue(Vector3D.distance(gAdaptive, gFull) < accuracy);
+
+        }
+
+    }
+
     @Test
     public void testStateJacobian()
         {
@@ -1125,6 +1339,51 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
 
     }
 
+    @Test
+    public void testFirstOrderDerivativesChainRule() {
+
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        AbsoluteDate date = new AbsoluteDate(new DateComponents(2000, 07, 01),
+                                             new TimeComponents(13, 59, 27.816),
+                                             TimeScalesFactory.getUTC());
+        HolmesFeatherstoneAttractionModel hfModel =
+                new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(20, 20));
+
+        // derivatives with respect to orbital elements and μ (which is not at index 3)
+        // use the analytical Hessian for order 1 and the generic field path for order 2
+        final FieldVector3D<DerivativeStructure> a1 = keplerianAcceleration(hfModel, date, new DSFactory(7, 1));
+        final FieldVector3D<DerivativeStructure> a2 = keplerianAcceleration(hfModel, date, new DSFactory(7, 2));
+        for (final DerivativeStructure[] pair : new DerivativeStructure[][] {
+            { a1.getX(), a2.getX() }, { a1.getY(), a2.getY() }, { a1.getZ(), a2.getZ() }
+        }) {
+            Assert.assertEquals(pair[1].getValue(), pair[0].getValue(), 1.0e-15 * FastMath.abs(pair[1].getValue()));
+            for (int k = 0; k < 7; ++k) {
+                final int[] orders = new int[7];
+                orders[k] = 1;
+                final double expected = pair[1].getPartialDerivative(orders);
+                Assert.assertEquals(expected, pair[0].getPartialDerivative(orders), 1.0e-12 * FastMath.abs(expected));
+            }
+        }
+
+    }
+
+    private FieldVector3D<DerivativeStructure> keplerianAcceleration(final HolmesFeatherstoneAttractionModel hfModel,
+                                                                     final AbsoluteDate date,
+                                                                     final DSFactory factory) {
+        final FieldKeplerianOrbit<DerivativeStructure> orbit =
+                new FieldKeplerianOrbit<>(factory.variable(0, 7201009.7124401),
+                                          factory.variable(1, 1.0e-3),
+                                          factory.variable(2, FastMath.toRadians(98.7)),
+                                          factory.variable(3, FastMath.toRadians(93.0)),
+                                          factory.variable(4, FastMath.toRadians(15.0 * 22.5)),
+                                          factory.variable(5, 0.0),
+                                          PositionAngle.MEAN, FramesFactory.getEME2000(),
+                                          new FieldAbsoluteDate<>(factory.getDerivativeField(), date), mu);
+        return hfModel.acceleration(new FieldSpacecraftState<>(orbit),
+                                    new DerivativeStructure[] { factory.variable(6, mu) });
+    }
+
     @Test
     public void testStateJacobianVsFiniteDifferences()
         {
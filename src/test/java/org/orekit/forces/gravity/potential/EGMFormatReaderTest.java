@@ -16,20 +16,69 @@
  */
 package org.orekit.forces.gravity.potential;
 
+import java.io.IOException;
 
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Precision;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.orekit.Utils;
+import org.orekit.data.DataProvidersManager;
+import org.orekit.data.DataSnapshotCache;
 import org.orekit.errors.OrekitException;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics;
+import org.orekit.forces.gravity.potential.RawSphericalHarmonicsProvider.RawSphericalHarmonics;
 import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider.UnnormalizedSphericalHarmonics;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.Constants;
 
 public class EGMFormatReaderTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSnapshot() throws IOException {
+        Utils.setDataRoot("potential");
+        final DataSnapshotCache cache = new DataSnapshotCache(folder.newFolder());
+        final EGMFormatReader parsed   = new EGMFormatReader("egm96_to5.ascii", true);
+        final EGMFormatReader restored = new EGMFormatReader("egm96_to5.ascii", true);
+        final EGMFormatReader limited  = new EGMFormatReader("egm96_to5.ascii", true);
+        limited.setMaxParseDegree(3);
+        limited.setMaxParseOrder(2);
+        try {
+            DataProvidersManager.getInstance().setSnapshotCache(cache);
+            DataProvidersManager.getInstance().feed(parsed.getSupportedNames(), parsed);
+            Assert.assertEquals(1, cache.getDirectory().list().length);
+            DataProvidersManager.getInstance().feed(restored.getSupportedNames(), restored);
+            Assert.assertEquals(1, cache.getDirectory().list().length);
+            DataProvidersManager.getInstance().feed(limited.getSupportedNames(), limited);
+            Assert.assertEquals(2, cache.getDirectory().list().length);
+        } finally {
+            DataProvidersManager.getInstance().setSnapshotCache(null);
+        }
+
+        Assert.assertEquals(5, restored.getMaxAvailableDegree());
+        Assert.assertEquals(5, restored.getMaxAvailableOrder());
+        Assert.assertEquals(3, limited.getMaxAvailableDegree());
+        Assert.assertEquals(2, limited.getMaxAvailableOrder());
+        final RawSphericalHarmonicsProvider expected = parsed.getProvider(true, 5, 5);
+        final RawSphericalHarmonicsProvider provider = restored.getProvider(true, 5, 5);
+        Assert.assertEquals(expected.getTideSystem(), provider.getTideSystem());
+        Assert.assertEquals(expected.getMu(), provider.getMu(), 0.0);
+        Assert.assertEquals(expected.getAe(), provider.getAe(), 0.0);
+        final RawSphericalHarmonics h0 = expected.onDate(AbsoluteDate.J2000_EPOCH);
+        final RawSphericalHarmonics h1 = provider.onDate(AbsoluteDate.J2000_EPOCH);
+        for (int n = 0; n <= 5; ++n) {
+            for (int m = 0; m <= n; ++m) {
+                Assert.assertEquals(h0.getRawCnm(n, m), h1.getRawCnm(n, m), 0.0);
+                Assert.assertEquals(h0.getRawSnm(n, m), h1.getRawSnm(n, m), 0.0);
+            }
+        }
+    }
+
     @Test
     public void testReadNormalized() {
         Utils.setDataRoot("potential");
@@ -17,14 +17,21 @@
 package org.orekit.forces.gravity.potential;
 
 
+import java.io.IOException;
+
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathUtils;
 import org.hipparchus.util.Precision;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.orekit.Utils;
+import org.orekit.data.DataProvidersManager;
+import org.orekit.data.DataSnapshotCache;
 import org.orekit.errors.OrekitException;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics;
+import org.orekit.forces.gravity.potential.RawSphericalHarmonicsProvider.RawSphericalHarmonics;
 import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider.UnnormalizedSphericalHarmonics;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScalesFactory;
@@ -32,6 +39,55 @@ import org.orekit.utils.Constants;
 
 public class ICGEMFormatReaderTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSnapshot() throws IOException {
+        Utils.setDataRoot("potential");
+        final DataSnapshotCache cache = new DataSnapshotCache(folder.newFolder());
+        final ICGEMFormatReader parsed   = new ICGEMFormatReader("eigen-6s-truncated", false);
+        final ICGEMFormatReader restored = new ICGEMFormatReader("eigen-6s-truncated", false);
+        final ICGEMFormatReader limited  = new ICGEMFormatReader("eigen-6s-truncated", false);
+        limited.setMaxParseDegree(3);
+        limited.setMaxParseOrder(2);
+        try {
+            DataProvidersManager.getInstance().setSnapshotCache(cache);
+            DataProvidersManager.getInstance().feed(parsed.getSupportedNames(), parsed);
+            Assert.assertEquals(1, cache.getDirectory().list().length);
+            DataProvidersManager.getInstance().feed(restored.getSupportedNames(), restored);
+            Assert.assertEquals(1, cache.getDirectory().list().length);
+            DataProvidersManager.getInstance().feed(limited.getSupportedNames(), limited);
+            Assert.assertEquals(2, cache.getDirectory().list().length);
+        } finally {
+            DataProvidersManager.getInstance().setSnapshotCache(null);
+        }
+
+        Assert.assertEquals(parsed.getMaxAvailableDegree(), restored.getMaxAvailableDegree());
+        Assert.assertEquals(parsed.getMaxAvailableOrder(),  restored.getMaxAvailableOrder());
+        Assert.assertEquals(3, limited.getMaxAvailableDegree());
+        Assert.assertEquals(2, limited.getMaxAvailableOrder());
+
+        // time-dependent parts must be restored too
+        final RawSphericalHarmonicsProvider expected = parsed.getProvider(false, 5, 5);
+        final RawSphericalHarmonicsProvider provider = restored.getProvider(false, 5, 5);
+        Assert.assertEquals(expected.getTideSystem(), provider.getTideSystem());
+        Assert.assertEquals(expected.getMu(), provider.getMu(), 0.0);
+        Assert.assertEquals(expected.getAe(), provider.getAe(), 0.0);
+        Assert.assertEquals(expected.getReferenceDate(), provider.getReferenceDate());
+        for (double dt = 0; dt < 10 * Constants.JULIAN_YEAR; dt += 0.37 * Constants.JULIAN_YEAR) {
+            final AbsoluteDate date = expected.getReferenceDate().shiftedBy(dt);
+            final RawSphericalHarmonics h0 = expected.onDate(date);
+            final RawSphericalHarmonics h1 = provider.onDate(date);
+            for (int n = 0; n <= 5; ++n) {
+                for (int m = 0; m <= n; ++m) {
+                    Assert.assertEquals(h0.getRawCnm(n, m), h1.getRawCnm(n, m), 0.0);
+                    Assert.assertEquals(h0.getRawSnm(n, m), h1.getRawSnm(n, m), 0.0);
+                }
+            }
+        }
+    }
+
     @Test
     public void testReadLimits() {
         Utils.setDataRoot("potential");
@@ -17,12 +17,16 @@
 package org.orekit.frames;
 
 
+import java.util.Iterator;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.orekit.data.AbstractFilesLoaderTest;
+import org.orekit.data.DataProvidersManager;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.time.AbsoluteDate;
@@ -56,6 +60,63 @@ public class BulletinAFilesLoaderTest extends AbstractFilesLoaderTest {
                             new EOPHistory(IERSConventions.IERS_2010, history, false).getEndDate());
     }
 
+    @Test
+    public void testParallelLoading() {
+        setRoot("bulletinA");
+        checkParallelLoading("bulletina-xxvi-\\d\\d\\d\\.txt");
+    }
+
+    @Test
+    public void testOverlappingParallelLoading() {
+        setRoot("bulletinA");
+
+        // the more recent bulletin provides IAU-1980 pole offsets over dates
+        // where IAU-2000 pole offsets are only available in the older bulletin
+        final SortedSet<EOPEntry> history = checkParallelLoading("bulletina-overlap-\\d\\.txt");
+        Assert.assertEquals(56534, history.first().getMjd());
+        Assert.assertEquals(56551, history.last().getMjd());
+        for (final EOPEntry entry : history) {
+            if (entry.getMjd() >= 56538 && entry.getMjd() <= 56547) {
+                // both pole offsets series must be available
+                Assert.assertNotEquals(0.0, entry.getDdPsi(), 0.0);
+                Assert.assertNotEquals(0.0, entry.getDdEps(), 0.0);
+                Assert.assertNotEquals(0.0, entry.getDx(),    0.0);
+                Assert.assertNotEquals(0.0, entry.getDy(),    0.0);
+            }
+        }
+
+    }
+
+    private SortedSet<EOPEntry> checkParallelLoading(final String supportedNames) {
+        SortedSet<EOPEntry> sequential = new TreeSet<EOPEntry>(new ChronologicalComparator());
+        new BulletinAFilesLoader(supportedNames).fillHistory(null, sequential);
+        SortedSet<EOPEntry> parallel = new TreeSet<EOPEntry>(new ChronologicalComparator());
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            DataProvidersManager.getInstance().setExecutor(executor);
+            new BulletinAFilesLoader(supportedNames).fillHistory(null, parallel);
+        } finally {
+            DataProvidersManager.getInstance().setExecutor(null);
+            executor.shutdown();
+        }
+        Assert.assertEquals(sequential.size(), parallel.size());
+        final Iterator<EOPEntry> iterator = parallel.iterator();
+        for (final EOPEntry expected : sequential) {
+            final EOPEntry entry = iterator.next();
+            Assert.assertEquals(expected.getMjd(),           entry.getMjd());
+            Assert.assertEquals(expected.getUT1MinusUTC(),   entry.getUT1MinusUTC(), 0.0);
+            Assert.assertEquals(expected.getLOD(),           entry.getLOD(),         0.0);
+            Assert.assertEquals(expected.getX(),             entry.getX(),           0.0);
+            Assert.assertEquals(expected.getY(),             entry.getY(),           0.0);
+            Assert.assertEquals(expected.getDdPsi(),         entry.getDdPsi(),       0.0);
+            Assert.assertEquals(expected.getDdEps(),         entry.getDdEps(),       0.0);
+            Assert.assertEquals(expected.getDx(),            entry.getDx(),          0.0);
+            Assert.assertEquals(expected.getDy(),            entry.getDy(),          0.0);
+            Assert.assertEquals(expected.getITRFType(),      entry.getITRFType());
+        }
+        return parallel;
+    }
+
     @Test
     public void testSingleFile() {
         setRoot("bulletinA");
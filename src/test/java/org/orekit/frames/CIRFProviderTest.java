@@ -156,6 +156,45 @@ public class CIRFProviderTest {
 
     }
 
+    @Test
+    public void testTruncatedSeries() throws IOException, ClassNotFoundException {
+        final EOPHistory eopHistory = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, false);
+        final double threshold = 1.0e-10;
+        final CIRFProvider full      = new CIRFProvider(eopHistory);
+        final CIRFProvider truncated = new CIRFProvider(eopHistory, threshold);
+
+        // the angle between the frames is bounded by the errors on X, Y and s
+        double bound = 0;
+        for (final double error : IERSConventions.IERS_2010.getXYSpXY2Function(threshold).getTruncationErrors()) {
+            bound += error;
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream    oos = new ObjectOutputStream(bos);
+        oos.writeObject(truncated);
+        ByteArrayInputStream  bis = new ByteArrayInputStream(bos.toByteArray());
+        ObjectInputStream     ois = new ObjectInputStream(bis);
+        CIRFProvider deserialized  = (CIRFProvider) ois.readObject();
+
+        AbsoluteDate start = new AbsoluteDate(2002, 9, 12, TimeScalesFactory.getTAI());
+        double maxError = 0.0;
+        for (double dt = 0; dt < 60 * Constants.JULIAN_DAY; dt += 3600) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            final Transform t = truncated.getTransform(date);
+            maxError = FastMath.max(maxError,
+                                    new Transform(date, t, full.getTransform(date).getInverse()).getRotation().getAngle());
+            Assert.assertEquals(0.0,
+                                new Transform(date, t, deserialized.getTransform(date).getInverse()).getRotation().getAngle(),
+                                1.0e-15);
+            Assert.assertEquals(0.0,
+                                new Transform(date, t, truncated.getNonInterpolatingProvider().getTransform(date).getInverse()).getRotation().getAngle(),
+                                1.0e-15);
+        }
+        Assert.assertTrue(maxError > 0);
+        Assert.assertTrue(maxError <= bound);
+
+    }
+
     @Test
     public void testSerialization() throws IOException, ClassNotFoundException {
         CIRFProvider provider = new CIRFProvider(FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true));
@@ -17,12 +17,18 @@
 package org.orekit.frames;
 
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.orekit.data.AbstractFilesLoaderTest;
+import org.orekit.data.DataProvidersManager;
+import org.orekit.data.DataSnapshotCache;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.ChronologicalComparator;
 import org.orekit.time.TimeScalesFactory;
@@ -32,6 +38,43 @@ import org.orekit.utils.IERSConventions;
 
 public class EOPC04FilesLoaderTest extends AbstractFilesLoaderTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSnapshot() throws IOException {
+        setRoot("regular-data");
+        IERSConventions.NutationCorrectionConverter converter =
+                IERSConventions.IERS_2010.getNutationCorrectionConverter();
+        final DataSnapshotCache cache = new DataSnapshotCache(folder.newFolder());
+        SortedSet<EOPEntry> parsed   = new TreeSet<EOPEntry>(new ChronologicalComparator());
+        SortedSet<EOPEntry> restored = new TreeSet<EOPEntry>(new ChronologicalComparator());
+        try {
+            DataProvidersManager.getInstance().setSnapshotCache(cache);
+            new EOPC04FilesLoader(FramesFactory.EOPC04_2000_FILENAME).fillHistory(converter, parsed);
+            Assert.assertTrue(cache.getDirectory().list().length > 0);
+            new EOPC04FilesLoader(FramesFactory.EOPC04_2000_FILENAME).fillHistory(converter, restored);
+        } finally {
+            DataProvidersManager.getInstance().setSnapshotCache(null);
+        }
+        Assert.assertTrue(parsed.size() > 300);
+        Assert.assertEquals(parsed.size(), restored.size());
+        final Iterator<EOPEntry> iterator = restored.iterator();
+        for (final EOPEntry expected : parsed) {
+            final EOPEntry entry = iterator.next();
+            Assert.assertEquals(expected.getMjd(),         entry.getMjd());
+            Assert.assertEquals(expected.getUT1MinusUTC(), entry.getUT1MinusUTC(), 0.0);
+            Assert.assertEquals(expected.getLOD(),         entry.getLOD(),         0.0);
+            Assert.assertEquals(expected.getX(),           entry.getX(),           0.0);
+            Assert.assertEquals(expected.getY(),           entry.getY(),           0.0);
+            Assert.assertEquals(expected.getDdPsi(),       entry.getDdPsi(),       0.0);
+            Assert.assertEquals(expected.getDdEps(),       entry.getDdEps(),       0.0);
+            Assert.assertEquals(expected.getDx(),          entry.getDx(),          0.0);
+            Assert.assertEquals(expected.getDy(),          entry.getDy(),          0.0);
+            Assert.assertEquals(expected.getITRFType(),    entry.getITRFType());
+        }
+    }
+
     @Test
     public void testMissingMonths() {
         setRoot("missing-months");
@@ -21,6 +21,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hipparchus.util.Decimal64;
 import org.hipparchus.util.Decimal64Field;
@@ -125,6 +127,52 @@ public class EOPHistoryTest {
         }
     }
 
+    @Test
+    public void testDirectAccessConsistency() throws ReflectiveOperationException {
+        final EOPHistory regular = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true);
+        final List<EOPEntry> entries = regular.getEntries();
+
+        // removing one entry near the start creates a gap, which prevents direct access
+        final List<EOPEntry> withGap = new ArrayList<>(entries);
+        withGap.remove(1);
+        final EOPHistory irregular = new EOPHistory(IERSConventions.IERS_2010, withGap, true);
+        final java.lang.reflect.Field contentField = EOPHistory.class.getDeclaredField("content");
+        contentField.setAccessible(true);
+        final java.lang.reflect.Field indexedField =
+                        contentField.getType().getDeclaredField("indexed");
+        indexedField.setAccessible(true);
+        Assert.assertNotNull(indexedField.get(contentField.get(regular)));
+        Assert.assertNull(indexedField.get(contentField.get(irregular)));
+
+        final AbsoluteDate start = entries.get(4).getDate();
+        final double span = regular.getEndDate().durationFrom(start);
+        for (double dt = 0; dt <= span; dt += 0.37 * Constants.JULIAN_DAY) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            Assert.assertEquals(irregular.getUT1MinusUTC(date), regular.getUT1MinusUTC(date), 0.0);
+            Assert.assertEquals(irregular.getLOD(date),         regular.getLOD(date),         0.0);
+            Assert.assertEquals(irregular.getPoleCorrection(date).getXp(),
+                                regular.getPoleCorrection(date).getXp(), 0.0);
+            Assert.assertEquals(irregular.getPoleCorrection(date).getYp(),
+                                regular.getPoleCorrection(date).getYp(), 0.0);
+            Assert.assertArrayEquals(irregular.getEquinoxNutationCorrection(date),
+                                     regular.getEquinoxNutationCorrection(date), 0.0);
+            Assert.assertArrayEquals(irregular.getNonRotatinOriginNutationCorrection(date),
+                                     regular.getNonRotatinOriginNutationCorrection(date), 0.0);
+            Assert.assertEquals(irregular.getITRFVersion(date), regular.getITRFVersion(date));
+        }
+
+        // leap second crossing and last entries
+        final AbsoluteDate endLeap = new AbsoluteDate(2006, 1, 1, TimeScalesFactory.getUTC());
+        for (double dt = -3 * Constants.JULIAN_DAY; dt < 3 * Constants.JULIAN_DAY; dt += 599) {
+            final AbsoluteDate date = endLeap.shiftedBy(dt);
+            Assert.assertEquals(irregular.getUT1MinusUTC(date), regular.getUT1MinusUTC(date), 0.0);
+        }
+        final AbsoluteDate end = regular.getEndDate();
+        Assert.assertEquals(irregular.getUT1MinusUTC(end), regular.getUT1MinusUTC(end), 0.0);
+        Assert.assertEquals(irregular.getLOD(end.shiftedBy(-1.0)), regular.getLOD(end.shiftedBy(-1.0)), 0.0);
+
+    }
+
     @Test
     public void testSerialization() throws IOException, ClassNotFoundException {
         EOPHistory history = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, true);
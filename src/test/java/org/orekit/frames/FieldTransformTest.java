@@ -237,6 +237,42 @@ public class FieldTransformTest {
 
     }
 
+    @Test
+    public void testBulkTransforms() {
+        doTestBulkTransforms(Decimal64Field.getInstance());
+    }
+
+    private <T extends RealFieldElement<T>> void doTestBulkTransforms(Field<T> field) {
+        RandomGenerator random = new Well19937a(0x52e1c04b9d7a36f8l);
+        for (int i = 0; i < 10; ++i) {
+            FieldTransform<T> transform = randomTransform(field, random);
+            int n = 50;
+            T[] px = MathArrays.buildArray(field, n);
+            T[] py = MathArrays.buildArray(field, n);
+            T[] pz = MathArrays.buildArray(field, n);
+            T[] vx = MathArrays.buildArray(field, n);
+            T[] vy = MathArrays.buildArray(field, n);
+            T[] vz = MathArrays.buildArray(field, n);
+            List<FieldVector3D<T>> vectors = new ArrayList<>();
+            for (int j = 0; j < n; ++j) {
+                FieldVector3D<T> v = randomVector(field, 1.0e3, random);
+                vectors.add(v);
+                px[j] = v.getX();
+                py[j] = v.getY();
+                pz[j] = v.getZ();
+                vx[j] = v.getX();
+                vy[j] = v.getY();
+                vz[j] = v.getZ();
+            }
+            transform.transformPositions(px, py, pz);
+            transform.transformVectors(vx, vy, vz);
+            for (int j = 0; j < n; ++j) {
+                checkVector(transform.transformPosition(vectors.get(j)), new FieldVector3D<>(px[j], py[j], pz[j]), 1.0e-15);
+                checkVector(transform.transformVector(vectors.get(j)),   new FieldVector3D<>(vx[j], vy[j], vz[j]), 1.0e-15);
+            }
+        }
+    }
+
     @Test
     public void testReverse() {
         doTestReverse(Decimal64Field.getInstance());
@@ -20,6 +20,8 @@ import java.util.Random;
 
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.Decimal64;
+import org.hipparchus.util.Decimal64Field;
 import org.hipparchus.util.FastMath;
 import org.junit.Assert;
 import org.junit.Before;
@@ -28,6 +30,7 @@ import org.orekit.Utils;
 import org.orekit.bodies.GeodeticPoint;
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
@@ -227,6 +230,55 @@ public class FrameTest {
 
     }
 
+    @Test
+    public void testCachedPaths() {
+
+        // build a tree with several branches below EME2000 and ITRF
+        Random random = new Random(0x7a9b15e33c2f4d81l);
+        final Frame[] frames = new Frame[14];
+        frames[0] = FramesFactory.getGCRF();
+        frames[1] = FramesFactory.getEME2000();
+        frames[2] = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        frames[3] = FramesFactory.getTEME();
+        for (int i = 4; i < frames.length; ++i) {
+            final Frame parent = frames[1 + random.nextInt(i - 1)];
+            frames[i] = new Frame(parent, randomTransform(random), "F" + i);
+        }
+
+        // use more destinations than the cache can hold, in several passes
+        final AbsoluteDate date = new AbsoluteDate(2003, 5, 7, 13, 43, 32.125, TimeScalesFactory.getUTC());
+        final FieldAbsoluteDate<Decimal64> fieldDate = new FieldAbsoluteDate<>(Decimal64Field.getInstance(), date);
+        for (int pass = 0; pass < 3; ++pass) {
+            for (final Frame from : frames) {
+                for (final Frame to : frames) {
+                    final Transform reference = referenceTransform(from, to, date);
+                    final Transform regular   = from.getTransformTo(to, date);
+                    checkNoTransform(new Transform(date, regular, reference.getInverse()), random);
+                    final FieldTransform<Decimal64> field = from.getTransformTo(to, fieldDate);
+                    final Transform converted =
+                                    new Transform(date,
+                                                  new Transform(date, field.getCartesian().toPVCoordinates()),
+                                                  new Transform(date, field.getAngular().toAngularCoordinates()));
+                    checkNoTransform(new Transform(date, converted, reference.getInverse()), random);
+                }
+            }
+        }
+
+    }
+
+    private Transform referenceTransform(final Frame from, final Frame to, final AbsoluteDate date) {
+        return new Transform(date, toRoot(from, date), toRoot(to, date).getInverse());
+    }
+
+    private Transform toRoot(final Frame frame, final AbsoluteDate date) {
+        Transform transform = Transform.IDENTITY;
+        for (Frame current = frame; current.getParent() != null; current = current.getParent()) {
+            transform = new Transform(date, transform,
+                                      current.getTransformProvider().getTransform(date).getInverse());
+        }
+        return transform;
+    }
+
     private Transform randomTransform(Random random) {
         Transform transform = Transform.IDENTITY;
         for (int i = random.nextInt(10); i > 0; --i) {
@@ -587,6 +587,61 @@ public class FramesFactoryTest {
                                                                                           0.0), "Nouméa")));
     }
 
+    @Test
+    public void testFlattenedITRF() {
+        final Frame itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        double previousStep = Double.POSITIVE_INFINITY;
+        for (final double maxError : new double[] { 1.0e-8, 1.0e-10 }) {
+            for (final Frame parent : new Frame[] { FramesFactory.getGCRF(), FramesFactory.getEME2000() }) {
+
+                final Frame flattened = FramesFactory.getFlattenedITRF(parent, IERSConventions.IERS_2010, true, maxError);
+                Assert.assertSame(flattened, FramesFactory.getFlattenedITRF(parent, IERSConventions.IERS_2010, true, maxError));
+                Assert.assertSame(parent, flattened.getParent());
+                Assert.assertNotNull(FramesFactory.findEOP(flattened));
+                Assert.assertSame(FramesFactory.findEOP(itrf), FramesFactory.findEOP(flattened));
+
+                final ShiftingTransformProvider provider =
+                                (ShiftingTransformProvider) flattened.getTransformProvider();
+                Assert.assertTrue(provider.getStep() <= previousStep);
+                previousStep = provider.getStep();
+
+                // the bound holds far beyond the day used for grid step selection,
+                // we check it on short windows spread over one year
+                final AbsoluteDate t0 = new AbsoluteDate(2003, 6, 21, 0, 0, 0.0, TimeScalesFactory.getUTC());
+                double maxAngle = 0;
+                for (int window = 0; window < 10; ++window) {
+                    for (double dt = 0; dt < 7200.0; dt += 31.7) {
+                        final AbsoluteDate date = t0.shiftedBy(window * 37 * Constants.JULIAN_DAY + dt);
+                        final Rotation r1 = parent.getTransformTo(flattened, date).getRotation();
+                        final Rotation r2 = parent.getTransformTo(itrf, date).getRotation();
+                        maxAngle = FastMath.max(maxAngle, Rotation.distance(r1, r2));
+                    }
+                }
+                Assert.assertEquals(0.0, maxAngle, maxError);
+
+                final FieldAbsoluteDate<Decimal64> fieldDate =
+                                new FieldAbsoluteDate<>(Decimal64Field.getInstance(), t0.shiftedBy(1234.5));
+                final Rotation fieldR = parent.getTransformTo(flattened, fieldDate).getRotation().toRotation();
+                final Rotation r      = parent.getTransformTo(itrf, fieldDate.toAbsoluteDate()).getRotation();
+                Assert.assertEquals(0.0, Rotation.distance(fieldR, r), maxError);
+
+            }
+        }
+    }
+
+    @Test
+    public void testFlattenedITRFUnreachableAccuracy() {
+        try {
+            FramesFactory.getFlattenedITRF(FramesFactory.getGCRF(), IERSConventions.IERS_2010, true, 1.0e-20);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assert.assertEquals(OrekitMessages.UNABLE_TO_REACH_FLATTENED_FRAME_ACCURACY, oe.getSpecifier());
+            Assert.assertEquals(1.0e-20, ((Double) oe.getParts()[0]).doubleValue(), 1.0e-35);
+            Assert.assertTrue(((Double) oe.getParts()[1]).doubleValue() > 1.0e-20);
+            Assert.assertEquals(1.0, ((Double) oe.getParts()[2]).doubleValue(), 1.0e-15);
+        }
+    }
+
     private void doTestDerivatives(AbsoluteDate ref,
                                    double duration, double step, boolean forbidInterpolation,
                                    double cartesianTolerance, double cartesianDotTolerance, double cartesianDotDotTolerance,
@@ -22,11 +22,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hipparchus.RealFieldElement;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.RotationConvention;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.Decimal64;
+import org.hipparchus.util.Decimal64Field;
 import org.hipparchus.util.FastMath;
 import org.junit.Assert;
 import org.junit.Test;
@@ -36,6 +45,8 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.AngularDerivativesFilter;
 import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.TimeStampedCacheListener;
+import org.orekit.utils.TimeStampedCachesRegistry;
 
 
 public class ShiftingTransformProviderTest {
@@ -169,6 +180,73 @@ public class ShiftingTransformProviderTest {
 
     }
 
+    @Test
+    public void testConcurrentFieldAccess() throws InterruptedException, ExecutionException {
+
+        final AbsoluteDate t0 = AbsoluteDate.GALILEO_EPOCH;
+        final ShiftingTransformProvider provider =
+                new ShiftingTransformProvider(new LinearProvider(t0),
+                                              CartesianDerivativesFilter.USE_P,
+                                              AngularDerivativesFilter.USE_R,
+                                              5, 0.8, 10, 60.0, 60.0);
+
+        // count the field caches created
+        final AtomicInteger created = new AtomicInteger();
+        final TimeStampedCacheListener listener = (name, cache) -> {
+            if (name.startsWith("ShiftingTransformProvider(LinearProvider)/")) {
+                created.incrementAndGet();
+            }
+        };
+        TimeStampedCachesRegistry.addListener(listener);
+
+        try {
+            final FieldAbsoluteDate<Decimal64> fieldT0 = new FieldAbsoluteDate<>(Decimal64Field.getInstance(), t0);
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+            final List<Future<Double>> results = new ArrayList<>();
+            for (int i = 0; i < 32; ++i) {
+                final double offset = 0.01 * i;
+                results.add(executor.submit(() -> {
+                    double maxError = 0;
+                    for (double dt = offset; dt <= 3.1; dt += 0.01) {
+                        final FieldTransform<Decimal64> t = provider.getTransform(fieldT0.shiftedBy(dt));
+                        maxError = FastMath.max(maxError,
+                                                FastMath.abs(t.getTranslation().getX().getReal() - dt));
+                    }
+                    return maxError;
+                }));
+            }
+            for (final Future<Double> result : results) {
+                Assert.assertEquals(0.0, result.get(), 1.0e-12);
+            }
+            executor.shutdown();
+        } finally {
+            TimeStampedCachesRegistry.removeListener(listener);
+        }
+
+        // all threads share the same field cache
+        Assert.assertEquals(1, created.get());
+
+    }
+
+    private static class LinearProvider implements TransformProvider {
+
+        private static final long serialVersionUID = 20190503L;
+        private final AbsoluteDate t0;
+
+        public LinearProvider(final AbsoluteDate t0) {
+            this.t0 = t0;
+        }
+
+        public Transform getTransform(final AbsoluteDate date) {
+            return new Transform(date, new Vector3D(date.durationFrom(t0), 0, 0), Vector3D.PLUS_I);
+        }
+
+        public <T extends RealFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
+            return new FieldTransform<>(date.getField(), getTransform(date.toAbsoluteDate()));
+        }
+
+    }
+
     private static class CirclingProvider implements TransformProvider {
 
         private static final long serialVersionUID = 473784183299281612L;
@@ -374,6 +374,43 @@ public class TODProviderTest {
 
     }
 
+    @Test
+    public void testTruncatedSeries() throws IOException, ClassNotFoundException {
+        final EOPHistory eopHistory = FramesFactory.getEOPHistory(IERSConventions.IERS_2010, false);
+        final double threshold = 1.0e-10;
+        final TODProvider full      = new TODProvider(IERSConventions.IERS_2010, eopHistory);
+        final TODProvider truncated = new TODProvider(IERSConventions.IERS_2010, eopHistory, threshold);
+
+        // the angle between the frames is bounded by the errors on ΔΨ and Δε
+        final double[] errors = IERSConventions.IERS_2010.getNutationFunction(threshold).getTruncationErrors();
+        final double bound = errors[0] + errors[1];
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream    oos = new ObjectOutputStream(bos);
+        oos.writeObject(truncated);
+        ByteArrayInputStream  bis = new ByteArrayInputStream(bos.toByteArray());
+        ObjectInputStream     ois = new ObjectInputStream(bis);
+        TODProvider deserialized  = (TODProvider) ois.readObject();
+
+        AbsoluteDate start = new AbsoluteDate(2002, 9, 12, TimeScalesFactory.getTAI());
+        double maxError = 0.0;
+        for (double dt = 0; dt < 60 * Constants.JULIAN_DAY; dt += 3600) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            final Transform t = truncated.getTransform(date);
+            maxError = FastMath.max(maxError,
+                                    new Transform(date, t, full.getTransform(date).getInverse()).getRotation().getAngle());
+            Assert.assertEquals(0.0,
+                                new Transform(date, t, deserialized.getTransform(date).getInverse()).getRotation().getAngle(),
+                                1.0e-15);
+            Assert.assertEquals(0.0,
+                                new Transform(date, t, truncated.getNonInterpolatingProvider().getTransform(date).getInverse()).getRotation().getAngle(),
+                                1.0e-15);
+        }
+        Assert.assertTrue(maxError > 0);
+        Assert.assertTrue(maxError <= bound);
+
+    }
+
     @Test
     public void testSerialization() throws IOException, ClassNotFoundException {
         TODProvider provider = new TODProvider(IERSConventions.IERS_2010,
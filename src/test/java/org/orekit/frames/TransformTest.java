@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hipparchus.Field;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Line;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
@@ -36,6 +37,7 @@ import org.hipparchus.util.FastMath;
 import org.junit.Assert;
 import org.junit.Test;
 import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.time.TimeScale;
@@ -990,6 +992,94 @@ public class TransformTest {
         }
     }
 
+    @Test
+    public void testBulkTransforms() {
+        RandomGenerator random = new Well19937a(0x7c5ad3e1a09f4b2dl);
+        for (int i = 0; i < 10; ++i) {
+            Transform transform = randomTransform(random);
+            int n = 50;
+            double[] x  = new double[n];
+            double[] y  = new double[n];
+            double[] z  = new double[n];
+            double[] vx = new double[n];
+            double[] vy = new double[n];
+            double[] vz = new double[n];
+            double[] ax = new double[n];
+            double[] ay = new double[n];
+            double[] az = new double[n];
+            PVCoordinates[] pv = new PVCoordinates[n];
+            for (int j = 0; j < n; ++j) {
+                pv[j] = new PVCoordinates(randomVector(1.0e3, random), randomVector(1.0, random), randomVector(1.0e-3, random));
+            }
+
+            fill(pv, x, y, z, vx, vy, vz, ax, ay, az);
+            transform.transformPositions(x, y, z);
+            transform.transformVectors(vx, vy, vz);
+            for (int j = 0; j < n; ++j) {
+                checkVector(transform.transformPosition(pv[j].getPosition()), new Vector3D(x[j], y[j], z[j]),    1.0e-15);
+                checkVector(transform.transformVector(pv[j].getVelocity()),   new Vector3D(vx[j], vy[j], vz[j]), 1.0e-15);
+            }
+
+            fill(pv, x, y, z, vx, vy, vz, ax, ay, az);
+            transform.transformPVCoordinates(x, y, z, vx, vy, vz);
+            for (int j = 0; j < n; ++j) {
+                PVCoordinates reference = transform.transformPVCoordinates(pv[j]);
+                checkVector(reference.getPosition(), new Vector3D(x[j], y[j], z[j]),    1.0e-15);
+                checkVector(reference.getVelocity(), new Vector3D(vx[j], vy[j], vz[j]), 1.0e-14);
+            }
+
+            fill(pv, x, y, z, vx, vy, vz, ax, ay, az);
+            transform.transformPVCoordinates(x, y, z, vx, vy, vz, ax, ay, az);
+            for (int j = 0; j < n; ++j) {
+                PVCoordinates reference = transform.transformPVCoordinates(pv[j]);
+                checkVector(reference.getPosition(),     new Vector3D(x[j], y[j], z[j]),    1.0e-15);
+                checkVector(reference.getVelocity(),     new Vector3D(vx[j], vy[j], vz[j]), 1.0e-14);
+                checkVector(reference.getAcceleration(), new Vector3D(ax[j], ay[j], az[j]), 1.0e-13);
+            }
+
+            // identity transform leaves buffers untouched
+            fill(pv, x, y, z, vx, vy, vz, ax, ay, az);
+            Transform.IDENTITY.transformPositions(x, y, z);
+            Transform.IDENTITY.transformPVCoordinates(x, y, z, vx, vy, vz, ax, ay, az);
+            for (int j = 0; j < n; ++j) {
+                checkVector(pv[j].getPosition(),     new Vector3D(x[j], y[j], z[j]),    0.0);
+                checkVector(pv[j].getVelocity(),     new Vector3D(vx[j], vy[j], vz[j]), 0.0);
+                checkVector(pv[j].getAcceleration(), new Vector3D(ax[j], ay[j], az[j]), 0.0);
+            }
+
+        }
+    }
+
+    @Test
+    public void testBulkTransformsDimensionMismatch() {
+        Transform transform = randomTransform(new Well19937a(0x3a1d9b6c4f0e8275l));
+        try {
+            transform.transformPositions(new double[3], new double[3], new double[2]);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+            Assert.assertEquals(2, ((Integer) oiae.getParts()[0]).intValue());
+            Assert.assertEquals(3, ((Integer) oiae.getParts()[1]).intValue());
+        }
+    }
+
+    private void fill(PVCoordinates[] pv,
+                      double[] x, double[] y, double[] z,
+                      double[] vx, double[] vy, double[] vz,
+                      double[] ax, double[] ay, double[] az) {
+        for (int j = 0; j < pv.length; ++j) {
+            x[j]  = pv[j].getPosition().getX();
+            y[j]  = pv[j].getPosition().getY();
+            z[j]  = pv[j].getPosition().getZ();
+            vx[j] = pv[j].getVelocity().getX();
+            vy[j] = pv[j].getVelocity().getY();
+            vz[j] = pv[j].getVelocity().getZ();
+            ax[j] = pv[j].getAcceleration().getX();
+            ay[j] = pv[j].getAcceleration().getY();
+            az[j] = pv[j].getAcceleration().getZ();
+        }
+    }
+
     @Test
     public void testInterpolation() {
 
@@ -0,0 +1,122 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.utils.ImmutableTimeStampedCache;
+
+public class DateArrayTest {
+
+    @Test
+    public void testSameAsList() {
+        final DateArray array = new DateArray(dates);
+        Assert.assertEquals(dates.size(), array.size());
+        Assert.assertEquals(dates, array);
+        for (int i = 0; i < dates.size(); ++i) {
+            Assert.assertEquals(0.0, array.get(i).durationFrom(dates.get(i)), 0.0);
+            Assert.assertEquals(dates.get(i).durationFrom(t0), array.durationFrom(i, t0), 0.0);
+            Assert.assertEquals(0.0,
+                                DateTimeCodec.toDate(array.getEpoch(i), array.getOffset(i)).durationFrom(dates.get(i)),
+                                0.0);
+        }
+        Assert.assertEquals(dates, array.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testFloorIndex() {
+        final DateArray array = new DateArray(dates);
+        Assert.assertEquals(-1, array.floorIndex(t0.shiftedBy(-0.001)));
+        Assert.assertEquals(0,  array.floorIndex(t0));
+        Assert.assertEquals(0,  array.floorIndex(t0.shiftedBy(0.124)));
+        Assert.assertEquals(1,  array.floorIndex(t0.shiftedBy(0.125)));
+        Assert.assertEquals(array.size() - 1, array.floorIndex(t0.shiftedBy(1.0e6)));
+    }
+
+    @Test
+    public void testWindow() {
+        final DateArray array  = new DateArray(dates);
+        final DateArray window = array.window(t0.shiftedBy(10.0), t0.shiftedBy(20.0));
+        Assert.assertEquals(81, window.size());
+        Assert.assertEquals(0.0, window.get(0).durationFrom(t0.shiftedBy(10.0)), 0.0);
+        Assert.assertEquals(0.0, window.get(80).durationFrom(t0.shiftedBy(20.0)), 0.0);
+        Assert.assertEquals(40, window.floorIndex(t0.shiftedBy(15.01)));
+        Assert.assertEquals(dates.subList(80, 161), window);
+        Assert.assertEquals(dates.subList(90, 100), window.subList(10, 20));
+        Assert.assertTrue(array.window(t0.shiftedBy(-20.0), t0.shiftedBy(-10.0)).isEmpty());
+        Assert.assertTrue(array.window(t0.shiftedBy(10.01), t0.shiftedBy(10.1)).isEmpty());
+        try {
+            window.get(81);
+            Assert.fail("an exception should have been thrown");
+        } catch (IndexOutOfBoundsException ioobe) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testBuilder() {
+        final DateTimeCodec codec = new DateTimeCodec(TimeScalesFactory.getUTC());
+        final DateArray.Builder builder = new DateArray.Builder(1);
+        final String text = "2004-06-01T12:00:00.000 2004-06-01T12:00:00.125 2004-06-01T12:00:00.250";
+        for (int i = 0; i < 3; ++i) {
+            builder.parse(codec, text, 24 * i, 24 * i + 23);
+        }
+        builder.add(t0.shiftedBy(0.375));
+        final DateArray array = builder.build();
+        Assert.assertEquals(dates.subList(0, 4), array);
+        try {
+            builder.add(t0);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES, oiae.getSpecifier());
+        }
+        Assert.assertEquals(4, array.size());
+    }
+
+    @Test
+    public void testCache() {
+        final DateArray array = new DateArray(dates);
+        final ImmutableTimeStampedCache<AbsoluteDate> cache =
+                        new ImmutableTimeStampedCache<AbsoluteDate>(4, array);
+        Assert.assertEquals(array, cache.getAll());
+        Assert.assertEquals(0.0, cache.getLatest().durationFrom(dates.get(dates.size() - 1)), 0.0);
+        final List<AbsoluteDate> neighbors = cache.getNeighbors(t0.shiftedBy(10.01)).collect(Collectors.toList());
+        Assert.assertEquals(dates.subList(79, 83), neighbors);
+    }
+
+    @Before
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        t0    = new AbsoluteDate(2004, 6, 1, 12, 0, 0.0, TimeScalesFactory.getUTC());
+        dates = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            dates.add(t0.shiftedBy(0.125 * i));
+        }
+    }
+
+    private AbsoluteDate       t0;
+    private List<AbsoluteDate> dates;
+
+}
@@ -0,0 +1,151 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.nio.CharBuffer;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.utils.Constants;
+
+public class DateTimeCodecTest {
+
+    @Test
+    public void testParseFormats() {
+        final String[] dates = {
+            "2004-06-01", "20040601", "2004-0601", "-0005-03-01", "2004-153", "2004153",
+            "2004-W23-2", "2004W232",
+            "2004-06-01T12:35:17", "2004-06-01T123517", "2004-06-01T12:35",
+            "2004-06-01T12:35:17.125", "2004-06-01T12:35:17,125", "2004-06-01T12:35:17.1234567890123456789",
+            "2004-06-01T12:35:17Z", "2004-06-01T12:35:17.5+01", "2004-06-01T12:35:17-0130",
+            "2004-06-01T00:15:17+01:30", "2004-06-01T23:55:00-02:00", "2005-12-31T23:59:60.5",
+            "1969-02-14T03:12:45.25", "1961-01-01T00:00:00"
+        };
+        final DateTimeCodec codec = new DateTimeCodec(utc);
+        for (final String date : dates) {
+            Assert.assertEquals(date, 0.0, codec.parse(date).durationFrom(new AbsoluteDate(date, utc)), 0.0);
+        }
+    }
+
+    @Test
+    public void testParseSlices() {
+        final String line = "obs 2004-06-01T12:35:17.250 2004-06-01T12:35:18.250 end";
+        final DateTimeCodec codec = new DateTimeCodec(utc);
+        final long[]   epochs  = new long[2];
+        final double[] offsets = new double[2];
+        codec.parse(line, 4, 27, epochs, offsets, 0);
+        codec.parse(CharBuffer.wrap(line, 28, 51), 0, 23, epochs, offsets, 1);
+        Assert.assertEquals(0.0,
+                            DateTimeCodec.toDate(epochs[0], offsets[0]).
+                            durationFrom(new AbsoluteDate(2004, 6, 1, 12, 35, 17.25, utc)),
+                            0.0);
+        Assert.assertEquals(1.0,
+                            DateTimeCodec.toDate(epochs[1], offsets[1]).
+                            durationFrom(DateTimeCodec.toDate(epochs[0], offsets[0])),
+                            0.0);
+    }
+
+    @Test
+    public void testParseErrors() {
+        checkError("2004-06-32", OrekitMessages.NON_EXISTENT_YEAR_MONTH_DAY);
+        checkError("2004-0x-01", OrekitMessages.NON_EXISTENT_DATE);
+        checkError("2004-06-01T", OrekitMessages.NON_EXISTENT_TIME);
+        checkError("2004-06-01T12:35:17.", OrekitMessages.NON_EXISTENT_TIME);
+        checkError("2004-06-01T12:35:17+013", OrekitMessages.NON_EXISTENT_TIME);
+        checkError("2004-06-01T12:35:17Zx", OrekitMessages.NON_EXISTENT_TIME);
+        checkError("2004-06-01T24:35:17", OrekitMessages.NON_EXISTENT_HMS_TIME);
+        checkError("2004-06-01T12:35:61", OrekitMessages.NON_EXISTENT_HMS_TIME);
+    }
+
+    @Test
+    public void testRandomRoundTrip() {
+        final RandomGenerator random = new Well19937a(0x3c1a5e7d96f2b048l);
+        for (final TimeScale ts : new TimeScale[] {
+            utc, TimeScalesFactory.getTAI(), TimeScalesFactory.getGPS(), TimeScalesFactory.getTDB()
+        }) {
+            final DateTimeCodec codec = new DateTimeCodec(ts);
+            final StringBuilder builder = new StringBuilder();
+            AbsoluteDate date = new AbsoluteDate(1960, 1, 1, utc);
+            for (int i = 0; i < 5000; ++i) {
+                date = date.shiftedBy(random.nextDouble() * 2 * Constants.JULIAN_DAY);
+                builder.setLength(0);
+                Assert.assertEquals(date.toString(ts), codec.format(date, builder).toString());
+                final String rounded = builder.toString();
+                Assert.assertEquals(0.0, codec.parse(rounded).durationFrom(new AbsoluteDate(rounded, ts)), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testFormatLeapSecond() {
+        final DateTimeCodec codec = new DateTimeCodec(utc);
+        final StringBuilder builder = new StringBuilder();
+        final AbsoluteDate leap = new AbsoluteDate(2005, 12, 31, 23, 59, 59, utc);
+        for (double dt = -1.0; dt < 2.5; dt += 0.0625) {
+            final AbsoluteDate date = leap.shiftedBy(dt);
+            builder.setLength(0);
+            Assert.assertEquals(date.toString(utc), codec.format(date, builder).toString());
+        }
+        builder.setLength(0);
+        Assert.assertEquals("2005-12-31T23:59:60.500", codec.format(leap.shiftedBy(1.5), builder).toString());
+    }
+
+    @Test
+    public void testFormatRounding() {
+        final DateTimeCodec codec = new DateTimeCodec(utc);
+        final StringBuilder builder = new StringBuilder();
+        final AbsoluteDate t0 = new AbsoluteDate(2004, 6, 1, 12, 0, 0.0, utc);
+        for (final double dt : new double[] { 59.9995, 59.9994999, 0.0005, 0.0015, 0.0025, 1.0e-12, 3599.99951 }) {
+            final AbsoluteDate date = t0.shiftedBy(dt);
+            builder.setLength(0);
+            Assert.assertEquals(date.toString(utc), codec.format(date, builder).toString());
+        }
+        builder.setLength(0);
+        Assert.assertEquals(AbsoluteDate.PAST_INFINITY.toString(utc),
+                            codec.format(AbsoluteDate.PAST_INFINITY, builder).toString());
+    }
+
+    private void checkError(final String date, final OrekitMessages expected) {
+        try {
+            new DateTimeCodec(utc).parse(date);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(expected, oiae.getSpecifier());
+        }
+        try {
+            new AbsoluteDate(date, utc);
+            Assert.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assert.assertEquals(expected, oiae.getSpecifier());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        utc = TimeScalesFactory.getUTC();
+    }
+
+    private TimeScale utc;
+
+}
@@ -23,6 +23,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -379,6 +380,55 @@ public class UTCScaleTest {
                             1.0e-15);
     }
 
+    @Test
+    public void testLookupTables() throws ReflectiveOperationException {
+        Field tableField = UTCScale.class.getDeclaredField("table");
+        tableField.setAccessible(true);
+        Object table = tableField.get(utc);
+        Field offsetsField = table.getClass().getDeclaredField("offsets");
+        offsetsField.setAccessible(true);
+        UTCTAIOffset[] offsets = (UTCTAIOffset[]) offsetsField.get(table);
+
+        // check dates close to all offsets changes
+        for (int i = 0; i < offsets.length; ++i) {
+            for (double dt : new double[] { -Constants.JULIAN_DAY, -1.0e-3, 0.0, 1.0e-3, Constants.JULIAN_DAY }) {
+                final AbsoluteDate date = offsets[i].getDate().shiftedBy(dt);
+                final UTCTAIOffset reference = linearSearch(offsets, date);
+                Assert.assertEquals(reference == null ? 0.0 : -reference.getOffset(date),
+                                    utc.offsetFromTAI(date), 0.0);
+                Assert.assertEquals(reference == null ? 0.0 : reference.getLeap(),
+                                    utc.getLeap(date), 0.0);
+            }
+            for (int dMJD = -1; dMJD <= 1; ++dMJD) {
+                final DateComponents dc = new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH,
+                                                             offsets[i].getMJD() + dMJD);
+                final UTCTAIOffset reference = i + dMJD < 0 ? null : offsets[dMJD < 0 ? i - 1 : i];
+                Assert.assertEquals(reference == null ? 0.0 : reference.getOffset(dc, TimeComponents.H12),
+                                    utc.offsetToTAI(dc, TimeComponents.H12), 0.0);
+            }
+        }
+
+        // check a regular sweep, going well after the last known leap second
+        final AbsoluteDate t0 = new AbsoluteDate(1955, 1, 1, utc);
+        for (double dt = 0; dt < 80 * Constants.JULIAN_YEAR; dt += 0.37 * Constants.JULIAN_DAY) {
+            final AbsoluteDate date = t0.shiftedBy(dt);
+            final UTCTAIOffset reference = linearSearch(offsets, date);
+            Assert.assertEquals(reference == null ? 0.0 : -reference.getOffset(date),
+                                utc.offsetFromTAI(date), 0.0);
+        }
+
+    }
+
+    private UTCTAIOffset linearSearch(final UTCTAIOffset[] offsets, final AbsoluteDate date) {
+        UTCTAIOffset found = null;
+        for (final UTCTAIOffset offset : offsets) {
+            if (date.compareTo(offset.getDate()) >= 0) {
+                found = offset;
+            }
+        }
+        return found;
+    }
+
     @Test
     public void testSerialization() throws IOException, ClassNotFoundException {
         UTCScale utc = TimeScalesFactory.getUTC();
@@ -20,8 +20,10 @@ package org.orekit.utils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -45,7 +47,9 @@ public class GenericTimeStampedCacheTest {
         list.add(AbsoluteDate.GALILEO_EPOCH);
         Assert.assertEquals(1, checkDatesSingleThread(list, cache));
         Assert.assertEquals(1, cache.getGetNeighborsCalls());
+        Assert.assertEquals(1, cache.getCacheMisses());
         Assert.assertEquals(4, cache.getGenerateCalls());
+        Assert.assertTrue(cache.getGenerationTime() > 0.0);
         Assert.assertEquals(0, cache.getSlotsEvictions());
         Assert.assertEquals(10, cache.getMaxSlots());
         Assert.assertEquals(Constants.JULIAN_DAY, cache.getNewSlotQuantumGap(), 1.0e-10);
@@ -138,6 +142,9 @@ public class GenericTimeStampedCacheTest {
         Assert.assertEquals(2000, cache.getGetNeighborsCalls());
         Assert.assertEquals(8000, cache.getGenerateCalls());
         Assert.assertEquals(1999, cache.getSlotsEvictions());
+        Assert.assertEquals(2000L, cache.getNeighborsCallsCount());
+        Assert.assertEquals(8000L, cache.getGenerateCallsCount());
+        Assert.assertEquals(1999L, cache.getSlotsEvictionsCount());
     }
 
     @Test
@@ -218,6 +225,85 @@ public class GenericTimeStampedCacheTest {
         Assert.assertEquals(+13 * hour, cache.getLatest().durationFrom(start), 1.0e-10);
     }
 
+    @Test
+    public void testHitsNotBlockedByGeneration() throws Exception {
+
+        final AbsoluteDate   blockingDate = AbsoluteDate.J2000_EPOCH.shiftedBy(100 * Constants.JULIAN_DAY);
+        final CountDownLatch generating   = new CountDownLatch(1);
+        final CountDownLatch release      = new CountDownLatch(1);
+        final Generator      regular      = new Generator(AbsoluteDate.PAST_INFINITY,
+                                                          AbsoluteDate.FUTURE_INFINITY,
+                                                          3600.0);
+        final TimeStampedGenerator<AbsoluteDate> blockingGenerator = (existingDate, date) -> {
+            if (existingDate == null && date.equals(blockingDate)) {
+                // block generation of the new slot until the main thread releases us
+                generating.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return regular.generate(existingDate, date);
+        };
+        final GenericTimeStampedCache<AbsoluteDate> cache =
+                new GenericTimeStampedCache<AbsoluteDate>(4, 10, Constants.JULIAN_YEAR, Constants.JULIAN_DAY,
+                                                          blockingGenerator);
+
+        // populate a first slot
+        cache.getNeighbors(AbsoluteDate.J2000_EPOCH);
+        final int generated = cache.getGenerateCalls();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // start a generation for a far away date, it will block within the generator
+            final Future<List<AbsoluteDate>> blocked =
+                    executor.submit(() -> cache.getNeighbors(blockingDate).collect(Collectors.toList()));
+            Assert.assertTrue(generating.await(10, TimeUnit.SECONDS));
+
+            // reading already cached data must not wait for the ongoing generation
+            final List<AbsoluteDate> neighbors =
+                    cache.getNeighbors(AbsoluteDate.J2000_EPOCH.shiftedBy(1800.0)).collect(Collectors.toList());
+            Assert.assertEquals(4, neighbors.size());
+            Assert.assertEquals(-3600.0, neighbors.get(0).durationFrom(AbsoluteDate.J2000_EPOCH), 1.0e-10);
+            Assert.assertEquals(1, cache.getSlots());
+
+            release.countDown();
+            Assert.assertEquals(4, blocked.get(10, TimeUnit.SECONDS).size());
+            Assert.assertEquals(2, cache.getSlots());
+            Assert.assertTrue(cache.getGenerateCalls() > generated);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws TimeStampedCacheException {
+        GenericTimeStampedCache<AbsoluteDate> cache = createCache(2, 3600, 13);
+        final AbsoluteDate a = AbsoluteDate.J2000_EPOCH;
+        final AbsoluteDate b = a.shiftedBy(10 * Constants.JULIAN_DAY);
+        final AbsoluteDate c = a.shiftedBy(20 * Constants.JULIAN_DAY);
+
+        // first slot is created first, but it is used again after the second one
+        cache.getNeighbors(a);
+        cache.getNeighbors(b);
+        cache.getNeighbors(a.shiftedBy(60.0));
+        Assert.assertEquals(2, cache.getCacheMisses());
+
+        // the third slot must evict the least recently used slot, not the oldest one
+        cache.getNeighbors(c);
+        Assert.assertEquals(3, cache.getCacheMisses());
+        Assert.assertEquals(1, cache.getSlotsEvictions());
+        cache.getNeighbors(a.shiftedBy(120.0));
+        Assert.assertEquals(3, cache.getCacheMisses());
+        cache.getNeighbors(b.shiftedBy(60.0));
+        Assert.assertEquals(4, cache.getCacheMisses());
+        Assert.assertEquals(2, cache.getSlotsEvictions());
+
+    }
+
     @Test(expected=IllegalArgumentException.class)
     public void testNotEnoughSlots() {
         createCache(0, 3600.0, 13);
@@ -36,6 +36,7 @@ import org.orekit.frames.FramesFactory;
 import org.orekit.frames.ITRFVersion;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeVectorFunction;
+import org.orekit.time.TruncatedTimeVectorFunction;
 import org.orekit.time.DateComponents;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.time.TimeScalarFunction;
@@ -1042,6 +1043,75 @@ public class IERSConventionsTest {
                                        0.8 * Constants.JULIAN_DAY, 600.0, 10.0, 5.0e-19, 6.0e-21);
     }
 
+    @Test
+    public void testTruncatedNutation() {
+        for (final IERSConventions conventions : IERSConventions.values()) {
+            for (final double threshold : new double[] { 1.0e-10, 1.0e-9 }) {
+                checkTruncation(conventions.getNutationFunction(),
+                                conventions.getNutationFunction(threshold), 2);
+            }
+        }
+    }
+
+    @Test
+    public void testTruncatedXYSpXY2() {
+        for (final IERSConventions conventions : IERSConventions.values()) {
+            for (final double threshold : new double[] { 1.0e-10, 1.0e-9 }) {
+                checkTruncation(conventions.getXYSpXY2Function(),
+                                conventions.getXYSpXY2Function(threshold), 3);
+            }
+        }
+    }
+
+    @Test
+    public void testTruncationBoundsTightness() {
+        // IERS 2010 series have many small terms, the bound is pessimistic but not absurd
+        final TruncatedTimeVectorFunction truncated = IERSConventions.IERS_2010.getXYSpXY2Function(1.0e-10);
+        final double[] bounds = truncated.getTruncationErrors();
+        for (int k = 0; k < 3; ++k) {
+            Assert.assertTrue(bounds[k] > 0);
+            Assert.assertTrue(bounds[k] < 2.0e-8);
+        }
+    }
+
+    @Test
+    public void testNullThresholdKeepsAllTerms() {
+        for (final IERSConventions conventions : IERSConventions.values()) {
+            final TruncatedTimeVectorFunction nutation = conventions.getNutationFunction(0.0);
+            final TruncatedTimeVectorFunction xys      = conventions.getXYSpXY2Function(0.0);
+            checkTruncation(conventions.getNutationFunction(), nutation, 2);
+            checkTruncation(conventions.getXYSpXY2Function(), xys, 3);
+            for (final double bound : nutation.getTruncationErrors()) {
+                Assert.assertEquals(0.0, bound, 0.0);
+            }
+            for (final double bound : xys.getTruncationErrors()) {
+                Assert.assertEquals(0.0, bound, 0.0);
+            }
+        }
+    }
+
+    private void checkTruncation(final TimeVectorFunction full, final TruncatedTimeVectorFunction truncated,
+                                 final int n) {
+        final double[] bounds   = truncated.getTruncationErrors();
+        final double[] maxError = new double[n];
+        for (int i = 0; i < 1000; ++i) {
+            // the bounds are valid within one century of the reference epoch
+            final AbsoluteDate date = AbsoluteDate.J2000_EPOCH.shiftedBy((i - 500) * 0.002 * Constants.JULIAN_CENTURY + 0.37 * i);
+            final double[] ref = full.value(date);
+            final double[] val = truncated.value(date);
+            for (int k = 0; k < n; ++k) {
+                maxError[k] = FastMath.max(maxError[k], FastMath.abs(ref[k] - val[k]));
+            }
+        }
+        for (int k = 0; k < n; ++k) {
+            Assert.assertTrue(maxError[k] <= bounds[k]);
+            if (bounds[k] == 0) {
+                // no terms have been dropped
+                Assert.assertEquals(0.0, maxError[k], 0.0);
+            }
+        }
+    }
+
     @Test
     public void testXYSpXY2Function1996FieldConsistency() {
         checkVectorFunctionConsistency(IERSConventions.IERS_1996.getXYSpXY2Function(), 3,
@@ -0,0 +1,129 @@
+/* Copyright 2002-2019 CS Systèmes d'Information
+ * Licensed to CS Systèmes d'Information (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.orekit.Utils;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+
+public class TimeStampedCachesRegistryTest {
+
+    @Test
+    public void testStatistics() {
+        final String name = "testStatistics-" + System.nanoTime();
+        final GenericTimeStampedCache<AbsoluteDate> cache =
+                        TimeStampedCachesRegistry.register(name, createCache());
+        for (int i = 0; i < 100; ++i) {
+            cache.getNeighbors(AbsoluteDate.J2000_EPOCH.shiftedBy(60.0 * i));
+        }
+        final TimeStampedCacheStatistics statistics = find(name);
+        Assert.assertEquals(name, statistics.getName());
+        Assert.assertEquals(4, statistics.getNeighborsSize());
+        Assert.assertEquals(10, statistics.getMaxSlots());
+        Assert.assertEquals(Constants.JULIAN_YEAR, statistics.getMaxSpan(), 1.0e-10);
+        Assert.assertEquals(1, statistics.getSlots());
+        Assert.assertEquals(cache.getEntries(), statistics.getEntries());
+        Assert.assertEquals(100, statistics.getGetNeighborsCalls());
+        Assert.assertEquals(cache.getCacheMisses(), statistics.getCacheMisses());
+        Assert.assertEquals(1.0 - statistics.getCacheMisses() / 100.0, statistics.getHitRatio(), 1.0e-15);
+        Assert.assertTrue(statistics.getHitRatio() > 0.9);
+        Assert.assertEquals(cache.getGenerateCalls(), statistics.getGenerateCalls());
+        Assert.assertTrue(statistics.getGenerationTime() > 0.0);
+        Assert.assertEquals(0, statistics.getSlotsEvictions());
+        Assert.assertTrue(statistics.toString().startsWith(name + ": calls = 100, hit ratio = "));
+    }
+
+    @Test
+    public void testUnusedCache() {
+        final String name = "testUnusedCache-" + System.nanoTime();
+        TimeStampedCachesRegistry.register(name, createCache());
+        final TimeStampedCacheStatistics statistics = find(name);
+        Assert.assertEquals(0, statistics.getGetNeighborsCalls());
+        Assert.assertEquals(1.0, statistics.getHitRatio(), 1.0e-15);
+        Assert.assertEquals(0, statistics.getSlots());
+    }
+
+    @Test
+    public void testListener() {
+        final List<String> names = Collections.synchronizedList(new ArrayList<>());
+        final TimeStampedCacheListener listener = (name, cache) -> names.add(name);
+        TimeStampedCachesRegistry.addListener(listener);
+        try {
+            TimeStampedCachesRegistry.register("testListener-1", createCache());
+            TimeStampedCachesRegistry.register("testListener-2", createCache());
+        } finally {
+            TimeStampedCachesRegistry.removeListener(listener);
+        }
+        TimeStampedCachesRegistry.register("testListener-3", createCache());
+        Assert.assertEquals(2, names.size());
+        Assert.assertEquals("testListener-1", names.get(0));
+        Assert.assertEquals("testListener-2", names.get(1));
+    }
+
+    @Test
+    public void testFramesCaches() {
+        FramesFactory.getGCRF().getTransformTo(FramesFactory.getITRF(IERSConventions.IERS_2010, false),
+                                               AbsoluteDate.J2000_EPOCH.shiftedBy(3 * Constants.JULIAN_YEAR));
+        final List<TimeStampedCacheStatistics> frameCaches =
+                        TimeStampedCachesRegistry.getStatistics().stream().
+                        filter(s -> s.getName().startsWith("InterpolatingTransformProvider(") ||
+                                    s.getName().startsWith("ShiftingTransformProvider(")).
+                        filter(s -> s.getGetNeighborsCalls() > 0).
+                        collect(Collectors.toList());
+        Assert.assertFalse(frameCaches.isEmpty());
+        Assert.assertTrue(frameCaches.stream().anyMatch(s -> s.getName().contains("CIRFProvider")));
+    }
+
+    private TimeStampedCacheStatistics find(final String name) {
+        final List<TimeStampedCacheStatistics> found =
+                        TimeStampedCachesRegistry.getStatistics().stream().
+                        filter(s -> s.getName().equals(name)).
+                        collect(Collectors.toList());
+        Assert.assertEquals(1, found.size());
+        return found.get(0);
+    }
+
+    private GenericTimeStampedCache<AbsoluteDate> createCache() {
+        return new GenericTimeStampedCache<AbsoluteDate>(4, 10, Constants.JULIAN_YEAR, Constants.JULIAN_DAY,
+                                                         (existingDate, date) -> {
+                                                             final List<AbsoluteDate> dates = new ArrayList<>();
+                                                             final AbsoluteDate start = existingDate == null ? date : existingDate;
+                                                             final double step = date.compareTo(start) >= 0 ? 600.0 : -600.0;
+                                                             for (int i = 0; i < 20; ++i) {
+                                                                 dates.add(start.shiftedBy(i * step));
+                                                             }
+                                                             if (step < 0) {
+                                                                 Collections.reverse(dates);
+                                                             }
+                                                             return dates;
+                                                         });
+    }
+
+    @Before
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+}